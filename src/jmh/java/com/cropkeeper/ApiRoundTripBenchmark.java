@@ -0,0 +1,137 @@
+package com.cropkeeper;
+
+import com.cropkeeper.domain.crop.entity.CropCategory;
+import com.cropkeeper.domain.crop.repository.CropCategoryRepository;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import com.cropkeeper.domain.farm.vo.Address;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.global.security.JwtTokenProvider;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.servlet.AbstractFilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletContextInitializerBeans;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 보안 필터 체인을 포함한 요청 왕복 벤치마크 (MockMvc, H2 메모리 DB)
+ *
+ * 등록된 서블릿 필터(추적, 쿼리 카운트, Spring Security + JWT)를 운영과 같은 순서로 거쳐
+ * 컨트롤러 → AOP → 서비스 → 리포지토리 → JSON 직렬화까지 한 번에 측정합니다.
+ *
+ * - getFarm: 본인 농장 단건 조회 (JWT 검증 + 농장 접근 검증)
+ * - listCategories: 카테고리 목록 조회
+ * - forbiddenFarm: 다른 회원 농장 조회 (403 응답 경로)
+ * - unauthenticated: 토큰 없는 요청 (인증 진입점을 따로 두지 않아 Spring Security 기본 403 응답)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiRoundTripBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    private RequestBuilder getFarm;
+    private RequestBuilder listCategories;
+    private RequestBuilder forbiddenFarm;
+    private RequestBuilder unauthenticated;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("jmh");
+
+        Filter[] filters = new ServletContextInitializerBeans(context.getBeanFactory()).stream()
+                .filter(AbstractFilterRegistrationBean.class::isInstance)
+                .map(bean -> ((AbstractFilterRegistrationBean<?>) bean).getFilter())
+                .toArray(Filter[]::new);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilters(filters)
+                .build();
+
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        FarmRepository farmRepository = context.getBean(FarmRepository.class);
+
+        Member owner = memberRepository.save(member("farmer0001", passwordEncoder));
+        Member other = memberRepository.save(member("farmer0002", passwordEncoder));
+        Farm ownFarm = farmRepository.save(farm(owner, "행복농장"));
+        Farm otherFarm = farmRepository.save(farm(other, "이웃농장"));
+        context.getBean(CropCategoryRepository.class).save(CropCategory.builder().categoryName("채소").build());
+
+        String authorization = "Bearer " + context.getBean(JwtTokenProvider.class).generateAccessToken(owner);
+        getFarm = get("/api/farms/" + ownFarm.getFarmId()).header("Authorization", authorization);
+        listCategories = get("/api/categories").header("Authorization", authorization);
+        forbiddenFarm = get("/api/farms/" + otherFarm.getFarmId()).header("Authorization", authorization);
+        unauthenticated = get("/api/farms/" + ownFarm.getFarmId());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getFarm() throws Exception {
+        return perform(getFarm, 200);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse listCategories() throws Exception {
+        return perform(listCategories, 200);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse forbiddenFarm() throws Exception {
+        return perform(forbiddenFarm, 403);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse unauthenticated() throws Exception {
+        return perform(unauthenticated, 403);
+    }
+
+    /**
+     * 요청 실행 (예상과 다른 상태 코드면 측정값이 의미 없으므로 실패 처리)
+     */
+    private MockHttpServletResponse perform(RequestBuilder request, int expectedStatus) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        if (response.getStatus() != expectedStatus) {
+            throw new IllegalStateException("expected " + expectedStatus + " but was " + response.getStatus());
+        }
+        return response;
+    }
+
+    private static Member member(String username, PasswordEncoder passwordEncoder) {
+        return Member.builder()
+                .username(username)
+                .password(passwordEncoder.encode("Pass123!"))
+                .name("홍길동")
+                .role(MemberRole.USER)
+                .build();
+    }
+
+    private static Farm farm(Member owner, String farmName) {
+        return Farm.builder()
+                .farmName(farmName)
+                .address(Address.builder().zipCode("12345").street("경기도 수원시 팔달구 효원로 1").detail("101동").build())
+                .farmSize(3300L)
+                .member(owner)
+                .build();
+    }
+}
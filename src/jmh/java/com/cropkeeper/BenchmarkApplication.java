@@ -0,0 +1,48 @@
+package com.cropkeeper;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 벤치마크용 애플리케이션 기동 (H2 MySQL 모드 메모리 DB, 임의 포트, SQL 로그 끔)
+ *
+ * 운영 설정(application.yml)을 그대로 읽고 데이터소스와 로그 수준만 바꾸므로
+ * Hibernate 배치 크기 같은 설정은 운영과 같은 값으로 측정됩니다.
+ */
+public final class BenchmarkApplication {
+
+    public static final String JWT_SECRET =
+            "c3ByaW5nYm9vdC1qd3QtdHV0b3JpYWwtc2VjcmV0LWtleS1mb3ItcnVoYS1wcm9qZWN0Cg==";
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param database   H2 메모리 DB 이름 (벤치마크마다 다르게)
+     * @param properties 추가로 덮어쓸 설정 (key=value)
+     */
+    public static ConfigurableApplicationContext start(String database, String... properties) {
+        List<String> merged = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:" + database
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "logging.level.root=warn",
+                "logging.level.org.hibernate.SQL=warn",
+                "jwt.secret-key=" + JWT_SECRET,
+                "security.password.calibrate=false"));
+        merged.addAll(Arrays.asList(properties));
+        return new SpringApplicationBuilder(CropkeeperApplication.class)
+                .properties(merged.toArray(String[]::new))
+                .run();
+    }
+}
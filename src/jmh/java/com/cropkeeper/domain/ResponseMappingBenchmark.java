@@ -0,0 +1,103 @@
+package com.cropkeeper.domain;
+
+import com.cropkeeper.domain.crop.entity.CropVariety;
+import com.cropkeeper.domain.cultivation.dto.response.CultivationLogResponse;
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farm.dto.response.FarmResponse;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.vo.Address;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity → 응답 DTO 변환, 값 객체 수정 벤치마크
+ *
+ * - farmResponse: FarmResponse.from (Address null 검사 포함)
+ * - cultivationLogResponse: CultivationLogResponse.from (FarmingMetadata null 검사 반복)
+ * - addressPartialUpdate / addressFullUpdate: Address.updateFrom (일부 필드만 / 전체 필드 변경)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private Farm farm;
+    private CultivationLog cultivationLog;
+    private Address address;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder()
+                .memberId(7L)
+                .username("farmer0001")
+                .password("{bcrypt}hash")
+                .name("홍길동")
+                .role(MemberRole.USER)
+                .build();
+
+        address = Address.builder()
+                .zipCode("12345")
+                .street("경기도 수원시 팔달구 효원로 1")
+                .detail("101동")
+                .build();
+
+        farm = Farm.builder()
+                .farmId(1024L)
+                .farmName("행복농장")
+                .address(address)
+                .farmSize(3300L)
+                .member(member)
+                .build();
+
+        CropVariety variety = CropVariety.builder()
+                .varietyId(3L)
+                .varietyName("청양고추")
+                .build();
+
+        LocalDateTime now = LocalDateTime.of(2025, 4, 12, 9, 30);
+        cultivationLog = CultivationLog.builder()
+                .farmingLogId(4096L)
+                .farm(farm)
+                .member(member)
+                .metadata(FarmingMetadata.builder()
+                        .logDate(now)
+                        .weather("맑음")
+                        .temperature(18L)
+                        .humidity(55L)
+                        .memo("고추 모종 정식")
+                        .build())
+                .variety(variety)
+                .plantingAmount(120L)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public FarmResponse farmResponse() {
+        return FarmResponse.from(farm);
+    }
+
+    @Benchmark
+    public CultivationLogResponse cultivationLogResponse() {
+        return CultivationLogResponse.from(cultivationLog);
+    }
+
+    @Benchmark
+    public Address addressPartialUpdate() {
+        return Address.updateFrom(address, null, null, "202동");
+    }
+
+    @Benchmark
+    public Address addressFullUpdate() {
+        return Address.updateFrom(address, "54321", "서울특별시 강남구 테헤란로 2", "202동");
+    }
+}
@@ -0,0 +1,97 @@
+package com.cropkeeper.domain;
+
+import com.cropkeeper.domain.cultivation.dto.response.CultivationLogResponse;
+import com.cropkeeper.domain.farm.dto.response.FarmResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO Jackson 직렬화 벤치마크 (Spring Boot 기본 설정과 같이 날짜는 ISO 문자열)
+ *
+ * - farm / cultivationLog: 단건 응답
+ * - farmList: 농장 목록 응답 (listSize개)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int listSize;
+
+    private ObjectWriter writer;
+    private FarmResponse farm;
+    private CultivationLogResponse cultivationLog;
+    private List<FarmResponse> farms;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writer();
+
+        LocalDateTime now = LocalDateTime.of(2025, 4, 12, 9, 30);
+        farm = farm(1024L, now);
+        cultivationLog = CultivationLogResponse.builder()
+                .cultivationLogId(4096L)
+                .farmId(1024L)
+                .memberId(7L)
+                .varietyId(3L)
+                .varietyName("청양고추")
+                .plantingAmount(120L)
+                .logDate(now)
+                .weather("맑음")
+                .temperature(18L)
+                .humidity(55L)
+                .memo("고추 모종 정식")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        farms = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            farms.add(farm(i + 1L, now));
+        }
+    }
+
+    @Benchmark
+    public byte[] farm() throws Exception {
+        return writer.writeValueAsBytes(farm);
+    }
+
+    @Benchmark
+    public byte[] cultivationLog() throws Exception {
+        return writer.writeValueAsBytes(cultivationLog);
+    }
+
+    @Benchmark
+    public byte[] farmList() throws Exception {
+        return writer.writeValueAsBytes(farms);
+    }
+
+    private static FarmResponse farm(Long farmId, LocalDateTime now) {
+        return FarmResponse.builder()
+                .farmId(farmId)
+                .farmName("행복농장" + farmId)
+                .zipCode("12345")
+                .street("경기도 수원시 팔달구 효원로 1")
+                .detail("101동")
+                .farmSize(3300L)
+                .memberId(7L)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
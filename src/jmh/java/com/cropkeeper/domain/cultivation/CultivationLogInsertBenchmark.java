@@ -0,0 +1,152 @@
+package com.cropkeeper.domain.cultivation;
+
+import com.cropkeeper.BenchmarkApplication;
+import com.cropkeeper.domain.crop.entity.CropCategory;
+import com.cropkeeper.domain.crop.entity.CropType;
+import com.cropkeeper.domain.crop.entity.CropVariety;
+import com.cropkeeper.domain.crop.repository.CropCategoryRepository;
+import com.cropkeeper.domain.crop.repository.CropTypeRepository;
+import com.cropkeeper.domain.crop.repository.CropVarietyRepository;
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import com.cropkeeper.domain.farm.vo.Address;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재배 기록 100,000건 INSERT 벤치마크 (ID 생성 전략별)
+ *
+ * - identity: IDENTITY 부모 테이블 (IdentityCultivationLog). INSERT마다 생성 키를 받아야 해서
+ *   JDBC 배치가 꺼지고, 행마다 farming_log, cultivation_log 두 번 왕복
+ * - pooled: 실제 CultivationLog (PooledIds 테이블 생성기). ID를 50개씩 미리 받아
+ *   hibernate.jdbc.batch_size 단위로 두 테이블 모두 배치 INSERT
+ *
+ * 한 번 실행이 한 트랜잭션이며 FLUSH_INTERVAL건마다 flush/clear 합니다 (대량 입력 API와 같은 방식).
+ * H2 메모리 DB라 네트워크 왕복이 없으므로, 실제 MySQL에서는 차이가 더 커집니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=CultivationLogInsertBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CultivationLogInsertBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    @Param({"identity", "pooled"})
+    public String strategy;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long farmId;
+    private Long varietyId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("jmh-insert");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Member member = context.getBean(MemberRepository.class).save(Member.builder()
+                .username("farmer0001")
+                .password("encoded")
+                .name("홍길동")
+                .role(MemberRole.USER)
+                .build());
+        Farm farm = context.getBean(FarmRepository.class).save(Farm.builder()
+                .farmName("행복농장")
+                .address(Address.builder().zipCode("12345").street("경기도 수원시 팔달구 효원로 1").detail("101동").build())
+                .farmSize(3300L)
+                .member(member)
+                .build());
+        CropCategory category = context.getBean(CropCategoryRepository.class)
+                .save(CropCategory.builder().categoryName("벤치마크").build());
+        CropType cropType = context.getBean(CropTypeRepository.class)
+                .save(CropType.builder().category(category).typeName("토마토").build());
+        CropVariety variety = context.getBean(CropVarietyRepository.class)
+                .save(CropVariety.builder().cropType(cropType).varietyName("완숙토마토").build());
+
+        memberId = member.getMemberId();
+        farmId = farm.getFarmId();
+        varietyId = variety.getVarietyId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        String table = "pooled".equals(strategy) ? "cultivation_log" : "identity_cultivation_log";
+        Long inserted = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        if (inserted == null || inserted != ROWS) {
+            throw new IllegalStateException("expected " + ROWS + " rows but was " + inserted);
+        }
+        jdbcTemplate.update("DELETE FROM cultivation_log");
+        jdbcTemplate.update("DELETE FROM farming_log");
+        jdbcTemplate.update("DELETE FROM identity_cultivation_log");
+        jdbcTemplate.update("DELETE FROM identity_farming_log");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insert() {
+        boolean pooled = "pooled".equals(strategy);
+        LocalDateTime logDate = LocalDateTime.of(2025, 4, 1, 9, 0);
+        return transactionTemplate.execute(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                Farm farm = entityManager.getReference(Farm.class, farmId);
+                Member member = entityManager.getReference(Member.class, memberId);
+                CropVariety variety = entityManager.getReference(CropVariety.class, varietyId);
+                FarmingMetadata metadata = FarmingMetadata.builder()
+                        .logDate(logDate.minusDays(i % 365))
+                        .weather("맑음")
+                        .temperature((long) (i % 35))
+                        .build();
+
+                if (pooled) {
+                    entityManager.persist(CultivationLog.builder()
+                            .farm(farm)
+                            .member(member)
+                            .variety(variety)
+                            .metadata(metadata)
+                            .plantingAmount(100L)
+                            .build());
+                } else {
+                    entityManager.persist(new IdentityCultivationLog(farm, member, metadata,
+                            LocalDateTime.now(), variety, 100L));
+                }
+
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            return ROWS;
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.cropkeeper.domain.cultivation;
+
+import com.cropkeeper.domain.crop.entity.CropVariety;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.member.entity.Member;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비교용 재배 기록 (CultivationLog와 같은 매핑, 부모가 IDENTITY)
+ */
+@Entity
+@Table(name = "identity_cultivation_log")
+@DiscriminatorValue("CULTIVATION")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class IdentityCultivationLog extends IdentityFarmingLog {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "variety_id", nullable = false)
+    private CropVariety variety;
+
+    @Column(name = "planting_amount")
+    private Long plantingAmount;
+
+    IdentityCultivationLog(Farm farm, Member member, FarmingMetadata metadata, LocalDateTime now,
+                           CropVariety variety, Long plantingAmount) {
+        super(farm, member, metadata, now);
+        this.variety = variety;
+        this.plantingAmount = plantingAmount;
+    }
+}
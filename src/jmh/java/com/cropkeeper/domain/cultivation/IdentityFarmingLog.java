@@ -0,0 +1,56 @@
+package com.cropkeeper.domain.cultivation;
+
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.member.entity.Member;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비교용 영농일지 (풀링 ID 도입 전 FarmingLog와 같은 매핑, ID만 IDENTITY)
+ *
+ * 벤치마크 클래스패스에만 있으며, com.cropkeeper 엔티티 스캔에 포함되어 identity_* 테이블로 생성됩니다.
+ */
+@Entity
+@Table(name = "identity_farming_log")
+@Inheritance(strategy = InheritanceType.JOINED)
+@DiscriminatorColumn(name = "log_type", discriminatorType = DiscriminatorType.STRING)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+abstract class IdentityFarmingLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "farming_log_id")
+    private Long farmingLogId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "farm_id", nullable = false)
+    private Farm farm;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Member member;
+
+    @Embedded
+    private FarmingMetadata metadata;
+
+    @Column(name = "deleted", nullable = false)
+    private Boolean deleted = false;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    IdentityFarmingLog(Farm farm, Member member, FarmingMetadata metadata, LocalDateTime now) {
+        this.farm = farm;
+        this.member = member;
+        this.metadata = metadata;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,97 @@
+package com.cropkeeper.global.aspect;
+
+import com.cropkeeper.domain.farm.controller.FarmController;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.global.security.UserPrincipal;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AOP 파라미터 추출 벤치마크 (@ValidateFarmAccess가 붙은 FarmController.getFarm 기준)
+ *
+ * - reflective*: 호출마다 Method 파라미터와 어노테이션을 훑는 방식
+ * - cached*: AspectParameterExtractor (ParameterBindingPlan 인덱스 조회)
+ *
+ * JoinPoint는 Spring AOP 대신 동적 프록시로 만들어 추출 비용만 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AspectParameterExtractorBenchmark {
+
+    private JoinPoint joinPoint;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Method method = FarmController.class.getMethod("getFarm", Long.class, UserPrincipal.class);
+        Object[] args = {1024L, UserPrincipal.fromClaims(7L, "farmer0001", MemberRole.USER, 0L)};
+        joinPoint = joinPoint(method, args);
+    }
+
+    @Benchmark
+    public Long cachedPathVariable() {
+        return AspectParameterExtractor.extractPathVariableAsLong(joinPoint, "farmId");
+    }
+
+    @Benchmark
+    public UserPrincipal cachedPrincipal() {
+        return AspectParameterExtractor.extractUserPrincipal(joinPoint);
+    }
+
+    @Benchmark
+    public Long reflectivePathVariable() {
+        Parameter[] parameters = AspectParameterExtractor.getMethod(joinPoint).getParameters();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < parameters.length; i++) {
+            PathVariable pathVariable = parameters[i].getAnnotation(PathVariable.class);
+            if (pathVariable != null && parameters[i].getType().equals(Long.class)) {
+                String name = !pathVariable.value().isEmpty() ? pathVariable.value() : parameters[i].getName();
+                if ("farmId".equals(name)) {
+                    return (Long) args[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public UserPrincipal reflectivePrincipal() {
+        Parameter[] parameters = AspectParameterExtractor.getMethod(joinPoint).getParameters();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(AuthenticationPrincipal.class)
+                    && args[i] instanceof UserPrincipal principal) {
+                return principal;
+            }
+        }
+        return null;
+    }
+
+    private static JoinPoint joinPoint(Method method, Object[] args) {
+        MethodSignature signature = (MethodSignature) Proxy.newProxyInstance(
+                MethodSignature.class.getClassLoader(), new Class<?>[]{MethodSignature.class},
+                (proxy, invoked, invokeArgs) -> switch (invoked.getName()) {
+                    case "getMethod" -> method;
+                    case "getName" -> method.getName();
+                    default -> throw new UnsupportedOperationException(invoked.getName());
+                });
+        return (JoinPoint) Proxy.newProxyInstance(
+                JoinPoint.class.getClassLoader(), new Class<?>[]{JoinPoint.class},
+                (proxy, invoked, invokeArgs) -> switch (invoked.getName()) {
+                    case "getSignature" -> signature;
+                    case "getArgs" -> args;
+                    default -> throw new UnsupportedOperationException(invoked.getName());
+                });
+    }
+}
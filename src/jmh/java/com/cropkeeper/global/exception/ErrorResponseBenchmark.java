@@ -0,0 +1,98 @@
+package com.cropkeeper.global.exception;
+
+import com.cropkeeper.domain.farm.exception.FarmErrorCode;
+import com.cropkeeper.domain.farm.exception.FarmNotFoundException;
+import com.cropkeeper.domain.farm.exception.ForbiddenFarmAccessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 4xx 예외 응답 경로 벤치마크 (404 농장 없음, 403 농장 접근 거부)
+ *
+ * - legacy: 스택 트레이스를 수집하는 예외 + ErrorResponse.of() 빌더 + ObjectMapper 직렬화
+ * - stackless: 스택 트레이스 없는 BaseException + ErrorCode별 JSON 템플릿
+ *
+ * depth: 예외가 던져지는 호출 깊이 (Controller → AOP 프록시 체인 → Service 스택을 흉내냄)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final String PATH = "/api/farms/1024";
+
+    @Param({"notFound", "forbidden"})
+    private String error;
+
+    @Param({"40", "120"})
+    private int depth;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try {
+            throwAt(depth, true);
+            throw new IllegalStateException();
+        } catch (LegacyBusinessException e) {
+            ErrorResponse response = ErrorResponse.of(
+                    e.errorCode.getHttpStatus().value(), e.errorCode.getCode(), e.getMessage(), PATH);
+            return objectMapper.writeValueAsBytes(response);
+        }
+    }
+
+    @Benchmark
+    public byte[] stackless() {
+        try {
+            throwAt(depth, false);
+            throw new IllegalStateException();
+        } catch (BaseException e) {
+            return ErrorResponseTemplate.of(e.getErrorCode()).render(e.getMessage(), PATH);
+        }
+    }
+
+    private void throwAt(int remaining, boolean legacy) {
+        if (remaining > 0) {
+            throwAt(remaining - 1, legacy);
+            return;
+        }
+        boolean notFound = error.equals("notFound");
+        if (legacy) {
+            ErrorCode errorCode = notFound
+                    ? FarmErrorCode.FARM_NOT_FOUND
+                    : FarmErrorCode.FORBIDDEN_FARM_ACCESS;
+            String message = notFound ? errorCode.getMessage() + " farmId: " + 1024L : errorCode.getMessage();
+            throw new LegacyBusinessException(errorCode, message);
+        }
+        if (notFound) {
+            throw new FarmNotFoundException(1024L);
+        }
+        throw new ForbiddenFarmAccessException();
+    }
+
+    /**
+     * 변경 전 BaseException과 같은 방식 (스택 트레이스 수집)
+     */
+    private static final class LegacyBusinessException extends RuntimeException {
+        private final ErrorCode errorCode;
+
+        LegacyBusinessException(ErrorCode errorCode, String message) {
+            super(message);
+            this.errorCode = errorCode;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.cropkeeper.global.logging;
+
+import com.cropkeeper.domain.auth.dto.request.RegisterRequest;
+import com.cropkeeper.domain.cultivation.dto.request.CreateCultivationLogRequest;
+import com.cropkeeper.domain.member.dto.request.UpdatePasswordRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 민감정보 마스킹 벤치마크
+ *
+ * - legacy: 기존 구현 (ObjectMapper.convertValue → Map → 키 소문자 변환 → 문자열 재조립)
+ * - compiled: 클래스별 MaskingPlan으로 접근자를 바로 읽어 재사용 버퍼에 출력
+ *
+ * dto: 회원가입(부분/완전 마스킹 혼합), 비밀번호 변경(완전 마스킹만), 재배 기록 생성(LocalDateTime 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SensitiveDataMaskerBenchmark {
+
+    @Param({"register", "updatePassword", "createCultivationLog"})
+    private String dto;
+
+    private Object request;
+    private Object[] serviceArgs;
+
+    @Setup
+    public void setUp() {
+        request = switch (dto) {
+            case "register" -> RegisterRequest.builder()
+                    .username("farmer0001")
+                    .password("Pass123!")
+                    .passwordConfirm("Pass123!")
+                    .name("홍길동")
+                    .contact("01012345678")
+                    .build();
+            case "updatePassword" -> UpdatePasswordRequest.builder()
+                    .currentPassword("Pass123!")
+                    .newPassword("NewPass456@")
+                    .newPasswordConfirm("NewPass456@")
+                    .build();
+            case "createCultivationLog" -> CreateCultivationLogRequest.builder()
+                    .varietyId(3L)
+                    .plantingAmount(120L)
+                    .logDate(LocalDateTime.of(2025, 4, 12, 9, 30))
+                    .weather("맑음")
+                    .temperature(18L)
+                    .humidity(55L)
+                    .memo("고추 모종 정식")
+                    .build();
+            default -> throw new IllegalArgumentException(dto);
+        };
+
+        // 서비스 메서드 인자 형태 (memberId, request)
+        serviceArgs = new Object[]{1024L, request};
+    }
+
+    @Benchmark
+    public String legacyBody() {
+        return LegacySensitiveDataMasker.maskSensitiveData(request);
+    }
+
+    @Benchmark
+    public String compiledBody() {
+        return SensitiveDataMasker.maskSensitiveData(request);
+    }
+
+    @Benchmark
+    public String legacyParameters() {
+        return LegacySensitiveDataMasker.maskParameters(serviceArgs);
+    }
+
+    @Benchmark
+    public String compiledParameters() {
+        return SensitiveDataMasker.maskParameters(serviceArgs);
+    }
+}
@@ -0,0 +1,70 @@
+package com.cropkeeper.global.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 알고리즘별 JWT 서명/검증 비용 벤치마크
+ *
+ * - HS256: 단일 비밀키 (현재 기본값)
+ * - EDDSA: Ed25519 키 쌍
+ * - ES256: P-256 ECDSA 키 쌍
+ *
+ * 요청마다 실행되는 검증 비용(verify)이 주 비교 대상이며,
+ * 서명 비용(sign)은 로그인/재발급 시에만 발생합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSignatureBenchmark {
+
+    private static final String SECRET =
+            "c3ByaW5nYm9vdC1qd3QtdHV0b3JpYWwtc2VjcmV0LWtleS1mb3ItcnVoYS1wcm9qZWN0Cg==";
+
+    private static final Map<String, Object> CLAIMS = Map.of(
+            JwtTokenProvider.CLAIM_MEMBER_ID, 1024L,
+            JwtTokenProvider.CLAIM_ROLE, "USER",
+            JwtTokenProvider.CLAIM_TOKEN_VERSION, 0L);
+
+    @Param({"HS256", "EDDSA", "ES256"})
+    private String algorithm;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtKeyRing keyRing = switch (JwtKeyRing.Algorithm.from(algorithm)) {
+            case HS256 -> JwtKeyRing.hmac(SECRET);
+            case EDDSA -> JwtKeyRing.of(JwtKeyRing.Algorithm.EDDSA, "bench-ed25519",
+                    KeyPairGenerator.getInstance("Ed25519").generateKeyPair());
+            case ES256 -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                yield JwtKeyRing.of(JwtKeyRing.Algorithm.ES256, "bench-es256", generator.generateKeyPair());
+            }
+        };
+
+        jwtTokenProvider = new JwtTokenProvider(keyRing, 900000L, 604800000L);
+        token = jwtTokenProvider.generateToken("farmer0001", 900000L, "access", CLAIMS);
+    }
+
+    @Benchmark
+    public void verify(Blackhole blackhole) {
+        ParsedToken parsedToken = jwtTokenProvider.parseAndVerify(token);
+        blackhole.consume(parsedToken.getSubject());
+    }
+
+    @Benchmark
+    public void sign(Blackhole blackhole) {
+        blackhole.consume(jwtTokenProvider.generateToken("farmer0001", 900000L, "access", CLAIMS));
+    }
+}
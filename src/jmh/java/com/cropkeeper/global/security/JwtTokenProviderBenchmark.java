@@ -0,0 +1,92 @@
+package com.cropkeeper.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급, 검증 경로 벤치마크
+ *
+ * - generate: 액세스 토큰 발급 (클레임 직렬화 + HMAC 서명)
+ * - legacyMultiParse: 기존 필터 경로 (validateToken + getUsername, 호출마다 파서 생성 후 서명 재검증)
+ * - singleParse: parseAndVerify() 한 번으로 검증 및 클레임 추출
+ *
+ * extraClaimBytes로 토큰 크기를 바꿔가며 측정합니다.
+ * (0: 일반 액세스 토큰, 512/2048: 클레임이 늘어난 토큰)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "c3ByaW5nYm9vdC1qd3QtdHV0b3JpYWwtc2VjcmV0LWtleS1mb3ItcnVoYS1wcm9qZWN0Cg==";
+
+    @Param({"0", "512", "2048"})
+    private int extraClaimBytes;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 900000L, 604800000L);
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+
+        claims = extraClaimBytes == 0
+                ? Map.of(
+                        JwtTokenProvider.CLAIM_MEMBER_ID, 1024L,
+                        JwtTokenProvider.CLAIM_ROLE, "USER",
+                        JwtTokenProvider.CLAIM_TOKEN_VERSION, 0L)
+                : Map.of(
+                        JwtTokenProvider.CLAIM_MEMBER_ID, 1024L,
+                        JwtTokenProvider.CLAIM_ROLE, "USER",
+                        JwtTokenProvider.CLAIM_TOKEN_VERSION, 0L,
+                        "pad", "x".repeat(extraClaimBytes));
+
+        token = jwtTokenProvider.generateToken("farmer0001", 900000L, "access", claims);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtTokenProvider.generateToken("farmer0001", 900000L, "access", claims);
+    }
+
+    @Benchmark
+    public void legacyMultiParse(Blackhole blackhole) {
+        // validateToken()
+        Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token);
+
+        // getUsername()
+        Claims claims = Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        blackhole.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        ParsedToken parsedToken = jwtTokenProvider.parseAndVerify(token);
+
+        blackhole.consume(parsedToken.getSubject());
+        blackhole.consume(parsedToken.getLongClaim(JwtTokenProvider.CLAIM_MEMBER_ID));
+    }
+}
@@ -0,0 +1,162 @@
+package com.cropkeeper.loadtest;
+
+import com.cropkeeper.loadtest.LoadTestDataSeeder.SeededData;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * 운영 트래픽 비율을 흉내 낸 요청 구성
+ *
+ * 조회 위주(목록, 단건, 카테고리)에 로그인, 생성/수정이 섞인 구성이며,
+ * 다른 회원 농장 조회(403)처럼 실패 경로도 일정 비율 포함합니다.
+ * 새 API가 생기면 operation을 추가하면 됩니다 (이름이 결과 파일의 키).
+ */
+final class LoadScenario {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    private LoadScenario() {
+    }
+
+    static LoadScenario standard() {
+        LoadScenario scenario = new LoadScenario();
+        scenario.operation("auth.login", 5, 200, (user, data) -> user.loginRequest());
+        scenario.operation("farms.list", 20, 200, (user, data) -> user.get("/api/farms"));
+        scenario.operation("farms.get", 25, 200, (user, data) -> user.get("/api/farms/" + user.randomOwnFarmId()));
+        scenario.operation("farms.get.forbidden", 3, 403, (user, data) -> user.get("/api/farms/" + user.randomOtherFarmId()));
+        scenario.operation("farms.create", 4, 201, (user, data) -> user.post("/api/farms", user.createFarmBody()));
+        scenario.operation("farms.update", 5, 200, (user, data) -> user.put("/api/farms/" + user.randomOwnFarmId(), user.updateFarmBody()));
+        scenario.operation("categories.list", 15, 200, (user, data) -> user.get("/api/categories"));
+        scenario.operation("categories.get", 10, 200, (user, data) -> user.get("/api/categories/"
+                + (data.categoryBase() + user.random().nextInt(data.categories()))));
+        scenario.operation("members.get", 8, 200, (user, data) -> user.get("/api/members/" + user.memberId()));
+        return scenario;
+    }
+
+    private void operation(String name, int weight, int expectedStatus,
+                           BiFunction<VirtualUser, SeededData, HttpRequest> request) {
+        operations.add(new Operation(name, weight, expectedStatus, request));
+        totalWeight += weight;
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    /**
+     * 가중치에 따라 operation 선택
+     */
+    Operation pick(Random random) {
+        int value = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            value -= operation.weight();
+            if (value < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    record Operation(String name, int weight, int expectedStatus,
+                     BiFunction<VirtualUser, SeededData, HttpRequest> request) {
+    }
+
+    /**
+     * 가상 사용자 (적재된 회원 한 명으로 로그인해 요청을 보냄, 한 스레드에서만 사용)
+     */
+    static final class VirtualUser {
+
+        private final URI baseUri;
+        private final SeededData data;
+        private final int memberIndex;
+        private final Random random;
+        private String accessToken;
+        private long memberId;
+        private int createdFarms;
+
+        VirtualUser(URI baseUri, SeededData data, int memberIndex, long seed) {
+            this.baseUri = baseUri;
+            this.data = data;
+            this.memberIndex = memberIndex;
+            this.random = new Random(seed);
+            this.memberId = data.memberId(memberIndex);
+        }
+
+        Random random() {
+            return random;
+        }
+
+        long memberId() {
+            return memberId;
+        }
+
+        void onLogin(String accessToken, long memberId) {
+            this.accessToken = accessToken;
+            this.memberId = memberId;
+        }
+
+        HttpRequest loginRequest() {
+            String body = "{\"username\":\"" + data.username(memberIndex)
+                    + "\",\"password\":\"" + LoadTestDataSeeder.PASSWORD + "\"}";
+            return builder("/api/auth/login")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        long randomOwnFarmId() {
+            return data.farmId(memberIndex, random.nextInt(data.farmCount(memberIndex)));
+        }
+
+        long randomOtherFarmId() {
+            int other = (memberIndex + 1 + random.nextInt(data.members() - 1)) % data.members();
+            return data.farmId(other, random.nextInt(data.farmCount(other)));
+        }
+
+        String createFarmBody() {
+            createdFarms++;
+            return "{\"farmName\":\"부하농장" + memberIndex % 10_000 + "-" + createdFarms % 1_000
+                    + "\",\"zipCode\":\"12345\",\"street\":\"경기도 부하시 생성로 1\",\"detail\":\"1동\",\"farmSize\":"
+                    + (100 + random.nextInt(1_000)) + "}";
+        }
+
+        String updateFarmBody() {
+            return "{\"farmSize\":" + (100 + random.nextInt(10_000)) + "}";
+        }
+
+        HttpRequest get(String path) {
+            return authorized(path).GET().build();
+        }
+
+        HttpRequest post(String path, String json) {
+            return authorized(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        HttpRequest put(String path, String json) {
+            return authorized(path)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return builder(path).header("Authorization", "Bearer " + accessToken);
+        }
+
+        private HttpRequest.Builder builder(String path) {
+            return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        }
+    }
+}
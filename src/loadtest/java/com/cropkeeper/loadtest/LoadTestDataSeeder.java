@@ -0,0 +1,242 @@
+package com.cropkeeper.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 부하 테스트용 데이터 적재 (JPA를 거치지 않고 JDBC 배치 INSERT)
+ *
+ * 적재 규칙 (시나리오가 ID를 계산할 수 있도록 결정적으로 생성):
+ * - 회원: load-user-{i}, 모두 같은 비밀번호 (BCrypt 해시는 한 번만 계산)
+ * - 농장: j번째 농장은 (j % 회원 수)번째 회원 소유
+ * - 재배 기록: k번째 기록은 (k % 농장 수)번째 농장, 품종은 (k % 품종 수)번째 품종
+ * - 작물 분류: 대분류 6개 × 중분류 5개 × 품종 6개
+ *
+ * 테이블이 비어 있는 상태(ddl-auto=create-drop)에서 IDENTITY 값이 1씩 증가한다고 가정하고,
+ * 적재 후 ID 범위의 행 수를 확인합니다. 영농일지는 풀링 ID(PooledIds) 테이블이라 ID를 직접 지정하므로,
+ * 적재 후 PooledIdReconciler로 세그먼트 값을 맞춰야 합니다.
+ * JPA를 거치지 않아 일별 활동 집계도 갱신되지 않으므로 FarmActivityRollupRebuilder로 재구축합니다.
+ */
+@Slf4j
+class LoadTestDataSeeder {
+
+    static final String USERNAME_PREFIX = "load-user-";
+    static final String PASSWORD = "LoadTest1234!";
+
+    private static final int BATCH_SIZE = 5_000;
+    // CropCategoryDataInitializer가 넣는 기본 카테고리와 이름이 겹치지 않도록 접두사 사용
+    private static final List<String> CATEGORY_NAMES = List.of("부하-채소", "부하-과일", "부하-곡물", "부하-특용작물", "부하-버섯", "부하-화훼");
+    private static final int TYPES_PER_CATEGORY = 5;
+    private static final int VARIETIES_PER_TYPE = 6;
+    private static final String[] WEATHERS = {"맑음", "흐림", "비", "눈", "바람"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    LoadTestDataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    SeededData seed(LoadTestOptions options) {
+        long start = System.nanoTime();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long memberBase = nextId("member", "member_id");
+        seedMembers(options.members(), now);
+        verifyRange("member", "member_id", memberBase, options.members());
+
+        long categoryBase = nextId("crop_category", "category_id");
+        long varietyBase = nextId("crop_variety", "variety_id");
+        seedCrops(now);
+        int varieties = CATEGORY_NAMES.size() * TYPES_PER_CATEGORY * VARIETIES_PER_TYPE;
+        verifyRange("crop_variety", "variety_id", varietyBase, varieties);
+
+        long farmBase = nextId("farm", "farm_id");
+        seedFarms(options.farms(), options.members(), memberBase, now);
+        verifyRange("farm", "farm_id", farmBase, options.farms());
+
+        long logBase = nextId("farming_log", "farming_log_id");
+        seedCultivationLogs(options, memberBase, farmBase, varietyBase, varieties, logBase, now);
+
+        log.info("부하 테스트 데이터 적재 완료: members={}, farms={}, logs={}, {}ms",
+                options.members(), options.farms(), options.logs(), (System.nanoTime() - start) / 1_000_000);
+
+        return new SeededData(memberBase, options.members(), farmBase, options.farms(),
+                categoryBase, CATEGORY_NAMES.size());
+    }
+
+    private void seedMembers(int members, Timestamp now) {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        batchInsert("""
+                INSERT INTO member (username, password, name, contact, role, deleted, token_version, created_at, updated_at)
+                VALUES (?, ?, ?, ?, 'USER', FALSE, 0, ?, ?)
+                """, members, (ps, i) -> {
+            ps.setString(1, USERNAME_PREFIX + i);
+            ps.setString(2, passwordHash);
+            ps.setString(3, "부하" + i);
+            ps.setString(4, String.format("010-%04d-%04d", i / 10_000 % 10_000, i % 10_000));
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    private void seedCrops(Timestamp now) {
+        long typeId = nextId("crop_type", "crop_type_id");
+        long categoryId = nextId("crop_category", "category_id");
+        for (String categoryName : CATEGORY_NAMES) {
+            jdbcTemplate.update("INSERT INTO crop_category (category_name, deleted, created_at, updated_at) VALUES (?, FALSE, ?, ?)",
+                    categoryName, now, now);
+            for (int t = 0; t < TYPES_PER_CATEGORY; t++) {
+                jdbcTemplate.update("INSERT INTO crop_type (type_name, category_id, deleted, created_at, updated_at) VALUES (?, ?, FALSE, ?, ?)",
+                        categoryName + " 품목" + t, categoryId, now, now);
+                for (int v = 0; v < VARIETIES_PER_TYPE; v++) {
+                    jdbcTemplate.update("INSERT INTO crop_variety (crop_type_id, variety_name, deleted, created_at, updated_at) VALUES (?, ?, FALSE, ?, ?)",
+                            typeId, "품종" + v, now, now);
+                }
+                typeId++;
+            }
+            categoryId++;
+        }
+    }
+
+    private void seedFarms(int farms, int members, long memberBase, Timestamp now) {
+        batchInsert("""
+                INSERT INTO farm (farm_name, zip_code, street, detail, farm_size, member_id, deleted, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)
+                """, farms, (ps, j) -> {
+            ps.setString(1, "농장" + j);
+            ps.setString(2, String.format("%05d", j % 100_000));
+            ps.setString(3, "경기도 부하시 테스트로 " + (j % 500));
+            ps.setString(4, (j % 50) + "동");
+            ps.setLong(5, 100 + (j % 10_000));
+            ps.setLong(6, memberBase + (j % members));
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    /**
+     * 재배 기록 적재 (JOINED 상속: farming_log, cultivation_log 두 테이블)
+     */
+    private void seedCultivationLogs(LoadTestOptions options, long memberBase, long farmBase,
+                                     long varietyBase, int varieties, long logBase, Timestamp now) {
+        LocalDateTime today = LocalDateTime.now().withHour(9).withMinute(0).withSecond(0).withNano(0);
+        int farms = options.farms();
+        int members = options.members();
+
+        for (int offset = 0; offset < options.logs(); offset += BATCH_SIZE) {
+            int size = Math.min(BATCH_SIZE, options.logs() - offset);
+            int first = offset;
+
+            insertChunk("""
+                    INSERT INTO farming_log (farming_log_id, log_type, farm_id, user_id, log_date, weather, temperature,
+                                             humidity, memo, deleted, created_at, updated_at)
+                    VALUES (?, 'CULTIVATION', ?, ?, ?, ?, ?, ?, ?, FALSE, ?, ?)
+                    """, size, (ps, i) -> {
+                int k = first + i;
+                int farm = k % farms;
+                ps.setLong(1, logBase + k);
+                ps.setLong(2, farmBase + farm);
+                ps.setLong(3, memberBase + (farm % members));
+                ps.setTimestamp(4, Timestamp.valueOf(today.minusDays(k / farms % 730)));
+                ps.setString(5, WEATHERS[k % WEATHERS.length]);
+                ps.setLong(6, k % 35);
+                ps.setLong(7, 30 + k % 60);
+                ps.setString(8, k % 10 == 0 ? "정식 작업" : null);
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+            });
+
+            insertChunk("INSERT INTO cultivation_log (farming_log_id, variety_id, planting_amount) VALUES (?, ?, ?)",
+                    size, (ps, i) -> {
+                        int k = first + i;
+                        ps.setLong(1, logBase + k);
+                        ps.setLong(2, varietyBase + (k % varieties));
+                        ps.setLong(3, 10 + k % 500);
+                    });
+
+            if ((offset / BATCH_SIZE) % 100 == 0) {
+                log.info("재배 기록 적재 중: {}/{}", offset + size, options.logs());
+            }
+        }
+        verifyRange("farming_log", "farming_log_id", logBase, options.logs());
+    }
+
+    private void batchInsert(String sql, int total, RowSetter setter) {
+        for (int offset = 0; offset < total; offset += BATCH_SIZE) {
+            int first = offset;
+            insertChunk(sql, Math.min(BATCH_SIZE, total - offset), (ps, i) -> setter.set(ps, first + i));
+        }
+    }
+
+    private void insertChunk(String sql, int size, RowSetter setter) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setter.set(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+    }
+
+    private long nextId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private void verifyRange(String table, String idColumn, long base, int expected) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + idColumn + " BETWEEN ? AND ?",
+                Long.class, base, base + expected - 1);
+        if (count == null || count != expected) {
+            throw new IllegalStateException(table + " ID가 연속으로 생성되지 않았습니다 (expected="
+                    + expected + ", actual=" + count + "). 빈 데이터베이스에서 실행해야 합니다.");
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int index) throws SQLException;
+    }
+
+    /**
+     * 적재된 데이터의 ID 범위 (시나리오에서 요청 대상 계산에 사용)
+     */
+    record SeededData(long memberBase, int members, long farmBase, int farms, long categoryBase, int categories) {
+
+        long memberId(int index) {
+            return memberBase + index;
+        }
+
+        String username(int index) {
+            return USERNAME_PREFIX + index;
+        }
+
+        /**
+         * index번째 회원이 소유한 농장 수
+         */
+        int farmCount(int memberIndex) {
+            return farms / members + (memberIndex < farms % members ? 1 : 0);
+        }
+
+        /**
+         * index번째 회원의 n번째 농장 ID
+         */
+        long farmId(int memberIndex, int n) {
+            return farmBase + memberIndex + (long) n * members;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.cropkeeper.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션
+ *
+ * 인자 형식: --key=value (지정하지 않은 값은 기본값 사용)
+ * - members: 회원 수 (기본 5,000)
+ * - farms: 농장 수 (기본 50,000, 회원에게 순서대로 분배)
+ * - logs: 재배 기록 수 (기본 2,000,000, 농장에 순서대로 분배)
+ * - users: 동시 가상 사용자 수 (기본 200)
+ * - warmup: 워밍업 시간 (기본 30s, 통계에서 제외)
+ * - duration: 측정 시간 (기본 120s)
+ * - think-ms: 요청 사이 대기 시간 (기본 0)
+ * - seed: 시나리오 난수 시드 (기본 42)
+ * - baseline: 결과 파일 경로 (기본 build/loadtest/baseline.json)
+ * - compare: 비교할 이전 결과 파일 (선택)
+ */
+record LoadTestOptions(
+        int members,
+        int farms,
+        int logs,
+        int users,
+        Duration warmup,
+        Duration duration,
+        long thinkMillis,
+        long seed,
+        Path baseline,
+        Path compare) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                intValue(values, "members", 5_000),
+                intValue(values, "farms", 50_000),
+                intValue(values, "logs", 2_000_000),
+                intValue(values, "users", 200),
+                duration(values, "warmup", "30s"),
+                duration(values, "duration", "120s"),
+                Long.parseLong(values.getOrDefault("think-ms", "0")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("baseline", "build/loadtest/baseline.json")),
+                values.containsKey("compare") && !values.get("compare").isBlank()
+                        ? Path.of(values.get("compare")) : null);
+
+        if (options.members() < 2 || options.farms() < options.members() || options.users() < 1) {
+            throw new IllegalArgumentException("members >= 2, farms >= members, users >= 1 이어야 합니다.");
+        }
+        return options;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.replace("_", ""));
+    }
+
+    /**
+     * "30s", "2m", "500ms" 형식의 시간
+     */
+    private static Duration duration(Map<String, String> values, String key, String defaultValue) {
+        String value = values.getOrDefault(key, defaultValue).trim();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,159 @@
+package com.cropkeeper.loadtest;
+
+import com.cropkeeper.global.metrics.LatencyHistogram;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (endpoint별 처리량, 지연시간 백분위)
+ *
+ * 결과 파일은 endpoint 이름 순서가 고정된 JSON이라 실행 간 diff로 비교할 수 있고,
+ * --compare로 이전 결과를 지정하면 처리량, p95, p99 변화율을 함께 출력합니다.
+ */
+final class LoadTestReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Object> options;
+    private final double seconds;
+    private final List<EndpointResult> endpoints;
+
+    private LoadTestReport(Map<String, Object> options, double seconds, List<EndpointResult> endpoints) {
+        this.options = options;
+        this.seconds = seconds;
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * @param snapshots 측정 구간의 endpoint별 스냅샷 (시나리오 순서)
+     * @param seconds   측정 시간 (초)
+     */
+    static LoadTestReport of(LoadTestOptions options, Map<String, LatencyHistogram.Snapshot> snapshots, double seconds) {
+        Map<String, Object> recordedOptions = new LinkedHashMap<>();
+        recordedOptions.put("members", options.members());
+        recordedOptions.put("farms", options.farms());
+        recordedOptions.put("logs", options.logs());
+        recordedOptions.put("users", options.users());
+        recordedOptions.put("warmupSeconds", options.warmup().toSeconds());
+        recordedOptions.put("durationSeconds", options.duration().toSeconds());
+        recordedOptions.put("thinkMillis", options.thinkMillis());
+        recordedOptions.put("javaVersion", Runtime.version().toString());
+
+        List<EndpointResult> endpoints = new ArrayList<>();
+        snapshots.forEach((name, snapshot) -> endpoints.add(EndpointResult.of(name, snapshot, seconds)));
+        return new LoadTestReport(recordedOptions, seconds, endpoints);
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        out.printf("== 부하 테스트 결과 (%.0f초) ==%n", seconds);
+        out.printf("%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "mean", "p50", "p95", "p99", "max");
+        for (EndpointResult e : endpoints) {
+            out.printf("%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    e.name, e.count, e.errors, e.throughput, e.meanMs, e.p50Ms, e.p95Ms, e.p99Ms, e.maxMs);
+        }
+    }
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("generatedAt", Instant.now().toString());
+        root.put("options", options);
+        Map<String, Object> results = new LinkedHashMap<>();
+        endpoints.forEach(e -> results.put(e.name, e.toMap()));
+        root.put("endpoints", results);
+        MAPPER.writeValue(file.toFile(), root);
+    }
+
+    /**
+     * 이전 결과 파일과 비교 출력 (처리량은 증가, 지연시간은 감소가 개선)
+     */
+    void compare(Path previousFile, PrintStream out) throws IOException {
+        JsonNode previous = MAPPER.readTree(previousFile.toFile()).path("endpoints");
+        out.println();
+        out.println("== 이전 결과 대비 (" + previousFile + ") ==");
+        out.printf("%-22s %12s %12s %12s %8s%n", "endpoint", "req/s", "p95", "p99", "errors");
+        for (EndpointResult e : endpoints) {
+            JsonNode before = previous.path(e.name);
+            if (before.isMissingNode()) {
+                out.printf("%-22s %12s%n", e.name, "(신규)");
+                continue;
+            }
+            out.printf("%-22s %12s %12s %12s %8s%n", e.name,
+                    change(before.path("throughput").asDouble(), e.throughput),
+                    change(before.path("p95Ms").asDouble(), e.p95Ms),
+                    change(before.path("p99Ms").asDouble(), e.p99Ms),
+                    before.path("errors").asLong() + "→" + e.errors);
+        }
+    }
+
+    private static String change(double before, double after) {
+        if (before == 0) {
+            return "-";
+        }
+        return String.format("%+.1f%%", (after - before) / before * 100);
+    }
+
+    private static final class EndpointResult {
+        private final String name;
+        private final long count;
+        private final long errors;
+        private final double throughput;
+        private final double meanMs;
+        private final double p50Ms;
+        private final double p95Ms;
+        private final double p99Ms;
+        private final double maxMs;
+
+        private EndpointResult(String name, LatencyHistogram.Snapshot snapshot, double seconds) {
+            this.name = name;
+            this.count = snapshot.getCount();
+            this.errors = snapshot.getErrors();
+            this.throughput = seconds > 0 ? snapshot.getCount() / seconds : 0;
+            this.meanMs = millis(snapshot.getMeanNanos());
+            this.p50Ms = millis(snapshot.percentile(50));
+            this.p95Ms = millis(snapshot.percentile(95));
+            this.p99Ms = millis(snapshot.percentile(99));
+            this.maxMs = millis(snapshot.getMaxNanos());
+        }
+
+        static EndpointResult of(String name, LatencyHistogram.Snapshot snapshot, double seconds) {
+            return new EndpointResult(name, snapshot, seconds);
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("errors", errors);
+            map.put("throughput", round(throughput));
+            map.put("meanMs", round(meanMs));
+            map.put("p50Ms", round(p50Ms));
+            map.put("p95Ms", round(p95Ms));
+            map.put("p99Ms", round(p99Ms));
+            map.put("maxMs", round(maxMs));
+            return map;
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.cropkeeper.loadtest;
+
+import com.cropkeeper.CropkeeperApplication;
+import com.cropkeeper.domain.activity.rollup.FarmActivityRollupRebuilder;
+import com.cropkeeper.global.metrics.LatencyHistogram;
+import com.cropkeeper.global.persistence.PooledIdReconciler;
+import com.cropkeeper.loadtest.LoadScenario.Operation;
+import com.cropkeeper.loadtest.LoadScenario.VirtualUser;
+import com.cropkeeper.loadtest.LoadTestDataSeeder.SeededData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 실행기
+ *
+ * 실행: ./gradlew loadTest [-Pargs="--members=5000 --farms=50000 --logs=2000000 --users=200 --duration=120s"]
+ *
+ * 순서:
+ * 1. loadtest 프로필(H2 MySQL 모드, 임의 포트)로 애플리케이션 기동
+ * 2. LoadTestDataSeeder로 회원, 농장, 작물 분류, 재배 기록 적재 (이후 풀링 ID 세그먼트 보정, 일별 활동 집계 재구축)
+ * 3. 가상 사용자마다 로그인 후 LoadScenario 비율대로 요청 반복 (워밍업 구간은 통계에서 제외)
+ * 4. endpoint별 결과 출력, 결과 파일 저장, --compare 지정 시 이전 결과와 비교
+ *
+ * 가상 사용자는 Java 21 이상에서 실행하면 가상 스레드, 그 미만이면 플랫폼 스레드로 실행됩니다.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        SpringApplication application = new SpringApplication(CropkeeperApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        try (ConfigurableApplicationContext context = application.run("--server.port=0")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            SeededData data = new LoadTestDataSeeder(
+                    context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class)).seed(options);
+            context.getBean(PooledIdReconciler.class).reconcile();
+            context.getBean(FarmActivityRollupRebuilder.class).rebuildAll();
+
+            LoadTestReport report = run(URI.create("http://localhost:" + port), data, options);
+            report.print(System.out);
+            report.write(options.baseline());
+            System.out.println();
+            System.out.println("결과 파일: " + options.baseline().toAbsolutePath());
+            if (options.compare() != null) {
+                report.compare(options.compare(), System.out);
+            }
+        }
+    }
+
+    private static LoadTestReport run(URI baseUri, SeededData data, LoadTestOptions options) throws InterruptedException {
+        LoadScenario scenario = LoadScenario.standard();
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        scenario.operations().forEach(operation -> histograms.put(operation.name(), new LatencyHistogram()));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long end = warmupEnd + options.duration().toNanos();
+
+        log.info("부하 시작: users={}, warmup={}s, duration={}s",
+                options.users(), options.warmup().toSeconds(), options.duration().toSeconds());
+
+        ExecutorService executor = newUserExecutor(options.users());
+        try {
+            for (int i = 0; i < options.users(); i++) {
+                VirtualUser user = new VirtualUser(baseUri, data, i % data.members(), options.seed() + i);
+                executor.execute(() -> runUser(client, user, data, scenario, histograms, end, options.thinkMillis()));
+            }
+
+            sleepUntil(warmupEnd);
+            Map<String, LatencyHistogram.Snapshot> warmup = snapshots(histograms);
+            log.info("워밍업 종료, 측정 시작");
+
+            sleepUntil(end);
+            Map<String, LatencyHistogram.Snapshot> measured = new LinkedHashMap<>();
+            snapshots(histograms).forEach((name, snapshot) -> measured.put(name, snapshot.minus(warmup.get(name))));
+
+            return LoadTestReport.of(options, measured, options.duration().toNanos() / 1e9);
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static void runUser(HttpClient client, VirtualUser user, SeededData data, LoadScenario scenario,
+                                Map<String, LatencyHistogram> histograms, long end, long thinkMillis) {
+        Operation login = scenario.operations().get(0);
+        if (!execute(client, user, data, login, histograms.get(login.name()))) {
+            log.warn("가상 사용자 로그인 실패, 종료: memberId={}", user.memberId());
+            return;
+        }
+
+        while (System.nanoTime() < end) {
+            Operation operation = scenario.pick(user.random());
+            execute(client, user, data, operation, histograms.get(operation.name()));
+            if (thinkMillis > 0) {
+                try {
+                    Thread.sleep(thinkMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청 하나 실행 후 기록 (기대한 상태 코드가 아니거나 예외가 나면 실패)
+     */
+    private static boolean execute(HttpClient client, VirtualUser user, SeededData data,
+                                   Operation operation, LatencyHistogram histogram) {
+        HttpRequest request = operation.request().apply(user, data);
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            ok = response.statusCode() == operation.expectedStatus();
+            if (ok && "auth.login".equals(operation.name())) {
+                JsonNode body = MAPPER.readTree(response.body());
+                user.onLogin(body.path("accessToken").asText(), body.path("memberId").asLong());
+            }
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ok = false;
+        }
+        histogram.record(System.nanoTime() - start, !ok);
+        return ok;
+    }
+
+    private static Map<String, LatencyHistogram.Snapshot> snapshots(Map<String, LatencyHistogram> histograms) {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+        histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return snapshots;
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    /**
+     * 가상 사용자 실행기 (Java 21 이상이면 가상 스레드, 아니면 사용자 수만큼 플랫폼 스레드)
+     *
+     * 빌드 툴체인이 Java 17이므로 가상 스레드 API는 리플렉션으로 찾습니다.
+     */
+    private static ExecutorService newUserExecutor(int users) {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("가상 스레드로 실행");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            log.info("가상 스레드를 사용할 수 없어 플랫폼 스레드 {}개로 실행 (Java {})", users, Runtime.version().feature());
+            return Executors.newFixedThreadPool(users);
+        }
+    }
+}
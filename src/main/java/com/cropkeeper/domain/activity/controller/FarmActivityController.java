@@ -0,0 +1,49 @@
+package com.cropkeeper.domain.activity.controller;
+
+import com.cropkeeper.domain.activity.dto.request.ActivityGranularity;
+import com.cropkeeper.domain.activity.dto.response.FarmActivityResponse;
+import com.cropkeeper.domain.activity.service.FarmActivityService;
+import com.cropkeeper.domain.farm.annotation.ValidateFarmAccess;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/farms/{farmId}/activity")
+@RequiredArgsConstructor
+public class FarmActivityController {
+
+    private final FarmActivityService farmActivityService;
+
+    /**
+     * 농장 활동 집계 조회 API (기록 종류별 기록 수, 사용량 합계를 일/주/월 단위로)
+     *
+     * @param farmId        농장 ID
+     * @param userPrincipal 현재 로그인한 사용자 정보
+     * @param from          조회 시작일 (yyyy-MM-dd, 포함)
+     * @param to            조회 종료일 (yyyy-MM-dd, 포함)
+     * @param types         기록 종류 (예: types=IRRIGATION,FERTILIZING / 생략 시 전체)
+     * @param granularity   묶음 단위 (DAY, WEEK, MONTH / 기본 DAY)
+     * @return 200 OK + 묶음별, 기간 전체 합계
+     */
+    @ValidateFarmAccess(action = "농장 활동 집계 조회")
+    @GetMapping
+    public ResponseEntity<FarmActivityResponse> getActivity(
+            @PathVariable Long farmId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Set<FarmingLogType> types,
+            @RequestParam(defaultValue = "DAY") ActivityGranularity granularity) {
+
+        FarmActivityResponse response = farmActivityService.getActivity(farmId, from, to, types, granularity);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,39 @@
+package com.cropkeeper.domain.activity.dto.request;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 활동 집계 묶음 단위
+ */
+public enum ActivityGranularity {
+
+    DAY(366),
+    WEEK(3660),    // 월요일 시작
+    MONTH(3660);
+
+    /**
+     * 한 번에 조회할 수 있는 최대 일수
+     */
+    private final int maxDays;
+
+    ActivityGranularity(int maxDays) {
+        this.maxDays = maxDays;
+    }
+
+    public int getMaxDays() {
+        return maxDays;
+    }
+
+    /**
+     * 날짜가 속한 묶음의 시작일
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.cropkeeper.domain.activity.dto.response;
+
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기록 종류 하나의 기간 합계
+ *
+ * amountTotal은 종류별 주 사용량(재배: 정식량, 시비: 비료 포대, 수확: 상자, 방제: 농약 병),
+ * waterLiterTotal은 물 사용량(관수: 관수량, 방제: 희석수)입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivitySummaryResponse {
+
+    private LocalDate periodStart;
+    private FarmingLogType type;
+    private long logCount;
+    private long amountTotal;
+    private long waterLiterTotal;
+}
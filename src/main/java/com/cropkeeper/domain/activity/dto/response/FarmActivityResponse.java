@@ -0,0 +1,31 @@
+package com.cropkeeper.domain.activity.dto.response;
+
+import com.cropkeeper.domain.activity.dto.request.ActivityGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 농장 활동 집계
+ *
+ * buckets는 묶음 단위(일, 주, 월)와 기록 종류별 합계이며, 기록이 없는 묶음은 생략됩니다.
+ * 주, 월 묶음의 periodStart는 조회 시작일보다 이를 수 있지만 합계는 조회 기간 안의 기록만 포함합니다.
+ * totals는 조회 기간 전체의 기록 종류별 합계입니다 (periodStart = 조회 시작일).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FarmActivityResponse {
+
+    private Long farmId;
+    private LocalDate from;
+    private LocalDate to;
+    private ActivityGranularity granularity;
+    private List<ActivitySummaryResponse> buckets;
+    private List<ActivitySummaryResponse> totals;
+}
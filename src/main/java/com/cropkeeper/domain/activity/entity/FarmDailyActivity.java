@@ -0,0 +1,56 @@
+package com.cropkeeper.domain.activity.entity;
+
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 농장 일별 활동 집계 (농장, 날짜, 기록 종류별 기록 수와 사용량 합계)
+ *
+ * 영농일지와 방제 기록이 저장, 수정, 삭제될 때 FarmActivityRollupIntegrator가 증분으로 갱신하며
+ * 애플리케이션 코드는 읽기만 합니다. 기록 종류별로 합산하는 값은 ActivitySource를 참고하세요.
+ */
+@Entity
+@Table(name = "farm_daily_activity",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_farm_daily_activity",
+                columnNames = {"farm_id", "activity_date", "log_type"}   // 증분 UPSERT 키이자 기간 조회 인덱스
+        ))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FarmDailyActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "farm_daily_activity_id")
+    private Long farmDailyActivityId;
+
+    @Column(name = "farm_id", nullable = false)
+    private Long farmId;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "log_type", nullable = false, length = 20)
+    private FarmingLogType logType;
+
+    @Column(name = "log_count", nullable = false)
+    private Long logCount;
+
+    /**
+     * 주 사용량 합계 (재배: 정식량, 시비: 비료 포대, 수확: 상자, 방제: 농약 병)
+     */
+    @Column(name = "amount_total", nullable = false)
+    private Long amountTotal;
+
+    /**
+     * 물 사용량 합계 (관수: 관수량, 방제: 희석수, 리터)
+     */
+    @Column(name = "water_liter_total", nullable = false)
+    private Long waterLiterTotal;
+}
@@ -0,0 +1,18 @@
+package com.cropkeeper.domain.activity.exception;
+
+import com.cropkeeper.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ActivityErrorCode implements ErrorCode {
+
+    INVALID_DATE_RANGE("R001", "조회 시작일은 종료일보다 늦을 수 없습니다.", HttpStatus.BAD_REQUEST),
+    PERIOD_TOO_LONG("R002", "조회 기간이 너무 깁니다. (일별 1년, 주별/월별 10년까지)", HttpStatus.BAD_REQUEST);
+
+    private final String code;
+    private final String message;
+    private final HttpStatus httpStatus;
+}
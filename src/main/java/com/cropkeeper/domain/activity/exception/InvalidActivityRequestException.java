@@ -0,0 +1,10 @@
+package com.cropkeeper.domain.activity.exception;
+
+import com.cropkeeper.global.exception.BaseException;
+
+public class InvalidActivityRequestException extends BaseException {
+
+    public InvalidActivityRequestException(ActivityErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,39 @@
+package com.cropkeeper.domain.activity.repository;
+
+import com.cropkeeper.domain.activity.entity.FarmDailyActivity;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FarmDailyActivityRepository extends JpaRepository<FarmDailyActivity, Long> {
+
+    /**
+     * 농장의 기간별 일별 집계 조회
+     *
+     * uk_farm_daily_activity (farm_id, activity_date, log_type) 인덱스 범위 스캔으로 처리되며,
+     * 기간이 1년이어도 최대 365 × 기록 종류 수만큼만 읽습니다.
+     *
+     * @param farmId 농장 ID
+     * @param from   조회 시작일 (포함)
+     * @param to     조회 종료일 (포함)
+     * @param types  기록 종류
+     * @return 일별 집계 목록 (날짜 오름차순)
+     */
+    @Query("SELECT a FROM FarmDailyActivity a " +
+            "WHERE a.farmId = :farmId " +
+            "AND a.activityDate BETWEEN :from AND :to " +
+            "AND a.logType IN :types " +
+            "ORDER BY a.activityDate, a.logType")
+    List<FarmDailyActivity> findByFarmIdAndPeriod(
+            @Param("farmId") Long farmId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("types") Collection<FarmingLogType> types);
+}
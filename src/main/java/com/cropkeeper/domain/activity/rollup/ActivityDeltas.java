@@ -0,0 +1,122 @@
+package com.cropkeeper.domain.activity.rollup;
+
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 트랜잭션 하나에서 쌓인 일별 집계 변화량
+ *
+ * 기록이 저장, 수정, 삭제될 때마다 (농장, 날짜, 기록 종류)별로 변화량을 더해 두었다가
+ * 커밋 직전(마지막 flush 이후)에 키마다 UPSERT 한 번으로 반영합니다.
+ * 대량 등록처럼 한 트랜잭션에 같은 날짜의 기록이 많아도 집계 테이블 쓰기는 키 수만큼만 일어나며,
+ * 기록과 같은 트랜잭션이므로 롤백되면 집계도 반영되지 않습니다.
+ *
+ * 키 순서(농장, 날짜, 종류)대로 UPSERT해 동시에 커밋하는 트랜잭션끼리 행 잠금 순서가 같도록 합니다.
+ */
+final class ActivityDeltas implements BeforeTransactionCompletionProcess {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO farm_daily_activity (farm_id, activity_date, log_type, log_count, amount_total, water_liter_total)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE log_count = log_count + ?,
+                                    amount_total = amount_total + ?,
+                                    water_liter_total = water_liter_total + ?
+            """;
+
+    private static final int COUNT = 0;
+    private static final int AMOUNT = 1;
+    private static final int WATER = 2;
+
+    private final Map<Key, long[]> deltas = new TreeMap<>(Key.ORDER);
+
+    /**
+     * 기록 상태 하나의 기여분을 더하거나 뺌 (삭제 표시된 기록은 기여분 없음)
+     *
+     * @param source    기록 종류
+     * @param persister 엔티티 persister (상태 배열의 속성 이름 조회용)
+     * @param state     엔티티 상태 배열 (null이면 무시)
+     * @param sign      1이면 더하고 -1이면 뺌
+     */
+    void add(ActivitySource source, EntityPersister persister, Object[] state, int sign) {
+        if (state == null) {
+            return;
+        }
+        String[] properties = persister.getPropertyNames();
+        Farm farm = (Farm) value(properties, state, "farm");
+        FarmingMetadata metadata = (FarmingMetadata) value(properties, state, "metadata");
+        if (Boolean.TRUE.equals(value(properties, state, "deleted"))
+                || farm == null || metadata == null || metadata.getLogDate() == null) {
+            return;
+        }
+
+        // getFarmId()는 프록시 초기화 없이 식별자만 읽음
+        Key key = new Key(farm.getFarmId(), metadata.getLogDate().toLocalDate(), source.logType());
+        long[] delta = deltas.computeIfAbsent(key, k -> new long[3]);
+        delta[COUNT] += sign;
+        delta[AMOUNT] += sign * amount(properties, state, source.amountProperty());
+        delta[WATER] += sign * amount(properties, state, source.waterProperty());
+    }
+
+    @Override
+    public void doBeforeTransactionCompletion(SessionImplementor session) {
+        deltas.values().removeIf(delta -> delta[COUNT] == 0 && delta[AMOUNT] == 0 && delta[WATER] == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+                for (Map.Entry<Key, long[]> entry : deltas.entrySet()) {
+                    Key key = entry.getKey();
+                    long[] delta = entry.getValue();
+                    statement.setLong(1, key.farmId());
+                    statement.setDate(2, Date.valueOf(key.date()));
+                    statement.setString(3, key.type().name());
+                    statement.setLong(4, delta[COUNT]);
+                    statement.setLong(5, delta[AMOUNT]);
+                    statement.setLong(6, delta[WATER]);
+                    statement.setLong(7, delta[COUNT]);
+                    statement.setLong(8, delta[AMOUNT]);
+                    statement.setLong(9, delta[WATER]);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    private static Object value(String[] properties, Object[] state, String property) {
+        if (property == null) {
+            return null;
+        }
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i].equals(property)) {
+                return state[i];
+            }
+        }
+        return null;
+    }
+
+    private static long amount(String[] properties, Object[] state, String property) {
+        Object value = value(properties, state, property);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private record Key(Long farmId, LocalDate date, FarmingLogType type) {
+
+        static final Comparator<Key> ORDER = Comparator
+                .comparing(Key::farmId)
+                .thenComparing(Key::date)
+                .thenComparing(Key::type);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cropkeeper.domain.activity.rollup;
+
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.fertilizer.entity.FertilizingLog;
+import com.cropkeeper.domain.harvest.entity.HarvestLog;
+import com.cropkeeper.domain.irrigation.entity.IrrigationLog;
+import com.cropkeeper.domain.pest.entity.PestControlLog;
+
+/**
+ * 집계 대상 기록 종류별 합산 항목
+ *
+ * 증분 갱신(엔티티 속성 이름)과 재구축(테이블, 컬럼 이름)이 같은 정의를 쓰도록 한곳에 모았습니다.
+ * 합산 항목이 없는 쪽은 null이며 0으로 집계됩니다.
+ */
+enum ActivitySource {
+
+    CULTIVATION(FarmingLogType.CULTIVATION, CultivationLog.class, "cultivation_log",
+            "plantingAmount", "planting_amount", null, null),
+    FERTILIZING(FarmingLogType.FERTILIZING, FertilizingLog.class, "fertilizing_log",
+            "usedAmountBag", "used_amount_bag", null, null),
+    IRRIGATION(FarmingLogType.IRRIGATION, IrrigationLog.class, "irrigation_log",
+            null, null, "waterAmountLiter", "water_amount_liter"),
+    HARVEST(FarmingLogType.HARVEST, HarvestLog.class, "harvest_log",
+            "quantityBox", "quantity_box", null, null),
+    // farming_log 상속 구조가 아닌 독립 테이블이며 삭제 컬럼이 없음
+    PEST_CONTROL(FarmingLogType.PEST_CONTROL, PestControlLog.class, "pest_control_log",
+            "usedAmountBottle", "used_amount_bottle", "usedWaterLiter", "used_water_liter");
+
+    private final FarmingLogType logType;
+    private final Class<?> entityClass;
+    private final String table;
+    private final String amountProperty;
+    private final String amountColumn;
+    private final String waterProperty;
+    private final String waterColumn;
+
+    ActivitySource(FarmingLogType logType, Class<?> entityClass, String table,
+                   String amountProperty, String amountColumn, String waterProperty, String waterColumn) {
+        this.logType = logType;
+        this.entityClass = entityClass;
+        this.table = table;
+        this.amountProperty = amountProperty;
+        this.amountColumn = amountColumn;
+        this.waterProperty = waterProperty;
+        this.waterColumn = waterColumn;
+    }
+
+    /**
+     * @return 엔티티 클래스에 해당하는 출처 (집계 대상이 아니면 null)
+     */
+    static ActivitySource of(Class<?> entityClass) {
+        for (ActivitySource source : values()) {
+            if (source.entityClass == entityClass) {
+                return source;
+            }
+        }
+        return null;
+    }
+
+    FarmingLogType logType() {
+        return logType;
+    }
+
+    boolean inheritsFarmingLog() {
+        return this != PEST_CONTROL;
+    }
+
+    String table() {
+        return table;
+    }
+
+    String amountProperty() {
+        return amountProperty;
+    }
+
+    String amountColumn() {
+        return amountColumn;
+    }
+
+    String waterProperty() {
+        return waterProperty;
+    }
+
+    String waterColumn() {
+        return waterColumn;
+    }
+}
@@ -0,0 +1,117 @@
+package com.cropkeeper.domain.activity.rollup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 영농일지, 방제 기록 변경을 farm_daily_activity 집계에 반영하는 Hibernate Integrator
+ *
+ * JPA 엔티티 리스너와 달리 Hibernate 이벤트는 수정 전 상태(old state)를 함께 주므로
+ * 사용량 수정, 날짜 변경, 삭제 표시를 "이전 기여분 빼기 + 새 기여분 더하기"로 처리할 수 있습니다.
+ * 서비스 코드, 대량 등록(FarmingLogBatchWriter) 등 JPA를 거치는 모든 저장 경로에 적용되며,
+ * JDBC로 직접 쓰거나 JPQL 일괄 UPDATE/DELETE를 쓰는 경우는 FarmActivityRollupRebuilder로 재구축해야 합니다.
+ *
+ * META-INF/services/org.hibernate.integrator.spi.Integrator로 등록됩니다.
+ */
+@Slf4j
+public class FarmActivityRollupIntegrator implements Integrator {
+
+    private final RollupListener listener = new RollupListener();
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        if (registry != null) {
+            registry.appendListeners(EventType.POST_INSERT, listener);
+            registry.appendListeners(EventType.POST_UPDATE, listener);
+            registry.appendListeners(EventType.POST_DELETE, listener);
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // 정리할 자원 없음
+    }
+
+    private static final class RollupListener
+            implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+        /**
+         * 세션별 진행 중인 트랜잭션의 변화량 (트랜잭션이 끝나면 제거)
+         *
+         * open-in-view로 세션 하나가 여러 트랜잭션에 걸칠 수 있으므로 트랜잭션마다 새로 만듭니다.
+         */
+        private final Map<EventSource, ActivityDeltas> pending = new ConcurrentHashMap<>();
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            ActivitySource source = ActivitySource.of(event.getPersister().getMappedClass());
+            if (source != null) {
+                deltas(event.getSession()).add(source, event.getPersister(), event.getState(), 1);
+            }
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            ActivitySource source = ActivitySource.of(event.getPersister().getMappedClass());
+            if (source == null) {
+                return;
+            }
+            if (event.getOldState() == null) {
+                log.warn("수정 전 상태가 없어 일별 집계에 반영하지 못했습니다. 재구축이 필요합니다: {}#{}",
+                        source, event.getId());
+                return;
+            }
+            ActivityDeltas deltas = deltas(event.getSession());
+            deltas.add(source, event.getPersister(), event.getOldState(), -1);
+            deltas.add(source, event.getPersister(), event.getState(), 1);
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            ActivitySource source = ActivitySource.of(event.getPersister().getMappedClass());
+            if (source != null) {
+                deltas(event.getSession()).add(source, event.getPersister(), event.getDeletedState(), -1);
+            }
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+
+        /**
+         * 현재 트랜잭션의 변화량 (첫 변경 시 커밋 직전 반영, 종료 시 정리 작업을 등록)
+         */
+        private ActivityDeltas deltas(EventSource session) {
+            ActivityDeltas deltas = pending.get(session);
+            if (deltas == null) {
+                deltas = new ActivityDeltas();
+                pending.put(session, deltas);
+                session.getActionQueue().registerProcess(deltas);
+                session.getActionQueue().registerProcess(
+                        (AfterTransactionCompletionProcess) (success, completed) -> pending.remove(session));
+            }
+            return deltas;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.cropkeeper.domain.activity.rollup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * farm_daily_activity 재구축 (백필)
+ *
+ * 집계 도입 전에 쌓인 기록, JDBC로 직접 적재한 기록처럼 증분 갱신을 거치지 않은 데이터를
+ * 원본 기록 테이블에서 다시 집계합니다.
+ *
+ * 농장 ID 범위(FARMS_PER_TRANSACTION개)마다 한 트랜잭션에서 "범위 삭제 + 종류별 INSERT ... SELECT"를 실행하므로
+ * 전체 재구축도 트랜잭션과 잠금이 작게 나뉩니다.
+ * 재구축 중인 범위의 농장에 동시에 기록이 저장되면 해당 변경이 중복되거나 빠질 수 있으므로,
+ * 쓰기가 적은 시간에 실행하거나 농장 하나만 다시 재구축합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FarmActivityRollupRebuilder {
+
+    static final int FARMS_PER_TRANSACTION = 500;
+
+    private static final Map<ActivitySource, String> INSERT_SQL = new EnumMap<>(ActivitySource.class);
+
+    static {
+        for (ActivitySource source : ActivitySource.values()) {
+            INSERT_SQL.put(source, insertSql(source));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 전체 농장 재구축 (삭제된 농장 포함)
+     */
+    public Result rebuildAll() {
+        long start = System.nanoTime();
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(farm_id) FROM farm", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(farm_id) FROM farm", Long.class);
+
+        long rows = 0;
+        if (minId != null && maxId != null) {
+            for (long from = minId; from <= maxId; from += FARMS_PER_TRANSACTION) {
+                rows += rebuildRange(from, Math.min(maxId, from + FARMS_PER_TRANSACTION - 1));
+            }
+        }
+
+        Result result = new Result(rows, (System.nanoTime() - start) / 1_000_000);
+        log.info("농장 일별 활동 집계 재구축 완료: farmId={}~{}, rows={}, {}ms", minId, maxId, result.rows(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 농장 하나 재구축
+     *
+     * @param farmId 농장 ID
+     */
+    public Result rebuildFarm(Long farmId) {
+        long start = System.nanoTime();
+        long rows = rebuildRange(farmId, farmId);
+
+        Result result = new Result(rows, (System.nanoTime() - start) / 1_000_000);
+        log.info("농장 일별 활동 집계 재구축 완료: farmId={}, rows={}, {}ms", farmId, result.rows(), result.elapsedMillis());
+        return result;
+    }
+
+    private long rebuildRange(long fromFarmId, long toFarmId) {
+        Long rows = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM farm_daily_activity WHERE farm_id BETWEEN ? AND ?", fromFarmId, toFarmId);
+            long inserted = 0;
+            for (String sql : INSERT_SQL.values()) {
+                inserted += jdbcTemplate.update(sql, fromFarmId, toFarmId);
+            }
+            return inserted;
+        });
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * 기록 종류 하나를 (농장, 날짜)별로 집계해 넣는 SQL (증분 갱신과 같은 기준: 삭제 표시된 기록 제외)
+     */
+    private static String insertSql(ActivitySource source) {
+        String owner = source.inheritsFarmingLog() ? "l" : "s";
+        String from = source.inheritsFarmingLog()
+                ? "farming_log l JOIN " + source.table() + " s ON s.farming_log_id = l.farming_log_id"
+                : source.table() + " s";
+        String amount = source.amountColumn() != null ? "COALESCE(SUM(s." + source.amountColumn() + "), 0)" : "0";
+        String water = source.waterColumn() != null ? "COALESCE(SUM(s." + source.waterColumn() + "), 0)" : "0";
+
+        return "INSERT INTO farm_daily_activity"
+                + " (farm_id, activity_date, log_type, log_count, amount_total, water_liter_total)"
+                + " SELECT " + owner + ".farm_id, CAST(" + owner + ".log_date AS DATE), '" + source.logType().name() + "',"
+                + " COUNT(*), " + amount + ", " + water
+                + " FROM " + from
+                + " WHERE " + owner + ".farm_id BETWEEN ? AND ?"
+                + (source.inheritsFarmingLog() ? " AND l.deleted = FALSE" : "")
+                + " GROUP BY " + owner + ".farm_id, CAST(" + owner + ".log_date AS DATE)";
+    }
+
+    /**
+     * @param rows          만들어진 집계 행 수
+     * @param elapsedMillis 소요 시간 (ms)
+     */
+    public record Result(long rows, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.cropkeeper.domain.activity.service;
+
+import com.cropkeeper.domain.activity.dto.request.ActivityGranularity;
+import com.cropkeeper.domain.activity.dto.response.ActivitySummaryResponse;
+import com.cropkeeper.domain.activity.dto.response.FarmActivityResponse;
+import com.cropkeeper.domain.activity.entity.FarmDailyActivity;
+import com.cropkeeper.domain.activity.exception.ActivityErrorCode;
+import com.cropkeeper.domain.activity.exception.InvalidActivityRequestException;
+import com.cropkeeper.domain.activity.repository.FarmDailyActivityRepository;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 농장 활동 집계 조회 ("이번 달 관수량", "주별 비료 사용량" 등)
+ *
+ * 원본 기록을 읽지 않고 farm_daily_activity(농장, 날짜, 기록 종류별 일별 합계)만 읽어
+ * 요청한 묶음 단위로 다시 합산합니다. 조회 비용은 기록 수가 아니라 기간 일수 × 기록 종류 수에 비례합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FarmActivityService {
+
+    private static final Comparator<Key> ORDER = Comparator
+            .comparing(Key::periodStart)
+            .thenComparing(Key::type);
+
+    private final FarmDailyActivityRepository farmDailyActivityRepository;
+
+    /**
+     * 농장 활동 집계 조회
+     *
+     * @param farmId      농장 ID
+     * @param from        조회 시작일 (포함)
+     * @param to          조회 종료일 (포함)
+     * @param types       기록 종류 (null 또는 비어 있으면 전체)
+     * @param granularity 묶음 단위
+     * @return 묶음별, 기간 전체 합계
+     * @throws InvalidActivityRequestException 시작일이 종료일보다 늦거나 기간이 묶음 단위의 최대 일수를 넘는 경우
+     */
+    public FarmActivityResponse getActivity(Long farmId, LocalDate from, LocalDate to,
+                                            Set<FarmingLogType> types, ActivityGranularity granularity) {
+        if (from.isAfter(to)) {
+            throw new InvalidActivityRequestException(ActivityErrorCode.INVALID_DATE_RANGE);
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > granularity.getMaxDays()) {
+            throw new InvalidActivityRequestException(ActivityErrorCode.PERIOD_TOO_LONG);
+        }
+        Set<FarmingLogType> selected = types == null || types.isEmpty()
+                ? EnumSet.allOf(FarmingLogType.class)
+                : types;
+
+        Map<Key, long[]> buckets = new TreeMap<>(ORDER);
+        Map<Key, long[]> totals = new TreeMap<>(ORDER);
+        for (FarmDailyActivity day : farmDailyActivityRepository.findByFarmIdAndPeriod(farmId, from, to, selected)) {
+            accumulate(buckets, new Key(granularity.periodStart(day.getActivityDate()), day.getLogType()), day);
+            accumulate(totals, new Key(from, day.getLogType()), day);
+        }
+
+        return FarmActivityResponse.builder()
+                .farmId(farmId)
+                .from(from)
+                .to(to)
+                .granularity(granularity)
+                .buckets(toResponses(buckets))
+                .totals(toResponses(totals))
+                .build();
+    }
+
+    private static void accumulate(Map<Key, long[]> sums, Key key, FarmDailyActivity day) {
+        long[] sum = sums.computeIfAbsent(key, k -> new long[3]);
+        sum[0] += day.getLogCount();
+        sum[1] += day.getAmountTotal();
+        sum[2] += day.getWaterLiterTotal();
+    }
+
+    /**
+     * 합계 목록 (증분 갱신으로 기록 수가 0이 된 묶음은 제외)
+     */
+    private static List<ActivitySummaryResponse> toResponses(Map<Key, long[]> sums) {
+        return sums.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] > 0)
+                .map(entry -> ActivitySummaryResponse.builder()
+                        .periodStart(entry.getKey().periodStart())
+                        .type(entry.getKey().type())
+                        .logCount(entry.getValue()[0])
+                        .amountTotal(entry.getValue()[1])
+                        .waterLiterTotal(entry.getValue()[2])
+                        .build())
+                .toList();
+    }
+
+    private record Key(LocalDate periodStart, FarmingLogType type) {
+    }
+}
@@ -1,18 +1,24 @@
 package com.cropkeeper.domain.auth.controller;
 
 import com.cropkeeper.domain.auth.dto.request.LoginRequest;
+import com.cropkeeper.domain.auth.dto.request.RefreshTokenRequest;
 import com.cropkeeper.domain.auth.dto.response.LoginResponse;
 import com.cropkeeper.domain.auth.dto.request.RegisterRequest;
 import com.cropkeeper.domain.auth.dto.response.RegisterResponse;
+import com.cropkeeper.domain.auth.dto.response.TokenRefreshResponse;
+import com.cropkeeper.domain.auth.service.RefreshTokenService;
+import com.cropkeeper.global.common.ClientIpResolver;
+import com.cropkeeper.global.security.JwtAuthenticationFilter;
+import com.cropkeeper.global.security.ParsedToken;
+import com.cropkeeper.global.security.UserPrincipal;
 import com.cropkeeper.domain.auth.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
 
 /**
  * 인증/인가 관련 API 엔드포인트
@@ -23,6 +29,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 회원가입 API
@@ -39,12 +46,46 @@ public class AuthController {
     /**
      * 로그인 API
      *
-     * @param request 로그인 요청 DTO
+     * @param request     로그인 요청 DTO
+     * @param httpRequest HTTP 요청 (클라이언트 IP 확인용)
      * @return 200 OK + JWT 토큰 및 사용자 정보
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+                                               HttpServletRequest httpRequest) {
+        LoginResponse response = authService.login(request, ClientIpResolver.resolve(httpRequest));
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 토큰 재발급 API
+     * 사용한 리프레시 토큰은 폐기되고 새 리프레시 토큰이 발급됩니다.
+     *
+     * @param request 리프레시 토큰 요청 DTO
+     * @return 200 OK + 새 액세스 토큰 및 리프레시 토큰
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenRefreshResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        TokenRefreshResponse response = refreshTokenService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 로그아웃 API
+     * 현재 액세스 토큰을 폐기합니다. 리프레시 토큰을 함께 보내면 해당 토큰도 폐기됩니다.
+     *
+     * @param userPrincipal 현재 로그인한 사용자 정보
+     * @param accessToken   현재 요청의 액세스 토큰 클레임
+     * @param request       리프레시 토큰 (선택)
+     * @return 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestAttribute(JwtAuthenticationFilter.PARSED_TOKEN_ATTRIBUTE) ParsedToken accessToken,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+
+        authService.logout(userPrincipal.getId(), accessToken, request);
+        return ResponseEntity.noContent().build();
+    }
 }
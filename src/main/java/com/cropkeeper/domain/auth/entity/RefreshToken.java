@@ -0,0 +1,61 @@
+package com.cropkeeper.domain.auth.entity;
+
+import com.cropkeeper.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 저장소
+ *
+ * - 원본 토큰 대신 SHA-256 해시를 저장하고, 해시에 유니크 인덱스를 둡니다.
+ * - 같은 로그인에서 회전된 토큰들은 같은 family_id를 공유합니다.
+ * - 사용된(used) 토큰이 다시 제출되면 재사용으로 판단하여 family 전체를 폐기합니다.
+ */
+@Entity
+@Table(name = "refresh_token",
+        indexes = {
+                @Index(name = "uk_refresh_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_id")
+    private Long refreshTokenId;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "used", nullable = false)
+    @Builder.Default
+    private Boolean used = false;
+
+    @Column(name = "revoked", nullable = false)
+    @Builder.Default
+    private Boolean revoked = false;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isUsed() {
+        return this.used;
+    }
+
+    public boolean isRevoked() {
+        return this.revoked;
+    }
+}
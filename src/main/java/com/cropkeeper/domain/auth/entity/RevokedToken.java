@@ -0,0 +1,40 @@
+package com.cropkeeper.domain.auth.entity;
+
+import com.cropkeeper.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 액세스 토큰 목록
+ *
+ * - 토큰의 jti 클레임을 키로 저장합니다.
+ * - 토큰의 exp가 지나면 더 이상 의미가 없으므로 expires_at 기준으로 정리합니다.
+ */
+@Entity
+@Table(name = "revoked_token",
+        indexes = {
+                @Index(name = "uk_revoked_token_jti", columnList = "jti", unique = true),
+                @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RevokedToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revoked_token_id")
+    private Long revokedTokenId;
+
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -12,7 +12,10 @@ public enum AuthErrorCode implements ErrorCode {
     DUPLICATE_USERNAME("A001", "이미 사용 중인 사용자 이름입니다.", HttpStatus.CONFLICT),
     REGISTER_PASSWORD_MISMATCH("A002", "비밀번호가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
     DELETED_MEMBER_LOGIN("A003", "탈퇴한 회원입니다. 로그인할 수 없습니다.", HttpStatus.FORBIDDEN),
-    INVALID_CREDENTIALS("A004", "아이디 또는 비밀번호가 올바르지 않습니다.", HttpStatus.UNAUTHORIZED);
+    INVALID_CREDENTIALS("A004", "아이디 또는 비밀번호가 올바르지 않습니다.", HttpStatus.UNAUTHORIZED),
+    INVALID_REFRESH_TOKEN("A005", "유효하지 않은 리프레시 토큰입니다.", HttpStatus.UNAUTHORIZED),
+    REFRESH_TOKEN_REUSED("A006", "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED),
+    LOGIN_THROTTLED("A008", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS);
 
     private final String code;
     private final String message;
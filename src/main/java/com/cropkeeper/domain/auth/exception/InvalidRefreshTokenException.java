@@ -0,0 +1,10 @@
+package com.cropkeeper.domain.auth.exception;
+
+import com.cropkeeper.global.exception.BaseException;
+
+public class InvalidRefreshTokenException extends BaseException {
+
+    public InvalidRefreshTokenException() {
+        super(AuthErrorCode.INVALID_REFRESH_TOKEN);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cropkeeper.domain.auth.exception;
+
+import com.cropkeeper.global.exception.BaseException;
+
+public class LoginThrottledException extends BaseException {
+
+    public LoginThrottledException() {
+        super(AuthErrorCode.LOGIN_THROTTLED);
+    }
+}
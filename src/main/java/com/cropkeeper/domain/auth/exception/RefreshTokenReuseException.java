@@ -0,0 +1,11 @@
+package com.cropkeeper.domain.auth.exception;
+
+import com.cropkeeper.global.exception.BaseException;
+
+public class RefreshTokenReuseException extends BaseException {
+
+    public RefreshTokenReuseException(String familyId) {
+        super(AuthErrorCode.REFRESH_TOKEN_REUSED,
+                AuthErrorCode.REFRESH_TOKEN_REUSED.getMessage() + " (familyId: " + familyId + ")");
+    }
+}
@@ -0,0 +1,65 @@
+package com.cropkeeper.domain.auth.repository;
+
+import com.cropkeeper.domain.auth.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 리프레시 토큰 조회 (유니크 인덱스)
+     *
+     * @param tokenHash 토큰 SHA-256 해시
+     * @return 리프레시 토큰
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 미사용 토큰을 사용 처리 (조건부 갱신)
+     * 동시에 같은 토큰이 제출되면 한 요청만 1을 반환합니다.
+     *
+     * @param tokenHash 토큰 SHA-256 해시
+     * @return 갱신된 행 수 (0이면 이미 사용되었거나 폐기된 토큰)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.used = true " +
+            "WHERE rt.tokenHash = :tokenHash AND rt.used = false AND rt.revoked = false")
+    int markUsed(@Param("tokenHash") String tokenHash);
+
+    /**
+     * family 전체 폐기
+     *
+     * @param familyId family ID
+     * @return 폐기된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * 회원의 모든 family 폐기 (비밀번호 변경, 탈퇴 시)
+     *
+     * @param memberId 회원 ID
+     * @return 폐기된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.memberId = :memberId AND rt.revoked = false")
+    int revokeAllByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 만료된 토큰 삭제
+     *
+     * @param now 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
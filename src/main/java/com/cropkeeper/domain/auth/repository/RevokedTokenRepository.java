@@ -0,0 +1,58 @@
+package com.cropkeeper.domain.auth.repository;
+
+import com.cropkeeper.domain.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * jti로 폐기 여부 확인 (유니크 인덱스)
+     *
+     * @param jti 토큰 고유 ID
+     * @return 폐기된 토큰이면 true
+     */
+    boolean existsByJti(String jti);
+
+    /**
+     * 폐기 토큰 저장 (같은 jti가 이미 있으면 무시)
+     * 동시 로그아웃으로 같은 토큰이 두 번 폐기되어도 유니크 제약 위반 없이 한 행만 남습니다.
+     *
+     * @param jti       토큰 고유 ID
+     * @param memberId  회원 ID
+     * @param expiresAt 토큰 만료 시각
+     * @param now       생성/수정 시각
+     * @return 저장된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_token (jti, member_id, expires_at, created_at, updated_at) "
+            + "VALUES (:jti, :memberId, :expiresAt, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("jti") String jti, @Param("memberId") Long memberId,
+                     @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰의 jti 목록 조회 (블룸 필터 재구성용)
+     *
+     * @param now 기준 시각
+     * @return jti 목록
+     */
+    @Query("SELECT rt.jti FROM RevokedToken rt WHERE rt.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 폐기 토큰 삭제
+     *
+     * @param now 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken rt WHERE rt.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
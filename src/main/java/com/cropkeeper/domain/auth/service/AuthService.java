@@ -1,17 +1,22 @@
 package com.cropkeeper.domain.auth.service;
 
 import com.cropkeeper.domain.auth.dto.request.LoginRequest;
+import com.cropkeeper.domain.auth.dto.request.RefreshTokenRequest;
 import com.cropkeeper.domain.auth.dto.response.LoginResponse;
 import com.cropkeeper.domain.auth.dto.request.RegisterRequest;
 import com.cropkeeper.domain.auth.dto.response.RegisterResponse;
 import com.cropkeeper.domain.auth.exception.AuthErrorCode;
 import com.cropkeeper.domain.auth.exception.InvalidCredentialsException;
+import com.cropkeeper.domain.auth.exception.LoginThrottledException;
 import com.cropkeeper.domain.auth.exception.RegisterPasswordMismatchException;
 import com.cropkeeper.domain.member.entity.Member;
 import com.cropkeeper.domain.member.entity.MemberRole;
 import com.cropkeeper.domain.auth.exception.DuplicateUsernameException;
 import com.cropkeeper.domain.member.repository.MemberRepository;
 import com.cropkeeper.global.security.JwtTokenProvider;
+import com.cropkeeper.global.security.LoginThrottle;
+import com.cropkeeper.global.security.ParsedToken;
+import com.cropkeeper.global.security.TokenRevocationList;
 import com.cropkeeper.global.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,13 +27,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 /**
  * 인증/인가 관련 비즈니스 로직을 처리하는 서비스
  *
  * 주요 기능:
  * - 회원가입
- * - 로그인
+ * - 로그인 (리프레시 토큰은 RefreshTokenService에서 발급/저장)
+ * - 로그아웃 (액세스 토큰 폐기)
  */
 @Slf4j
 @Service
@@ -39,6 +46,9 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final LoginThrottle loginThrottle;
 
     /**
      * 회원가입
@@ -75,11 +85,15 @@ public class AuthService {
     /**
      * 로그인
      *
-     * @param request 로그인 요청 DTO
+     * @param request  로그인 요청 DTO
+     * @param clientIp 클라이언트 IP (로그인 스로틀 기준)
      * @return JWT 토큰을 포함한 인증 응답
+     * @throws LoginThrottledException 사용자 이름 또는 IP가 잠긴 경우 (비밀번호 검증 전에 거절)
      */
-    @Transactional(readOnly = true)
-    public LoginResponse login(LoginRequest request) {
+    @Transactional
+    public LoginResponse login(LoginRequest request, String clientIp) {
+
+        loginThrottle.checkAllowed(request.getUsername(), clientIp);
 
         // AuthenticationManager로 인증 (내부적으로 CustomUserDetailsService.loadUserByUsername 호출)
         Authentication authentication;
@@ -91,17 +105,41 @@ public class AuthService {
                     )
             );
         } catch (BadCredentialsException e) {
+            loginThrottle.recordFailure(request.getUsername(), clientIp);
             log.warn("로그인 실패: 잘못된 자격증명 - username: {}", request.getUsername());
             throw new InvalidCredentialsException();
         }
 
+        loginThrottle.recordSuccess(request.getUsername());
+
         // 인증된 사용자 정보 가져오기 (DB 재조회 없이)
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         Member member = userPrincipal.getMember();
 
-        String accessToken = jwtTokenProvider.generateAccessToken(member.getUsername());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(member.getUsername());
+        // 액세스 토큰에 memberId, role, 토큰 버전을 담아 요청마다의 회원 조회를 생략
+        String accessToken = jwtTokenProvider.generateAccessToken(member);
+        String refreshToken = refreshTokenService.issue(member.getMemberId(), member.getUsername());
 
         return LoginResponse.of(accessToken, refreshToken, member);
     }
+
+    /**
+     * 로그아웃
+     * 현재 액세스 토큰을 폐기하고, 리프레시 토큰이 함께 전달되면 해당 family도 폐기합니다.
+     *
+     * @param memberId    회원 ID
+     * @param accessToken 현재 요청의 액세스 토큰 클레임
+     * @param request     리프레시 토큰 (선택)
+     */
+    @Transactional
+    public void logout(Long memberId, ParsedToken accessToken, RefreshTokenRequest request) {
+
+        tokenRevocationList.revoke(accessToken, memberId);
+
+        if (request != null && StringUtils.hasText(request.getRefreshToken())) {
+            refreshTokenService.revoke(request);
+        }
+
+        log.info("로그아웃: memberId = {}", memberId);
+    }
 }
@@ -0,0 +1,241 @@
+package com.cropkeeper.domain.auth.service;
+
+import com.cropkeeper.domain.auth.dto.request.RefreshTokenRequest;
+import com.cropkeeper.domain.auth.dto.response.TokenRefreshResponse;
+import com.cropkeeper.domain.auth.entity.RefreshToken;
+import com.cropkeeper.domain.auth.exception.InvalidRefreshTokenException;
+import com.cropkeeper.domain.auth.exception.RefreshTokenReuseException;
+import com.cropkeeper.domain.auth.repository.RefreshTokenRepository;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.global.security.JwtTokenProvider;
+import com.cropkeeper.global.security.ParsedToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리프레시 토큰 발급/회전 서비스
+ *
+ * 주요 기능:
+ * - 로그인 시 새 family로 리프레시 토큰 발급
+ * - 재발급 시 토큰 회전 (기존 토큰은 사용 처리, 같은 family로 새 토큰 발급)
+ * - 사용된 토큰이 다시 제출되면 재사용으로 판단하여 family 전체 폐기
+ * - 만료된 토큰 주기적 삭제
+ *
+ * 저장 구조:
+ * - refresh_token 테이블 (token_hash 유니크 인덱스)
+ * - 현재 유효한 토큰의 인메모리 핫셋 (적중 시 조회 쿼리 없이 조건부 UPDATE 한 번으로 회전)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberRepository memberRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 현재 유효한(미사용) 토큰 해시 → family 정보
+     */
+    private final Map<String, HotToken> hotTokens = new ConcurrentHashMap<>();
+
+    @Value("${jwt.refresh-token.hot-set-max-size:50000}")
+    private int hotSetMaxSize;
+
+    /**
+     * 새 family로 리프레시 토큰 발급 (로그인 시)
+     *
+     * @param memberId 회원 ID
+     * @param username 사용자 이름
+     * @return 리프레시 토큰
+     */
+    @Transactional
+    public String issue(Long memberId, String username) {
+        return issueInFamily(UUID.randomUUID().toString(), memberId, username);
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급 (토큰 회전)
+     *
+     * @param request 토큰 재발급 요청
+     * @return 새 액세스 토큰과 새 리프레시 토큰
+     * @throws InvalidRefreshTokenException 토큰이 유효하지 않은 경우
+     * @throws RefreshTokenReuseException 이미 사용된 토큰이 다시 제출된 경우
+     */
+    @Transactional(noRollbackFor = {RefreshTokenReuseException.class, InvalidRefreshTokenException.class})
+    public TokenRefreshResponse refresh(RefreshTokenRequest request) {
+
+        String token = request.getRefreshToken();
+        ParsedToken parsedToken = jwtTokenProvider.parseAndVerify(token);
+        if (parsedToken == null || !parsedToken.isRefreshToken()) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        String tokenHash = hash(token);
+        HotToken cached = hotTokens.remove(tokenHash);
+        // 핫셋에 없으면 인덱스 조회
+        HotToken hotToken = cached != null ? cached : findStoredToken(tokenHash);
+
+        // 조건부 UPDATE로 사용 처리 (동시에 같은 토큰이 제출되면 한 요청만 성공)
+        if (refreshTokenRepository.markUsed(tokenHash) == 0) {
+            // 다른 노드에서 폐기되어 핫셋에 남아 있던 토큰은 재사용이 아님
+            if (isRevokedUnused(tokenHash)) {
+                throw new InvalidRefreshTokenException();
+            }
+            revokeFamily(hotToken.familyId);
+            log.warn("리프레시 토큰 재사용 감지: memberId = {}, familyId = {}",
+                    hotToken.memberId, hotToken.familyId);
+            throw new RefreshTokenReuseException(hotToken.familyId);
+        }
+
+        // 탈퇴한 회원이면 family를 폐기하고 거부 (noRollbackFor로 폐기와 사용 처리는 커밋됨)
+        Member member = memberRepository.findById(hotToken.memberId)
+                .orElseThrow(() -> {
+                    revokeFamily(hotToken.familyId);
+                    return new InvalidRefreshTokenException();
+                });
+
+        String accessToken = jwtTokenProvider.generateAccessToken(member);
+        String refreshToken = issueInFamily(hotToken.familyId, member.getMemberId(), member.getUsername());
+
+        return TokenRefreshResponse.of(accessToken, refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰이 속한 family 폐기 (로그아웃 시)
+     * 유효하지 않거나 저장소에 없는 토큰이면 무시합니다.
+     *
+     * @param request 폐기할 리프레시 토큰
+     */
+    @Transactional
+    public void revoke(RefreshTokenRequest request) {
+        ParsedToken parsedToken = jwtTokenProvider.parseAndVerify(request.getRefreshToken());
+        if (parsedToken == null || !parsedToken.isRefreshToken()) {
+            return;
+        }
+
+        refreshTokenRepository.findByTokenHash(hash(request.getRefreshToken()))
+                .ifPresent(stored -> revokeFamily(stored.getFamilyId()));
+    }
+
+    /**
+     * 회원의 모든 리프레시 토큰 폐기 (비밀번호 변경, 탈퇴 시)
+     *
+     * @param memberId 회원 ID
+     */
+    @Transactional
+    public void revokeAllByMemberId(Long memberId) {
+        hotTokens.values().removeIf(hotToken -> hotToken.memberId.equals(memberId));
+        refreshTokenRepository.revokeAllByMemberId(memberId);
+    }
+
+    /**
+     * 만료된 리프레시 토큰 정리 (백그라운드)
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        hotTokens.values().removeIf(hotToken -> hotToken.expiresAt.isBefore(now));
+
+        int deleted = refreshTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * 저장소에서 토큰 조회 후 재사용 여부 확인
+     *
+     * 사용된 적 없이 폐기된 토큰(로그아웃, 비밀번호 변경)은 재사용이 아니므로 유효하지 않은 토큰으로 거부합니다.
+     */
+    private HotToken findStoredToken(String tokenHash) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        if (stored.isRevoked() && !stored.isUsed()) {
+            log.debug("폐기된 리프레시 토큰으로 재발급 요청: memberId = {}, familyId = {}",
+                    stored.getMemberId(), stored.getFamilyId());
+            throw new InvalidRefreshTokenException();
+        }
+
+        if (stored.isUsed()) {
+            revokeFamily(stored.getFamilyId());
+            log.warn("리프레시 토큰 재사용 감지: memberId = {}, familyId = {}",
+                    stored.getMemberId(), stored.getFamilyId());
+            throw new RefreshTokenReuseException(stored.getFamilyId());
+        }
+
+        return new HotToken(stored.getFamilyId(), stored.getMemberId(), stored.getExpiresAt());
+    }
+
+    /**
+     * 사용된 적 없이 폐기된 토큰인지 확인 (사용 처리 실패 시)
+     */
+    private boolean isRevokedUnused(String tokenHash) {
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                .map(stored -> stored.isRevoked() && !stored.isUsed())
+                .orElse(false);
+    }
+
+    private String issueInFamily(String familyId, Long memberId, String username) {
+        String token = jwtTokenProvider.generateRefreshToken(username, familyId);
+        String tokenHash = hash(token);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                jwtTokenProvider.getExpirationDate(token).toInstant(), ZoneId.systemDefault());
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .memberId(memberId)
+                .expiresAt(expiresAt)
+                .build());
+
+        if (hotTokens.size() < hotSetMaxSize) {
+            hotTokens.put(tokenHash, new HotToken(familyId, memberId, expiresAt));
+        }
+
+        return token;
+    }
+
+    private void revokeFamily(String familyId) {
+        hotTokens.values().removeIf(hotToken -> hotToken.familyId.equals(familyId));
+        refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static final class HotToken {
+        private final String familyId;
+        private final Long memberId;
+        private final LocalDateTime expiresAt;
+
+        private HotToken(String familyId, Long memberId, LocalDateTime expiresAt) {
+            this.familyId = familyId;
+            this.memberId = memberId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -9,7 +9,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "crop_category")
+@Table(name = "crop_category",
+        indexes = @Index(
+                name = "idx_crop_category_updated",
+                columnList = "updated_at, category_id"   // 변경분 동기화 키셋 페이지네이션
+        ))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -1,11 +1,14 @@
 package com.cropkeeper.domain.crop.repository;
 
 import com.cropkeeper.domain.crop.entity.CropCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +19,20 @@ public interface CropCategoryRepository extends JpaRepository<CropCategory, Long
 
     @Query("SELECT cc FROM CropCategory cc WHERE cc.categoryId = :categoryId AND cc.deleted = false")
     Optional<CropCategory> findById(@Param("categoryId") Long categoryId);
+
+    /**
+     * 변경분 동기화 한 페이지 조회 (삭제된 카테고리 포함)
+     *
+     * FarmRepository.findChangedSince와 같은 키셋 조건이며,
+     * idx_crop_category_updated (updated_at, category_id) 인덱스를 사용합니다.
+     */
+    @Query("SELECT cc FROM CropCategory cc " +
+            "WHERE cc.updatedAt <= :until " +
+            "AND (cc.updatedAt > :afterUpdatedAt OR (cc.updatedAt = :afterUpdatedAt AND cc.categoryId > :afterId)) " +
+            "ORDER BY cc.updatedAt, cc.categoryId")
+    List<CropCategory> findChangedSince(
+            @Param("until") LocalDateTime until,
+            @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
 }
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +18,10 @@ public interface CropVarietyRepository extends JpaRepository<CropVariety, Long>
 
     @Query("SELECT cv FROM CropVariety cv WHERE cv.varietyId = :varietyId AND cv.deleted = false")
     Optional<CropVariety> findById(@Param("varietyId") Long varietyId);
+
+    /**
+     * 주어진 ID 중 삭제되지 않은 품종 ID (엔티티 로딩 없이 존재 여부만 확인)
+     */
+    @Query("SELECT cv.varietyId FROM CropVariety cv WHERE cv.varietyId IN :ids AND cv.deleted = false")
+    List<Long> findActiveIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,5 +1,7 @@
 package com.cropkeeper.domain.farm.annotation;
 
+import com.cropkeeper.global.aspect.RequiresBinding;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -13,6 +15,7 @@ import java.lang.annotation.Target;
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
+@RequiresBinding(pathVariable = "farmId")
 public @interface ValidateFarmAccess {
 
     /**
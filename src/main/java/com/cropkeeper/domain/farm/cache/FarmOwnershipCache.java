@@ -0,0 +1,198 @@
+package com.cropkeeper.domain.farm.cache;
+
+import com.cropkeeper.domain.farm.exception.FarmNotFoundException;
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 농장 소유자 캐시 (farmId → 소유 회원 ID)
+ *
+ * 역할:
+ * - 농장 접근 권한 검증 시 Farm 엔티티 대신 소유자 ID만 조회
+ * - 미적중 시 소유자 ID 프로젝션 쿼리 한 번으로 채우고, 서비스가 엔티티를 읽으면 그 결과로도 채움
+ *
+ * 무효화:
+ * - 농장 삭제, 소유자 변경(Member.addFarm/removeFarm), 회원 탈퇴로 농장이 변경되면 FarmOwnershipListener가 제거
+ * - 변경 시점(flush)과 트랜잭션 종료 시점에 모두 제거합니다. 변경 시점에 항목이 없어도 종료 시점 제거는 항상 등록하므로,
+ *   커밋 전에 다른 요청이 이전 소유자를 읽어 채운 값도 남지 않습니다.
+ * - 조회 중에 무효화가 있었으면 조회 결과를 캐시하지 않습니다 (무효화 직후 이전 값을 다시 채우는 경합 방지).
+ *   서비스가 직접 읽은 값을 기록할 때도 조회 전에 받은 invalidationStamp()를 함께 넘겨 같은 검사를 거칩니다.
+ * - 새로 생성된 농장 ID는 항목이 없으므로 별도 처리가 필요 없음
+ *
+ * 만료:
+ * - 항목은 farm.ownership-cache.ttl-seconds(기본 300초)가 지나면 다시 조회합니다.
+ * - 무효화는 이 노드 안에서만 일어나므로, 여러 인스턴스로 배포하면 다른 노드에서 삭제하거나 소유자를 바꾼 농장은
+ *   최대 TTL 동안 이전 소유자로 판단될 수 있습니다. 이 지연을 허용할 수 없으면 TTL을 줄이거나 캐시를 꺼야 합니다.
+ *
+ * 존재하지 않거나 삭제된 농장은 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class FarmOwnershipCache {
+
+    private final FarmRepository farmRepository;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Map<Long, Entry> owners = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화할 때마다 증가 (조회 시작 후 무효화가 있었는지 확인용)
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public FarmOwnershipCache(
+            FarmRepository farmRepository,
+            @Value("${farm.ownership-cache.enabled:true}") boolean enabled,
+            @Value("${farm.ownership-cache.max-size:50000}") int maxSize,
+            @Value("${farm.ownership-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.farmRepository = farmRepository;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 농장 소유자 ID 조회
+     *
+     * @param farmId 농장 ID
+     * @return 소유 회원 ID
+     * @throws FarmNotFoundException 농장이 없거나 삭제된 경우
+     */
+    public Long getOwnerId(Long farmId) {
+        if (enabled) {
+            Entry entry = owners.get(farmId);
+            if (entry != null) {
+                if (entry.expiresAtMillis > System.currentTimeMillis()) {
+                    hits.increment();
+                    return entry.ownerId;
+                }
+                if (owners.remove(farmId, entry)) {
+                    evictions.increment();
+                }
+            }
+            misses.increment();
+        }
+
+        long invalidationsBefore = invalidations.get();
+        Long ownerId = farmRepository.findOwnerIdById(farmId)
+                .orElseThrow(() -> new FarmNotFoundException(farmId));
+        put(farmId, ownerId, invalidationsBefore);
+        return ownerId;
+    }
+
+    /**
+     * 현재 무효화 시점 (조회 전에 받아 put에 전달)
+     */
+    public long invalidationStamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * 이미 읽은 농장의 소유자 기록 (서비스가 엔티티를 조회한 경우)
+     * 조회를 시작한 뒤 무효화가 있었으면 이전 소유자일 수 있으므로 기록하지 않습니다.
+     *
+     * @param farmId  농장 ID
+     * @param ownerId 소유 회원 ID
+     * @param stamp   조회 전에 받은 invalidationStamp()
+     */
+    public void put(Long farmId, Long ownerId, long stamp) {
+        if (!enabled || farmId == null || ownerId == null || invalidations.get() != stamp) {
+            return;
+        }
+        if (owners.size() >= maxSize && !owners.containsKey(farmId)) {
+            evictSome();
+        }
+        owners.put(farmId, new Entry(ownerId, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 농장 변경 반영 (FarmOwnershipListener가 호출)
+     * 삭제되었거나 소유자가 캐시 값과 다르면 바로 제거하고,
+     * 트랜잭션 안이면 캐시 여부와 관계없이 종료 시점에 한 번 더 제거합니다.
+     *
+     * @param farmId  농장 ID
+     * @param ownerId 변경 후 소유 회원 ID (소유자 해제 시 null)
+     * @param deleted 삭제 여부
+     */
+    public void onFarmChanged(Long farmId, Long ownerId, boolean deleted) {
+        invalidations.incrementAndGet();
+        Entry cached = owners.get(farmId);
+        if (cached != null && (deleted || !cached.ownerId.equals(ownerId))) {
+            evict(farmId);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidations.incrementAndGet();
+                    evict(farmId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 특정 농장 항목 제거
+     *
+     * @param farmId 농장 ID
+     */
+    public void evict(Long farmId) {
+        if (owners.remove(farmId) != null) {
+            evictions.increment();
+            log.debug("농장 소유자 캐시 제거: farmId = {}", farmId);
+        }
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public Stats stats() {
+        return new Stats(owners.size(), maxSize, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * 가득 찬 경우 약 10%를 제거합니다.
+     */
+    private void evictSome() {
+        int before = owners.size();
+        int toRemove = before - maxSize + Math.max(1, maxSize / 10);
+        Iterator<Long> iterator = owners.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        evictions.add(Math.max(0, before - owners.size()));
+    }
+
+    private record Entry(Long ownerId, long expiresAtMillis) {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final int size;
+        private final int maxSize;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+    }
+}
@@ -0,0 +1,38 @@
+package com.cropkeeper.domain.farm.cache;
+
+import com.cropkeeper.domain.farm.entity.Farm;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Farm 변경 시 소유자 캐시를 무효화하는 엔티티 리스너
+ *
+ * Member.addFarm/removeFarm(changeMember), 농장 삭제, 회원 탈퇴로 인한 일괄 삭제는
+ * 모두 Farm의 UPDATE로 반영되므로 @PostUpdate 한 곳에서 처리합니다.
+ *
+ * EntityManagerFactory 생성 중에 만들어지므로 캐시는 ObjectProvider로 지연 조회하며,
+ * 캐시 빈이 없는 구성(@DataJpaTest 등)에서는 아무 동작도 하지 않습니다.
+ */
+@Component
+public class FarmOwnershipListener {
+
+    private final ObjectProvider<FarmOwnershipCache> farmOwnershipCache;
+
+    public FarmOwnershipListener(ObjectProvider<FarmOwnershipCache> farmOwnershipCache) {
+        this.farmOwnershipCache = farmOwnershipCache;
+    }
+
+    @PostUpdate
+    public void onUpdate(Farm farm) {
+        // getMemberId()는 프록시 초기화 없이 식별자만 읽음
+        Long ownerId = farm.getMember() != null ? farm.getMember().getMemberId() : null;
+        farmOwnershipCache.ifAvailable(cache -> cache.onFarmChanged(farm.getFarmId(), ownerId, farm.isDeleted()));
+    }
+
+    @PostRemove
+    public void onRemove(Farm farm) {
+        farmOwnershipCache.ifAvailable(cache -> cache.onFarmChanged(farm.getFarmId(), null, true));
+    }
+}
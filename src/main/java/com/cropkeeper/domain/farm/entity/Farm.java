@@ -1,5 +1,6 @@
 package com.cropkeeper.domain.farm.entity;
 
+import com.cropkeeper.domain.farm.cache.FarmOwnershipListener;
 import com.cropkeeper.domain.farm.vo.Address;
 import com.cropkeeper.domain.member.entity.Member;
 import com.cropkeeper.global.common.BaseTimeEntity;
@@ -9,7 +10,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "farm")
+@Table(name = "farm",
+        indexes = @Index(
+                name = "idx_farm_member_updated",
+                columnList = "member_id, updated_at, farm_id"   // 변경분 동기화 키셋 페이지네이션
+        ))
+@EntityListeners(FarmOwnershipListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
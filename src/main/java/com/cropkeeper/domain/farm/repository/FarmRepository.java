@@ -1,11 +1,13 @@
 package com.cropkeeper.domain.farm.repository;
 
 import com.cropkeeper.domain.farm.entity.Farm;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,14 @@ public interface FarmRepository extends JpaRepository<Farm, Long> {
     @Query("SELECT f FROM Farm f WHERE f.farmId = :farmId AND f.deleted = false")
     Optional<Farm> findById(@Param("farmId") Long farmId);
 
+    /**
+     * 농장 소유자 ID만 조회 (삭제되지 않은 농장만, 엔티티 로딩 없음)
+     * @param farmId 농장 ID
+     * @return 소유 회원 ID (삭제되지 않은 경우)
+     */
+    @Query("SELECT f.member.memberId FROM Farm f WHERE f.farmId = :farmId AND f.deleted = false")
+    Optional<Long> findOwnerIdById(@Param("farmId") Long farmId);
+
     /**
      * 회원 ID로 농장 목록 조회 (삭제되지 않은 농장만)
      * @param memberId 회원 ID
@@ -46,4 +56,37 @@ public interface FarmRepository extends JpaRepository<Farm, Long> {
      */
     @Query("SELECT CASE WHEN COUNT(f) > 0 THEN true ELSE false END FROM Farm f WHERE f.farmId = :farmId AND f.deleted = false")
     boolean existsById(@Param("farmId") Long farmId);
+
+    /**
+     * 회원의 농장 ID 목록 조회 (삭제되지 않은 농장만, 엔티티 로딩 없음)
+     * @param memberId 회원 ID
+     * @return 농장 ID 목록
+     */
+    @Query("SELECT f.farmId FROM Farm f WHERE f.member.memberId = :memberId AND f.deleted = false")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 변경분 동기화 한 페이지 조회 (삭제된 농장 포함 / 삭제 여부는 호출 측에서 판단)
+     *
+     * (updated_at, farm_id) 오름차순 키셋 페이지네이션으로 커서 위치 이후, until 이전에 변경된 농장만 읽습니다.
+     * idx_farm_member_updated (member_id, updated_at, farm_id) 인덱스 범위 스캔으로 처리됩니다.
+     *
+     * @param memberId       회원 ID
+     * @param until          동기화 구간 끝 (포함)
+     * @param afterUpdatedAt 커서 수정 일시 (이 일시 이후 또는 같은 일시의 더 큰 ID만 조회)
+     * @param afterId        커서 ID
+     * @param pageable       조회 개수 (정렬은 쿼리에 고정)
+     * @return 농장 목록 (수정 일시, ID 오름차순)
+     */
+    @Query("SELECT f FROM Farm f " +
+            "WHERE f.member.memberId = :memberId " +
+            "AND f.updatedAt <= :until " +
+            "AND (f.updatedAt > :afterUpdatedAt OR (f.updatedAt = :afterUpdatedAt AND f.farmId > :afterId)) " +
+            "ORDER BY f.updatedAt, f.farmId")
+    List<Farm> findChangedSince(
+            @Param("memberId") Long memberId,
+            @Param("until") LocalDateTime until,
+            @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.cropkeeper.domain.farm.service;
 
+import com.cropkeeper.domain.farm.cache.FarmOwnershipCache;
 import com.cropkeeper.domain.farm.dto.request.CreateFarmRequest;
 import com.cropkeeper.domain.farm.dto.request.UpdateFarmRequest;
 import com.cropkeeper.domain.farm.dto.response.FarmResponse;
@@ -28,6 +29,7 @@ public class FarmService {
 
     private final FarmRepository farmRepository;
     private final MemberRepository memberRepository;
+    private final FarmOwnershipCache farmOwnershipCache;
 
     /**
      * 농장 생성
@@ -61,13 +63,17 @@ public class FarmService {
 
     /**
      * 농장 ID로 농장 조회 (내부 사용용)
+     * 읽은 엔티티의 소유자는 소유자 캐시에 기록하여 이후 권한 검증에서 재사용합니다.
      * @param farmId 농장 ID
      * @return 농장 엔티티
      * @throws FarmNotFoundException 농장을 찾을 수 없는 경우
      */
     private Farm findById(Long farmId) {
-        return farmRepository.findById(farmId)
+        long stamp = farmOwnershipCache.invalidationStamp();
+        Farm farm = farmRepository.findById(farmId)
                 .orElseThrow(() -> new FarmNotFoundException(farmId));
+        farmOwnershipCache.put(farm.getFarmId(), farm.getMember().getMemberId(), stamp);
+        return farm;
     }
 
     /**
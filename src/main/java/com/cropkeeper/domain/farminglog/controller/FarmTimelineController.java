@@ -0,0 +1,50 @@
+package com.cropkeeper.domain.farminglog.controller;
+
+import com.cropkeeper.domain.farm.annotation.ValidateFarmAccess;
+import com.cropkeeper.domain.farminglog.dto.response.FarmTimelineResponse;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.service.FarmTimelineService;
+import com.cropkeeper.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/farms/{farmId}/timeline")
+@RequiredArgsConstructor
+public class FarmTimelineController {
+
+    private final FarmTimelineService farmTimelineService;
+
+    /**
+     * 농장 타임라인 조회 API (재배, 시비, 관수, 수확, 방제 기록을 기록 일시 내림차순으로)
+     *
+     * @param farmId        농장 ID
+     * @param userPrincipal 현재 로그인한 사용자 정보
+     * @param types         기록 종류 (예: types=CULTIVATION,HARVEST / 생략 시 전체)
+     * @param from          조회 시작일 (yyyy-MM-dd, 포함)
+     * @param to            조회 종료일 (yyyy-MM-dd, 포함)
+     * @param cursor        이전 응답의 nextCursor (생략 시 첫 페이지)
+     * @param size          페이지 크기 (기본 20, 최대 100)
+     * @return 200 OK + 타임라인 한 페이지
+     */
+    @ValidateFarmAccess(action = "농장 타임라인 조회")
+    @GetMapping
+    public ResponseEntity<FarmTimelineResponse> getTimeline(
+            @PathVariable Long farmId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) Set<FarmingLogType> types,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        FarmTimelineResponse response = farmTimelineService.getTimeline(farmId, types, from, to, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
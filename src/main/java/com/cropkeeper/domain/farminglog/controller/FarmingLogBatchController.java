@@ -0,0 +1,47 @@
+package com.cropkeeper.domain.farminglog.controller;
+
+import com.cropkeeper.domain.farm.annotation.ValidateFarmAccess;
+import com.cropkeeper.domain.farminglog.dto.response.FarmingLogBatchResponse;
+import com.cropkeeper.domain.farminglog.service.FarmingLogBatchService;
+import com.cropkeeper.global.persistence.QueryBudget;
+import com.cropkeeper.global.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/farms/{farmId}")
+@RequiredArgsConstructor
+public class FarmingLogBatchController {
+
+    private final FarmingLogBatchService farmingLogBatchService;
+
+    /**
+     * 영농일지 대량 등록 API (재배, 시비, 관수, 수확, 방제 기록을 섞어서 한 번에 등록)
+     *
+     * 본문은 @RequestBody로 바인딩하지 않고 스트림으로 넘겨 항목 단위로 읽습니다.
+     * 일부 항목이 실패해도 200 OK이며, 항목별 결과(status, 저장된 ID 또는 오류 코드)를 반환합니다.
+     *
+     * @param farmId        농장 ID
+     * @param userPrincipal 현재 로그인한 사용자 정보
+     * @param request       HTTP 요청 (본문: 기록 항목 JSON 배열)
+     * @return 200 OK + 항목별 결과
+     */
+    @ValidateFarmAccess(action = "영농일지 대량 등록")
+    @QueryBudget(maxQueries = 300)   // 청크(500건)마다 참조 확인 최대 3회 + 테이블별 배치 INSERT, 최대 5,000건 기준
+    @PostMapping(value = "/logs:batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<FarmingLogBatchResponse> ingestLogs(
+            @PathVariable Long farmId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request) throws IOException {
+
+        FarmingLogBatchResponse response =
+                farmingLogBatchService.ingest(farmId, userPrincipal.getId(), request.getInputStream());
+        return ResponseEntity.ok(response);
+    }
+}
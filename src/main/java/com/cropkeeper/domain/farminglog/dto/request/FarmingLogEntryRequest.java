@@ -0,0 +1,120 @@
+package com.cropkeeper.domain.farminglog.dto.request;
+
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 등록 요청의 기록 항목 하나 (type에 따라 사용하는 필드가 다름)
+ *
+ * - CULTIVATION: varietyId, plantingAmount
+ * - FERTILIZING: fertilizerId, usedAmountBag
+ * - IRRIGATION: waterAmountLiter
+ * - HARVEST: varietyId, quantityBox
+ * - PEST_CONTROL: pesticideId, usedAmountBottle, usedWaterLiter
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FarmingLogEntryRequest {
+
+    @Size(max = 64, message = "항목 식별자는 64자 이하여야 합니다.")
+    private String ref;     // 클라이언트가 붙인 식별자 (결과에 그대로 돌려줌)
+
+    @NotNull(message = "기록 종류는 필수입니다.")
+    private FarmingLogType type;
+
+    @NotNull(message = "기록 일시는 필수입니다.")
+    private LocalDateTime logDate;
+
+    @NotBlank(message = "날씨는 필수입니다.")
+    @Size(max = 50, message = "날씨는 50자 이하여야 합니다.")
+    private String weather;
+
+    private Long temperature;
+
+    private Long humidity;
+
+    @Size(max = 255, message = "메모는 255자 이하여야 합니다.")
+    private String memo;
+
+    private Long varietyId;
+
+    @PositiveOrZero(message = "정식량은 0 이상이어야 합니다.")
+    private Long plantingAmount;
+
+    private Long fertilizerId;
+
+    @PositiveOrZero(message = "비료 사용량은 0 이상이어야 합니다.")
+    private Long usedAmountBag;
+
+    @PositiveOrZero(message = "관수량은 0 이상이어야 합니다.")
+    private Long waterAmountLiter;
+
+    @PositiveOrZero(message = "수확량은 0 이상이어야 합니다.")
+    private Long quantityBox;
+
+    private Long pesticideId;
+
+    @PositiveOrZero(message = "농약 사용량은 0 이상이어야 합니다.")
+    private Long usedAmountBottle;
+
+    @PositiveOrZero(message = "희석 물량은 0 이상이어야 합니다.")
+    private Long usedWaterLiter;
+
+    /**
+     * 기록 종류별 필수 필드 중 비어 있는 필드 이름
+     */
+    public List<String> missingFields() {
+        List<String> missing = new ArrayList<>();
+        if (type == null) {
+            return missing;
+        }
+        switch (type) {
+            case CULTIVATION -> require(missing, "varietyId", varietyId);
+            case FERTILIZING -> {
+                require(missing, "fertilizerId", fertilizerId);
+                require(missing, "usedAmountBag", usedAmountBag);
+            }
+            case IRRIGATION -> require(missing, "waterAmountLiter", waterAmountLiter);
+            case HARVEST -> {
+                require(missing, "varietyId", varietyId);
+                require(missing, "quantityBox", quantityBox);
+            }
+            case PEST_CONTROL -> {
+                require(missing, "pesticideId", pesticideId);
+                require(missing, "usedAmountBottle", usedAmountBottle);
+                require(missing, "usedWaterLiter", usedWaterLiter);
+            }
+        }
+        return missing;
+    }
+
+    public FarmingMetadata toMetadata() {
+        return FarmingMetadata.builder()
+                .logDate(logDate)
+                .weather(weather)
+                .temperature(temperature)
+                .humidity(humidity)
+                .memo(memo)
+                .build();
+    }
+
+    private static void require(List<String> missing, String name, Object value) {
+        if (value == null) {
+            missing.add(name);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.cropkeeper.domain.farminglog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 농장 타임라인 한 페이지
+ *
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달해 조회합니다 (마지막 페이지면 null).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FarmTimelineResponse {
+
+    private List<TimelineEntryResponse> entries;
+    private String nextCursor;
+    private boolean hasNext;
+}
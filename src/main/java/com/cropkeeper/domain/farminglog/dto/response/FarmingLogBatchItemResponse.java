@@ -0,0 +1,63 @@
+package com.cropkeeper.domain.farminglog.dto.response;
+
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.exception.FarmingLogErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 등록 결과 항목 하나 (저장된 기록은 ID만, 실패한 항목은 오류 코드와 사유만 반환)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FarmingLogBatchItemResponse {
+
+    private int index;          // 요청 배열에서의 위치 (0부터)
+    private String ref;
+    private Status status;
+    private FarmingLogType type;
+    private Long id;            // CREATED일 때 기록 ID (방제 기록은 방제 기록 ID)
+    private String errorCode;
+    private String message;
+
+    public enum Status {
+        CREATED,    // 저장됨
+        REJECTED,   // 항목 검증 실패 (다시 보내도 같은 결과)
+        FAILED      // 저장 중 오류 (같은 청크 전체가 저장되지 않음, 다시 보낼 수 있음)
+    }
+
+    public static FarmingLogBatchItemResponse created(int index, String ref, FarmingLogType type, Long id) {
+        return FarmingLogBatchItemResponse.builder()
+                .index(index)
+                .ref(ref)
+                .status(Status.CREATED)
+                .type(type)
+                .id(id)
+                .build();
+    }
+
+    public static FarmingLogBatchItemResponse rejected(int index, String ref, FarmingLogErrorCode errorCode, String message) {
+        return failure(index, ref, Status.REJECTED, errorCode, message);
+    }
+
+    public static FarmingLogBatchItemResponse failed(int index, String ref, FarmingLogErrorCode errorCode) {
+        return failure(index, ref, Status.FAILED, errorCode, errorCode.getMessage());
+    }
+
+    private static FarmingLogBatchItemResponse failure(int index, String ref, Status status,
+                                                       FarmingLogErrorCode errorCode, String message) {
+        return FarmingLogBatchItemResponse.builder()
+                .index(index)
+                .ref(ref)
+                .status(status)
+                .errorCode(errorCode.getCode())
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.cropkeeper.domain.farminglog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기록 대량 등록 결과
+ *
+ * complete가 false면 본문 중간에 JSON 오류가 있었거나 최대 건수를 넘어 읽기를 멈춘 것이며,
+ * 그 전까지 읽은 항목의 결과는 results에 모두 들어 있습니다 (errorCode, message에 중단 사유).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FarmingLogBatchResponse {
+
+    private int received;
+    private int created;
+    private int rejected;
+    private int failed;
+    private boolean complete;
+    private String errorCode;
+    private String message;
+    private List<FarmingLogBatchItemResponse> results;
+}
@@ -0,0 +1,115 @@
+package com.cropkeeper.domain.farminglog.dto.response;
+
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farminglog.entity.FarmingLog;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.fertilizer.entity.FertilizingLog;
+import com.cropkeeper.domain.harvest.entity.HarvestLog;
+import com.cropkeeper.domain.irrigation.entity.IrrigationLog;
+import com.cropkeeper.domain.pest.entity.PestControlLog;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 농장 타임라인 항목
+ *
+ * 공통 필드(기록 일시, 날씨 등) 외에 기록 종류별 필드는 해당 종류에만 채워집니다.
+ * 연관 엔티티는 ID만 담아 항목마다 추가 조회가 일어나지 않도록 합니다.
+ * 여러 농장의 기록을 함께 내려주는 동기화 API에서도 쓰이므로 농장 ID를 포함합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimelineEntryResponse {
+
+    private FarmingLogType type;
+    private Long logId;
+    private Long farmId;
+    private Long memberId;
+
+    // FarmingMetadata 필드들
+    private LocalDateTime logDate;
+    private String weather;
+    private Long temperature;
+    private Long humidity;
+    private String memo;
+
+    // 재배, 수확
+    private Long varietyId;
+    private Long plantingAmount;
+    private Long quantityBox;
+
+    // 시비
+    private Long fertilizerId;
+    private Long usedAmountBag;
+
+    // 관수
+    private Long waterAmountLiter;
+
+    // 방제
+    private Long pesticideId;
+    private Long usedAmountBottle;
+    private Long usedWaterLiter;
+
+    public static TimelineEntryResponse from(FarmingLog log) {
+        TimelineEntryResponseBuilder builder = metadata(TimelineEntryResponse.builder(), log.getMetadata())
+                .logId(log.getFarmingLogId())
+                .farmId(farmId(log.getFarm()))
+                .memberId(log.getMember().getMemberId());
+
+        if (log instanceof CultivationLog cultivation) {
+            builder.type(FarmingLogType.CULTIVATION)
+                    .varietyId(cultivation.getVariety().getVarietyId())
+                    .plantingAmount(cultivation.getPlantingAmount());
+        } else if (log instanceof FertilizingLog fertilizing) {
+            builder.type(FarmingLogType.FERTILIZING)
+                    .fertilizerId(fertilizing.getFertilizer().getFertilizerId())
+                    .usedAmountBag(fertilizing.getUsedAmountBag());
+        } else if (log instanceof IrrigationLog irrigation) {
+            builder.type(FarmingLogType.IRRIGATION)
+                    .waterAmountLiter(irrigation.getWaterAmountLiter());
+        } else if (log instanceof HarvestLog harvest) {
+            builder.type(FarmingLogType.HARVEST)
+                    .varietyId(harvest.getVariety().getVarietyId())
+                    .quantityBox(harvest.getQuantityBox());
+        }
+        return builder.build();
+    }
+
+    public static TimelineEntryResponse from(PestControlLog log) {
+        return metadata(TimelineEntryResponse.builder(), log.getMetadata())
+                .type(FarmingLogType.PEST_CONTROL)
+                .logId(log.getPestControlLogId())
+                .farmId(farmId(log.getFarm()))
+                .memberId(log.getMember().getMemberId())
+                .pesticideId(log.getPesticide().getPesticideId())
+                .usedAmountBottle(log.getUsedAmountBottle())
+                .usedWaterLiter(log.getUsedWaterLiter())
+                .build();
+    }
+
+    private static Long farmId(Farm farm) {
+        return farm != null ? farm.getFarmId() : null;
+    }
+
+    private static TimelineEntryResponseBuilder metadata(TimelineEntryResponseBuilder builder, FarmingMetadata metadata) {
+        if (metadata == null) {
+            return builder;
+        }
+        return builder
+                .logDate(metadata.getLogDate())
+                .weather(metadata.getWeather())
+                .temperature(metadata.getTemperature())
+                .humidity(metadata.getHumidity())
+                .memo(metadata.getMemo());
+    }
+}
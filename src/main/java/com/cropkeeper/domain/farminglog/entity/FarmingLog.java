@@ -3,6 +3,7 @@ package com.cropkeeper.domain.farminglog.entity;
 import com.cropkeeper.domain.farm.entity.Farm;
 import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
 import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.global.persistence.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -13,7 +14,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "farming_log")
+@Table(name = "farming_log",
+        indexes = {
+                @Index(
+                        name = "idx_farming_log_farm_date",
+                        columnList = "farm_id, log_date, farming_log_id"),   // 농장 타임라인 키셋 페이지네이션
+                @Index(
+                        name = "idx_farming_log_farm_updated",
+                        columnList = "farm_id, updated_at, farming_log_id")  // 변경분 동기화 키셋 페이지네이션
+        })
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "log_type", discriminatorType = DiscriminatorType.STRING)
 @EntityListeners(AuditingEntityListener.class)
@@ -24,7 +33,14 @@ import java.time.LocalDateTime;
 public abstract class FarmingLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIds.FARMING_LOG)
+    @TableGenerator(
+            name = PooledIds.FARMING_LOG,
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = PooledIds.FARMING_LOG,
+            allocationSize = PooledIds.ALLOCATION_SIZE)   // JDBC 배치 INSERT가 가능하도록 ID를 미리 할당
     @Column(name = "farming_log_id")
     private Long farmingLogId;
 
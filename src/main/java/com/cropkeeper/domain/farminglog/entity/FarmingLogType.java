@@ -4,7 +4,8 @@ public enum FarmingLogType {
     CULTIVATION("재배"),
     FERTILIZING("시비"),
     PEST_CONTROL("방제"),
-    IRRIGATION("관수");
+    IRRIGATION("관수"),
+    HARVEST("수확");
 
     private final String description;
 
@@ -0,0 +1,25 @@
+package com.cropkeeper.domain.farminglog.exception;
+
+import com.cropkeeper.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum FarmingLogErrorCode implements ErrorCode {
+
+    INVALID_TIMELINE_CURSOR("L001", "유효하지 않은 타임라인 커서입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_DATE_RANGE("L002", "조회 시작일은 종료일보다 늦을 수 없습니다.", HttpStatus.BAD_REQUEST),
+
+    // 기록 대량 등록
+    MALFORMED_BATCH_BODY("L003", "기록 목록은 JSON 배열이어야 합니다.", HttpStatus.BAD_REQUEST),
+    BATCH_TOO_LARGE("L004", "한 번에 등록할 수 있는 기록 수를 넘었습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_BATCH_ENTRY("L005", "기록 항목이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    BATCH_REFERENCE_NOT_FOUND("L006", "품종, 비료 또는 농약을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    BATCH_CHUNK_FAILED("L007", "기록 저장 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final String code;
+    private final String message;
+    private final HttpStatus httpStatus;
+}
@@ -0,0 +1,10 @@
+package com.cropkeeper.domain.farminglog.exception;
+
+import com.cropkeeper.global.exception.BaseException;
+
+public class InvalidFarmingLogBatchException extends BaseException {
+
+    public InvalidFarmingLogBatchException(FarmingLogErrorCode errorCode) {
+        super(errorCode);
+    }
+}
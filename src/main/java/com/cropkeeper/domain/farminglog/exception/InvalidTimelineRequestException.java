@@ -0,0 +1,10 @@
+package com.cropkeeper.domain.farminglog.exception;
+
+import com.cropkeeper.global.exception.BaseException;
+
+public class InvalidTimelineRequestException extends BaseException {
+
+    public InvalidTimelineRequestException(FarmingLogErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,74 @@
+package com.cropkeeper.domain.farminglog.repository;
+
+import com.cropkeeper.domain.farminglog.entity.FarmingLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FarmingLogRepository extends JpaRepository<FarmingLog, Long> {
+
+    /**
+     * 농장 타임라인 한 페이지 조회 (재배, 시비, 관수, 수확 기록 / 삭제되지 않은 기록만)
+     *
+     * (log_date, farming_log_id) 내림차순 키셋 페이지네이션으로 커서 위치 이후의 기록만 읽습니다.
+     * idx_farming_log_farm_date (farm_id, log_date, farming_log_id) 인덱스 범위 스캔으로 처리되며 OFFSET을 사용하지 않습니다.
+     *
+     * @param farmId      농장 ID
+     * @param types       조회할 기록 종류 (FarmingLog 하위 엔티티 클래스)
+     * @param from        조회 시작 일시 (포함)
+     * @param toExclusive 조회 종료 일시 (미포함)
+     * @param cursorDate  커서 기록 일시 (이 일시 이전 또는 같은 일시의 더 작은 ID만 조회)
+     * @param cursorId    커서 기록 ID (첫 페이지는 Long.MAX_VALUE)
+     * @param pageable    조회 개수 (정렬은 쿼리에 고정)
+     * @return 기록 목록 (기록 일시, ID 내림차순)
+     */
+    @Query("SELECT l FROM FarmingLog l " +
+            "WHERE l.farm.farmId = :farmId " +
+            "AND l.deleted = false " +
+            "AND TYPE(l) IN :types " +
+            "AND l.metadata.logDate >= :from " +
+            "AND l.metadata.logDate < :toExclusive " +
+            "AND l.metadata.logDate <= :cursorDate " +
+            "AND (l.metadata.logDate < :cursorDate OR l.farmingLogId < :cursorId) " +
+            "ORDER BY l.metadata.logDate DESC, l.farmingLogId DESC")
+    List<FarmingLog> findTimeline(
+            @Param("farmId") Long farmId,
+            @Param("types") Collection<Class<? extends FarmingLog>> types,
+            @Param("from") LocalDateTime from,
+            @Param("toExclusive") LocalDateTime toExclusive,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 변경분 동기화 한 페이지 조회 (삭제된 기록 포함 / 삭제 여부는 호출 측에서 판단)
+     *
+     * FarmRepository.findChangedSince와 같은 키셋 조건이며,
+     * 농장마다 idx_farming_log_farm_updated (farm_id, updated_at, farming_log_id) 인덱스 범위를 읽습니다.
+     *
+     * @param farmIds        농장 ID 목록 (회원의 삭제되지 않은 농장)
+     * @param until          동기화 구간 끝 (포함)
+     * @param afterUpdatedAt 커서 수정 일시
+     * @param afterId        커서 ID
+     * @param pageable       조회 개수 (정렬은 쿼리에 고정)
+     * @return 기록 목록 (수정 일시, ID 오름차순)
+     */
+    @Query("SELECT l FROM FarmingLog l " +
+            "WHERE l.farm.farmId IN :farmIds " +
+            "AND l.updatedAt <= :until " +
+            "AND (l.updatedAt > :afterUpdatedAt OR (l.updatedAt = :afterUpdatedAt AND l.farmingLogId > :afterId)) " +
+            "ORDER BY l.updatedAt, l.farmingLogId")
+    List<FarmingLog> findChangedSince(
+            @Param("farmIds") Collection<Long> farmIds,
+            @Param("until") LocalDateTime until,
+            @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+}
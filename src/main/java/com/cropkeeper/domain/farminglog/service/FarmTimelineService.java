@@ -0,0 +1,132 @@
+package com.cropkeeper.domain.farminglog.service;
+
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farminglog.dto.response.FarmTimelineResponse;
+import com.cropkeeper.domain.farminglog.dto.response.TimelineEntryResponse;
+import com.cropkeeper.domain.farminglog.entity.FarmingLog;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.exception.FarmingLogErrorCode;
+import com.cropkeeper.domain.farminglog.exception.InvalidTimelineRequestException;
+import com.cropkeeper.domain.farminglog.repository.FarmingLogRepository;
+import com.cropkeeper.domain.farminglog.service.TimelineCursor.Source;
+import com.cropkeeper.domain.fertilizer.entity.FertilizingLog;
+import com.cropkeeper.domain.harvest.entity.HarvestLog;
+import com.cropkeeper.domain.irrigation.entity.IrrigationLog;
+import com.cropkeeper.domain.pest.repository.PestControlLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 농장 타임라인 조회 (모든 기록 종류를 기록 일시 내림차순으로 합친 목록)
+ *
+ * 페이지 조회 방식:
+ * - FarmingLog 하위 기록(재배, 시비, 관수, 수확)과 방제 기록을 각각 키셋 조건으로 size + 1개씩만 조회
+ * - 두 목록을 정렬 키(TimelineCursor.ORDER)로 합쳐 앞의 size개를 반환
+ * - 합친 개수가 size보다 많으면 다음 페이지가 있으며, 마지막 항목 위치를 다음 커서로 전달
+ *
+ * 페이지마다 최대 2 × (size + 1)개만 읽으므로 농장 기록이 많아도 OFFSET 스캔이나 전체 로딩이 없습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FarmTimelineService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 기간 조건이 없을 때의 경계값 (MySQL DATETIME 범위 안)
+     */
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private static final Map<FarmingLogType, Class<? extends FarmingLog>> FARMING_LOG_SUBTYPES =
+            new EnumMap<>(Map.of(
+                    FarmingLogType.CULTIVATION, CultivationLog.class,
+                    FarmingLogType.FERTILIZING, FertilizingLog.class,
+                    FarmingLogType.IRRIGATION, IrrigationLog.class,
+                    FarmingLogType.HARVEST, HarvestLog.class));
+
+    private final FarmingLogRepository farmingLogRepository;
+    private final PestControlLogRepository pestControlLogRepository;
+
+    /**
+     * 농장 타임라인 한 페이지 조회
+     *
+     * @param farmId 농장 ID
+     * @param types  조회할 기록 종류 (null 또는 비어 있으면 전체)
+     * @param from   조회 시작일 (포함, null이면 제한 없음)
+     * @param to     조회 종료일 (포함, null이면 제한 없음)
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE로 보정)
+     * @return 타임라인 한 페이지
+     * @throws InvalidTimelineRequestException 커서 형식이 잘못되었거나 시작일이 종료일보다 늦은 경우
+     */
+    public FarmTimelineResponse getTimeline(Long farmId, Set<FarmingLogType> types,
+                                            LocalDate from, LocalDate to, String cursor, int size) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidTimelineRequestException(FarmingLogErrorCode.INVALID_DATE_RANGE);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Set<FarmingLogType> selected = types == null || types.isEmpty()
+                ? EnumSet.allOf(FarmingLogType.class)
+                : types;
+        LocalDateTime start = from != null ? from.atStartOfDay() : MIN_DATE;
+        LocalDateTime endExclusive = to != null ? to.plusDays(1).atStartOfDay() : MAX_DATE;
+        TimelineCursor position = cursor != null && !cursor.isBlank() ? TimelineCursor.decode(cursor) : null;
+
+        // 첫 페이지: 종료 일시 이전 전체 (같은 일시도 모두 포함)
+        LocalDateTime cursorDate = position != null ? position.getLogDate() : endExclusive;
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Entry> entries = new ArrayList<>();
+
+        List<Class<? extends FarmingLog>> subtypes = selected.stream()
+                .filter(FARMING_LOG_SUBTYPES::containsKey)
+                .<Class<? extends FarmingLog>>map(FARMING_LOG_SUBTYPES::get)
+                .toList();
+        if (!subtypes.isEmpty()) {
+            long cursorId = position != null ? position.idBoundFor(Source.FARMING_LOG) : Long.MAX_VALUE;
+            farmingLogRepository.findTimeline(farmId, subtypes, start, endExclusive, cursorDate, cursorId, limit)
+                    .forEach(log -> entries.add(new Entry(
+                            new TimelineCursor(log.getMetadata().getLogDate(), Source.FARMING_LOG, log.getFarmingLogId()),
+                            TimelineEntryResponse.from(log))));
+        }
+
+        if (selected.contains(FarmingLogType.PEST_CONTROL)) {
+            long cursorId = position != null ? position.idBoundFor(Source.PEST_CONTROL) : Long.MAX_VALUE;
+            pestControlLogRepository.findTimeline(farmId, start, endExclusive, cursorDate, cursorId, limit)
+                    .forEach(log -> entries.add(new Entry(
+                            new TimelineCursor(log.getMetadata().getLogDate(), Source.PEST_CONTROL, log.getPestControlLogId()),
+                            TimelineEntryResponse.from(log))));
+        }
+
+        entries.sort(Comparator.comparing(Entry::position, TimelineCursor.ORDER));
+
+        boolean hasNext = entries.size() > pageSize;
+        List<Entry> page = hasNext ? entries.subList(0, pageSize) : entries;
+
+        return FarmTimelineResponse.builder()
+                .entries(page.stream().map(Entry::response).toList())
+                .nextCursor(hasNext ? page.get(page.size() - 1).position().encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private record Entry(TimelineCursor position, TimelineEntryResponse response) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.cropkeeper.domain.farminglog.service;
+
+import com.cropkeeper.domain.farminglog.dto.request.FarmingLogEntryRequest;
+import com.cropkeeper.domain.farminglog.dto.response.FarmingLogBatchItemResponse;
+import com.cropkeeper.domain.farminglog.dto.response.FarmingLogBatchItemResponse.Status;
+import com.cropkeeper.domain.farminglog.dto.response.FarmingLogBatchResponse;
+import com.cropkeeper.domain.farminglog.exception.FarmingLogErrorCode;
+import com.cropkeeper.domain.farminglog.exception.InvalidFarmingLogBatchException;
+import com.cropkeeper.domain.farminglog.service.FarmingLogBatchWriter.Entry;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 영농일지 대량 등록 (오프라인에서 쌓아 둔 여러 종류의 기록을 한 번에 업로드)
+ *
+ * 처리 방식:
+ * - 요청 본문(JSON 배열)을 Jackson 스트리밍 파서로 항목 하나씩 읽음 (배열 전체를 메모리에 바인딩하지 않음)
+ * - 항목마다 형식, Bean Validation, 종류별 필수 필드를 검증하고 실패한 항목은 REJECTED로 기록
+ * - 통과한 항목은 chunk-size개씩 모아 FarmingLogBatchWriter가 청크마다 한 트랜잭션으로 저장 (JDBC 배치 INSERT)
+ * - 청크 저장이 실패하면 해당 청크 항목만 FAILED, 이미 커밋된 앞 청크와 이후 청크는 그대로 진행
+ *
+ * 본문 중간에 JSON 문법 오류가 있거나 max-entries를 넘으면 읽기를 멈추고,
+ * 그 전까지 읽은 항목은 저장한 뒤 complete=false로 응답합니다 (응답에 있는 항목의 결과는 모두 확정).
+ * 이 메서드 자체는 트랜잭션이 아니며, 청크마다 커밋됩니다.
+ */
+@Slf4j
+@Service
+public class FarmingLogBatchService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final FarmingLogBatchWriter farmingLogBatchWriter;
+    private final int chunkSize;
+    private final int maxEntries;
+
+    public FarmingLogBatchService(
+            ObjectMapper objectMapper,
+            Validator validator,
+            FarmingLogBatchWriter farmingLogBatchWriter,
+            @Value("${farming-log.batch.chunk-size:500}") int chunkSize,
+            @Value("${farming-log.batch.max-entries:5000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.farmingLogBatchWriter = farmingLogBatchWriter;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 기록 대량 등록
+     *
+     * @param farmId   농장 ID (접근 권한은 Controller에서 검증)
+     * @param memberId 작성자 ID
+     * @param body     요청 본문 (기록 항목 JSON 배열)
+     * @return 항목별 결과 (요청 배열 순서)
+     * @throws InvalidFarmingLogBatchException 본문이 JSON 배열로 시작하지 않는 경우
+     * @throws IOException                     본문을 읽는 중 연결이 끊긴 경우
+     */
+    public FarmingLogBatchResponse ingest(Long farmId, Long memberId, InputStream body) throws IOException {
+        List<FarmingLogBatchItemResponse> results = new ArrayList<>();
+        List<Entry> chunk = new ArrayList<>(chunkSize);
+        FarmingLogErrorCode stopReason = null;
+        int received = 0;
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (nextTokenOrNull(parser) != JsonToken.START_ARRAY) {
+                throw new InvalidFarmingLogBatchException(FarmingLogErrorCode.MALFORMED_BATCH_BODY);
+            }
+
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        stopReason = FarmingLogErrorCode.MALFORMED_BATCH_BODY;   // 배열이 닫히기 전에 본문이 끝남
+                        break;
+                    }
+                    if (received >= maxEntries) {
+                        stopReason = FarmingLogErrorCode.BATCH_TOO_LARGE;
+                        break;
+                    }
+
+                    int index = received;
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        received++;
+                        results.add(FarmingLogBatchItemResponse.rejected(index, null,
+                                FarmingLogErrorCode.INVALID_BATCH_ENTRY, "기록 항목은 JSON 객체여야 합니다."));
+                        continue;
+                    }
+
+                    JsonNode node = parser.readValueAsTree();   // 항목 하나만 트리로 읽음
+                    received++;
+
+                    FarmingLogBatchItemResponse rejected = accept(index, node, chunk);
+                    if (rejected != null) {
+                        results.add(rejected);
+                    } else if (chunk.size() >= chunkSize) {
+                        results.addAll(flush(farmId, memberId, chunk));
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                log.debug("기록 대량 등록 본문 JSON 오류로 읽기 중단: farmId={}, index={}, {}",
+                        farmId, received, e.getOriginalMessage());
+                stopReason = FarmingLogErrorCode.MALFORMED_BATCH_BODY;
+            }
+        }
+
+        results.addAll(flush(farmId, memberId, chunk));
+        results.sort(Comparator.comparingInt(FarmingLogBatchItemResponse::getIndex));
+
+        return FarmingLogBatchResponse.builder()
+                .received(received)
+                .created(count(results, Status.CREATED))
+                .rejected(count(results, Status.REJECTED))
+                .failed(count(results, Status.FAILED))
+                .complete(stopReason == null)
+                .errorCode(stopReason != null ? stopReason.getCode() : null)
+                .message(stopReason != null ? stopReason.getMessage() : null)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 항목 바인딩, 검증 후 청크에 추가
+     *
+     * @return 검증에 실패하면 REJECTED 결과, 통과하면 null
+     */
+    private FarmingLogBatchItemResponse accept(int index, JsonNode node, List<Entry> chunk) {
+        String ref = node.path("ref").isTextual() ? node.get("ref").asText() : null;
+
+        FarmingLogEntryRequest request;
+        try {
+            request = objectMapper.treeToValue(node, FarmingLogEntryRequest.class);
+        } catch (JsonProcessingException e) {
+            return FarmingLogBatchItemResponse.rejected(index, ref,
+                    FarmingLogErrorCode.INVALID_BATCH_ENTRY, bindingMessage(e));
+        }
+
+        String violation = validate(request);
+        if (violation != null) {
+            return FarmingLogBatchItemResponse.rejected(index, ref, FarmingLogErrorCode.INVALID_BATCH_ENTRY, violation);
+        }
+
+        chunk.add(new Entry(index, request));
+        return null;
+    }
+
+    /**
+     * Bean Validation, 종류별 필수 필드 검증
+     *
+     * @return 첫 번째 위반 사유, 통과하면 null
+     */
+    private String validate(FarmingLogEntryRequest request) {
+        String violation = validator.validate(request).stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+        if (violation != null) {
+            return violation;
+        }
+
+        List<String> missing = request.missingFields();
+        return missing.isEmpty() ? null : request.getType() + " 기록의 필수 항목이 없습니다: " + String.join(", ", missing);
+    }
+
+    /**
+     * 청크 저장 후 비움 (저장이 실패하면 청크 항목 모두 FAILED)
+     */
+    private List<FarmingLogBatchItemResponse> flush(Long farmId, Long memberId, List<Entry> chunk) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        List<Entry> entries = List.copyOf(chunk);
+        chunk.clear();
+
+        try {
+            return farmingLogBatchWriter.write(farmId, memberId, entries);
+        } catch (RuntimeException e) {
+            log.error("기록 대량 등록 청크 저장 실패: farmId={}, 항목 {}~{}",
+                    farmId, entries.get(0).index(), entries.get(entries.size() - 1).index(), e);
+            return entries.stream()
+                    .map(entry -> FarmingLogBatchItemResponse.failed(
+                            entry.index(), entry.request().getRef(), FarmingLogErrorCode.BATCH_CHUNK_FAILED))
+                    .toList();
+        }
+    }
+
+    /**
+     * 첫 토큰 (빈 본문이나 JSON이 아닌 본문은 null)
+     */
+    private static JsonToken nextTokenOrNull(JsonParser parser) throws IOException {
+        try {
+            return parser.nextToken();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static String bindingMessage(JsonProcessingException e) {
+        if (e instanceof MismatchedInputException mismatch && !mismatch.getPath().isEmpty()) {
+            String field = mismatch.getPath().stream()
+                    .map(reference -> reference.getFieldName() != null
+                            ? reference.getFieldName() : "[" + reference.getIndex() + "]")
+                    .collect(Collectors.joining("."));
+            return "형식이 올바르지 않은 필드입니다: " + field;
+        }
+        return FarmingLogErrorCode.INVALID_BATCH_ENTRY.getMessage();
+    }
+
+    private static int count(List<FarmingLogBatchItemResponse> results, Status status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+}
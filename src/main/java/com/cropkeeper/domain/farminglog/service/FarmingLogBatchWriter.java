@@ -0,0 +1,167 @@
+package com.cropkeeper.domain.farminglog.service;
+
+import com.cropkeeper.domain.crop.repository.CropVarietyRepository;
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import com.cropkeeper.domain.farminglog.dto.request.FarmingLogEntryRequest;
+import com.cropkeeper.domain.farminglog.dto.response.FarmingLogBatchItemResponse;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.exception.FarmingLogErrorCode;
+import com.cropkeeper.domain.farminglog.repository.FarmingLogRepository;
+import com.cropkeeper.domain.fertilizer.entity.FertilizingLog;
+import com.cropkeeper.domain.fertilizer.repository.FertilizerRepository;
+import com.cropkeeper.domain.harvest.entity.HarvestLog;
+import com.cropkeeper.domain.irrigation.entity.IrrigationLog;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.domain.pest.entity.PestControlLog;
+import com.cropkeeper.domain.pest.repository.PestControlLogRepository;
+import com.cropkeeper.domain.pest.repository.PesticideRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 기록 대량 등록의 청크 하나를 한 트랜잭션으로 저장
+ *
+ * - 청크에서 참조하는 품종, 비료, 농약 ID는 종류별 IN 쿼리 한 번씩으로 존재 여부만 확인 (엔티티 로딩 없음)
+ * - 농장, 회원, 참조 대상은 getReference 프록시로 연결
+ * - 기록 ID는 풀링 ID(PooledIds)라 persist 시점에 정해지고, INSERT는 커밋 시 hibernate.jdbc.batch_size 단위로 배치 실행
+ *
+ * - 청크 끝에서 flush 후 영속성 컨텍스트를 비움: open-in-view로 요청 하나가 EntityManager 하나를 공유하므로,
+ *   비우지 않으면 앞 청크의 기록과 프록시가 요청 끝까지 남아 매 커밋마다 다시 dirty checking 대상이 됨
+ *
+ * 저장 중 예외가 나면 청크 전체가 롤백되며, 호출한 쪽(FarmingLogBatchService)이 청크 항목을 FAILED로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FarmingLogBatchWriter {
+
+    private static final Set<FarmingLogType> VARIETY_TYPES = EnumSet.of(FarmingLogType.CULTIVATION, FarmingLogType.HARVEST);
+
+    private final FarmingLogRepository farmingLogRepository;
+    private final PestControlLogRepository pestControlLogRepository;
+    private final FarmRepository farmRepository;
+    private final MemberRepository memberRepository;
+    private final CropVarietyRepository cropVarietyRepository;
+    private final FertilizerRepository fertilizerRepository;
+    private final PesticideRepository pesticideRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 청크 저장
+     *
+     * @param farmId   농장 ID (접근 권한은 Controller에서 검증)
+     * @param memberId 작성자 ID
+     * @param entries  검증을 통과한 항목 (요청 순서)
+     * @return 항목별 결과 (entries 순서, 참조 대상이 없는 항목은 REJECTED)
+     */
+    @Transactional
+    public List<FarmingLogBatchItemResponse> write(Long farmId, Long memberId, List<Entry> entries) {
+        Set<Long> varieties = existingIds(entries, VARIETY_TYPES,
+                FarmingLogEntryRequest::getVarietyId, cropVarietyRepository::findActiveIds);
+        Set<Long> fertilizers = existingIds(entries, EnumSet.of(FarmingLogType.FERTILIZING),
+                FarmingLogEntryRequest::getFertilizerId, fertilizerRepository::findExistingIds);
+        Set<Long> pesticides = existingIds(entries, EnumSet.of(FarmingLogType.PEST_CONTROL),
+                FarmingLogEntryRequest::getPesticideId, pesticideRepository::findExistingIds);
+
+        Farm farm = farmRepository.getReferenceById(farmId);
+        Member member = memberRepository.getReferenceById(memberId);
+
+        List<FarmingLogBatchItemResponse> results = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            FarmingLogEntryRequest request = entry.request();
+            boolean resolved = switch (request.getType()) {
+                case CULTIVATION, HARVEST -> varieties.contains(request.getVarietyId());
+                case FERTILIZING -> fertilizers.contains(request.getFertilizerId());
+                case PEST_CONTROL -> pesticides.contains(request.getPesticideId());
+                case IRRIGATION -> true;
+            };
+            if (!resolved) {
+                FarmingLogErrorCode errorCode = FarmingLogErrorCode.BATCH_REFERENCE_NOT_FOUND;
+                results.add(FarmingLogBatchItemResponse.rejected(
+                        entry.index(), request.getRef(), errorCode, errorCode.getMessage()));
+                continue;
+            }
+
+            Long id = persist(request, farm, member);
+            results.add(FarmingLogBatchItemResponse.created(entry.index(), request.getRef(), request.getType(), id));
+        }
+
+        // 이 청크의 INSERT를 실행하고, 다음 청크가 빈 영속성 컨텍스트에서 시작하도록 비움
+        entityManager.flush();
+        entityManager.clear();
+        return results;
+    }
+
+    private Long persist(FarmingLogEntryRequest request, Farm farm, Member member) {
+        return switch (request.getType()) {
+            case CULTIVATION -> farmingLogRepository.save(CultivationLog.builder()
+                    .farm(farm)
+                    .member(member)
+                    .metadata(request.toMetadata())
+                    .variety(cropVarietyRepository.getReferenceById(request.getVarietyId()))
+                    .plantingAmount(request.getPlantingAmount())
+                    .build()).getFarmingLogId();
+            case FERTILIZING -> farmingLogRepository.save(FertilizingLog.builder()
+                    .farm(farm)
+                    .member(member)
+                    .metadata(request.toMetadata())
+                    .fertilizer(fertilizerRepository.getReferenceById(request.getFertilizerId()))
+                    .usedAmountBag(request.getUsedAmountBag())
+                    .build()).getFarmingLogId();
+            case IRRIGATION -> farmingLogRepository.save(IrrigationLog.builder()
+                    .farm(farm)
+                    .member(member)
+                    .metadata(request.toMetadata())
+                    .waterAmountLiter(request.getWaterAmountLiter())
+                    .build()).getFarmingLogId();
+            case HARVEST -> farmingLogRepository.save(HarvestLog.builder()
+                    .farm(farm)
+                    .member(member)
+                    .metadata(request.toMetadata())
+                    .variety(cropVarietyRepository.getReferenceById(request.getVarietyId()))
+                    .quantityBox(request.getQuantityBox())
+                    .build()).getFarmingLogId();
+            case PEST_CONTROL -> pestControlLogRepository.save(PestControlLog.builder()
+                    .farm(farm)
+                    .member(member)
+                    .metadata(request.toMetadata())
+                    .pesticide(pesticideRepository.getReferenceById(request.getPesticideId()))
+                    .usedAmountBottle(request.getUsedAmountBottle())
+                    .usedWaterLiter(request.getUsedWaterLiter())
+                    .build()).getPestControlLogId();
+        };
+    }
+
+    /**
+     * 해당 종류 항목이 참조하는 ID 중 존재하는 ID (참조가 없으면 쿼리하지 않음)
+     */
+    private static Set<Long> existingIds(List<Entry> entries, Set<FarmingLogType> types,
+                                         Function<FarmingLogEntryRequest, Long> reference,
+                                         Function<Collection<Long>, List<Long>> finder) {
+        Set<Long> ids = new HashSet<>();
+        for (Entry entry : entries) {
+            if (types.contains(entry.request().getType())) {
+                ids.add(reference.apply(entry.request()));
+            }
+        }
+        return ids.isEmpty() ? Set.of() : new HashSet<>(finder.apply(ids));
+    }
+
+    /**
+     * 요청 배열에서의 위치와 항목
+     */
+    public record Entry(int index, FarmingLogEntryRequest request) {
+    }
+}
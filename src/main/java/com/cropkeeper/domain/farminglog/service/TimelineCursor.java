@@ -0,0 +1,78 @@
+package com.cropkeeper.domain.farminglog.service;
+
+import com.cropkeeper.domain.farminglog.exception.FarmingLogErrorCode;
+import com.cropkeeper.domain.farminglog.exception.InvalidTimelineRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 농장 타임라인 키셋 커서 (마지막으로 반환한 항목의 위치)
+ *
+ * 타임라인은 두 테이블(farming_log, pest_control_log)을 합친 것이라 ID가 겹칠 수 있으므로
+ * 정렬 키는 (기록 일시 내림차순, 출처 순서, ID 내림차순)입니다.
+ * 클라이언트에는 "일시|출처|ID"를 Base64 URL 인코딩한 문자열로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+class TimelineCursor {
+
+    /**
+     * 같은 기록 일시에서 출처 순서 (FARMING_LOG 항목이 먼저)
+     */
+    enum Source {
+        FARMING_LOG,
+        PEST_CONTROL
+    }
+
+    static final Comparator<TimelineCursor> ORDER = Comparator
+            .comparing(TimelineCursor::getLogDate, Comparator.reverseOrder())
+            .thenComparing(TimelineCursor::getSource)
+            .thenComparing(TimelineCursor::getId, Comparator.reverseOrder());
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime logDate;
+    private final Source source;
+    private final Long id;
+
+    /**
+     * 해당 출처를 커서 이후부터 조회할 때 쓸 ID 상한 (logDate와 같은 일시의 기록에만 적용)
+     *
+     * - 같은 출처: 커서 ID보다 작은 ID
+     * - 커서보다 앞 순서의 출처: 같은 일시의 기록은 이미 반환됨 → 0 (같은 일시 제외)
+     * - 커서보다 뒤 순서의 출처: 같은 일시의 기록은 아직 반환되지 않음 → Long.MAX_VALUE (같은 일시 전부 포함)
+     */
+    long idBoundFor(Source target) {
+        if (target == source) {
+            return id;
+        }
+        return target.compareTo(source) < 0 ? 0L : Long.MAX_VALUE;
+    }
+
+    String encode() {
+        String raw = logDate.toString() + SEPARATOR + source.name() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidTimelineRequestException 형식이 잘못된 커서
+     */
+    static TimelineCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new InvalidTimelineRequestException(FarmingLogErrorCode.INVALID_TIMELINE_CURSOR);
+            }
+            return new TimelineCursor(LocalDateTime.parse(parts[0]), Source.valueOf(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidTimelineRequestException(FarmingLogErrorCode.INVALID_TIMELINE_CURSOR);
+        }
+    }
+}
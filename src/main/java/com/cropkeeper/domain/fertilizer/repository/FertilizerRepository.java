@@ -0,0 +1,20 @@
+package com.cropkeeper.domain.fertilizer.repository;
+
+import com.cropkeeper.domain.fertilizer.entity.Fertilizer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FertilizerRepository extends JpaRepository<Fertilizer, Long> {
+
+    /**
+     * 주어진 ID 중 존재하는 비료 ID (엔티티 로딩 없이 존재 여부만 확인)
+     */
+    @Query("SELECT f.fertilizerId FROM Fertilizer f WHERE f.fertilizerId IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -3,6 +3,7 @@ package com.cropkeeper.domain.inventory.entity;
 import com.cropkeeper.domain.crop.entity.CropVariety;
 import com.cropkeeper.domain.farm.entity.Farm;
 import com.cropkeeper.global.common.BaseTimeEntity;
+import com.cropkeeper.global.persistence.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,14 @@ import lombok.*;
 public class CropInventory extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIds.CROP_INVENTORY)
+    @TableGenerator(
+            name = PooledIds.CROP_INVENTORY,
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = PooledIds.CROP_INVENTORY,
+            allocationSize = PooledIds.ALLOCATION_SIZE)   // JDBC 배치 INSERT가 가능하도록 ID를 미리 할당
     @Column(name = "crop_inventory_id")
     private Long cropInventoryId;
 
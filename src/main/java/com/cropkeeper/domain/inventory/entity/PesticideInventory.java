@@ -3,6 +3,7 @@ package com.cropkeeper.domain.inventory.entity;
 import com.cropkeeper.domain.farm.entity.Farm;
 import com.cropkeeper.domain.pest.entity.Pesticide;
 import com.cropkeeper.global.common.BaseTimeEntity;
+import com.cropkeeper.global.persistence.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,14 @@ import lombok.*;
 public class PesticideInventory extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIds.PESTICIDE_INVENTORY)
+    @TableGenerator(
+            name = PooledIds.PESTICIDE_INVENTORY,
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = PooledIds.PESTICIDE_INVENTORY,
+            allocationSize = PooledIds.ALLOCATION_SIZE)   // JDBC 배치 INSERT가 가능하도록 ID를 미리 할당
     @Column(name = "pesticide_inventory_id")
     private Long pesticideInventoryId;
 
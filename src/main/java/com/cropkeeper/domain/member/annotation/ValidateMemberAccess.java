@@ -1,5 +1,7 @@
 package com.cropkeeper.domain.member.annotation;
 
+import com.cropkeeper.global.aspect.RequiresBinding;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -14,6 +16,7 @@ import java.lang.annotation.Target;
  */
 @Target(ElementType.METHOD)  // 메서드에만 적용 가능
 @Retention(RetentionPolicy.RUNTIME)  // 런타임에 어노테이션 정보 유지
+@RequiresBinding(pathVariable = "memberId")
 public @interface ValidateMemberAccess {
 
     /**
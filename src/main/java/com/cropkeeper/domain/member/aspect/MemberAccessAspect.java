@@ -5,7 +5,10 @@ import com.cropkeeper.domain.member.exception.ForbiddenMemberAccessException;
 import com.cropkeeper.domain.member.exception.InvalidAspectConfigurationException;
 import com.cropkeeper.domain.member.exception.MemberErrorCode;
 import com.cropkeeper.global.aspect.AspectParameterExtractor;
+import com.cropkeeper.global.profiling.AccessCheckEvent;
 import com.cropkeeper.global.security.UserPrincipal;
+import com.cropkeeper.global.tracing.Span;
+import com.cropkeeper.global.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
@@ -19,6 +22,7 @@ import java.lang.reflect.Method;
  *
  * @ValidateMemberAccess 어노테이션이 붙은 메서드에 대해
  * PathVariable의 memberId와 인증된 사용자의 ID를 비교하여 권한을 검증합니다.
+ * 검증 소요 시간은 ACCESS_CHECK 추적 구간과 JFR 이벤트(AccessCheckEvent)로 기록됩니다.
  */
 @Slf4j
 @Aspect
@@ -40,11 +44,27 @@ public class MemberAccessAspect {
      */
     @Before("@annotation(validateMemberAccess)")
     public void validateMemberAccess(JoinPoint joinPoint, ValidateMemberAccess validateMemberAccess) {
-        // 메서드 정보 가져오기
-        Method method = AspectParameterExtractor.getMethod(joinPoint);
+        AccessCheckEvent event = AccessCheckEvent.begin(AccessCheckEvent.MEMBER);
+        Span span = Tracer.start(Span.Kind.ACCESS_CHECK, "MemberAccessAspect");
 
         // 파라미터 추출 (공통 유틸리티 사용)
         Long requestedMemberId = AspectParameterExtractor.extractPathVariableAsLong(joinPoint, "memberId");
+
+        boolean granted = false;
+        try {
+            checkMemberAccess(joinPoint, validateMemberAccess, requestedMemberId);
+            granted = true;
+        } finally {
+            AccessCheckEvent.end(event, requestedMemberId, granted);
+            Tracer.end(span, !granted);
+        }
+    }
+
+    private void checkMemberAccess(JoinPoint joinPoint, ValidateMemberAccess validateMemberAccess,
+                                   Long requestedMemberId) {
+        // 메서드 정보 가져오기
+        Method method = AspectParameterExtractor.getMethod(joinPoint);
+
         UserPrincipal userPrincipal = AspectParameterExtractor.extractUserPrincipal(joinPoint);
 
         // 필수 파라미터 검증
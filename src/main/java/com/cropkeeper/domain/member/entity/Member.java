@@ -10,7 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member",
+        indexes = @Index(
+                name = "idx_member_updated",
+                columnList = "updated_at"   // 토큰 버전 레지스트리 동기화
+        ))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -49,11 +53,20 @@ public class Member extends BaseTimeEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /**
+     * 토큰 버전 스탬프
+     * 비밀번호 변경, 탈퇴 시 증가하며 이전 버전으로 발급된 액세스 토큰은 무효화됩니다.
+     */
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Long tokenVersion = 0L;
+
     // 편의 메서드
 
     public void delete() {
         this.deleted = true;
         this.deletedAt = LocalDateTime.now();
+        this.tokenVersion++;
 
         // 소유한 모든 농장도 소프트 삭제
         this.farms.forEach(Farm::delete);
@@ -77,6 +90,12 @@ public class Member extends BaseTimeEntity {
     // 비밀번호 변경
     public void changePassword(String encodedPassword) {
         this.password = encodedPassword;
+        this.tokenVersion++;
+    }
+
+    // 같은 비밀번호를 새 strength로 다시 해싱한 경우 (토큰 버전 유지)
+    public void rehashPassword(String encodedPassword) {
+        this.password = encodedPassword;
     }
 
     //==연관관계 편의 메서드==//
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -37,4 +39,30 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END FROM Member m WHERE m.username = :username AND m.deleted = false")
     boolean existsByUsername(@Param("username") String username);
+
+    /**
+     * 동기화 구간(since, until]에 정보가 변경된 경우에만 회원 조회 (탈퇴하지 않은 회원만)
+     *
+     * @param memberId 회원 ID
+     * @param since    동기화 구간 시작 (미포함)
+     * @param until    동기화 구간 끝 (포함)
+     * @return 회원 정보 (구간 안에 변경된 경우)
+     */
+    @Query("SELECT m FROM Member m WHERE m.memberId = :memberId AND m.deleted = false " +
+            "AND m.updatedAt > :since AND m.updatedAt <= :until")
+    Optional<Member> findChangedSince(
+            @Param("memberId") Long memberId,
+            @Param("since") LocalDateTime since,
+            @Param("until") LocalDateTime until);
+
+    /**
+     * 토큰 버전이 올라간 적 있고 since 이후 정보가 변경된 회원 조회 (탈퇴 회원 포함)
+     *
+     * 토큰 버전 레지스트리 동기화용이며, 버전이 바뀐 회원을 빠짐없이 포함하는 상위 집합입니다.
+     *
+     * @param since 조회 시작 시각 (포함)
+     * @return 회원 목록
+     */
+    @Query("SELECT m FROM Member m WHERE m.tokenVersion > 0 AND m.updatedAt >= :since")
+    List<Member> findTokenVersionChangedSince(@Param("since") LocalDateTime since);
 }
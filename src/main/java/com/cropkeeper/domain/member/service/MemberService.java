@@ -1,11 +1,14 @@
 package com.cropkeeper.domain.member.service;
 
+import com.cropkeeper.domain.auth.service.RefreshTokenService;
 import com.cropkeeper.domain.member.dto.request.UpdateMemberInfoRequest;
 import com.cropkeeper.domain.member.dto.request.UpdatePasswordRequest;
 import com.cropkeeper.domain.member.dto.response.MemberResponse;
 import com.cropkeeper.domain.member.entity.Member;
 import com.cropkeeper.domain.member.exception.*;
 import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.global.security.MemberTokenVersionRegistry;
+import com.cropkeeper.global.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,6 +23,9 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberTokenVersionRegistry memberTokenVersionRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 회원 ID로 회원 조회 (내부 사용용)
@@ -93,13 +99,19 @@ public class MemberService {
             throw new PasswordMismatchException(MemberErrorCode.CURRENT_PASSWORD_MISMATCH);
         }
 
-        if (passwordEncoder.matches(request.getNewPassword(), member.getPassword())) {
+        // 현재 비밀번호가 확인되었으므로 평문 비교로 충분 (BCrypt 연산 1회 절약)
+        if (request.getNewPassword().equals(request.getCurrentPassword())) {
             log.warn("비밀번호 변경 실패: 새 비밀번호가 현재 비밀번호와 동일 - memberId = {}", memberId);
             throw new InvalidMemberRequestException(MemberErrorCode.SAME_AS_CURRENT_PASSWORD);
         }
 
         String encodedPassword = passwordEncoder.encode(request.getNewPassword());
         member.changePassword(encodedPassword);
+
+        // 기존 액세스 토큰이 Stateless 경로로 인증되지 않도록 토큰 버전 변경 기록
+        memberTokenVersionRegistry.bump(memberId, member.getTokenVersion());
+        verifiedTokenCache.invalidateMember(memberId, member.getUsername());
+        refreshTokenService.revokeAllByMemberId(memberId);
     }
 
     /**
@@ -119,6 +131,9 @@ public class MemberService {
         }
 
         member.delete();
+        memberTokenVersionRegistry.bump(memberId, member.getTokenVersion());
+        verifiedTokenCache.invalidateMember(memberId, member.getUsername());
+        refreshTokenService.revokeAllByMemberId(memberId);
     }
 
 
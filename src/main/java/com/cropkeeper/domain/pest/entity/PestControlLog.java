@@ -4,11 +4,20 @@ import com.cropkeeper.domain.farm.entity.Farm;
 import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
 import com.cropkeeper.domain.member.entity.Member;
 import com.cropkeeper.global.common.BaseTimeEntity;
+import com.cropkeeper.global.persistence.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "pest_control_log")
+@Table(name = "pest_control_log",
+        indexes = {
+                @Index(
+                        name = "idx_pest_control_log_farm_date",
+                        columnList = "farm_id, log_date, pest_control_log_id"),   // 농장 타임라인 키셋 페이지네이션
+                @Index(
+                        name = "idx_pest_control_log_farm_updated",
+                        columnList = "farm_id, updated_at, pest_control_log_id")  // 변경분 동기화 키셋 페이지네이션
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,7 +25,14 @@ import lombok.*;
 public class PestControlLog extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIds.PEST_CONTROL_LOG)
+    @TableGenerator(
+            name = PooledIds.PEST_CONTROL_LOG,
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = PooledIds.PEST_CONTROL_LOG,
+            allocationSize = PooledIds.ALLOCATION_SIZE)   // JDBC 배치 INSERT가 가능하도록 ID를 미리 할당
     @Column(name = "pest_control_log_id")
     private Long pestControlLogId;
 
@@ -2,10 +2,14 @@ package com.cropkeeper.domain.pest.repository;
 
 import com.cropkeeper.domain.farm.entity.Farm;
 import com.cropkeeper.domain.pest.entity.PestControlLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,4 +18,43 @@ public interface PestControlLogRepository extends JpaRepository<PestControlLog,
     List<PestControlLog> findByFarm(Farm farm);
 
     List<PestControlLog> findByFarmAndMetadata_LogDateBetween(Farm farm, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 농장 타임라인 한 페이지 조회 (방제 기록)
+     *
+     * FarmingLogRepository.findTimeline과 같은 키셋 조건이며,
+     * idx_pest_control_log_farm_date (farm_id, log_date, pest_control_log_id) 인덱스를 사용합니다.
+     */
+    @Query("SELECT p FROM PestControlLog p " +
+            "WHERE p.farm.farmId = :farmId " +
+            "AND p.metadata.logDate >= :from " +
+            "AND p.metadata.logDate < :toExclusive " +
+            "AND p.metadata.logDate <= :cursorDate " +
+            "AND (p.metadata.logDate < :cursorDate OR p.pestControlLogId < :cursorId) " +
+            "ORDER BY p.metadata.logDate DESC, p.pestControlLogId DESC")
+    List<PestControlLog> findTimeline(
+            @Param("farmId") Long farmId,
+            @Param("from") LocalDateTime from,
+            @Param("toExclusive") LocalDateTime toExclusive,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 변경분 동기화 한 페이지 조회 (방제 기록)
+     *
+     * FarmingLogRepository.findChangedSince와 같은 키셋 조건이며,
+     * idx_pest_control_log_farm_updated (farm_id, updated_at, pest_control_log_id) 인덱스를 사용합니다.
+     */
+    @Query("SELECT p FROM PestControlLog p " +
+            "WHERE p.farm.farmId IN :farmIds " +
+            "AND p.updatedAt <= :until " +
+            "AND (p.updatedAt > :afterUpdatedAt OR (p.updatedAt = :afterUpdatedAt AND p.pestControlLogId > :afterId)) " +
+            "ORDER BY p.updatedAt, p.pestControlLogId")
+    List<PestControlLog> findChangedSince(
+            @Param("farmIds") Collection<Long> farmIds,
+            @Param("until") LocalDateTime until,
+            @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
 }
@@ -0,0 +1,40 @@
+package com.cropkeeper.domain.sync.controller;
+
+import com.cropkeeper.domain.sync.dto.response.SyncResponse;
+import com.cropkeeper.domain.sync.service.SyncService;
+import com.cropkeeper.global.persistence.QueryBudget;
+import com.cropkeeper.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * 변경분 동기화 API (회원 정보, 작물 카테고리, 내 농장, 농장 기록 중 커서 이후 변경분)
+     *
+     * 첫 실행은 since 없이 호출해 전체를 받고, 이후에는 마지막 응답의 nextCursor를 since로 전달합니다.
+     * hasMore가 true인 동안 nextCursor로 이어서 요청합니다.
+     *
+     * @param userPrincipal 현재 로그인한 사용자 정보
+     * @param since         이전 응답의 nextCursor (생략 시 전체 동기화)
+     * @param size          페이지 크기 (기본 500, 최대 1000)
+     * @return 200 OK + 변경분 한 페이지
+     */
+    @QueryBudget(maxQueries = 6, maxEntityLoads = 1010)   // 출처 5개 + 농장 ID 조회 1회, 출처마다 size + 1건까지 로딩
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int size) {
+
+        SyncResponse response = syncService.sync(userPrincipal.getId(), since, size);
+        return ResponseEntity.ok(response);
+    }
+}
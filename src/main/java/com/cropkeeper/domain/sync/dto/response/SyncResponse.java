@@ -0,0 +1,45 @@
+package com.cropkeeper.domain.sync.dto.response;
+
+import com.cropkeeper.domain.crop.dto.response.CropCategoryResponse;
+import com.cropkeeper.domain.farm.dto.response.FarmResponse;
+import com.cropkeeper.domain.farminglog.dto.response.TimelineEntryResponse;
+import com.cropkeeper.domain.member.dto.response.MemberResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 변경분 동기화 한 페이지
+ *
+ * 커서 이후 생성, 수정된 행은 종류별 목록에, 삭제된 행은 deleted*Ids에 ID만 담깁니다.
+ * 변경이 없는 종류는 응답에서 생략됩니다.
+ *
+ * nextCursor는 항상 채워지며 다음 요청의 since로 그대로 전달합니다.
+ * hasMore가 true면 같은 구간의 남은 변경분이 있으므로 바로 이어서 요청하고,
+ * false면 nextCursor를 저장해 두었다가 다음 실행 때 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class SyncResponse {
+
+    private MemberResponse member;
+    private List<CropCategoryResponse> categories;
+    private List<FarmResponse> farms;
+    private List<TimelineEntryResponse> farmingLogs;
+    private List<TimelineEntryResponse> pestControlLogs;
+
+    // 삭제 표시 (tombstone)
+    private List<Long> deletedCategoryIds;
+    private List<Long> deletedFarmIds;
+    private List<Long> deletedFarmingLogIds;
+
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,10 @@
+package com.cropkeeper.domain.sync.exception;
+
+import com.cropkeeper.global.exception.BaseException;
+
+public class InvalidSyncCursorException extends BaseException {
+
+    public InvalidSyncCursorException() {
+        super(SyncErrorCode.INVALID_SYNC_CURSOR);
+    }
+}
@@ -0,0 +1,17 @@
+package com.cropkeeper.domain.sync.exception;
+
+import com.cropkeeper.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum SyncErrorCode implements ErrorCode {
+
+    INVALID_SYNC_CURSOR("S001", "유효하지 않은 동기화 커서입니다.", HttpStatus.BAD_REQUEST);
+
+    private final String code;
+    private final String message;
+    private final HttpStatus httpStatus;
+}
@@ -0,0 +1,123 @@
+package com.cropkeeper.domain.sync.service;
+
+import com.cropkeeper.domain.sync.exception.InvalidSyncCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 변경분 동기화 커서
+ *
+ * 두 가지 형태가 있습니다.
+ * - 체크포인트 "since": 이 시각까지의 변경분은 모두 전달됨. 다음 요청에서 (since, until] 구간을 새로 엽니다.
+ * - 진행 중 "since|until|출처|수정 일시|ID": 구간 (since, until]을 출처 순서대로 읽는 중이며,
+ *   해당 출처에서 (수정 일시, ID) 위치 이후부터 이어서 읽습니다.
+ *
+ * 구간 끝(until)을 커서에 고정하므로 여러 페이지에 걸쳐 읽는 동안 새로 들어온 변경은 다음 구간으로 넘어갑니다.
+ * 클라이언트에는 Base64 URL 인코딩한 문자열로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class SyncCursor {
+
+    /**
+     * 구간 안에서 읽는 순서
+     */
+    enum Source {
+        MEMBER,
+        CATEGORY,
+        FARM,
+        FARMING_LOG,
+        PEST_CONTROL_LOG
+    }
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime since;
+    private final LocalDateTime until;
+    private final Source source;
+    private final LocalDateTime afterUpdatedAt;
+    private final Long afterId;
+
+    static SyncCursor checkpoint(LocalDateTime since) {
+        return new SyncCursor(since, null, null, null, null);
+    }
+
+    boolean isCheckpoint() {
+        return until == null;
+    }
+
+    /**
+     * 체크포인트 이후 구간 (since, until]을 첫 출처부터 읽는 커서
+     */
+    SyncCursor open(LocalDateTime until) {
+        return new SyncCursor(since, until, Source.MEMBER, since, Long.MAX_VALUE);
+    }
+
+    /**
+     * 해당 출처를 읽기 시작할 위치
+     *
+     * 커서의 출처면 커서 위치 그대로, 다음 출처면 구간 시작부터입니다.
+     * 구간 시작은 (since, Long.MAX_VALUE)로 표현해 키셋 조건만으로 since와 같은 수정 일시를 제외합니다.
+     */
+    SyncCursor startOf(Source target) {
+        if (target == source) {
+            return this;
+        }
+        return new SyncCursor(since, until, target, since, Long.MAX_VALUE);
+    }
+
+    /**
+     * 같은 구간, 해당 출처의 (수정 일시, ID) 위치 이후부터 이어서 읽는 커서
+     */
+    SyncCursor after(Source target, LocalDateTime updatedAt, Long id) {
+        return new SyncCursor(since, until, target, updatedAt, id);
+    }
+
+    /**
+     * (수정 일시, ID)가 커서 위치 이후이고 구간 끝 이전인지
+     */
+    boolean covers(LocalDateTime updatedAt, Long id) {
+        if (updatedAt.isAfter(until)) {
+            return false;
+        }
+        return updatedAt.isAfter(afterUpdatedAt) || (updatedAt.isEqual(afterUpdatedAt) && id > afterId);
+    }
+
+    String encode() {
+        String raw = isCheckpoint()
+                ? since.toString()
+                : String.valueOf(since) + SEPARATOR + until + SEPARATOR + source.name()
+                        + SEPARATOR + afterUpdatedAt + SEPARATOR + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidSyncCursorException 형식이 잘못된 커서
+     */
+    static SyncCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length == 1) {
+                return checkpoint(LocalDateTime.parse(parts[0]));
+            }
+            if (parts.length != 5) {
+                throw new InvalidSyncCursorException();
+            }
+            SyncCursor cursor = new SyncCursor(LocalDateTime.parse(parts[0]), LocalDateTime.parse(parts[1]),
+                    Source.valueOf(parts[2]), LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]));
+            if (cursor.until.isBefore(cursor.since) || cursor.afterUpdatedAt.isBefore(cursor.since)) {
+                throw new InvalidSyncCursorException();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSyncCursorException();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.cropkeeper.domain.sync.service;
+
+import com.cropkeeper.domain.crop.dto.response.CropCategoryResponse;
+import com.cropkeeper.domain.crop.repository.CropCategoryRepository;
+import com.cropkeeper.domain.farm.dto.response.FarmResponse;
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import com.cropkeeper.domain.farminglog.dto.response.TimelineEntryResponse;
+import com.cropkeeper.domain.farminglog.repository.FarmingLogRepository;
+import com.cropkeeper.domain.member.dto.response.MemberResponse;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.domain.pest.repository.PestControlLogRepository;
+import com.cropkeeper.domain.sync.dto.response.SyncResponse;
+import com.cropkeeper.domain.sync.exception.InvalidSyncCursorException;
+import com.cropkeeper.domain.sync.service.SyncCursor.Source;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 변경분 동기화 (오프라인 모바일 클라이언트용)
+ *
+ * 회원 본인 정보, 작물 카테고리, 회원의 농장, 농장의 영농일지와 방제 기록 중
+ * 커서 이후 생성, 수정, 삭제된 행만 updated_at 순서로 돌려줍니다.
+ *
+ * 커서 단조성:
+ * - 구간 끝(until)은 현재 시각에서 commit-lag만큼 뺀 시각입니다. 커밋이 늦게 끝난 트랜잭션의
+ *   updated_at이 이미 전달한 구간 안으로 들어오는 경우를 막기 위한 여유이며,
+ *   트랜잭션이 commit-lag보다 오래 걸리면 해당 변경은 놓칠 수 있습니다.
+ * - 한 구간은 출처 순서(SyncCursor.Source)대로, 출처 안에서는 (updated_at, ID) 키셋으로 읽으므로
+ *   페이지 크기와 관계없이 빠지거나 중복되는 행이 없습니다.
+ *
+ * 방제 기록은 삭제 컬럼이 없어 생성, 수정분만 전달됩니다.
+ * 삭제된 농장의 기록은 따로 전달하지 않으며, 클라이언트가 농장 삭제 표시를 받으면 함께 지웁니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    static final int DEFAULT_PAGE_SIZE = 500;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * 첫 동기화의 구간 시작 (MySQL DATETIME 범위 안)
+     */
+    static final LocalDateTime MIN_DATE = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final MemberRepository memberRepository;
+    private final CropCategoryRepository cropCategoryRepository;
+    private final FarmRepository farmRepository;
+    private final FarmingLogRepository farmingLogRepository;
+    private final PestControlLogRepository pestControlLogRepository;
+    private final Duration commitLag;
+
+    public SyncService(
+            MemberRepository memberRepository,
+            CropCategoryRepository cropCategoryRepository,
+            FarmRepository farmRepository,
+            FarmingLogRepository farmingLogRepository,
+            PestControlLogRepository pestControlLogRepository,
+            @Value("${sync.commit-lag-ms:5000}") long commitLagMillis) {
+        this.memberRepository = memberRepository;
+        this.cropCategoryRepository = cropCategoryRepository;
+        this.farmRepository = farmRepository;
+        this.farmingLogRepository = farmingLogRepository;
+        this.pestControlLogRepository = pestControlLogRepository;
+        this.commitLag = Duration.ofMillis(commitLagMillis);
+    }
+
+    /**
+     * 변경분 한 페이지 조회
+     *
+     * @param memberId 회원 ID
+     * @param cursor   이전 응답의 nextCursor (null이면 전체 동기화)
+     * @param size     페이지 크기 (1 ~ MAX_PAGE_SIZE로 보정)
+     * @return 변경분 한 페이지
+     * @throws InvalidSyncCursorException 커서 형식이 잘못된 경우
+     */
+    public SyncResponse sync(Long memberId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        SyncCursor position = cursor != null && !cursor.isBlank()
+                ? SyncCursor.decode(cursor)
+                : SyncCursor.checkpoint(MIN_DATE);
+        if (position.isCheckpoint()) {
+            position = position.open(windowEnd(position.getSince()));
+        }
+
+        Page page = new Page(pageSize);
+        List<Long> farmIds = null;
+        SyncCursor next = null;
+
+        for (Source source : Source.values()) {
+            if (source.compareTo(position.getSource()) < 0) {
+                continue;
+            }
+            SyncCursor from = position.startOf(source);
+            if (page.remaining() == 0) {
+                next = from;
+                break;
+            }
+            if ((source == Source.FARMING_LOG || source == Source.PEST_CONTROL_LOG) && farmIds == null) {
+                farmIds = farmRepository.findIdsByMemberId(memberId);
+            }
+
+            List<Change> changes = changes(source, memberId, farmIds, from, PageRequest.of(0, page.remaining() + 1));
+            boolean full = changes.size() > page.remaining();
+            List<Change> taken = full ? changes.subList(0, page.remaining()) : changes;
+            taken.forEach(page::add);
+
+            if (full) {
+                Change last = taken.get(taken.size() - 1);
+                next = from.after(source, last.updatedAt(), last.id());
+                break;
+            }
+        }
+
+        boolean hasMore = next != null;
+        SyncCursor nextCursor = hasMore ? next : SyncCursor.checkpoint(position.getUntil());
+        return page.toResponse(nextCursor.encode(), hasMore);
+    }
+
+    /**
+     * 출처 하나에서 커서 위치 이후의 변경분 조회 (수정 일시, ID 오름차순)
+     */
+    private List<Change> changes(Source source, Long memberId, List<Long> farmIds, SyncCursor from, Pageable limit) {
+        LocalDateTime until = from.getUntil();
+        LocalDateTime afterUpdatedAt = from.getAfterUpdatedAt();
+        Long afterId = from.getAfterId();
+
+        return switch (source) {
+            case MEMBER -> memberRepository.findChangedSince(memberId, from.getSince(), until).stream()
+                    .filter(member -> from.covers(member.getUpdatedAt(), member.getMemberId()))
+                    .map(member -> new Change(member.getUpdatedAt(), member.getMemberId(),
+                            page -> page.member = MemberResponse.from(member)))
+                    .toList();
+            case CATEGORY -> cropCategoryRepository.findChangedSince(until, afterUpdatedAt, afterId, limit).stream()
+                    .map(category -> new Change(category.getUpdatedAt(), category.getCategoryId(),
+                            page -> {
+                                if (category.isDeleted()) {
+                                    page.deletedCategoryIds.add(category.getCategoryId());
+                                } else {
+                                    page.categories.add(CropCategoryResponse.from(category));
+                                }
+                            }))
+                    .toList();
+            case FARM -> farmRepository.findChangedSince(memberId, until, afterUpdatedAt, afterId, limit).stream()
+                    .map(farm -> new Change(farm.getUpdatedAt(), farm.getFarmId(),
+                            page -> {
+                                if (farm.isDeleted()) {
+                                    page.deletedFarmIds.add(farm.getFarmId());
+                                } else {
+                                    page.farms.add(FarmResponse.from(farm));
+                                }
+                            }))
+                    .toList();
+            case FARMING_LOG -> farmIds.isEmpty() ? List.of()
+                    : farmingLogRepository.findChangedSince(farmIds, until, afterUpdatedAt, afterId, limit).stream()
+                    .map(log -> new Change(log.getUpdatedAt(), log.getFarmingLogId(),
+                            page -> {
+                                if (log.isDeleted()) {
+                                    page.deletedFarmingLogIds.add(log.getFarmingLogId());
+                                } else {
+                                    page.farmingLogs.add(TimelineEntryResponse.from(log));
+                                }
+                            }))
+                    .toList();
+            case PEST_CONTROL_LOG -> farmIds.isEmpty() ? List.of()
+                    : pestControlLogRepository.findChangedSince(farmIds, until, afterUpdatedAt, afterId, limit).stream()
+                    .map(log -> new Change(log.getUpdatedAt(), log.getPestControlLogId(),
+                            page -> page.pestControlLogs.add(TimelineEntryResponse.from(log))))
+                    .toList();
+        };
+    }
+
+    /**
+     * 새 구간의 끝 (현재 시각 - commit-lag, DATETIME(6) 정밀도에 맞춰 마이크로초 단위로 자름)
+     *
+     * 체크포인트가 구간 끝보다 늦으면(서버 시계 차이 등) 빈 구간이 되어 체크포인트가 그대로 유지됩니다.
+     */
+    private LocalDateTime windowEnd(LocalDateTime since) {
+        LocalDateTime until = LocalDateTime.now().minus(commitLag).truncatedTo(ChronoUnit.MICROS);
+        return until.isAfter(since) ? until : since;
+    }
+
+    private record Change(LocalDateTime updatedAt, Long id, Consumer<Page> apply) {
+    }
+
+    /**
+     * 응답에 담을 변경분 (페이지 크기만큼만 담김)
+     */
+    private static final class Page {
+
+        private final int capacity;
+        private int size;
+
+        private MemberResponse member;
+        private final List<CropCategoryResponse> categories = new ArrayList<>();
+        private final List<FarmResponse> farms = new ArrayList<>();
+        private final List<TimelineEntryResponse> farmingLogs = new ArrayList<>();
+        private final List<TimelineEntryResponse> pestControlLogs = new ArrayList<>();
+        private final List<Long> deletedCategoryIds = new ArrayList<>();
+        private final List<Long> deletedFarmIds = new ArrayList<>();
+        private final List<Long> deletedFarmingLogIds = new ArrayList<>();
+
+        private Page(int capacity) {
+            this.capacity = capacity;
+        }
+
+        int remaining() {
+            return capacity - size;
+        }
+
+        void add(Change change) {
+            change.apply().accept(this);
+            size++;
+        }
+
+        SyncResponse toResponse(String nextCursor, boolean hasMore) {
+            return SyncResponse.builder()
+                    .member(member)
+                    .categories(categories)
+                    .farms(farms)
+                    .farmingLogs(farmingLogs)
+                    .pestControlLogs(pestControlLogs)
+                    .deletedCategoryIds(deletedCategoryIds)
+                    .deletedFarmIds(deletedFarmIds)
+                    .deletedFarmingLogIds(deletedFarmingLogIds)
+                    .nextCursor(nextCursor)
+                    .hasMore(hasMore)
+                    .build();
+        }
+    }
+}
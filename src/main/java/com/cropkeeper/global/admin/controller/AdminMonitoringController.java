@@ -0,0 +1,149 @@
+package com.cropkeeper.global.admin.controller;
+
+import com.cropkeeper.domain.farm.cache.FarmOwnershipCache;
+import com.cropkeeper.global.logging.AccessLogPipeline;
+import com.cropkeeper.global.metrics.LatencyMetrics;
+import com.cropkeeper.global.persistence.QueryBudgetMonitor;
+import com.cropkeeper.global.security.LoginThrottle;
+import com.cropkeeper.global.security.PasswordHashingExecutor;
+import com.cropkeeper.global.security.TokenRevocationList;
+import com.cropkeeper.global.security.VerifiedTokenCache;
+import com.cropkeeper.global.tracing.Trace;
+import com.cropkeeper.global.tracing.TraceStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 운영 모니터링 API (관리자 전용)
+ *
+ * 캐시, 스로틀 등 인프라 구성요소의 상태를 조회합니다.
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminMonitoringController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginThrottle loginThrottle;
+    private final FarmOwnershipCache farmOwnershipCache;
+    private final AccessLogPipeline accessLogPipeline;
+    private final LatencyMetrics latencyMetrics;
+    private final QueryBudgetMonitor queryBudgetMonitor;
+    private final TraceStore traceStore;
+
+    /**
+     * 검증 토큰 캐시 통계 조회 API
+     *
+     * @return 200 OK + 캐시 크기, 적중/미적중/제거 수
+     */
+    @GetMapping("/token-cache")
+    public ResponseEntity<VerifiedTokenCache.Stats> getTokenCacheStats() {
+        return ResponseEntity.ok(verifiedTokenCache.stats());
+    }
+
+    /**
+     * 토큰 폐기 목록 통계 조회 API
+     *
+     * @return 200 OK + 블룸 필터 크기, 음성/폐기 적중/오탐 수
+     */
+    @GetMapping("/token-revocations")
+    public ResponseEntity<TokenRevocationList.Stats> getTokenRevocationStats() {
+        return ResponseEntity.ok(tokenRevocationList.stats());
+    }
+
+    /**
+     * 비밀번호 해싱 실행기 상태 조회 API
+     *
+     * @return 200 OK + 스레드/대기열 상태, 완료/거절/시간 초과 수
+     */
+    @GetMapping("/password-hashing")
+    public ResponseEntity<PasswordHashingExecutor.Stats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHashingExecutor.stats());
+    }
+
+    /**
+     * 현재 로그인 잠금 목록 조회 API
+     *
+     * @return 200 OK + 잠긴 사용자 이름/IP와 해제 시각
+     */
+    @GetMapping("/login-lockouts")
+    public ResponseEntity<List<LoginThrottle.Lockout>> getLoginLockouts() {
+        return ResponseEntity.ok(loginThrottle.currentLockouts());
+    }
+
+    /**
+     * 농장 소유자 캐시 통계 조회 API
+     *
+     * @return 200 OK + 캐시 크기, 적중/미적중/제거 수
+     */
+    @GetMapping("/farm-ownership-cache")
+    public ResponseEntity<FarmOwnershipCache.Stats> getFarmOwnershipCacheStats() {
+        return ResponseEntity.ok(farmOwnershipCache.stats());
+    }
+
+    /**
+     * 접근 로그 파이프라인 통계 조회 API
+     *
+     * @return 200 OK + 버퍼 용량/적재 수, 발행/기록/버림 수
+     */
+    @GetMapping("/access-log")
+    public ResponseEntity<AccessLogPipeline.Stats> getAccessLogStats() {
+        return ResponseEntity.ok(accessLogPipeline.stats());
+    }
+
+    /**
+     * API 경로별, Service 메서드별 지연시간 통계 조회 API
+     *
+     * @param interval true면 직전 구간 조회 이후 변화분, false면 기동 이후 누적
+     * @return 200 OK + 호출 수, 오류 수, 평균/p50/p95/p99/최대 지연시간(ms)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<LatencyMetrics.Report> getLatencyMetrics(
+            @RequestParam(defaultValue = "false") boolean interval) {
+        return ResponseEntity.ok(interval ? latencyMetrics.interval() : latencyMetrics.cumulative());
+    }
+
+    /**
+     * API 경로별 쿼리 사용량 통계 조회 API
+     *
+     * @return 200 OK + 기본 예산, 경로별 요청/예산 초과/N+1 의심 수, 최대 SQL 수
+     */
+    @GetMapping("/query-budget")
+    public ResponseEntity<QueryBudgetMonitor.Stats> getQueryBudgetStats() {
+        return ResponseEntity.ok(queryBudgetMonitor.stats());
+    }
+
+    /**
+     * 가장 느린 요청 추적 조회 API
+     *
+     * @param route "{METHOD} {경로 템플릿}" (예: "GET /api/farms/{farmId}"), 생략 시 전체 경로
+     * @param limit 최대 개수
+     * @return 200 OK + 소요 시간 내림차순 추적 목록 (구간 트리 포함)
+     */
+    @GetMapping("/traces/slowest")
+    public ResponseEntity<List<Trace>> getSlowestTraces(
+            @RequestParam(required = false) String route,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(traceStore.slowest(route, Math.min(Math.max(limit, 1), 100)));
+    }
+
+    /**
+     * 추적 보관소 통계 조회 API
+     *
+     * @return 200 OK + 기록 수, 추적 중인 경로 목록
+     */
+    @GetMapping("/traces/stats")
+    public ResponseEntity<TraceStore.Stats> getTraceStats() {
+        return ResponseEntity.ok(traceStore.stats());
+    }
+}
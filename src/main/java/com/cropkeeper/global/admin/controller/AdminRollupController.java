@@ -0,0 +1,39 @@
+package com.cropkeeper.global.admin.controller;
+
+import com.cropkeeper.domain.activity.rollup.FarmActivityRollupRebuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 집계 테이블 재구축 API (관리자 전용)
+ *
+ * 집계 도입 후 처음 배포할 때, 또는 JDBC로 기록을 직접 적재한 뒤 백필 용도로 호출합니다.
+ */
+@RestController
+@RequestMapping("/api/admin/rollups")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminRollupController {
+
+    private final FarmActivityRollupRebuilder farmActivityRollupRebuilder;
+
+    /**
+     * 농장 일별 활동 집계 재구축 API
+     *
+     * @param farmId 농장 ID (생략 시 전체 농장)
+     * @return 200 OK + 만들어진 집계 행 수, 소요 시간(ms)
+     */
+    @PostMapping("/farm-daily-activity")
+    public ResponseEntity<FarmActivityRollupRebuilder.Result> rebuildFarmDailyActivity(
+            @RequestParam(required = false) Long farmId) {
+        FarmActivityRollupRebuilder.Result result = farmId != null
+                ? farmActivityRollupRebuilder.rebuildFarm(farmId)
+                : farmActivityRollupRebuilder.rebuildAll();
+        return ResponseEntity.ok(result);
+    }
+}
@@ -4,15 +4,14 @@ import com.cropkeeper.global.security.UserPrincipal;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.web.bind.annotation.PathVariable;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 
 /**
  * AOP에서 사용하는 공통 파라미터 추출 유틸리티
  *
+ * 파라미터 위치는 메서드별 ParameterBindingPlan에 캐시되어 요청마다 리플렉션을 하지 않습니다.
+ *
  * 주요 기능:
  * - @PathVariable 파라미터 추출
  * - @AuthenticationPrincipal UserPrincipal 추출
@@ -29,23 +28,8 @@ public class AspectParameterExtractor {
      * @return 추출된 Long 값, 찾지 못하면 null
      */
     public static Long extractPathVariableAsLong(JoinPoint joinPoint, String parameterName) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
-
-            // @PathVariable Long {parameterName} 찾기
-            if (parameter.isAnnotationPresent(PathVariable.class) &&
-                    parameter.getType().equals(Long.class) &&
-                    parameter.getName().equals(parameterName)) {
-                return (Long) args[i];
-            }
-        }
-
-        return null;
+        return ParameterBindingPlan.of(getMethod(joinPoint))
+                .longPathVariable(joinPoint.getArgs(), parameterName);
     }
 
     /**
@@ -55,22 +39,7 @@ public class AspectParameterExtractor {
      * @return 추출된 UserPrincipal, 찾지 못하면 null
      */
     public static UserPrincipal extractUserPrincipal(JoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
-
-            // @AuthenticationPrincipal UserPrincipal 찾기
-            if (parameter.isAnnotationPresent(AuthenticationPrincipal.class) &&
-                    parameter.getType().equals(UserPrincipal.class)) {
-                return (UserPrincipal) args[i];
-            }
-        }
-
-        return null;
+        return ParameterBindingPlan.of(getMethod(joinPoint)).principal(joinPoint.getArgs());
     }
 
     /**
@@ -0,0 +1,196 @@
+package com.cropkeeper.global.aspect;
+
+import com.cropkeeper.global.security.UserPrincipal;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메서드별 파라미터 바인딩 계획
+ *
+ * 컨트롤러 메서드의 파라미터 어노테이션을 한 번만 분석하여 인덱스로 저장합니다.
+ * AOP는 요청마다 리플렉션 대신 인덱스로 args 배열을 바로 읽습니다.
+ *
+ * 저장 항목:
+ * - @AuthenticationPrincipal UserPrincipal 위치
+ * - @RequestBody 위치
+ * - @PathVariable / @RequestParam 위치와 이름 (로깅 순서 유지, 어노테이션에 지정한 이름 우선)
+ * - @PathVariable Long 위치와 Java 파라미터 이름 (farmId, memberId 등 권한 검증용)
+ *   권한 검증은 어노테이션 값이 아니라 파라미터 이름으로 찾습니다.
+ *   예: @PathVariable("id") Long farmId는 "farmId"로 찾습니다.
+ */
+public final class ParameterBindingPlan {
+
+    private static final int NONE = -1;
+
+    private static final Map<Method, ParameterBindingPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final int principalIndex;
+    private final int bodyIndex;
+    private final String[] loggedParamNames;
+    private final int[] loggedParamIndexes;
+    private final String[] longPathVariableNames;
+    private final int[] longPathVariableIndexes;
+
+    private ParameterBindingPlan(int principalIndex, int bodyIndex,
+                                 String[] loggedParamNames, int[] loggedParamIndexes,
+                                 String[] longPathVariableNames, int[] longPathVariableIndexes) {
+        this.principalIndex = principalIndex;
+        this.bodyIndex = bodyIndex;
+        this.loggedParamNames = loggedParamNames;
+        this.loggedParamIndexes = loggedParamIndexes;
+        this.longPathVariableNames = longPathVariableNames;
+        this.longPathVariableIndexes = longPathVariableIndexes;
+    }
+
+    /**
+     * 메서드의 바인딩 계획 조회 (최초 1회만 분석)
+     *
+     * @param method 대상 메서드
+     * @return 바인딩 계획
+     */
+    public static ParameterBindingPlan of(Method method) {
+        ParameterBindingPlan plan = PLANS.get(method);
+        if (plan == null) {
+            plan = PLANS.computeIfAbsent(method, ParameterBindingPlan::analyze);
+        }
+        return plan;
+    }
+
+    /**
+     * 분석된 메서드 수
+     */
+    public static int cachedCount() {
+        return PLANS.size();
+    }
+
+    private static ParameterBindingPlan analyze(Method method) {
+        Parameter[] parameters = method.getParameters();
+
+        int principalIndex = NONE;
+        int bodyIndex = NONE;
+        List<String> loggedNames = new ArrayList<>();
+        List<Integer> loggedIndexes = new ArrayList<>();
+        List<String> longNames = new ArrayList<>();
+        List<Integer> longIndexes = new ArrayList<>();
+
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+
+            if (principalIndex == NONE
+                    && parameter.isAnnotationPresent(AuthenticationPrincipal.class)
+                    && UserPrincipal.class.isAssignableFrom(parameter.getType())) {
+                principalIndex = i;
+            }
+
+            if (bodyIndex == NONE && parameter.isAnnotationPresent(RequestBody.class)) {
+                bodyIndex = i;
+            }
+
+            PathVariable pathVariable = parameter.getAnnotation(PathVariable.class);
+            RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+
+            if (pathVariable != null) {
+                loggedNames.add(resolveName(pathVariable.value(), pathVariable.name(), parameter));
+                loggedIndexes.add(i);
+                if (parameter.getType().equals(Long.class)) {
+                    longNames.add(parameter.getName());
+                    longIndexes.add(i);
+                }
+            } else if (requestParam != null) {
+                loggedNames.add(resolveName(requestParam.value(), requestParam.name(), parameter));
+                loggedIndexes.add(i);
+            }
+        }
+
+        return new ParameterBindingPlan(principalIndex, bodyIndex,
+                loggedNames.toArray(String[]::new), toIntArray(loggedIndexes),
+                longNames.toArray(String[]::new), toIntArray(longIndexes));
+    }
+
+    /**
+     * @param args 메서드 인자
+     * @return @AuthenticationPrincipal UserPrincipal 값, 없으면 null
+     */
+    public UserPrincipal principal(Object[] args) {
+        return principalIndex != NONE ? (UserPrincipal) args[principalIndex] : null;
+    }
+
+    /**
+     * @param args 메서드 인자
+     * @return @RequestBody 값, 없으면 null
+     */
+    public Object body(Object[] args) {
+        return bodyIndex != NONE ? args[bodyIndex] : null;
+    }
+
+    /**
+     * @param args 메서드 인자
+     * @param name @PathVariable Long 파라미터의 Java 이름 (예: "farmId", "memberId")
+     * @return @PathVariable Long 값, 없으면 null
+     */
+    public Long longPathVariable(Object[] args, String name) {
+        for (int i = 0; i < longPathVariableNames.length; i++) {
+            if (longPathVariableNames[i].equals(name)) {
+                return (Long) args[longPathVariableIndexes[i]];
+            }
+        }
+        return null;
+    }
+
+    public boolean hasPrincipal() {
+        return principalIndex != NONE;
+    }
+
+    public boolean hasBody() {
+        return bodyIndex != NONE;
+    }
+
+    public boolean hasLongPathVariable(String name) {
+        for (String longPathVariableName : longPathVariableNames) {
+            if (longPathVariableName.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @PathVariable, @RequestParam 값을 "{name=value, ...}" 형식으로 출력 (없으면 빈 문자열)
+     *
+     * @param args 메서드 인자
+     */
+    public String formatLoggedParams(Object[] args) {
+        if (loggedParamNames.length == 0) {
+            return "";
+        }
+
+        StringBuilder params = new StringBuilder();
+        params.append("{");
+        for (int i = 0; i < loggedParamNames.length; i++) {
+            if (i > 0) params.append(", ");
+            params.append(loggedParamNames[i]).append("=").append(args[loggedParamIndexes[i]]);
+        }
+        params.append("}");
+        return params.toString();
+    }
+
+    private static String resolveName(String value, String name, Parameter parameter) {
+        if (!value.isEmpty()) {
+            return value;
+        }
+        return !name.isEmpty() ? name : parameter.getName();
+    }
+
+    private static int[] toIntArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
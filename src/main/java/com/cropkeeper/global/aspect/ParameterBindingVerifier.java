@@ -0,0 +1,72 @@
+package com.cropkeeper.global.aspect;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 시 모든 컨트롤러 메서드의 바인딩 계획을 미리 만들고 권한 검증 어노테이션 구성을 검사
+ *
+ * - 첫 요청이 아니라 기동 시점에 잘못된 구성(@PathVariable, @AuthenticationPrincipal 누락)을 발견합니다.
+ * - 잘못된 메서드가 있으면 IllegalStateException으로 기동을 중단합니다.
+ */
+@Slf4j
+@Component
+public class ParameterBindingVerifier {
+
+    @EventListener
+    public void verify(ContextRefreshedEvent event) {
+        RequestMappingHandlerMapping handlerMapping = event.getApplicationContext()
+                .getBeanProvider(RequestMappingHandlerMapping.class)
+                .getIfAvailable();
+        if (handlerMapping == null) {
+            return;
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+            Method method = handlerMethod.getMethod();
+            ParameterBindingPlan plan = ParameterBindingPlan.of(method);
+
+            for (Annotation annotation : method.getAnnotations()) {
+                RequiresBinding requires = annotation.annotationType().getAnnotation(RequiresBinding.class);
+                if (requires != null) {
+                    checkRequirements(method, annotation, requires, plan, errors);
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            String errorMsg = "컨트롤러 파라미터 구성 오류:\n  " + String.join("\n  ", errors);
+            log.error(errorMsg);
+            throw new IllegalStateException(errorMsg);
+        }
+
+        log.info("컨트롤러 파라미터 바인딩 계획 생성 완료: {}개 메서드", ParameterBindingPlan.cachedCount());
+    }
+
+    private void checkRequirements(Method method, Annotation annotation, RequiresBinding requires,
+                                   ParameterBindingPlan plan, List<String> errors) {
+        List<String> missing = new ArrayList<>();
+        if (!requires.pathVariable().isEmpty() && !plan.hasLongPathVariable(requires.pathVariable())) {
+            missing.add("@PathVariable Long " + requires.pathVariable());
+        }
+        if (requires.principal() && !plan.hasPrincipal()) {
+            missing.add("@AuthenticationPrincipal UserPrincipal");
+        }
+
+        if (!missing.isEmpty()) {
+            errors.add(String.format("@%s를 사용하려면 다음 파라미터가 필요합니다: %s (메서드: %s.%s)",
+                    annotation.annotationType().getSimpleName(), String.join(", ", missing),
+                    method.getDeclaringClass().getSimpleName(), method.getName()));
+        }
+    }
+}
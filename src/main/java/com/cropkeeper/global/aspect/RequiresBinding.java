@@ -0,0 +1,27 @@
+package com.cropkeeper.global.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 권한 검증 어노테이션이 요구하는 컨트롤러 파라미터 선언 (메타 어노테이션)
+ *
+ * 이 메타 어노테이션이 붙은 어노테이션을 사용하는 컨트롤러 메서드는
+ * 기동 시 ParameterBindingVerifier가 필요한 파라미터를 모두 갖췄는지 검사합니다.
+ */
+@Target(ElementType.ANNOTATION_TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresBinding {
+
+    /**
+     * 필요한 @PathVariable Long 파라미터 이름 (예: "farmId")
+     */
+    String pathVariable() default "";
+
+    /**
+     * @AuthenticationPrincipal UserPrincipal 파라미터 필요 여부
+     */
+    boolean principal() default true;
+}
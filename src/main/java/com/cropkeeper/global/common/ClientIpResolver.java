@@ -0,0 +1,35 @@
+package com.cropkeeper.global.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 IP 주소 추출 유틸리티 (프록시 고려)
+ *
+ * 요청 로깅과 로그인 스로틀이 같은 기준으로 IP를 판단하도록 공용으로 사용합니다.
+ */
+public final class ClientIpResolver {
+
+    private ClientIpResolver() {
+    }
+
+    /**
+     * 클라이언트 IP 주소 가져오기
+     * X-Forwarded-For, Proxy-Client-IP, WL-Proxy-Client-IP 헤더 순으로 확인하고 없으면 원격 주소를 사용합니다.
+     *
+     * @param request HTTP 요청
+     * @return 클라이언트 IP
+     */
+    public static String resolve(HttpServletRequest request) {
+        String ip = request.getHeader("X-Forwarded-For");
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getHeader("Proxy-Client-IP");
+        }
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getHeader("WL-Proxy-Client-IP");
+        }
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getRemoteAddr();
+        }
+        return ip;
+    }
+}
@@ -0,0 +1,26 @@
+package com.cropkeeper.global.config;
+
+import com.cropkeeper.global.security.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JWT 서명 키 설정
+ *
+ * jwt.signing.algorithm으로 서명 방식을 선택합니다.
+ * - HS256 (기본값): jwt.secret-key 사용
+ * - EdDSA, ES256: jwt.signing.key-dir의 키 파일과 jwt.signing.active-kid 사용
+ */
+@Configuration
+public class JwtConfig {
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(
+            @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+            @Value("${jwt.secret-key:}") String secretKey,
+            @Value("${jwt.signing.key-dir:}") String keyDir,
+            @Value("${jwt.signing.active-kid:}") String activeKid) {
+        return JwtKeyRing.load(JwtKeyRing.Algorithm.from(algorithm), secretKey, keyDir, activeKid);
+    }
+}
@@ -1,7 +1,11 @@
 package com.cropkeeper.global.config;
 
+import com.cropkeeper.global.security.BCryptStrengthCalibrator;
+import com.cropkeeper.global.security.BoundedPasswordEncoder;
 import com.cropkeeper.global.security.JwtAuthenticationFilter;
+import com.cropkeeper.global.security.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -52,6 +56,9 @@ public class SecurityConfig {
 
                 // URL별 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 로그아웃은 폐기할 액세스 토큰이 필요하므로 인증 필요
+                        .requestMatchers("/api/auth/logout").authenticated()
+
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/api/auth/**",          // 로그인, 회원가입
@@ -80,11 +87,25 @@ public class SecurityConfig {
      * - 회원가입 시: 평문 비밀번호를 암호화하여 DB에 저장
      * - 로그인 시: 입력한 비밀번호를 암호화하여 DB의 암호화된 비밀번호와 비교
      *
-     * @return BCryptPasswordEncoder 객체
+     * 해싱은 요청 스레드가 아닌 PasswordHashingExecutor에서 실행됩니다.
+     * calibrate가 켜져 있으면 기동 시 목표 해시 시간에 맞춰 strength를 정하고,
+     * 로그인 시 더 낮은 strength로 저장된 해시는 새 strength로 다시 저장됩니다.
+     *
+     * @return BoundedPasswordEncoder 객체
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${security.password.calibrate:true}") boolean calibrate,
+            @Value("${security.password.strength:10}") int strength,
+            @Value("${security.password.max-strength:14}") int maxStrength,
+            @Value("${security.password.target-hash-millis:100}") long targetHashMillis) {
+
+        int resolvedStrength = calibrate
+                ? BCryptStrengthCalibrator.calibrate(targetHashMillis, strength, maxStrength)
+                : strength;
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(resolvedStrength), passwordHashingExecutor);
     }
 
     /**
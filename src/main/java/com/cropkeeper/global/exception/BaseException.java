@@ -2,18 +2,24 @@ package com.cropkeeper.global.exception;
 
 import lombok.Getter;
 
+/**
+ * 비즈니스 예외 최상위 클래스
+ *
+ * 스택 트레이스는 ErrorCode.isStackTraceEnabled()가 true인 경우(기본: 5xx)에만 수집합니다.
+ * 4xx 예외는 GlobalExceptionHandler가 코드와 메시지만 사용하므로,
+ * AOP 프록시 체인 전체를 거슬러 올라가는 fillInStackTrace() 비용을 생략합니다.
+ */
 @Getter
 public abstract class BaseException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     protected BaseException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage());
     }
 
     protected BaseException(ErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, false, errorCode.isStackTraceEnabled());
         this.errorCode = errorCode;
     }
 }
@@ -11,4 +11,12 @@ public interface ErrorCode {
     String getCode();
     String getMessage();
     HttpStatus getHttpStatus();
+
+    /**
+     * 예외 생성 시 스택 트레이스 수집 여부
+     * 기본: 서버 오류(5xx)만 수집, 필요한 코드는 재정의
+     */
+    default boolean isStackTraceEnabled() {
+        return getHttpStatus().is5xxServerError();
+    }
 }
@@ -0,0 +1,110 @@
+package com.cropkeeper.global.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ErrorCode별 ErrorResponse JSON 템플릿 (코드당 한 번 생성)
+ *
+ * status, errorCode, 기본 메시지는 미리 직렬화해 두고,
+ * 요청마다 바뀌는 timestamp, path(와 별도 메시지)만 이어 붙여 UTF-8 바이트로 만듭니다.
+ * 출력 형식, 필드 순서, 문자열 이스케이프는 ErrorResponse의 Jackson 직렬화 결과와 같습니다.
+ *
+ * {"timestamp":"2025-01-01T12:00:00.123","status":404,"errorCode":"F001","message":"...","path":"/api/farms/1"}
+ */
+final class ErrorResponseTemplate {
+
+    private static final Map<ErrorCode, ErrorResponseTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * ","status":404,"errorCode":"F001","message":"
+     */
+    private final String head;
+    private final String escapedDefaultMessage;
+    private final String defaultMessage;
+
+    private ErrorResponseTemplate(ErrorCode errorCode) {
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("\",\"status\":").append(errorCode.getHttpStatus().value());
+        sb.append(",\"errorCode\":");
+        if (errorCode.getCode() == null) {
+            sb.append("null");
+        } else {
+            sb.append('"');
+            escape(sb, errorCode.getCode());
+            sb.append('"');
+        }
+        sb.append(",\"message\":");
+        this.head = sb.toString();
+
+        this.defaultMessage = errorCode.getMessage();
+        StringBuilder message = new StringBuilder();
+        appendString(message, defaultMessage);
+        this.escapedDefaultMessage = message.toString();
+    }
+
+    static ErrorResponseTemplate of(ErrorCode errorCode) {
+        ErrorResponseTemplate template = TEMPLATES.get(errorCode);
+        if (template == null) {
+            template = TEMPLATES.computeIfAbsent(errorCode, ErrorResponseTemplate::new);
+        }
+        return template;
+    }
+
+    /**
+     * 응답 본문 생성
+     *
+     * @param message 예외 메시지 (기본 메시지와 같으면 미리 직렬화한 값 사용)
+     * @param path    요청 경로
+     */
+    byte[] render(String message, String path) {
+        StringBuilder sb = new StringBuilder(160 + (path != null ? path.length() : 0));
+        sb.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(LocalDateTime.now(), sb);
+        sb.append(head);
+        if (message == defaultMessage || (message != null && message.equals(defaultMessage))) {
+            sb.append(escapedDefaultMessage);
+        } else {
+            appendString(sb, message);
+        }
+        sb.append(",\"path\":");
+        appendString(sb, path);
+        sb.append('}');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        escape(sb, value);
+        sb.append('"');
+    }
+
+    private static void escape(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.cropkeeper.domain.member.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -24,13 +26,16 @@ import java.util.Map;
  * - 사용자 친화적인 에러 메시지 반환
  * - 적절한 HTTP 상태 코드 설정
  * - 스택 트레이스 노출 방지 (로그에만 기록)
+ * - BaseException 응답은 ErrorCode별 JSON 템플릿으로 직렬화 (ErrorResponse 객체 생성 없음)
  */
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
     @ExceptionHandler(BaseException.class)
-    public ResponseEntity<ErrorResponse> handleBaseException(
+    public ResponseEntity<byte[]> handleBaseException(
             BaseException ex,
             HttpServletRequest request) {
 
@@ -42,20 +47,18 @@ public class GlobalExceptionHandler {
                     ex.getMessage(),
                     ex.getErrorCode().getCode());
         } else {
+            // 5xx 예외는 스택 트레이스를 수집하므로 함께 기록
             log.error("시스템 예외 발생: {} - {} ({})",
                     request.getRequestURI(),
                     ex.getMessage(),
-                    ex.getErrorCode().getCode());
+                    ex.getErrorCode().getCode(),
+                    ex);
         }
 
-        ErrorResponse response = ErrorResponse.of(
-                status.value(),
-                ex.getErrorCode().getCode(),
-                ex.getMessage(),
-                request.getRequestURI()
-        );
+        byte[] body = ErrorResponseTemplate.of(ex.getErrorCode())
+                .render(ex.getMessage(), request.getRequestURI());
 
-        return ResponseEntity.status(status).body(response);
+        return ResponseEntity.status(status).contentType(JSON_UTF8).body(body);
 
     }
 
@@ -0,0 +1,126 @@
+package com.cropkeeper.global.logging;
+
+import com.cropkeeper.global.persistence.QueryBudgetMonitor;
+import com.cropkeeper.global.tracing.Tracer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 구조화된 접근 로그 이벤트 (고정 필드, 불변)
+ *
+ * 요청 스레드는 값만 채워 링 버퍼에 넣고, 문자열 조립과 출력은 AccessLogPipeline의 기록 스레드가 담당합니다.
+ * 해당 없는 필드는 null(숫자는 -1)입니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AccessLogEvent {
+
+    public enum Type {
+        API, SERVICE
+    }
+
+    public enum Level {
+        INFO, WARN, ERROR
+    }
+
+    /**
+     * Service 호출 기록 사유 (ServiceLogSampler가 결정)
+     */
+    public enum Capture {
+        ALL, SAMPLED, OUTLIER, SLOW, ERROR
+    }
+
+    private final Type type;
+    private final Level level;
+    private final long timestampMillis;
+
+    /**
+     * 요청 추적 ID (추적 중이 아니면 null, 요청 스레드에서 이벤트 생성 시 기록)
+     */
+    private final String traceId;
+
+    /**
+     * API: "GET /api/farms/1", SERVICE: "FarmService.getFarmInfo"
+     */
+    private final String target;
+
+    private final String username;
+    private final Long userId;
+    private final String clientIp;
+    private final String params;
+    private final String body;
+
+    private final int status;
+    private final long durationMillis;
+    private final boolean slow;
+    private final Capture capture;
+
+    /**
+     * API 요청 중 실행된 SQL 수, 엔티티 로딩 수와 쿼리 예산 초과/N+1 의심 내용
+     */
+    private final int queryCount;
+    private final int entityLoadCount;
+    private final String queryWarning;
+
+    private final String exceptionType;
+    private final String exceptionMessage;
+
+    /**
+     * API 요청 완료 이벤트
+     *
+     * @param queryUsage 요청의 쿼리 사용량 (카운트하지 않은 경우 null, 경고가 있으면 WARN으로 기록)
+     */
+    public static AccessLogEvent api(String httpMethod, String uri, String username, Long userId,
+                                     String clientIp, String params, String body,
+                                     int status, long durationMillis,
+                                     QueryBudgetMonitor.QueryUsage queryUsage, Throwable exception) {
+        String queryWarning = queryUsage != null ? queryUsage.getWarning() : null;
+        Level level;
+        if (exception != null) {
+            level = Level.ERROR;
+        } else {
+            level = queryWarning != null ? Level.WARN : Level.INFO;
+        }
+        return new AccessLogEvent(Type.API, level, System.currentTimeMillis(), Tracer.currentTraceId(),
+                httpMethod + " " + uri,
+                username, userId, clientIp, params, body, status, durationMillis, false, null,
+                queryUsage != null ? queryUsage.getStatements() : -1,
+                queryUsage != null ? queryUsage.getEntityLoads() : -1,
+                queryWarning,
+                exceptionType(exception), exceptionMessage(exception));
+    }
+
+    /**
+     * Service 메서드 완료 이벤트
+     *
+     * @param capture           기록 사유 (샘플링, 이상치, 느린 호출, 예외)
+     * @param businessException 예상된 비즈니스 예외 여부 (WARN으로 기록)
+     */
+    public static AccessLogEvent service(String fullMethodName, String params, long durationMillis,
+                                         boolean slow, Capture capture,
+                                         Throwable exception, boolean businessException) {
+        Level level;
+        if (exception != null) {
+            level = businessException ? Level.WARN : Level.ERROR;
+        } else {
+            level = slow ? Level.WARN : Level.INFO;
+        }
+        return new AccessLogEvent(Type.SERVICE, level, System.currentTimeMillis(), Tracer.currentTraceId(),
+                fullMethodName,
+                null, null, null, params, null, -1, durationMillis, slow, capture, -1, -1, null,
+                exceptionType(exception), exceptionMessage(exception));
+    }
+
+    public boolean isFailed() {
+        return exceptionType != null;
+    }
+
+    private static String exceptionType(Throwable exception) {
+        return exception != null ? exception.getClass().getSimpleName() : null;
+    }
+
+    private static String exceptionMessage(Throwable exception) {
+        return exception != null ? exception.getMessage() : null;
+    }
+}
@@ -0,0 +1,152 @@
+package com.cropkeeper.global.logging;
+
+import java.time.Instant;
+
+/**
+ * 접근 로그 이벤트 문자열 변환 (기록 스레드에서만 호출)
+ *
+ * - TEXT: 사람이 읽는 한 줄 형식
+ *   [API] {METHOD} {URI} | status={code} | duration={ms}ms | queries={n} | loads={n} | user={username} | userId={id} | ip={ip} | params={...} | body={...}
+ *   (쿼리 예산 초과, N+1 의심 시 경고 내용 추가)
+ *   [SVC] {ClassName}.{methodName} | status=SUCCESS | duration={ms}ms | capture={사유} | params=[...]
+ * - 추적 중인 요청이면 끝에 "| trace={traceId}" 추가
+ * - JSON: 이벤트 하나당 JSON 객체 한 줄 (JSON Lines)
+ */
+final class AccessLogFormatter {
+
+    private AccessLogFormatter() {
+    }
+
+    static void appendText(StringBuilder out, AccessLogEvent event) {
+        if (event.getType() == AccessLogEvent.Type.API) {
+            out.append("[API] ").append(event.getTarget());
+            out.append(" | status=").append(event.getStatus()).append(' ').append(statusText(event.getStatus()));
+            out.append(" | duration=").append(event.getDurationMillis()).append("ms");
+            if (event.getQueryCount() >= 0) {
+                out.append(" | queries=").append(event.getQueryCount());
+                out.append(" | loads=").append(event.getEntityLoadCount());
+            }
+            if (event.getQueryWarning() != null) {
+                out.append(" | ").append(event.getQueryWarning());
+            }
+            if (event.getUsername() == null) {
+                out.append(" | user=anonymous");
+            } else {
+                out.append(" | user=").append(event.getUsername()).append(" | userId=").append(event.getUserId());
+            }
+            out.append(" | ip=").append(event.getClientIp());
+            if (event.getParams() != null) {
+                out.append(" | params=").append(event.getParams());
+            }
+            if (event.getBody() != null) {
+                out.append(" | body=").append(event.getBody());
+            }
+        } else {
+            out.append("[SVC] ").append(event.getTarget());
+            out.append(" | status=").append(event.isFailed() ? "FAIL" : "SUCCESS");
+            out.append(" | duration=").append(event.getDurationMillis()).append("ms");
+            if (event.isSlow()) {
+                out.append(" | SLOW");
+            }
+            if (event.getCapture() != null && event.getCapture() != AccessLogEvent.Capture.ALL) {
+                out.append(" | capture=").append(event.getCapture());
+            }
+            if (event.getParams() != null) {
+                out.append(" | params=").append(event.getParams());
+            }
+        }
+
+        if (event.isFailed()) {
+            out.append(" | exception=").append(event.getExceptionType());
+            out.append(" | message=").append(event.getExceptionMessage());
+        }
+        if (event.getTraceId() != null) {
+            out.append(" | trace=").append(event.getTraceId());
+        }
+    }
+
+    static void appendJson(StringBuilder out, AccessLogEvent event) {
+        out.append('{');
+        field(out, "ts", Instant.ofEpochMilli(event.getTimestampMillis()).toString(), true);
+        field(out, "type", event.getType().name(), false);
+        field(out, "level", event.getLevel().name(), false);
+        field(out, "traceId", event.getTraceId(), false);
+        field(out, "target", event.getTarget(), false);
+        if (event.getType() == AccessLogEvent.Type.API) {
+            out.append(",\"status\":").append(event.getStatus());
+            field(out, "user", event.getUsername(), false);
+            if (event.getUserId() != null) {
+                out.append(",\"userId\":").append(event.getUserId());
+            }
+            field(out, "ip", event.getClientIp(), false);
+            field(out, "body", event.getBody(), false);
+            if (event.getQueryCount() >= 0) {
+                out.append(",\"queries\":").append(event.getQueryCount());
+                out.append(",\"entityLoads\":").append(event.getEntityLoadCount());
+            }
+            field(out, "queryWarning", event.getQueryWarning(), false);
+        }
+        out.append(",\"durationMs\":").append(event.getDurationMillis());
+        if (event.isSlow()) {
+            out.append(",\"slow\":true");
+        }
+        if (event.getCapture() != null) {
+            field(out, "capture", event.getCapture().name(), false);
+        }
+        field(out, "params", event.getParams(), false);
+        field(out, "exception", event.getExceptionType(), false);
+        field(out, "message", event.getExceptionMessage(), false);
+        out.append('}');
+    }
+
+    private static void field(StringBuilder out, String name, String value, boolean first) {
+        if (value == null) {
+            return;
+        }
+        if (!first) {
+            out.append(',');
+        }
+        out.append('"').append(name).append("\":\"");
+        escape(out, value);
+        out.append('"');
+    }
+
+    private static void escape(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * HTTP 상태 코드에 대한 텍스트 반환
+     */
+    private static String statusText(int statusCode) {
+        return switch (statusCode) {
+            case 200 -> "OK";
+            case 201 -> "CREATED";
+            case 204 -> "NO_CONTENT";
+            case 400 -> "BAD_REQUEST";
+            case 401 -> "UNAUTHORIZED";
+            case 403 -> "FORBIDDEN";
+            case 404 -> "NOT_FOUND";
+            case 429 -> "TOO_MANY_REQUESTS";
+            case 500 -> "INTERNAL_SERVER_ERROR";
+            case 503 -> "SERVICE_UNAVAILABLE";
+            default -> "";
+        };
+    }
+}
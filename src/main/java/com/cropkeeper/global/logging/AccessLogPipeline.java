@@ -0,0 +1,292 @@
+package com.cropkeeper.global.logging;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 접근 로그 파이프라인
+ *
+ * 흐름:
+ * - 로깅 AOP가 AccessLogEvent를 만들어 publish() 호출 (요청 스레드, 문자열 조립 없음)
+ * - 잠금 없는 링 버퍼에 적재
+ * - 기록 스레드 하나가 batch-size 단위로 꺼내 문자열로 변환 후 출력
+ *
+ * 출력 대상:
+ * - logging.access.file 지정 시: 파일에 한 줄씩 추가하고 배치마다 flush
+ * - 미지정 시: "ACCESS_LOG" 로거 (이벤트 레벨 그대로)
+ *
+ * 버퍼가 가득 찬 경우 (overflow-policy):
+ * - DROP: 즉시 버리고 dropped 카운트 증가 (기본값)
+ * - BLOCK: block-timeout-ms까지만 대기 후 버림 (요청이 무한정 멈추지 않음)
+ *
+ * logging.access.async=false이면 호출 스레드에서 바로 출력합니다.
+ *
+ * 출력 실패(디스크 가득 참, 파일 삭제 등)는 writeErrors로 세고, 첫 실패는 바로 ERROR로 남깁니다.
+ * 이후 실패는 1분에 한 번만 그 사이 실패 수와 함께 WARN으로 남겨 로그가 넘치지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class AccessLogPipeline {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private static final long WRITE_ERROR_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    public enum Format {
+        TEXT, JSON
+    }
+
+    private final boolean async;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long idleParkNanos;
+    private final Format format;
+    private final BufferedWriter fileWriter;
+
+    private final AccessLogRingBuffer<AccessLogEvent> buffer;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writeErrors = new LongAdder();
+
+    private final AtomicBoolean writeErrorLogged = new AtomicBoolean();
+    private final AtomicLong lastWriteErrorLogNanos = new AtomicLong();
+    private final AtomicLong suppressedWriteErrors = new AtomicLong();
+
+    public AccessLogPipeline(
+            @Value("${logging.access.async:true}") boolean async,
+            @Value("${logging.access.capacity:8192}") int capacity,
+            @Value("${logging.access.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${logging.access.block-timeout-ms:5}") long blockTimeoutMs,
+            @Value("${logging.access.batch-size:256}") int batchSize,
+            @Value("${logging.access.idle-park-ms:5}") long idleParkMs,
+            @Value("${logging.access.format:TEXT}") Format format,
+            @Value("${logging.access.file:}") String file) {
+        this.async = async;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleParkMs);
+        this.format = format;
+        this.fileWriter = openFile(file);
+        this.buffer = new AccessLogRingBuffer<>(capacity);
+
+        if (async) {
+            this.writerThread = new Thread(this::runWriter, "access-log-writer");
+            this.writerThread.setDaemon(true);
+            this.writerThread.start();
+        } else {
+            this.writerThread = null;
+        }
+
+        log.info("접근 로그 파이프라인: async = {}, 용량 = {}, 정책 = {}, 형식 = {}, 파일 = {}",
+                async, buffer.capacity(), overflowPolicy, format, StringUtils.hasText(file) ? file : "-");
+    }
+
+    /**
+     * 이벤트 발행 (요청 스레드에서 호출, 예외를 던지지 않음)
+     *
+     * @param event 접근 로그 이벤트
+     */
+    public void publish(AccessLogEvent event) {
+        published.increment();
+
+        if (!async) {
+            synchronized (this) {
+                write(event);
+                flushFile();
+            }
+            return;
+        }
+
+        if (buffer.offer(event)) {
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            LockSupport.unpark(writerThread);
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+                if (buffer.offer(event)) {
+                    return;
+                }
+            }
+        }
+
+        dropped.increment();
+    }
+
+    /**
+     * 파이프라인 통계 스냅샷
+     */
+    public Stats stats() {
+        return new Stats(async, overflowPolicy.name(), format.name(), buffer.capacity(), buffer.size(),
+                published.sum(), written.sum(), dropped.sum(), writeErrors.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        closeFile();
+    }
+
+    private void runWriter() {
+        while (true) {
+            int drained = drainBatch();
+            if (drained == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, idleParkNanos);
+            }
+        }
+    }
+
+    private int drainBatch() {
+        int count = 0;
+        AccessLogEvent event;
+        while (count < batchSize && (event = buffer.poll()) != null) {
+            write(event);
+            count++;
+        }
+        if (count > 0) {
+            flushFile();
+        }
+        return count;
+    }
+
+    private void write(AccessLogEvent event) {
+        try {
+            StringBuilder line = new StringBuilder(256);
+            if (format == Format.JSON) {
+                AccessLogFormatter.appendJson(line, event);
+            } else {
+                AccessLogFormatter.appendText(line, event);
+            }
+
+            if (fileWriter != null) {
+                fileWriter.append(line).append('\n');
+            } else {
+                switch (event.getLevel()) {
+                    case ERROR -> ACCESS_LOG.error(line.toString());
+                    case WARN -> ACCESS_LOG.warn(line.toString());
+                    default -> ACCESS_LOG.info(line.toString());
+                }
+            }
+            written.increment();
+        } catch (IOException | RuntimeException e) {
+            onWriteError("기록", e);
+        }
+    }
+
+    private void flushFile() {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.flush();
+        } catch (IOException e) {
+            onWriteError("flush", e);
+        }
+    }
+
+    /**
+     * 출력 실패 집계 (첫 실패는 바로, 이후에는 간격마다 한 번만 로그)
+     */
+    private void onWriteError(String operation, Exception e) {
+        writeErrors.increment();
+        long now = System.nanoTime();
+
+        if (writeErrorLogged.compareAndSet(false, true)) {
+            lastWriteErrorLogNanos.set(now);
+            log.error("접근 로그 {} 실패 (이후 실패는 1분마다 요약): {}", operation, e.toString(), e);
+            return;
+        }
+
+        long last = lastWriteErrorLogNanos.get();
+        if (now - last >= WRITE_ERROR_LOG_INTERVAL_NANOS && lastWriteErrorLogNanos.compareAndSet(last, now)) {
+            long suppressed = suppressedWriteErrors.getAndSet(0);
+            log.warn("접근 로그 출력 실패 계속: 최근 {}건 생략, 누적 {}건, 마지막 오류 = {} ({})",
+                    suppressed, writeErrors.sum(), e.toString(), operation);
+        } else {
+            suppressedWriteErrors.incrementAndGet();
+        }
+    }
+
+    private void closeFile() {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.close();
+        } catch (IOException e) {
+            log.warn("접근 로그 파일을 닫지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private static BufferedWriter openFile(String file) {
+        if (!StringUtils.hasText(file)) {
+            return null;
+        }
+        try {
+            Path path = Path.of(file);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            return Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("접근 로그 파일을 열 수 없습니다: " + file, e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final boolean async;
+        private final String overflowPolicy;
+        private final String format;
+        private final int capacity;
+        private final int queued;
+        private final long published;
+        private final long written;
+        private final long dropped;
+        private final long writeErrors;
+    }
+}
@@ -0,0 +1,86 @@
+package com.cropkeeper.global.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 잠금 없는 링 버퍼 (다중 생산자, 단일 소비자)
+ *
+ * - 슬롯마다 시퀀스 번호를 두어 생산자끼리는 CAS 한 번으로 자리를 예약합니다 (Vyukov 방식).
+ * - 가득 차면 offer()가 즉시 false를 반환하며, 대기 여부는 호출자가 정합니다.
+ * - 용량은 2의 거듭제곱으로 올림합니다.
+ */
+final class AccessLogRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private volatile long consumerPosition;
+
+    AccessLogRingBuffer(int requestedCapacity) {
+        int capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 이벤트 추가 (여러 스레드에서 호출 가능)
+     *
+     * @return 가득 차서 추가하지 못하면 false
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = producerPosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // difference > 0: 다른 생산자가 먼저 예약함, 재시도
+        }
+    }
+
+    /**
+     * 이벤트 꺼내기 (소비자 스레드 하나에서만 호출)
+     *
+     * @return 비어 있으면 null
+     */
+    E poll() {
+        long position = consumerPosition;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, position + mask + 1);
+        consumerPosition = position + 1;
+        return element;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 대략적인 적재 수 (모니터링용)
+     */
+    int size() {
+        long size = producerPosition.get() - consumerPosition;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+}
@@ -1,38 +1,49 @@
 package com.cropkeeper.global.logging;
 
+import com.cropkeeper.global.aspect.ParameterBindingPlan;
+import com.cropkeeper.global.common.ClientIpResolver;
+import com.cropkeeper.global.exception.BaseException;
+import com.cropkeeper.global.metrics.LatencyMetrics;
+import com.cropkeeper.global.persistence.QueryBudgetMonitor;
 import com.cropkeeper.global.security.UserPrincipal;
+import com.cropkeeper.global.tracing.Span;
+import com.cropkeeper.global.tracing.Tracer;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Component;
-import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 
 /**
  * Controller 레이어 자동 로깅 AOP
  *
- * 모든 @RestController의 요청/응답을 자동으로 로깅합니다.
+ * 모든 @RestController의 요청을 완료 시점에 이벤트 하나로 기록합니다.
+ * 요청 스레드는 값만 모아 AccessLogPipeline에 넘기고, 문자열 조립과 출력은 기록 스레드가 담당합니다.
+ * 소요 시간(나노초)은 경로 템플릿별 지연시간 히스토그램(LatencyMetrics)에도 기록합니다.
+ * 요청 중 실행된 SQL 수와 엔티티 로딩 수를 함께 기록하고, 쿼리 예산 초과나 N+1 의심이면 WARN으로 기록합니다.
+ * Controller 메서드 실행은 CONTROLLER 추적 구간으로 기록하며, 로그에는 traceId가 함께 남습니다.
  *
- * 로그 형식:
- * - [API-REQ] {METHOD} {URI} | user={username} | userId={id} | ip={ip} | params={...}
- * - [API-RES] {METHOD} {URI} | status={code} | duration={ms}ms
- * - [API-ERR] {METHOD} {URI} | status={code} | duration={ms}ms | exception={class}
+ * 로그 형식 (TEXT):
+ * - [API] {METHOD} {URI} | status={code} | duration={ms}ms | queries={n} | loads={n} | user={username} | userId={id} | ip={ip} | params={...} | body={...}
+ * - 예외 발생 시: ... | exception={class} | message={message}
  */
-@Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class ControllerLoggingAspect {
 
+    private final AccessLogPipeline accessLogPipeline;
+    private final LatencyMetrics latencyMetrics;
+    private final QueryBudgetMonitor queryBudgetMonitor;
+
     /**
      * 모든 @RestController의 public 메서드를 대상으로 AOP 적용
      * @NoLogging 어노테이션이 있으면 로깅 제외
@@ -47,7 +58,7 @@ public class ControllerLoggingAspect {
             return joinPoint.proceed();
         }
 
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
         // HTTP 요청 정보 가져오기
         HttpServletRequest request = getHttpServletRequest();
@@ -57,25 +68,25 @@ public class ControllerLoggingAspect {
         }
 
         String httpMethod = request.getMethod();
-        String uri = request.getRequestURI();
-        String clientIp = getClientIp(request);
+        Span span = Tracer.start(Span.Kind.CONTROLLER,
+                signature.getDeclaringType().getSimpleName() + "." + method.getName());
 
-        // 인증 정보 가져오기
-        UserPrincipal userPrincipal = extractUserPrincipal(joinPoint);
-        String userInfo = formatUserInfo(userPrincipal);
+        // 파라미터 위치는 메서드별로 한 번만 분석
+        ParameterBindingPlan plan = ParameterBindingPlan.of(method);
+        Object[] args = joinPoint.getArgs();
 
-        // 파라미터 정보 가져오기
-        String params = extractParameters(joinPoint);
+        // 인증 정보, 파라미터는 실행 전에 수집 (실행 중 인자가 변경될 수 있음)
+        UserPrincipal userPrincipal = plan.principal(args);
+        String params = plan.formatLoggedParams(args);
 
         // Request Body 가져오기 (POST, PUT, PATCH만)
-        String requestBody = "";
-        if (httpMethod.equals("POST") || httpMethod.equals("PUT") || httpMethod.equals("PATCH")) {
-            requestBody = extractRequestBody(joinPoint);
+        String requestBody = null;
+        if (plan.hasBody()
+                && (httpMethod.equals("POST") || httpMethod.equals("PUT") || httpMethod.equals("PATCH"))) {
+            // 민감정보 마스킹 후 반환
+            requestBody = SensitiveDataMasker.maskSensitiveData(plan.body(args));
         }
 
-        // 요청 시작 로그
-        logApiRequest(httpMethod, uri, userInfo, clientIp, params, requestBody);
-
         // 실제 메서드 실행
         Object result = null;
         Throwable exception = null;
@@ -86,70 +97,30 @@ public class ControllerLoggingAspect {
             exception = e;
             throw e;
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-
-            // 응답 로그
-            if (exception == null) {
-                logApiResponse(httpMethod, uri, result, duration);
-            } else {
-                logApiError(httpMethod, uri, exception, duration);
-            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            Tracer.end(span, exception != null);
+            int status = exception == null ? extractStatusCode(result) : resolveErrorStatus(exception);
+
+            String route = httpMethod + " " + resolveRouteTemplate(request);
+
+            latencyMetrics.recordRoute(route, elapsedNanos, status >= 500);
+            QueryBudgetMonitor.QueryUsage queryUsage = queryBudgetMonitor.evaluate(route, method);
+
+            accessLogPipeline.publish(AccessLogEvent.api(
+                    httpMethod,
+                    request.getRequestURI(),
+                    userPrincipal != null ? userPrincipal.getUsername() : null,
+                    userPrincipal != null ? userPrincipal.getId() : null,
+                    ClientIpResolver.resolve(request),
+                    params.isEmpty() ? null : params,
+                    requestBody,
+                    status,
+                    elapsedNanos / 1_000_000,
+                    queryUsage,
+                    exception));
         }
     }
 
-    /**
-     * API 요청 시작 로그 출력
-     */
-    private void logApiRequest(String httpMethod, String uri, String userInfo,
-                                String clientIp, String params, String requestBody) {
-        StringBuilder logMsg = new StringBuilder();
-        logMsg.append("[API-REQ] ").append(httpMethod).append(" ").append(uri);
-        logMsg.append("\n  └─ ").append(userInfo).append(" | ip=").append(clientIp);
-
-        if (!params.isEmpty()) {
-            logMsg.append(" | params=").append(params);
-        }
-
-        if (!requestBody.isEmpty()) {
-            logMsg.append("\n  └─ body=").append(requestBody);
-        }
-
-        log.info(logMsg.toString());
-    }
-
-    /**
-     * API 응답 성공 로그 출력
-     */
-    private void logApiResponse(String httpMethod, String uri, Object result, long duration) {
-        int statusCode = extractStatusCode(result);
-        String statusText = getStatusText(statusCode);
-
-        StringBuilder logMsg = new StringBuilder();
-        logMsg.append("[API-RES] ").append(httpMethod).append(" ").append(uri);
-        logMsg.append("\n  └─ status=").append(statusCode).append(" ").append(statusText);
-        logMsg.append(" | duration=").append(duration).append("ms");
-
-        // 응답 크기 추정 (선택적)
-        if (result != null) {
-            logMsg.append(" | responseType=").append(result.getClass().getSimpleName());
-        }
-
-        log.info(logMsg.toString());
-    }
-
-    /**
-     * API 에러 로그 출력
-     */
-    private void logApiError(String httpMethod, String uri, Throwable exception, long duration) {
-        StringBuilder logMsg = new StringBuilder();
-        logMsg.append("[API-ERR] ").append(httpMethod).append(" ").append(uri);
-        logMsg.append("\n  └─ duration=").append(duration).append("ms");
-        logMsg.append(" | exception=").append(exception.getClass().getSimpleName());
-        logMsg.append("\n  └─ message=").append(exception.getMessage());
-
-        log.error(logMsg.toString());
-    }
-
     /**
      * HttpServletRequest 가져오기
      */
@@ -160,105 +131,11 @@ public class ControllerLoggingAspect {
     }
 
     /**
-     * 클라이언트 IP 주소 가져오기 (프록시 고려)
+     * 매칭된 경로 템플릿 (예: /api/farms/{farmId}), 없으면 실제 URI
      */
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        return ip;
-    }
-
-    /**
-     * 메서드 파라미터에서 UserPrincipal 추출
-     */
-    private UserPrincipal extractUserPrincipal(ProceedingJoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(AuthenticationPrincipal.class)) {
-                if (args[i] instanceof UserPrincipal) {
-                    return (UserPrincipal) args[i];
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * UserPrincipal 정보를 포맷팅
-     */
-    private String formatUserInfo(UserPrincipal userPrincipal) {
-        if (userPrincipal == null) {
-            return "user=anonymous";
-        }
-        return "user=" + userPrincipal.getUsername() + " | userId=" + userPrincipal.getId();
-    }
-
-    /**
-     * @PathVariable 파라미터 추출
-     */
-    private String extractParameters(ProceedingJoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-
-        StringBuilder params = new StringBuilder();
-        params.append("{");
-
-        int count = 0;
-        for (int i = 0; i < parameters.length; i++) {
-            PathVariable pathVariable = parameters[i].getAnnotation(PathVariable.class);
-            RequestParam requestParam = parameters[i].getAnnotation(RequestParam.class);
-
-            if (pathVariable != null) {
-                if (count > 0) params.append(", ");
-                String name = pathVariable.value().isEmpty()
-                        ? parameters[i].getName()
-                        : pathVariable.value();
-                params.append(name).append("=").append(args[i]);
-                count++;
-            } else if (requestParam != null) {
-                if (count > 0) params.append(", ");
-                String name = requestParam.value().isEmpty()
-                        ? parameters[i].getName()
-                        : requestParam.value();
-                params.append(name).append("=").append(args[i]);
-                count++;
-            }
-        }
-
-        params.append("}");
-        return count > 0 ? params.toString() : "";
-    }
-
-    /**
-     * @RequestBody 파라미터 추출 및 마스킹
-     */
-    private String extractRequestBody(ProceedingJoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(RequestBody.class)) {
-                // 민감정보 마스킹 후 반환
-                return SensitiveDataMasker.maskSensitiveData(args[i]);
-            }
-        }
-        return "";
+    private String resolveRouteTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
     }
 
     /**
@@ -272,19 +149,12 @@ public class ControllerLoggingAspect {
     }
 
     /**
-     * HTTP 상태 코드에 대한 텍스트 반환
+     * 예외에 대응하는 HTTP 상태 코드 (GlobalExceptionHandler와 동일한 기준)
      */
-    private String getStatusText(int statusCode) {
-        return switch (statusCode) {
-            case 200 -> "OK";
-            case 201 -> "CREATED";
-            case 204 -> "NO_CONTENT";
-            case 400 -> "BAD_REQUEST";
-            case 401 -> "UNAUTHORIZED";
-            case 403 -> "FORBIDDEN";
-            case 404 -> "NOT_FOUND";
-            case 500 -> "INTERNAL_SERVER_ERROR";
-            default -> "";
-        };
+    private int resolveErrorStatus(Throwable exception) {
+        if (exception instanceof BaseException baseException) {
+            return baseException.getErrorCode().getHttpStatus().value();
+        }
+        return 500;
     }
 }
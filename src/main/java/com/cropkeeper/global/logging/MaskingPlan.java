@@ -0,0 +1,226 @@
+package com.cropkeeper.global.logging;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.nio.channels.Channel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 클래스별 마스킹 계획 (클래스당 한 번만 생성, ClassValue에 보관)
+ *
+ * - 출력할 프로퍼티 순서와 접근자(MethodHandle)
+ * - 프로퍼티별 마스킹 방식 (완전/부분/없음), 필드명 소문자 비교는 계획 생성 시 한 번만 수행
+ *
+ * 프로퍼티 선택 기준 (기존 ObjectMapper 변환과 동일하게 public getter 기준):
+ * - 선언된 필드 순서대로 getX()/isX()가 있는 필드, 이어서 필드 없는 getter (이름순)
+ * - record는 컴포넌트 접근자
+ * - @Entity는 지연 로딩을 피하기 위해 @Id 필드만 출력
+ * - 스트림, 바이트 배열, 파일 리소스를 반환하는 접근자는 제외 (MultipartFile.getInputStream/getBytes 등)
+ * - public이 아닌 클래스의 getter도 ObjectMapper처럼 접근 제한을 풀어 읽고, 풀 수 없으면 빈 계획
+ */
+final class MaskingPlan {
+
+    enum Mode {
+        PLAIN, FULL, PARTIAL
+    }
+
+    // 완전히 마스킹할 필드명 (소문자)
+    static final Set<String> FULLY_MASKED_FIELDS = Set.of(
+            "password", "passwd", "pwd",
+            "currentpassword", "newpassword", "passwordconfirm", "newpasswordconfirm",
+            "token", "accesstoken", "refreshtoken",
+            "secret", "secretkey", "apikey"
+    );
+
+    // 부분적으로 마스킹할 필드명 (소문자, 뒷자리만 마스킹)
+    static final Set<String> PARTIALLY_MASKED_FIELDS = Set.of(
+            "contact", "phone", "tel", "mobile",
+            "email"
+    );
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    // 호출하면 내용을 읽거나 스트림을 여는 반환 타입 (로그에 출력하지 않음)
+    private static final List<Class<?>> SKIPPED_TYPES = List.of(
+            byte[].class, InputStream.class, Reader.class, InputStreamSource.class, Channel.class);
+
+    private static final ClassValue<MaskingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected MaskingPlan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Property[] properties;
+
+    private MaskingPlan(Property[] properties) {
+        this.properties = properties;
+    }
+
+    static MaskingPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    Property[] properties() {
+        return properties;
+    }
+
+    /**
+     * 출력할 프로퍼티가 없으면 true (타입 이름만 출력)
+     */
+    boolean isEmpty() {
+        return properties.length == 0;
+    }
+
+    static Mode modeOf(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (FULLY_MASKED_FIELDS.contains(lower)) {
+            return Mode.FULL;
+        }
+        if (PARTIALLY_MASKED_FIELDS.contains(lower)) {
+            return Mode.PARTIAL;
+        }
+        return Mode.PLAIN;
+    }
+
+    private static MaskingPlan compile(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<Property> properties = new ArrayList<>();
+
+        try {
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (!isSkippedType(component.getType())) {
+                        properties.add(property(lookup, component.getName(), component.getAccessor()));
+                    }
+                }
+                return new MaskingPlan(properties.toArray(Property[]::new));
+            }
+
+            Map<String, Method> getters = new LinkedHashMap<>();
+            for (Method method : type.getMethods()) {
+                String name = propertyName(method);
+                if (name != null) {
+                    getters.putIfAbsent(name, method);
+                }
+            }
+
+            boolean entity = isEntity(type);
+            for (Field field : declaredFields(type)) {
+                Method getter = getters.remove(field.getName());
+                if (getter == null || (entity && !field.isAnnotationPresent(Id.class))) {
+                    continue;
+                }
+                properties.add(property(lookup, field.getName(), getter));
+            }
+
+            if (!entity) {
+                List<String> remaining = new ArrayList<>(getters.keySet());
+                remaining.sort(Comparator.naturalOrder());
+                for (String name : remaining) {
+                    properties.add(property(lookup, name, getters.get(name)));
+                }
+            }
+        } catch (IllegalAccessException | SecurityException e) {
+            // 접근할 수 없는 타입은 타입 이름만 출력
+            return new MaskingPlan(new Property[0]);
+        }
+
+        return new MaskingPlan(properties.toArray(Property[]::new));
+    }
+
+    private static Property property(MethodHandles.Lookup lookup, String name, Method getter)
+            throws IllegalAccessException {
+        if (!Modifier.isPublic(getter.getDeclaringClass().getModifiers()) && !getter.trySetAccessible()) {
+            throw new IllegalAccessException("접근할 수 없는 getter: " + getter);
+        }
+        MethodHandle handle = lookup.unreflect(getter).asType(GETTER_TYPE);
+        return new Property(name, handle, modeOf(name));
+    }
+
+    /**
+     * 출력할 인스턴스 getter면 프로퍼티 이름, 아니면 null
+     */
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() != 0
+                || method.getReturnType() == void.class
+                || method.getDeclaringClass() == Object.class
+                || isSkippedType(method.getReturnType())) {
+            return null;
+        }
+
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static boolean isSkippedType(Class<?> type) {
+        for (Class<?> skipped : SKIPPED_TYPES) {
+            if (skipped.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 엔티티 또는 엔티티의 하위 클래스(Hibernate 프록시)인지 확인
+     */
+    private static boolean isEntity(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (current.isAnnotationPresent(Entity.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 상위 클래스 필드부터 선언 순서대로
+     */
+    private static List<Field> declaredFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        if (type.getSuperclass() != null && type.getSuperclass() != Object.class) {
+            fields.addAll(declaredFields(type.getSuperclass()));
+        }
+        Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                .forEach(fields::add);
+        return fields;
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    record Property(String name, MethodHandle getter, Mode mode) {
+    }
+}
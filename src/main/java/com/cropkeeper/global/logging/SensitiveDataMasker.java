@@ -1,9 +1,9 @@
 package com.cropkeeper.global.logging;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
@@ -13,30 +13,31 @@ import java.util.regex.Pattern;
  * - password, passwd, pwd 등 비밀번호 관련 필드
  * - token, accessToken, refreshToken 등 인증 토큰
  * - contact, phone, tel 등 연락처 (뒷자리 마스킹)
+ *
+ * 객체는 클래스별로 한 번 만든 MaskingPlan(접근자, 마스킹 방식)으로 읽고,
+ * 중간 Map 없이 스레드별 재사용 버퍼에 바로 출력합니다.
+ *
+ * 프로퍼티로 읽을 수 없는 객체(getter 없음, 깊이 제한 초과, 읽기 실패)는 toString()에 민감정보가 있을 수 있으므로
+ * 타입 이름만 출력합니다. 예: Credentials(****)
  */
 @Slf4j
 public class SensitiveDataMasker {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
-    // 완전히 마스킹할 필드명 (대소문자 무시)
-    private static final Set<String> FULLY_MASKED_FIELDS = new HashSet<>(Arrays.asList(
-            "password", "passwd", "pwd",
-            "currentpassword", "newpassword", "passwordconfirm", "newpasswordconfirm",
-            "token", "accesstoken", "refreshtoken",
-            "secret", "secretkey", "apikey"
-    ));
-
-    // 부분적으로 마스킹할 필드명 (뒷자리만 마스킹)
-    private static final Set<String> PARTIALLY_MASKED_FIELDS = new HashSet<>(Arrays.asList(
-            "contact", "phone", "tel", "mobile",
-            "email"
-    ));
-
     // 마스킹 문자
     private static final String MASK = "****";
     private static final int PARTIAL_MASK_START = 4; // 뒤에서 몇 자리 마스킹할지
 
+    // 중첩 객체 출력 깊이 제한 (양방향 연관관계 순환 방지)
+    private static final int MAX_DEPTH = 4;
+
+    // 재사용 버퍼가 이보다 커지면 버림
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+
+    private static final Pattern DIGITS = Pattern.compile("^\\d+$");
+    private static final Pattern HYPHENATED_PHONE = Pattern.compile("^\\d{3}-\\d{4}-\\d{4}$");
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
     /**
      * 객체를 로그 출력용 문자열로 변환하면서 민감정보를 마스킹합니다.
      *
@@ -44,88 +45,160 @@ public class SensitiveDataMasker {
      * @return 민감정보가 마스킹된 문자열
      */
     public static String maskSensitiveData(Object obj) {
-        if (obj == null) {
-            return "null";
+        // String은 그대로 반환 (필드명 없이는 판단 불가)
+        if (obj instanceof String) {
+            return (String) obj;
         }
 
-        // 기본 타입은 그대로 반환
-        if (isPrimitiveOrWrapper(obj)) {
-            return String.valueOf(obj);
+        StringBuilder sb = acquireBuffer();
+        try {
+            renderTopLevel(sb, obj);
+            return sb.toString();
+        } finally {
+            releaseBuffer(sb);
         }
+    }
 
-        // String은 그대로 반환 (필드명 없이는 판단 불가)
+    /**
+     * 파라미터 배열을 마스킹된 문자열로 변환합니다.
+     */
+    public static String maskParameters(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = acquireBuffer();
+        try {
+            sb.append("[");
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                renderTopLevel(sb, args[i]);
+            }
+            sb.append("]");
+            return sb.toString();
+        } finally {
+            releaseBuffer(sb);
+        }
+    }
+
+    /**
+     * 최상위 값 출력 (문자열은 따옴표 없이)
+     */
+    private static void renderTopLevel(StringBuilder sb, Object obj) {
         if (obj instanceof String) {
-            return (String) obj;
+            sb.append((String) obj);
+        } else {
+            render(sb, obj, 0);
         }
+    }
 
-        // Collection 처리
-        if (obj instanceof Collection) {
-            return maskCollection((Collection<?>) obj);
+    /**
+     * 값 출력 (중첩 값의 문자열은 따옴표로 감쌈)
+     */
+    private static void render(StringBuilder sb, Object value, int depth) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+        } else if (value instanceof CharSequence || value instanceof Character || value instanceof Enum) {
+            sb.append('"').append(value).append('"');
+        } else if (value instanceof Map) {
+            renderMap(sb, (Map<?, ?>) value, depth);
+        } else if (value instanceof Collection) {
+            renderCollection(sb, (Collection<?>) value, depth);
+        } else if (isLeafType(value.getClass())) {
+            // java.time, UUID 등 JDK 값 타입
+            sb.append('"').append(value).append('"');
+        } else {
+            renderObject(sb, value, depth);
         }
+    }
 
-        // Map 처리 (중요: Request Body는 보통 Map으로 변환됨)
-        if (obj instanceof Map) {
-            return maskMap((Map<?, ?>) obj);
+    /**
+     * MaskingPlan으로 객체 출력 (프로퍼티가 없거나 읽기에 실패하면 타입 이름만)
+     */
+    private static void renderObject(StringBuilder sb, Object obj, int depth) {
+        MaskingPlan plan = MaskingPlan.of(obj.getClass());
+        if (plan.isEmpty() || depth >= MAX_DEPTH) {
+            appendRedacted(sb, obj);
+            return;
         }
 
-        // 객체를 Map으로 변환 후 마스킹
+        int start = sb.length();
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = objectMapper.convertValue(obj, Map.class);
-            return maskMap(map);
-        } catch (Exception e) {
-            log.debug("객체 마스킹 실패, toString() 사용: {}", obj.getClass().getName());
-            return obj.toString();
+            sb.append("{");
+            MaskingPlan.Property[] properties = plan.properties();
+            for (int i = 0; i < properties.length; i++) {
+                MaskingPlan.Property property = properties[i];
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(property.name()).append("=");
+
+                switch (property.mode()) {
+                    case FULL -> sb.append('"').append(MASK).append('"');
+                    case PARTIAL -> appendPartial(sb, property.getter().invokeExact(obj));
+                    default -> render(sb, property.getter().invokeExact(obj), depth + 1);
+                }
+            }
+            sb.append("}");
+        } catch (Throwable e) {
+            log.debug("객체 마스킹 실패, 타입 이름만 출력: {}", obj.getClass().getName());
+            sb.setLength(start);
+            appendRedacted(sb, obj);
         }
     }
 
     /**
-     * Map의 민감정보를 마스킹합니다.
+     * 내용 대신 타입 이름만 출력 (toString()은 호출하지 않음)
      */
-    private static String maskMap(Map<?, ?> map) {
-        Map<String, Object> masked = new LinkedHashMap<>();
+    private static void appendRedacted(StringBuilder sb, Object obj) {
+        String name = obj.getClass().getSimpleName();
+        sb.append(name.isEmpty() ? obj.getClass().getName() : name).append('(').append(MASK).append(')');
+    }
 
+    /**
+     * Map 출력 (키 이름으로 마스킹 판단)
+     */
+    private static void renderMap(StringBuilder sb, Map<?, ?> map, int depth) {
+        sb.append("{");
+        int count = 0;
         for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (count++ > 0) {
+                sb.append(", ");
+            }
             String key = String.valueOf(entry.getKey());
-            Object value = entry.getValue();
-
-            // 민감 필드 확인 (대소문자 무시)
-            String keyLower = key.toLowerCase();
-
-            if (FULLY_MASKED_FIELDS.contains(keyLower)) {
-                // 완전 마스킹
-                masked.put(key, MASK);
-            } else if (PARTIALLY_MASKED_FIELDS.contains(keyLower)) {
-                // 부분 마스킹
-                masked.put(key, maskPartially(value));
-            } else if (value instanceof Map) {
-                // 중첩된 Map 재귀 처리
-                masked.put(key, maskMap((Map<?, ?>) value));
-            } else if (value instanceof Collection) {
-                // Collection 처리
-                masked.put(key, maskCollection((Collection<?>) value));
-            } else {
-                // 일반 값은 그대로
-                masked.put(key, value);
+            sb.append(key).append("=");
+
+            switch (MaskingPlan.modeOf(key)) {
+                case FULL -> sb.append('"').append(MASK).append('"');
+                case PARTIAL -> appendPartial(sb, entry.getValue());
+                default -> render(sb, entry.getValue(), depth + 1);
             }
         }
-
-        return mapToString(masked);
+        sb.append("}");
     }
 
-    /**
-     * Collection의 민감정보를 마스킹합니다.
-     */
-    private static String maskCollection(Collection<?> collection) {
-        List<Object> masked = new ArrayList<>();
+    private static void renderCollection(StringBuilder sb, Collection<?> collection, int depth) {
+        sb.append("[");
+        int count = 0;
         for (Object item : collection) {
-            if (item instanceof Map) {
-                masked.add(maskMap((Map<?, ?>) item));
-            } else {
-                masked.add(item);
+            if (count++ > 0) {
+                sb.append(", ");
             }
+            render(sb, item, depth + 1);
+        }
+        sb.append("]");
+    }
+
+    private static void appendPartial(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else {
+            sb.append('"').append(maskPartially(String.valueOf(value))).append('"');
         }
-        return masked.toString();
     }
 
     /**
@@ -138,25 +211,19 @@ public class SensitiveDataMasker {
      * 이메일 마스킹:
      * - john@example.com → jo**@example.com
      */
-    private static String maskPartially(Object value) {
-        if (value == null) {
-            return "null";
-        }
-
-        String str = String.valueOf(value);
-
+    private static String maskPartially(String str) {
         // 이메일 마스킹
-        if (str.contains("@")) {
+        if (str.indexOf('@') >= 0) {
             return maskEmail(str);
         }
 
         // 연락처 마스킹 (숫자만 있는 경우)
-        if (str.matches("^\\d+$")) {
+        if (DIGITS.matcher(str).matches()) {
             return maskPhoneNumber(str);
         }
 
         // 하이픈 포함된 연락처 (010-1234-5678)
-        if (str.matches("^\\d{3}-\\d{4}-\\d{4}$")) {
+        if (HYPHENATED_PHONE.matcher(str).matches()) {
             return str.substring(0, 4) + "****-****";
         }
 
@@ -200,13 +267,13 @@ public class SensitiveDataMasker {
      * 예: john@example.com → jo**@example.com
      */
     private static String maskEmail(String email) {
-        String[] parts = email.split("@");
-        if (parts.length != 2) {
+        int at = email.indexOf('@');
+        if (at != email.lastIndexOf('@') || at == 0 || at == email.length() - 1) {
             return MASK;
         }
 
-        String localPart = parts[0];
-        String domain = parts[1];
+        String localPart = email.substring(0, at);
+        String domain = email.substring(at + 1);
 
         // 아이디 부분 마스킹
         if (localPart.length() <= 2) {
@@ -214,78 +281,31 @@ public class SensitiveDataMasker {
         }
 
         int visibleLength = Math.min(2, localPart.length() / 2);
-        String masked = localPart.substring(0, visibleLength) + "**";
-
-        return masked + "@" + domain;
-    }
-
-    /**
-     * Map을 읽기 쉬운 문자열로 변환합니다.
-     */
-    private static String mapToString(Map<String, Object> map) {
-        if (map.isEmpty()) {
-            return "{}";
-        }
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("{");
-
-        int count = 0;
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            if (count > 0) {
-                sb.append(", ");
-            }
-            sb.append(entry.getKey())
-                    .append("=")
-                    .append(formatValue(entry.getValue()));
-            count++;
-        }
-
-        sb.append("}");
-        return sb.toString();
+        return localPart.substring(0, visibleLength) + "**@" + domain;
     }
 
     /**
-     * 값을 포맷팅합니다.
+     * JDK 값 타입인지 확인 (프로퍼티를 펼치지 않고 toString() 사용)
      */
-    private static String formatValue(Object value) {
-        if (value == null) {
-            return "null";
-        }
-        if (value instanceof String) {
-            return "\"" + value + "\"";
-        }
-        return String.valueOf(value);
+    private static boolean isLeafType(Class<?> type) {
+        String name = type.getName();
+        return type.isArray() || name.startsWith("java.") || name.startsWith("javax.");
     }
 
-    /**
-     * 기본 타입 또는 Wrapper 클래스인지 확인합니다.
-     */
-    private static boolean isPrimitiveOrWrapper(Object obj) {
-        return obj instanceof Number ||
-                obj instanceof Boolean ||
-                obj instanceof Character;
+    private static StringBuilder acquireBuffer() {
+        StringBuilder sb = BUFFER.get();
+        // 재진입(toString() 안에서 다시 호출 등) 시 사용 중인 버퍼를 건드리지 않음
+        return sb.length() == 0 ? sb : new StringBuilder(256);
     }
 
-    /**
-     * 파라미터 배열을 마스킹된 문자열로 변환합니다.
-     */
-    public static String maskParameters(Object[] args) {
-        if (args == null || args.length == 0) {
-            return "[]";
+    private static void releaseBuffer(StringBuilder sb) {
+        if (sb != BUFFER.get()) {
+            return;
         }
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("[");
-
-        for (int i = 0; i < args.length; i++) {
-            if (i > 0) {
-                sb.append(", ");
-            }
-            sb.append(maskSensitiveData(args[i]));
+        if (sb.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.set(new StringBuilder(256));
+        } else {
+            sb.setLength(0);
         }
-
-        sb.append("]");
-        return sb.toString();
     }
 }
@@ -0,0 +1,127 @@
+package com.cropkeeper.global.logging;
+
+import com.cropkeeper.global.metrics.LatencyHistogram;
+import com.cropkeeper.global.metrics.LatencyMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service 메서드 로그 샘플링 판단
+ *
+ * 기록 기준 (위에서부터 우선):
+ * - ERROR: 예외가 발생한 호출은 항상 기록
+ * - SLOW: 고정 임계값(1초) 이상은 항상 기록
+ * - OUTLIER: 메서드별 적응형 임계값 이상은 항상 기록
+ * - SAMPLED: 나머지 정상 호출은 메서드별 N건 중 1건만 기록
+ *
+ * 적응형 임계값:
+ * - 주기적으로 메서드별 지연시간 히스토그램의 직전 구간 백분위(기본 p99)로 갱신
+ * - 구간 표본이 min-samples 미만이면 이전 값 유지, adaptive-min-ms 아래로는 내려가지 않음
+ *
+ * sample-rate가 1이면 모든 호출을 기록합니다 (ALL).
+ */
+@Slf4j
+@Component
+public class ServiceLogSampler {
+
+    private final LatencyMetrics latencyMetrics;
+    private final int sampleRate;
+    private final double adaptivePercentile;
+    private final long adaptiveMinNanos;
+    private final long adaptiveMinSamples;
+
+    private final Map<String, MethodState> states = new ConcurrentHashMap<>();
+
+    public ServiceLogSampler(
+            LatencyMetrics latencyMetrics,
+            @Value("${logging.service.sample-rate:1}") int sampleRate,
+            @Value("${logging.service.adaptive-percentile:99}") double adaptivePercentile,
+            @Value("${logging.service.adaptive-min-ms:50}") long adaptiveMinMs,
+            @Value("${logging.service.adaptive-min-samples:100}") long adaptiveMinSamples) {
+        this.latencyMetrics = latencyMetrics;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.adaptivePercentile = adaptivePercentile;
+        this.adaptiveMinNanos = TimeUnit.MILLISECONDS.toNanos(adaptiveMinMs);
+        this.adaptiveMinSamples = adaptiveMinSamples;
+    }
+
+    /**
+     * 호출 기록 여부 판단
+     *
+     * @param method       "{ClassName}.{methodName}"
+     * @param elapsedNanos 소요 시간 (나노초)
+     * @param slow         고정 임계값 초과 여부
+     * @param failed       예외 발생 여부
+     * @return 기록 사유, 기록하지 않으면 null
+     */
+    public AccessLogEvent.Capture decide(String method, long elapsedNanos, boolean slow, boolean failed) {
+        if (failed) {
+            return AccessLogEvent.Capture.ERROR;
+        }
+        if (slow) {
+            return AccessLogEvent.Capture.SLOW;
+        }
+        if (sampleRate == 1) {
+            return AccessLogEvent.Capture.ALL;
+        }
+
+        MethodState state = state(method);
+        if (elapsedNanos >= state.thresholdNanos) {
+            return AccessLogEvent.Capture.OUTLIER;
+        }
+        return state.calls.incrementAndGet() % sampleRate == 0 ? AccessLogEvent.Capture.SAMPLED : null;
+    }
+
+    /**
+     * 메서드별 적응형 임계값 갱신 (직전 구간 분포 기준)
+     */
+    @Scheduled(fixedDelayString = "${logging.service.adaptive-refresh-ms:10000}")
+    public void refreshThresholds() {
+        if (sampleRate == 1) {
+            return;
+        }
+
+        states.forEach((method, state) -> {
+            LatencyHistogram.Snapshot current = latencyMetrics.serviceSnapshot(method);
+            if (current == null) {
+                return;
+            }
+
+            LatencyHistogram.Snapshot previous = state.lastSnapshot;
+            LatencyHistogram.Snapshot window = previous != null ? current.minus(previous) : current;
+            if (window.getCount() < adaptiveMinSamples) {
+                return;
+            }
+
+            state.thresholdNanos = Math.max(adaptiveMinNanos, window.percentile(adaptivePercentile));
+            state.lastSnapshot = current;
+            log.debug("적응형 로그 임계값 갱신: {} = {}ms (표본 {}건)",
+                    method, TimeUnit.NANOSECONDS.toMillis(state.thresholdNanos), window.getCount());
+        });
+    }
+
+    private MethodState state(String method) {
+        MethodState state = states.get(method);
+        if (state == null) {
+            state = states.computeIfAbsent(method, key -> new MethodState(adaptiveMinNanos));
+        }
+        return state;
+    }
+
+    private static final class MethodState {
+        private final AtomicLong calls = new AtomicLong();
+        private volatile long thresholdNanos;
+        private volatile LatencyHistogram.Snapshot lastSnapshot;
+
+        private MethodState(long initialThresholdNanos) {
+            this.thresholdNanos = initialThresholdNanos;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.cropkeeper.global.logging;
 
-import lombok.extern.slf4j.Slf4j;
+import com.cropkeeper.global.metrics.LatencyMetrics;
+import com.cropkeeper.global.profiling.ServiceCallEvent;
+import com.cropkeeper.global.tracing.Span;
+import com.cropkeeper.global.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -10,23 +14,35 @@ import org.springframework.stereotype.Component;
 /**
  * Service 레이어 자동 로깅 AOP
  *
- * 모든 @Service의 public 메서드를 자동으로 로깅합니다.
+ * 모든 @Service의 public 메서드를 완료 시점에 이벤트 하나로 AccessLogPipeline에 기록하고,
+ * 소요 시간(나노초)을 메서드별 지연시간 히스토그램(LatencyMetrics)에 기록합니다.
  *
- * 로그 형식:
- * - [SVC-IN] {ClassName}.{methodName} | params=[...]
- * - [SVC-OUT] {ClassName}.{methodName} | duration={ms}ms | status=SUCCESS
- * - [SVC-ERR] {ClassName}.{methodName} | duration={ms}ms | exception={class}
+ * 로그 형식 (TEXT):
+ * - [SVC] {ClassName}.{methodName} | status=SUCCESS | duration={ms}ms | params=[...]
+ * - [SVC] {ClassName}.{methodName} | status=FAIL | duration={ms}ms | params=[...] | exception={class} | message={message}
  *
  * 느린 메서드 감지:
- * - 1초 이상 소요 시 WARN 레벨로 경고 출력
+ * - 1초 이상 소요 시 SLOW 표시와 함께 WARN 레벨로 기록
+ *
+ * 샘플링 (logging.service.sample-rate > 1):
+ * - 정상 호출은 메서드별 N건 중 1건만 기록하고, 예외/느린 호출/메서드별 적응형 임계값 초과는 항상 기록
+ * - 파라미터 마스킹은 기록하기로 결정된 호출에만 수행 (호출 완료 시점의 인자 기준)
+ *
+ * 프로파일링 (profiling.jfr.enabled):
+ * - 호출마다 JFR 이벤트(ServiceCallEvent)와 SERVICE 추적 구간을 함께 기록 (샘플링과 무관)
  */
-@Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class ServiceLoggingAspect {
 
     // 느린 메서드 임계값 (밀리초)
     private static final long SLOW_METHOD_THRESHOLD_MS = 1000;
+    private static final long SLOW_METHOD_THRESHOLD_NANOS = SLOW_METHOD_THRESHOLD_MS * 1_000_000;
+
+    private final AccessLogPipeline accessLogPipeline;
+    private final LatencyMetrics latencyMetrics;
+    private final ServiceLogSampler serviceLogSampler;
 
     /**
      * 모든 @Service의 public 메서드를 대상으로 AOP 적용
@@ -42,85 +58,49 @@ public class ServiceLoggingAspect {
             return joinPoint.proceed();
         }
 
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
         // 메서드 정보 추출
         String className = signature.getDeclaringType().getSimpleName();
         String methodName = signature.getName();
         String fullMethodName = className + "." + methodName;
 
-        // 파라미터 마스킹
-        String params = SensitiveDataMasker.maskParameters(joinPoint.getArgs());
-
-        // Service 메서드 시작 로그
-        logServiceStart(fullMethodName, params);
+        ServiceCallEvent event = ServiceCallEvent.begin(fullMethodName);
+        Span span = Tracer.start(Span.Kind.SERVICE, fullMethodName);
 
         // 실제 메서드 실행
-        Object result = null;
         Throwable exception = null;
         try {
-            result = joinPoint.proceed();
-            return result;
+            return joinPoint.proceed();
         } catch (Throwable e) {
             exception = e;
             throw e;
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-
-            // Service 메서드 종료 로그
-            if (exception == null) {
-                logServiceSuccess(fullMethodName, duration, result);
-            } else {
-                logServiceError(fullMethodName, duration, exception);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            ServiceCallEvent.end(event, exception != null);
+            Tracer.end(span, exception != null);
+
+            boolean slow = elapsedNanos >= SLOW_METHOD_THRESHOLD_NANOS;
+
+            latencyMetrics.recordService(fullMethodName, elapsedNanos, exception != null);
+
+            // 샘플링에서 제외된 호출은 파라미터 마스킹도 하지 않음
+            AccessLogEvent.Capture capture =
+                    serviceLogSampler.decide(fullMethodName, elapsedNanos, slow, exception != null);
+            if (capture != null) {
+                // 완료 이벤트 하나로 기록 (느린 메서드, 비즈니스 예외는 WARN / 시스템 예외는 ERROR)
+                accessLogPipeline.publish(AccessLogEvent.service(
+                        fullMethodName,
+                        SensitiveDataMasker.maskParameters(joinPoint.getArgs()),
+                        elapsedNanos / 1_000_000,
+                        slow,
+                        capture,
+                        exception,
+                        exception != null && isBusinessException(exception)));
             }
         }
     }
 
-    /**
-     * Service 메서드 시작 로그
-     */
-    private void logServiceStart(String fullMethodName, String params) {
-        log.info("[SVC-IN] {}\n  └─ params={}", fullMethodName, params);
-    }
-
-    /**
-     * Service 메서드 정상 종료 로그
-     */
-    private void logServiceSuccess(String fullMethodName, long duration, Object result) {
-        StringBuilder logMsg = new StringBuilder();
-        logMsg.append("[SVC-OUT] ").append(fullMethodName);
-        logMsg.append("\n  └─ duration=").append(duration).append("ms | status=SUCCESS");
-
-        // 느린 메서드 감지
-        if (duration >= SLOW_METHOD_THRESHOLD_MS) {
-            logMsg.append(" ⚠️ SLOW METHOD DETECTED!");
-            logMsg.append("\n  └─ threshold=").append(SLOW_METHOD_THRESHOLD_MS).append("ms");
-            log.warn(logMsg.toString());
-        } else {
-            log.info(logMsg.toString());
-        }
-    }
-
-    /**
-     * Service 메서드 예외 발생 로그
-     */
-    private void logServiceError(String fullMethodName, long duration, Throwable exception) {
-        StringBuilder logMsg = new StringBuilder();
-        logMsg.append("[SVC-ERR] ").append(fullMethodName);
-        logMsg.append("\n  └─ duration=").append(duration).append("ms | status=FAIL");
-        logMsg.append(" | exception=").append(exception.getClass().getSimpleName());
-        logMsg.append("\n  └─ message=").append(exception.getMessage());
-
-        // 예외 타입에 따라 로그 레벨 결정
-        if (isBusinessException(exception)) {
-            // 비즈니스 예외는 WARN (예상된 예외)
-            log.warn(logMsg.toString());
-        } else {
-            // 시스템 예외는 ERROR (예상치 못한 예외)
-            log.error(logMsg.toString());
-        }
-    }
-
     /**
      * 비즈니스 예외인지 확인
      * (BaseException을 상속한 예외는 비즈니스 예외로 간주)
@@ -0,0 +1,177 @@
+package com.cropkeeper.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 로그-선형(HDR 방식) 지연시간 히스토그램 (나노초)
+ *
+ * 버킷 구성:
+ * - 0 ~ 31ns는 1ns 단위
+ * - 그 이상은 2의 거듭제곱 구간마다 32개 하위 버킷 (상대 오차 약 3%)
+ * - 약 18분(2^40ns)을 넘는 값은 마지막 버킷에 기록
+ *
+ * 기록은 버킷 카운터 원자 증가 한 번이며, 누적값을 초기화하지 않고
+ * Snapshot끼리의 차이(minus)로 구간 통계를 계산합니다.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * 지연시간 기록
+     *
+     * @param nanos  소요 시간 (나노초)
+     * @param failed 실패 여부
+     */
+    public void record(long nanos, boolean failed) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        totalNanos.add(value);
+        if (failed) {
+            errors.increment();
+        }
+
+        long currentMax = maxNanos.get();
+        while (value > currentMax && !maxNanos.compareAndSet(currentMax, value)) {
+            currentMax = maxNanos.get();
+        }
+    }
+
+    /**
+     * 현재 누적값 스냅샷 (기록과 동시에 읽으므로 버킷 간 미세한 차이는 허용)
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new Snapshot(counts, errors.sum(), totalNanos.sum(), maxNanos.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * 버킷이 담는 값의 상한 (백분위 값으로 사용)
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * 불변 스냅샷 (병합, 차이 계산 가능)
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0, 0, 0);
+
+        private final long[] counts;
+        private final long count;
+        private final long errors;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        Snapshot(long[] counts, long errors, long totalNanos, long maxNanos) {
+            this.counts = counts;
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.count = sum;
+            this.errors = errors;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * 두 스냅샷 합치기 (여러 히스토그램 집계용)
+         */
+        public Snapshot merge(Snapshot other) {
+            long[] merged = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                merged[i] = counts[i] + other.counts[i];
+            }
+            return new Snapshot(merged, errors + other.errors, totalNanos + other.totalNanos,
+                    Math.max(maxNanos, other.maxNanos));
+        }
+
+        /**
+         * 이전 스냅샷 이후 구간만의 스냅샷
+         * 최대값은 뺄 수 없으므로 구간 내 가장 높은 버킷의 상한으로 계산합니다.
+         */
+        public Snapshot minus(Snapshot previous) {
+            long[] delta = new long[BUCKET_COUNT];
+            long deltaMax = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                delta[i] = Math.max(0, counts[i] - previous.counts[i]);
+                if (delta[i] > 0) {
+                    deltaMax = Math.min(bucketUpperBound(i), maxNanos);
+                }
+            }
+            return new Snapshot(delta, Math.max(0, errors - previous.errors),
+                    Math.max(0, totalNanos - previous.totalNanos), deltaMax);
+        }
+
+        /**
+         * 백분위 값 (나노초)
+         *
+         * @param percentile 0 ~ 100
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return Math.min(bucketUpperBound(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+    }
+}
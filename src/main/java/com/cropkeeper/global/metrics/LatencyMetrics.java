@@ -0,0 +1,168 @@
+package com.cropkeeper.global.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API 경로별, Service 메서드별 지연시간 히스토그램 모음
+ *
+ * - API 키: "{METHOD} {경로 템플릿}" (예: "GET /api/farms/{farmId}") - 실제 URI가 아닌 템플릿 기준
+ * - Service 키: "{ClassName}.{methodName}"
+ *
+ * 조회 방식:
+ * - 누적: 기동 이후 전체
+ * - 구간: 직전 구간 조회 이후 변화분 (히스토그램은 초기화하지 않고 스냅샷 차이로 계산)
+ *
+ * 오류 집계 기준:
+ * - API의 errors는 서버 오류(5xx)만 셉니다. 4xx(검증 실패, 인증 실패, 권한 없음, 없는 리소스 등)는
+ *   클라이언트 요청 문제이므로 오류가 아닌 정상 처리로 집계되며, 지연시간 분포에는 함께 포함됩니다.
+ * - Service의 errors는 비즈니스 예외를 포함해 예외로 끝난 모든 호출을 셉니다.
+ *   따라서 같은 요청이라도 API 오류 수와 Service 오류 수는 다를 수 있습니다.
+ */
+@Component
+public class LatencyMetrics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, LatencyHistogram> routes = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> services = new ConcurrentHashMap<>();
+
+    private Map<String, LatencyHistogram.Snapshot> lastRouteSnapshots = Map.of();
+    private Map<String, LatencyHistogram.Snapshot> lastServiceSnapshots = Map.of();
+    private long lastIntervalAtMillis = System.currentTimeMillis();
+
+    /**
+     * API 요청 기록
+     *
+     * @param route  "{METHOD} {경로 템플릿}"
+     * @param nanos  소요 시간 (나노초)
+     * @param failed 서버 오류 여부 (응답 5xx, 4xx는 false)
+     */
+    public void recordRoute(String route, long nanos, boolean failed) {
+        histogram(routes, route).record(nanos, failed);
+    }
+
+    /**
+     * Service 메서드 호출 기록
+     *
+     * @param method "{ClassName}.{methodName}"
+     * @param nanos  소요 시간 (나노초)
+     * @param failed 예외 발생 여부 (비즈니스 예외 포함)
+     */
+    public void recordService(String method, long nanos, boolean failed) {
+        histogram(services, method).record(nanos, failed);
+    }
+
+    /**
+     * Service 메서드의 현재 누적 스냅샷
+     *
+     * @param method "{ClassName}.{methodName}"
+     * @return 기록이 없으면 null
+     */
+    public LatencyHistogram.Snapshot serviceSnapshot(String method) {
+        LatencyHistogram histogram = services.get(method);
+        return histogram != null ? histogram.snapshot() : null;
+    }
+
+    /**
+     * 기동 이후 누적 통계
+     */
+    public Report cumulative() {
+        long now = System.currentTimeMillis();
+        return new Report(false, 0, toStats(snapshots(routes), Map.of()), toStats(snapshots(services), Map.of()), now);
+    }
+
+    /**
+     * 직전 구간 조회 이후 변화분 통계 (호출 시 구간 기준점이 현재로 이동)
+     */
+    public synchronized Report interval() {
+        long now = System.currentTimeMillis();
+        Map<String, LatencyHistogram.Snapshot> routeSnapshots = snapshots(routes);
+        Map<String, LatencyHistogram.Snapshot> serviceSnapshots = snapshots(services);
+
+        Report report = new Report(true, now - lastIntervalAtMillis,
+                toStats(routeSnapshots, lastRouteSnapshots),
+                toStats(serviceSnapshots, lastServiceSnapshots),
+                now);
+
+        lastRouteSnapshots = routeSnapshots;
+        lastServiceSnapshots = serviceSnapshots;
+        lastIntervalAtMillis = now;
+        return report;
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String key) {
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    private static Map<String, LatencyHistogram.Snapshot> snapshots(Map<String, LatencyHistogram> histograms) {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new HashMap<>();
+        histograms.forEach((key, histogram) -> snapshots.put(key, histogram.snapshot()));
+        return snapshots;
+    }
+
+    private static List<Stats> toStats(Map<String, LatencyHistogram.Snapshot> current,
+                                       Map<String, LatencyHistogram.Snapshot> previous) {
+        List<Stats> stats = new ArrayList<>();
+        current.forEach((key, snapshot) -> {
+            LatencyHistogram.Snapshot window = previous.containsKey(key) ? snapshot.minus(previous.get(key)) : snapshot;
+            if (window.getCount() > 0) {
+                stats.add(Stats.of(key, window));
+            }
+        });
+        stats.sort(Comparator.comparing(Stats::getName));
+        return stats;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Report {
+        private final boolean interval;
+        private final long intervalMillis;
+        private final List<Stats> routes;
+        private final List<Stats> services;
+        private final long generatedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final String name;
+        private final long count;
+
+        /**
+         * API: 5xx 응답 수, Service: 예외로 끝난 호출 수
+         */
+        private final long errors;
+        private final double meanMs;
+        private final double p50Ms;
+        private final double p95Ms;
+        private final double p99Ms;
+        private final double maxMs;
+
+        static Stats of(String name, LatencyHistogram.Snapshot snapshot) {
+            return new Stats(name, snapshot.getCount(), snapshot.getErrors(),
+                    toMillis(snapshot.getMeanNanos()),
+                    toMillis(snapshot.percentile(50)),
+                    toMillis(snapshot.percentile(95)),
+                    toMillis(snapshot.percentile(99)),
+                    toMillis(snapshot.getMaxNanos()));
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / NANOS_PER_MILLI * 1000) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.cropkeeper.global.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 풀링 ID 세그먼트 값 보정
+ *
+ * IDENTITY에서 TABLE 전략으로 바뀐 테이블에는 AUTO_INCREMENT로 만든 행이 이미 있을 수 있고,
+ * JDBC로 직접 적재한 행도 id_generator를 거치지 않습니다.
+ * 세그먼트의 next_val이 (현재 최대 ID + ALLOCATION_SIZE)보다 크도록 올려서,
+ * 풀링 최적화기가 내주는 ID 범위(next_val - ALLOCATION_SIZE 초과)가 기존 행과 겹치지 않게 합니다.
+ *
+ * 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행되며, 값을 올리기만 하므로 여러 인스턴스가 동시에 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledIdReconciler implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    /**
+     * 모든 세그먼트 보정 (JDBC로 대량 적재한 뒤에도 호출)
+     */
+    public void reconcile() {
+        PooledIds.SEGMENTS.forEach((segment, idColumn) -> {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + idColumn.column() + "), 0) FROM " + idColumn.table(), Long.class);
+            long required = (maxId == null ? 0 : maxId) + PooledIds.ALLOCATION_SIZE + 1;
+            if (raise(segment, required)) {
+                log.info("풀링 ID 세그먼트 보정: segment={}, maxId={}, next_val={}", segment, maxId, required);
+            }
+        });
+    }
+
+    private boolean raise(String segment, long required) {
+        if (update(segment, required) > 0) {
+            return true;
+        }
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + PooledIds.TABLE + " WHERE " + PooledIds.SEGMENT_COLUMN + " = ?",
+                Integer.class, segment);
+        if (rows != null && rows > 0) {
+            return false;   // 이미 충분히 큼
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO " + PooledIds.TABLE
+                    + " (" + PooledIds.SEGMENT_COLUMN + ", " + PooledIds.VALUE_COLUMN + ") VALUES (?, ?)", segment, required);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스나 ID 생성기가 먼저 행을 만든 경우
+            return update(segment, required) > 0;
+        }
+    }
+
+    private int update(String segment, long required) {
+        return jdbcTemplate.update("UPDATE " + PooledIds.TABLE + " SET " + PooledIds.VALUE_COLUMN + " = ?"
+                        + " WHERE " + PooledIds.SEGMENT_COLUMN + " = ? AND " + PooledIds.VALUE_COLUMN + " < ?",
+                required, segment, required);
+    }
+}
@@ -0,0 +1,45 @@
+package com.cropkeeper.global.persistence;
+
+import java.util.Map;
+
+/**
+ * 테이블 기반 풀링 ID 생성기 설정 (@TableGenerator 속성값)
+ *
+ * IDENTITY 전략은 INSERT 후에야 ID를 알 수 있어 Hibernate JDBC 배치가 꺼지므로,
+ * 대량으로 쌓이는 영농일지 계층과 재고 엔티티는 id_generator 테이블에서 ID를 ALLOCATION_SIZE개씩 미리 받아 씁니다.
+ * MySQL에는 시퀀스가 없어 H2와 동작을 맞추기 위해 SEQUENCE 대신 TABLE 전략을 사용합니다.
+ *
+ * 기존 AUTO_INCREMENT로 쌓인 행과 겹치지 않도록 기동 시 PooledIdReconciler가 세그먼트 값을 맞춥니다.
+ */
+public final class PooledIds {
+
+    public static final String TABLE = "id_generator";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 세그먼트 이름 (@TableGenerator name, pkColumnValue로 함께 사용)
+    public static final String FARMING_LOG = "farming_log";
+    public static final String PEST_CONTROL_LOG = "pest_control_log";
+    public static final String CROP_INVENTORY = "crop_inventory";
+    public static final String FERTILIZER_INVENTORY = "fertilizer_inventory";
+    public static final String PESTICIDE_INVENTORY = "pesticide_inventory";
+    public static final String PLANT_INVENTORY = "plant_inventory";
+
+    /**
+     * 세그먼트별 (테이블, ID 컬럼)
+     */
+    static final Map<String, IdColumn> SEGMENTS = Map.of(
+            FARMING_LOG, new IdColumn("farming_log", "farming_log_id"),
+            PEST_CONTROL_LOG, new IdColumn("pest_control_log", "pest_control_log_id"),
+            CROP_INVENTORY, new IdColumn("crop_inventory", "crop_inventory_id"),
+            FERTILIZER_INVENTORY, new IdColumn("fertilizer_inventory", "fertilizer_inventory_id"),
+            PESTICIDE_INVENTORY, new IdColumn("pesticide_inventory", "pesticide_inventory_id"),
+            PLANT_INVENTORY, new IdColumn("plant_inventory", "plant_inventory_id"));
+
+    private PooledIds() {
+    }
+
+    record IdColumn(String table, String column) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.cropkeeper.global.persistence;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Controller 메서드(경로)별 쿼리 예산
+ *
+ * 요청 하나에서 실행된 SQL 수 또는 엔티티 로딩 수가 예산을 넘으면
+ * 접근 로그에 QUERY_BUDGET_EXCEEDED로 표시되고 WARN 레벨로 기록됩니다.
+ * 어노테이션이 없는 경로는 persistence.query-budget.* 기본값을 사용합니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@code
+ * @QueryBudget(maxQueries = 3)
+ * @GetMapping("/{farmId}")
+ * public ResponseEntity<FarmResponse> getFarmInfo(...) { ... }
+ * }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * 요청당 최대 SQL 실행 수
+     */
+    int maxQueries();
+
+    /**
+     * 요청당 최대 엔티티 로딩 수 (음수면 기본값 사용)
+     */
+    int maxEntityLoads() default -1;
+}
@@ -0,0 +1,200 @@
+package com.cropkeeper.global.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청별 쿼리 수 판단 (쿼리 예산 초과, N+1 의심)
+ *
+ * 판단 기준:
+ * - 예산 초과: SQL 실행 수 또는 엔티티 로딩 수가 경로별 예산(@QueryBudget, 없으면 기본값)을 넘은 경우
+ * - N+1 의심: 같은 SELECT 문이 n-plus-one-threshold회 이상 반복 실행된 경우
+ *   (지연 로딩 프록시 초기화는 매번 같은 SQL에 파라미터만 바뀌어 실행됨)
+ *
+ * 경로별로 요청 수, 예산 초과 수, N+1 의심 수, 최대 SQL 수를 누적합니다.
+ */
+@Component
+public class QueryBudgetMonitor {
+
+    private static final int MAX_SQL_LENGTH = 200;
+
+    private final boolean enabled;
+    private final int defaultMaxQueries;
+    private final int defaultMaxEntityLoads;
+    private final int nPlusOneThreshold;
+    private final int maxTrackedRoutes;
+
+    private final Map<String, RouteCounters> routes = new ConcurrentHashMap<>();
+
+    public QueryBudgetMonitor(
+            @Value("${persistence.query-budget.enabled:true}") boolean enabled,
+            @Value("${persistence.query-budget.max-queries:10}") int defaultMaxQueries,
+            @Value("${persistence.query-budget.max-entity-loads:100}") int defaultMaxEntityLoads,
+            @Value("${persistence.query-budget.n-plus-one-threshold:3}") int nPlusOneThreshold,
+            @Value("${persistence.query-budget.max-tracked-routes:1000}") int maxTrackedRoutes) {
+        this.enabled = enabled;
+        this.defaultMaxQueries = defaultMaxQueries;
+        this.defaultMaxEntityLoads = defaultMaxEntityLoads;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.maxTrackedRoutes = maxTrackedRoutes;
+    }
+
+    /**
+     * 현재 요청의 쿼리 사용량 판단 (요청 완료 시점에 호출)
+     *
+     * @param route   "{METHOD} {경로 템플릿}"
+     * @param handler 요청을 처리한 Controller 메서드 (@QueryBudget 확인)
+     * @return 비활성화 상태이거나 카운트 중인 Scope가 없으면 null
+     */
+    public QueryUsage evaluate(String route, Method handler) {
+        QueryCounter.Scope scope = QueryCounter.current();
+        if (!enabled || scope == null) {
+            return null;
+        }
+
+        int maxQueries = defaultMaxQueries;
+        int maxEntityLoads = defaultMaxEntityLoads;
+        QueryBudget budget = handler.getAnnotation(QueryBudget.class);
+        if (budget != null) {
+            maxQueries = budget.maxQueries();
+            if (budget.maxEntityLoads() >= 0) {
+                maxEntityLoads = budget.maxEntityLoads();
+            }
+        }
+
+        int statements = scope.getStatements();
+        int entityLoads = scope.getEntityLoads();
+        boolean overBudget = statements > maxQueries || entityLoads > maxEntityLoads;
+        boolean nPlusOne = scope.getMostRepeatedCount() >= nPlusOneThreshold;
+
+        String warning = null;
+        if (overBudget || nPlusOne) {
+            warning = warning(overBudget, statements, maxQueries, entityLoads, maxEntityLoads, nPlusOne, scope);
+        }
+
+        RouteCounters counters = counters(route);
+        if (counters != null) {
+            counters.record(statements, overBudget, nPlusOne, nPlusOne ? abbreviate(scope.getMostRepeatedSelect()) : null);
+        }
+
+        return new QueryUsage(statements, entityLoads, warning);
+    }
+
+    /**
+     * 경로별 누적 통계 (예산 초과 수 내림차순)
+     */
+    public Stats stats() {
+        List<RouteStats> result = new ArrayList<>();
+        routes.forEach((route, counters) -> result.add(counters.toStats(route)));
+        result.sort(Comparator.comparingLong(RouteStats::getOverBudget).reversed()
+                .thenComparing(Comparator.comparingLong(RouteStats::getNPlusOneSuspected).reversed())
+                .thenComparing(RouteStats::getRoute));
+        return new Stats(enabled, defaultMaxQueries, defaultMaxEntityLoads, nPlusOneThreshold, result);
+    }
+
+    private RouteCounters counters(String route) {
+        RouteCounters counters = routes.get(route);
+        if (counters == null && routes.size() < maxTrackedRoutes) {
+            counters = routes.computeIfAbsent(route, key -> new RouteCounters());
+        }
+        return counters;
+    }
+
+    private static String warning(boolean overBudget, int statements, int maxQueries,
+                                  int entityLoads, int maxEntityLoads,
+                                  boolean nPlusOne, QueryCounter.Scope scope) {
+        StringBuilder sb = new StringBuilder();
+        if (overBudget) {
+            sb.append("QUERY_BUDGET_EXCEEDED(queries=").append(statements).append('/').append(maxQueries)
+                    .append(", loads=").append(entityLoads).append('/').append(maxEntityLoads).append(')');
+        }
+        if (nPlusOne) {
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+            sb.append("N+1_SUSPECTED(x").append(scope.getMostRepeatedCount()).append(": ")
+                    .append(abbreviate(scope.getMostRepeatedSelect())).append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 로그용 SQL 한 줄 요약 (줄바꿈, 연속 공백 제거 후 길이 제한)
+     */
+    private static String abbreviate(String sql) {
+        String flattened = sql.replaceAll("\\s+", " ").trim();
+        return flattened.length() <= MAX_SQL_LENGTH ? flattened : flattened.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    /**
+     * 요청 하나의 쿼리 사용량
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class QueryUsage {
+        private final int statements;
+        private final int entityLoads;
+
+        /**
+         * 예산 초과, N+1 의심 내용 (문제 없으면 null)
+         */
+        private final String warning;
+    }
+
+    private static final class RouteCounters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder overBudget = new LongAdder();
+        private final LongAdder nPlusOneSuspected = new LongAdder();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+        private volatile String lastRepeatedSelect;
+
+        void record(int statements, boolean exceeded, boolean nPlusOne, String repeatedSelect) {
+            requests.increment();
+            if (exceeded) {
+                overBudget.increment();
+            }
+            if (nPlusOne) {
+                nPlusOneSuspected.increment();
+                lastRepeatedSelect = repeatedSelect;
+            }
+            maxStatements.accumulateAndGet(statements, Math::max);
+        }
+
+        RouteStats toStats(String route) {
+            return new RouteStats(route, requests.sum(), overBudget.sum(), nPlusOneSuspected.sum(),
+                    maxStatements.get(), lastRepeatedSelect);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final boolean enabled;
+        private final int defaultMaxQueries;
+        private final int defaultMaxEntityLoads;
+        private final int nPlusOneThreshold;
+        private final List<RouteStats> routes;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RouteStats {
+        private final String route;
+        private final long requests;
+        private final long overBudget;
+        private final long nPlusOneSuspected;
+        private final int maxQueries;
+        private final String lastRepeatedSelect;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cropkeeper.global.persistence;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 단위 QueryCounter Scope 관리 필터
+ *
+ * 추적 필터(TracingFilter) 다음, 보안 필터보다 먼저 실행되어 인증 과정의 조회까지 요청 하나의 카운트로 묶습니다.
+ * 카운트는 ControllerLoggingAspect가 요청 완료 시점에 읽어 접근 로그와 쿼리 예산 판단에 사용합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (QueryCounter.Scope ignored = QueryCounter.open()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
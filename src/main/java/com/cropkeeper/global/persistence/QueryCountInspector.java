@@ -0,0 +1,19 @@
+package com.cropkeeper.global.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 실행되는 SQL을 QueryCounter에 기록하는 StatementInspector
+ *
+ * hibernate.session_factory.statement_inspector 속성으로 등록하며 (application.yml),
+ * Hibernate가 클래스 이름으로 생성하므로 상태를 갖지 않습니다.
+ * SQL은 변경하지 않고 그대로 반환합니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.recordStatement(sql);
+        return sql;
+    }
+}
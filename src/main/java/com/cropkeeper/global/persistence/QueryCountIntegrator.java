@@ -0,0 +1,35 @@
+package com.cropkeeper.global.persistence;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 엔티티 로딩(지연 로딩 프록시 초기화 포함)을 QueryCounter에 기록하는 Hibernate Integrator
+ *
+ * META-INF/services/org.hibernate.integrator.spi.Integrator로 등록되므로
+ * 애플리케이션 컨텍스트 구성과 관계없이(@DataJpaTest 포함) 항상 적용됩니다.
+ */
+public class QueryCountIntegrator implements Integrator {
+
+    private static final PostLoadEventListener ENTITY_LOAD_LISTENER = event -> QueryCounter.recordEntityLoad();
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        if (registry != null) {
+            registry.appendListeners(EventType.POST_LOAD, ENTITY_LOAD_LISTENER);
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // 정리할 자원 없음
+    }
+}
@@ -0,0 +1,137 @@
+package com.cropkeeper.global.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스레드별 SQL 실행 수, 엔티티 로딩 수 카운터
+ *
+ * - QueryCountInspector(StatementInspector)가 SQL 실행마다, QueryCountIntegrator가 엔티티 로딩마다 기록
+ * - 기록은 열려 있는 Scope에만 반영되며, Scope가 없으면 아무 일도 하지 않음
+ * - Scope는 중첩 가능하고, 안쪽 Scope의 기록은 바깥 Scope에도 함께 반영됨
+ *   (테스트에서 연 Scope 안에서 MockMvc 요청의 Scope가 열리는 경우 등)
+ *
+ * 같은 SELECT 문이 반복 실행되면 N+1 의심으로 판단할 수 있도록 SQL별 실행 횟수도 기록합니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 새 Scope 열기 (try-with-resources로 닫기)
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 현재 스레드에서 가장 안쪽 Scope (없으면 null)
+     */
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    static void recordStatement(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.onStatement(sql);
+        }
+    }
+
+    static void recordEntityLoad() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.entityLoads++;
+        }
+    }
+
+    /**
+     * 카운트 범위 (한 스레드에서만 사용)
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int statements;
+        private int entityLoads;
+
+        /**
+         * SELECT 문별 실행 횟수 (첫 SELECT 실행 시 생성)
+         */
+        private Map<String, Integer> selectCounts;
+        private String mostRepeatedSelect;
+        private int mostRepeatedCount;
+
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getEntityLoads() {
+            return entityLoads;
+        }
+
+        /**
+         * 가장 많이 반복된 SELECT 문 (없으면 null)
+         */
+        public String getMostRepeatedSelect() {
+            return mostRepeatedSelect;
+        }
+
+        public int getMostRepeatedCount() {
+            return mostRepeatedCount;
+        }
+
+        private void onStatement(String sql) {
+            statements++;
+            if (!isSelect(sql)) {
+                return;
+            }
+
+            if (selectCounts == null) {
+                selectCounts = new HashMap<>();
+            }
+            int count = selectCounts.merge(sql, 1, Integer::sum);
+            if (count > mostRepeatedCount) {
+                mostRepeatedCount = count;
+                mostRepeatedSelect = sql;
+            }
+        }
+
+        /**
+         * Scope 닫기 (닫히지 않은 안쪽 Scope가 남아 있으면 함께 정리)
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+                if (scope == this) {
+                    if (parent == null) {
+                        CURRENT.remove();
+                    } else {
+                        CURRENT.set(parent);
+                    }
+                    return;
+                }
+            }
+        }
+
+        private static boolean isSelect(String sql) {
+            int i = 0;
+            while (i < sql.length() && Character.isWhitespace(sql.charAt(i))) {
+                i++;
+            }
+            return sql.regionMatches(true, i, "select", 0, 6);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.cropkeeper.global.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 접근 권한 검증 AOP(FarmAccessAspect, MemberAccessAspect) 소요 시간
+ */
+@Name("com.cropkeeper.AccessCheck")
+@Label("Access Check")
+@Description("농장/회원 접근 권한 검증 소요 시간")
+public class AccessCheckEvent extends ProfilingEvent {
+
+    public static final String FARM = "FARM";
+    public static final String MEMBER = "MEMBER";
+
+    @Label("Check")
+    String check;
+
+    /**
+     * 검증 대상 ID (farmId 또는 memberId, 파라미터가 없으면 0)
+     */
+    @Label("Target ID")
+    long targetId;
+
+    @Label("Granted")
+    boolean granted;
+
+    /**
+     * 이벤트 시작 (프로파일링 비활성화 시 null)
+     */
+    public static AccessCheckEvent begin(String check) {
+        if (!JfrProfiling.isEnabled()) {
+            return null;
+        }
+        AccessCheckEvent event = new AccessCheckEvent();
+        event.check = check;
+        event.begin();
+        return event;
+    }
+
+    public static void end(AccessCheckEvent event, Long targetId, boolean granted) {
+        if (event != null) {
+            event.targetId = targetId != null ? targetId : 0;
+            event.granted = granted;
+            JfrProfiling.commit(event);
+        }
+    }
+}
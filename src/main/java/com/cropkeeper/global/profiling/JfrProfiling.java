@@ -0,0 +1,77 @@
+package com.cropkeeper.global.profiling;
+
+import com.cropkeeper.global.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * JFR 커스텀 이벤트 스위치 (profiling.jfr.enabled, 기본 false)
+ *
+ * 비활성화 시:
+ * - 각 이벤트의 begin()이 객체 생성 없이 null을 반환하므로 static 필드 읽기 한 번의 비용만 발생
+ * - Repository 호출 AOP(RepositoryProfilingAspect)는 tracing.enabled(기본 true)일 때는 추적 구간용으로 계속 등록되며,
+ *   이때 RepositoryCallEvent.begin()도 null을 반환하므로 JFR 비용은 없음. 둘 다 꺼야 AOP가 등록되지 않음
+ *
+ * 활성화 시에도 JFR 기록 중이 아니면 이벤트는 버려지며,
+ * route, memberId 조회는 실제로 기록되는 이벤트(shouldCommit)에만 수행합니다.
+ *
+ * 기록 예시: java -XX:StartFlightRecording=filename=cropkeeper.jfr,settings=profile ...
+ * 요약: ./gradlew analyzeJfr -Pjfr=cropkeeper.jfr (JfrRecordingAnalyzer)
+ */
+@Slf4j
+@Component
+public class JfrProfiling {
+
+    private static volatile boolean enabled;
+
+    public JfrProfiling(@Value("${profiling.jfr.enabled:false}") boolean enabled) {
+        JfrProfiling.enabled = enabled;
+        if (enabled) {
+            log.info("JFR 커스텀 이벤트 활성화 (com.cropkeeper.*)");
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이벤트 종료 후 기록 (기록 대상이면 route, memberId를 채움)
+     */
+    static void commit(ProfilingEvent event) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.route = currentRoute();
+        event.memberId = currentMemberId();
+        event.commit();
+    }
+
+    private static String currentRoute() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getId() != null) {
+            return principal.getId();
+        }
+        return 0;
+    }
+}
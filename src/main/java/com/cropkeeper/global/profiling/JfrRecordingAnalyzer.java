@@ -0,0 +1,217 @@
+package com.cropkeeper.global.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 기록 파일 오프라인 요약 도구 (GUI 없이 com.cropkeeper.* 이벤트 확인)
+ *
+ * 실행: ./gradlew analyzeJfr -Pjfr=cropkeeper.jfr [-Ptop=20]
+ *
+ * 출력:
+ * - 이벤트 종류별로 키(단계, 검증 종류, 메서드)마다 호출 수, 실패 수, 합계/평균/p50/p95/p99/최대(ms)
+ *   (합계 내림차순, 상위 top개)
+ * - 경로별 합계 (모든 CropKeeper 이벤트의 소요 시간을 route 기준으로 합산)
+ */
+public final class JfrRecordingAnalyzer {
+
+    private static final String EVENT_PREFIX = "com.cropkeeper.";
+    private static final int DEFAULT_TOP = 20;
+
+    private JfrRecordingAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: JfrRecordingAnalyzer <recording.jfr> [top]");
+            System.exit(1);
+        }
+        Path file = Path.of(args[0]);
+        if (!Files.exists(file)) {
+            System.err.println("기록 파일이 없습니다: " + file);
+            System.exit(1);
+        }
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TOP;
+
+        Summary summary = summarize(file);
+        summary.print(System.out, top);
+    }
+
+    /**
+     * 기록 파일의 CropKeeper 이벤트 집계
+     */
+    static Summary summarize(Path file) throws IOException {
+        Summary summary = new Summary();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if (type.startsWith(EVENT_PREFIX)) {
+                    summary.add(type.substring(EVENT_PREFIX.length()), event);
+                }
+            }
+        }
+        return summary;
+    }
+
+    static final class Summary {
+
+        /**
+         * 이벤트 종류 → 키 → 집계
+         */
+        private final Map<String, Map<String, Group>> byType = new TreeMap<>();
+        private final Map<String, Group> byRoute = new TreeMap<>();
+
+        void add(String type, RecordedEvent event) {
+            long nanos = event.getDuration().toNanos();
+            boolean failed = isFailed(event);
+
+            byType.computeIfAbsent(type, t -> new TreeMap<>())
+                    .computeIfAbsent(key(type, event), k -> new Group(k))
+                    .add(nanos, failed);
+
+            String route = event.hasField("route") ? event.getString("route") : null;
+            byRoute.computeIfAbsent(route != null ? route : "(요청 외)", r -> new Group(r)).add(nanos, failed);
+        }
+
+        /**
+         * 이벤트 종류, 키별 집계 (없으면 null)
+         */
+        Group group(String type, String key) {
+            Map<String, Group> groups = byType.get(type);
+            return groups != null ? groups.get(key) : null;
+        }
+
+        /**
+         * 경로별 집계 (요청 밖 이벤트는 "(요청 외)", 없으면 null)
+         */
+        Group route(String route) {
+            return byRoute.get(route);
+        }
+
+        void print(PrintStream out, int top) {
+            if (byType.isEmpty()) {
+                out.println("CropKeeper 이벤트가 없습니다 (profiling.jfr.enabled=true로 기록했는지 확인)");
+                return;
+            }
+            byType.forEach((type, groups) -> printTable(out, type, groups.values(), top));
+            printTable(out, "Route (전체 이벤트 합계)", byRoute.values(), top);
+        }
+
+        private static void printTable(PrintStream out, String title, Iterable<Group> groups, int top) {
+            List<Group> sorted = new ArrayList<>();
+            groups.forEach(sorted::add);
+            sorted.sort(Comparator.comparingLong(Group::totalNanos).reversed());
+
+            out.println();
+            out.println("== " + title + " ==");
+            out.printf("%-60s %8s %6s %10s %9s %9s %9s %9s %9s%n",
+                    "key", "count", "fail", "total(ms)", "mean", "p50", "p95", "p99", "max");
+            for (Group group : sorted.subList(0, Math.min(top, sorted.size()))) {
+                group.print(out);
+            }
+        }
+
+        /**
+         * 이벤트 종류별 집계 키
+         */
+        private static String key(String type, RecordedEvent event) {
+            return switch (type) {
+                case "JwtAuthentication" -> event.getString("phase");
+                case "AccessCheck" -> event.getString("check");
+                default -> event.hasField("method") ? event.getString("method") : type;
+            };
+        }
+
+        private static boolean isFailed(RecordedEvent event) {
+            if (event.hasField("failed")) {
+                return event.getBoolean("failed");
+            }
+            if (event.hasField("success")) {
+                return !event.getBoolean("success");
+            }
+            if (event.hasField("granted")) {
+                return !event.getBoolean("granted");
+            }
+            return false;
+        }
+    }
+
+    static final class Group {
+        private final String key;
+        private long[] durations = new long[64];
+        private int count;
+        private int failed;
+        private long totalNanos;
+
+        Group(String key) {
+            this.key = key;
+        }
+
+        void add(long nanos, boolean fail) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = nanos;
+            totalNanos += nanos;
+            if (fail) {
+                failed++;
+            }
+        }
+
+        long totalNanos() {
+            return totalNanos;
+        }
+
+        int count() {
+            return count;
+        }
+
+        int failed() {
+            return failed;
+        }
+
+        /**
+         * 백분위 소요 시간 (nearest-rank)
+         */
+        long percentileNanos(double percentile) {
+            long[] sorted = Arrays.copyOf(durations, count);
+            Arrays.sort(sorted);
+            return percentile(sorted, percentile);
+        }
+
+        void print(PrintStream out) {
+            long[] sorted = Arrays.copyOf(durations, count);
+            Arrays.sort(sorted);
+            out.printf("%-60s %8d %6d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                    abbreviate(key), count, failed,
+                    millis(totalNanos), millis(totalNanos / count),
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                    millis(percentile(sorted, 99)), millis(sorted[count - 1]));
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+
+        private static String abbreviate(String value) {
+            return value.length() <= 60 ? value : value.substring(0, 57) + "...";
+        }
+    }
+}
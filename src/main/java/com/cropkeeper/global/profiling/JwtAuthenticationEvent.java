@@ -0,0 +1,46 @@
+package com.cropkeeper.global.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JWT 인증 필터 단계별 소요 시간
+ *
+ * - VERIFY: 토큰 파싱과 서명 검증 (검증 토큰 캐시 적중 시 조회만), 폐기 여부 확인
+ * - PRINCIPAL_LOAD: 토큰 클레임 또는 DB로 사용자 정보 구성
+ */
+@Name("com.cropkeeper.JwtAuthentication")
+@Label("JWT Authentication")
+@Description("JWT 인증 필터 단계별 소요 시간")
+public class JwtAuthenticationEvent extends ProfilingEvent {
+
+    public static final String VERIFY = "VERIFY";
+    public static final String PRINCIPAL_LOAD = "PRINCIPAL_LOAD";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * 이벤트 시작 (프로파일링 비활성화 시 null)
+     */
+    public static JwtAuthenticationEvent begin(String phase) {
+        if (!JfrProfiling.isEnabled()) {
+            return null;
+        }
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    public static void end(JwtAuthenticationEvent event, boolean success) {
+        if (event != null) {
+            event.success = success;
+            JfrProfiling.commit(event);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.cropkeeper.global.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * CropKeeper JFR 이벤트 공통 필드
+ *
+ * route, memberId는 이벤트가 실제로 기록될 때만(shouldCommit) JfrProfiling.commit()이 채웁니다.
+ */
+@Category("CropKeeper")
+@StackTrace(false)
+public abstract class ProfilingEvent extends jdk.jfr.Event {
+
+    /**
+     * "{METHOD} {경로 템플릿}" (경로 매칭 전이면 실제 URI, HTTP 요청이 아니면 null)
+     */
+    @Label("Route")
+    String route;
+
+    /**
+     * 인증된 회원 ID (미인증이면 0)
+     */
+    @Label("Member ID")
+    long memberId;
+}
@@ -0,0 +1,43 @@
+package com.cropkeeper.global.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Repository 메서드 호출 소요 시간 (쿼리 실행 포함)
+ */
+@Name("com.cropkeeper.RepositoryCall")
+@Label("Repository Call")
+@Description("Repository 메서드 호출 소요 시간 (쿼리 실행 포함)")
+public class RepositoryCallEvent extends ProfilingEvent {
+
+    /**
+     * "{ClassName}.{methodName}" (예: FarmRepository.findOwnerIdById)
+     */
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * 이벤트 시작 (프로파일링 비활성화 시 null)
+     */
+    public static RepositoryCallEvent begin(String method) {
+        if (!JfrProfiling.isEnabled()) {
+            return null;
+        }
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.method = method;
+        event.begin();
+        return event;
+    }
+
+    public static void end(RepositoryCallEvent event, boolean failed) {
+        if (event != null) {
+            event.failed = failed;
+            JfrProfiling.commit(event);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.cropkeeper.global.profiling;
+
+import com.cropkeeper.global.tracing.Span;
+import com.cropkeeper.global.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repository 호출 JFR 이벤트, REPOSITORY 추적 구간 AOP
+ *
+ * profiling.jfr.enabled 또는 tracing.enabled일 때만 등록되므로,
+ * 둘 다 비활성화 시 Repository 프록시에 AOP 호출 비용이 추가되지 않습니다.
+ * 상속받은 메서드(findById, save 등)도 포함하도록 Spring Data Repository 하위 타입 전체를 대상으로 합니다.
+ */
+@Aspect
+@Component
+@ConditionalOnExpression("${profiling.jfr.enabled:false} or ${tracing.enabled:true}")
+public class RepositoryProfilingAspect {
+
+    /**
+     * 프록시 클래스 → 애플리케이션 Repository 인터페이스 이름
+     */
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> proxyType) {
+            for (Class<?> type : proxyType.getInterfaces()) {
+                if (type.getName().startsWith("com.cropkeeper.")) {
+                    return type.getSimpleName();
+                }
+            }
+            return proxyType.getSimpleName();
+        }
+    };
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object profileRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = REPOSITORY_NAMES.get(joinPoint.getThis().getClass()) + "." + joinPoint.getSignature().getName();
+        RepositoryCallEvent event = RepositoryCallEvent.begin(name);
+        Span span = Tracer.start(Span.Kind.REPOSITORY, name);
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            RepositoryCallEvent.end(event, failed);
+            Tracer.end(span, failed);
+        }
+    }
+}
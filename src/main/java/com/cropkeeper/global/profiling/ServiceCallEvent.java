@@ -0,0 +1,43 @@
+package com.cropkeeper.global.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Service 메서드 호출 소요 시간
+ */
+@Name("com.cropkeeper.ServiceCall")
+@Label("Service Call")
+@Description("Service 메서드 호출 소요 시간")
+public class ServiceCallEvent extends ProfilingEvent {
+
+    /**
+     * "{ClassName}.{methodName}" (예: FarmService.findById)
+     */
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * 이벤트 시작 (프로파일링 비활성화 시 null)
+     */
+    public static ServiceCallEvent begin(String method) {
+        if (!JfrProfiling.isEnabled()) {
+            return null;
+        }
+        ServiceCallEvent event = new ServiceCallEvent();
+        event.method = method;
+        event.begin();
+        return event;
+    }
+
+    public static void end(ServiceCallEvent event, boolean failed) {
+        if (event != null) {
+            event.failed = failed;
+            JfrProfiling.commit(event);
+        }
+    }
+}
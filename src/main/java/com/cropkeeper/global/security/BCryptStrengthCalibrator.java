@@ -0,0 +1,67 @@
+package com.cropkeeper.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 서버 성능에 맞춰 BCrypt strength를 결정하는 유틸리티
+ *
+ * 최소 strength부터 한 단계씩 올리며 해시 시간을 측정하고,
+ * 목표 시간을 넘지 않는 가장 높은 strength를 선택합니다.
+ * (strength가 1 오를 때마다 해시 시간은 약 두 배가 됩니다.)
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibrate123!";
+    private static final int SAMPLES = 2;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * 목표 해시 시간에 맞는 strength 계산
+     *
+     * @param targetMillis 목표 해시 시간 (밀리초)
+     * @param minStrength  최소 strength (목표를 넘더라도 이 값 아래로 내리지 않음)
+     * @param maxStrength  최대 strength
+     * @return 선택된 strength
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        int chosen = minStrength;
+        long chosenMillis = 0;
+
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsedMillis = measure(strength);
+            if (elapsedMillis > targetMillis && strength > minStrength) {
+                break;
+            }
+
+            chosen = strength;
+            chosenMillis = elapsedMillis;
+
+            // 다음 단계는 약 두 배이므로 목표를 넘으면 측정하지 않음
+            if (elapsedMillis * 2 > targetMillis) {
+                break;
+            }
+        }
+
+        log.info("BCrypt strength 결정: strength = {}, 해시 시간 = {}ms, 목표 = {}ms",
+                chosen, chosenMillis, targetMillis);
+        return chosen;
+    }
+
+    /**
+     * 지정한 strength의 해시 시간 측정 (여러 번 측정하여 최소값 사용)
+     */
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,95 @@
+package com.cropkeeper.global.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 블룸 필터 (스레드 안전)
+ *
+ * - mightContain()이 false면 확실히 없는 키, true면 있을 수도 있는 키입니다.
+ * - 삭제를 지원하지 않으므로 주기적으로 새 필터를 만들어 교체합니다.
+ * - 해시 k개는 64비트 해시 두 개를 조합(double hashing)하여 만듭니다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 크기와 해시 수를 계산하여 생성
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 오탐률 (0 ~ 1)
+     * @return 빈 블룸 필터
+     */
+    static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * ln2));
+        return new BloomFilter(m, k);
+    }
+
+    void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            long mask = 1L << bitIndex;
+            int wordIndex = (int) (bitIndex >>> 6);
+            if ((bits.get(wordIndex) & mask) == 0) {
+                bits.getAndUpdate(wordIndex, word -> word | mask);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 최종 혼합을 적용
+     */
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,35 @@
+package com.cropkeeper.global.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해싱 연산을 PasswordHashingExecutor에서 실행하는 PasswordEncoder
+ *
+ * - encode(), matches()는 전용 스레드에서 실행되고, 포화 시 PasswordHashingBusyException이 발생합니다.
+ * - upgradeEncoding()은 해시 접두부만 확인하므로 호출 스레드에서 바로 처리합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor) {
+        this.delegate = delegate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -5,6 +5,7 @@ import com.cropkeeper.domain.member.entity.Member;
 import com.cropkeeper.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -21,10 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
  * 사용 시점:
  * 1. 로그인 시: 사용자가 입력한 username으로 DB 조회
  * 2. JWT 검증 시: 토큰에서 추출한 username으로 DB 조회
+ * 3. 로그인 성공 시 저장된 해시의 strength가 낮으면 새 해시로 갱신 (UserDetailsPasswordService)
  */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -77,4 +79,26 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new UserPrincipal(member);
     }
+
+    /**
+     * 비밀번호 해시 갱신 (rehash-on-login)
+     *
+     * 로그인에 성공했고 저장된 해시의 strength가 현재 설정보다 낮을 때 Spring Security가 호출합니다.
+     * 비밀번호 자체는 바뀌지 않으므로 토큰 버전은 유지합니다.
+     *
+     * @param user        인증된 사용자 정보
+     * @param newPassword 새 strength로 해싱된 비밀번호
+     * @return 갱신된 사용자 정보
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        "사용자를 찾을 수 없습니다: " + user.getUsername()
+                ));
+
+        member.rehashPassword(newPassword);
+        return new UserPrincipal(member);
+    }
 }
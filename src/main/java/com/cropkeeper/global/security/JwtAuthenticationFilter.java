@@ -1,11 +1,14 @@
 package com.cropkeeper.global.security;
 
+import com.cropkeeper.global.profiling.JwtAuthenticationEvent;
+import com.cropkeeper.global.tracing.Span;
+import com.cropkeeper.global.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -26,14 +29,51 @@ import java.io.IOException;
  * - OncePerRequestFilter를 상속받아 요청당 한 번만 실행됨
  *
  * 실행 시점: 모든 API 요청 전에 자동 실행
+ *
+ * Stateless 모드 (jwt.stateless-principal-enabled, 기본 true):
+ * - 액세스 토큰의 memberId, role, 토큰 버전 클레임으로 UserPrincipal을 구성 (DB 조회 없음)
+ * - 클레임이 없는 구버전 토큰이거나 토큰 버전이 변경된 회원이면 DB 조회 경로로 전환
+ *
+ * 폐기 확인:
+ * - 로그아웃 등으로 폐기된 토큰(jti)은 인증하지 않음 (블룸 필터 우선 확인)
+ *
+ * 토큰 타입 확인:
+ * - 액세스 토큰만 인증에 사용하며, 리프레시 토큰을 Bearer로 보내면 401로 거부 (다음 필터로 넘기지 않음)
+ *
+ * 프로파일링 (profiling.jfr.enabled):
+ * - 토큰 검증(VERIFY), 사용자 정보 구성(PRINCIPAL_LOAD) 단계를 JFR 이벤트로 기록
+ * - 인증 처리 전체를 AUTH 추적 구간으로 기록 (다음 필터로 넘기기 전까지)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 인증에 사용된 ParsedToken을 담는 요청 속성 이름 (로그아웃 시 사용)
+     */
+    public static final String PARSED_TOKEN_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".PARSED_TOKEN";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final MemberTokenVersionRegistry memberTokenVersionRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final boolean statelessPrincipalEnabled;
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            UserDetailsService userDetailsService,
+            MemberTokenVersionRegistry memberTokenVersionRegistry,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationList tokenRevocationList,
+            @Value("${jwt.stateless-principal-enabled:true}") boolean statelessPrincipalEnabled) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.memberTokenVersionRegistry = memberTokenVersionRegistry;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.statelessPrincipalEnabled = statelessPrincipalEnabled;
+    }
 
     /**
      * 필터의 핵심 메서드 - 모든 요청마다 실행됨
@@ -48,45 +88,125 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
+        Span span = Tracer.start(Span.Kind.AUTH, "JwtAuthenticationFilter");
+        boolean authFailed = false;
+        boolean rejected = false;
         try {
             // 1. 요청 헤더에서 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
 
-            // 2. 토큰이 존재하고 유효한지 검증
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                // 3. 토큰에서 사용자 이름 추출
-                String username = jwtTokenProvider.getUsername(jwt);
-
-                // 4. 사용자 이름으로 DB에서 사용자 정보 조회
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                // 5. 인증 객체 생성
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,            // 인증된 사용자 정보
-                                null,                   // 비밀번호 (JWT에서는 불필요)
-                                userDetails.getAuthorities()  // 권한 정보
-                        );
-
-                // 6. 요청 정보를 인증 객체에 추가
-                authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-
-                // 7. SecurityContext에 인증 정보 저장
-                // 이후 @AuthenticationPrincipal로 현재 사용자 정보 조회 가능
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            // 2. 토큰 서명 검증 및 클레임 추출 (캐시 적중 시 검증 생략)
+            ParsedToken parsedToken = null;
+            boolean revoked = false;
+            if (StringUtils.hasText(jwt)) {
+                JwtAuthenticationEvent verifyEvent = JwtAuthenticationEvent.begin(JwtAuthenticationEvent.VERIFY);
+                try {
+                    parsedToken = verifiedTokenCache.getOrVerify(jwt);
+                    revoked = parsedToken != null && parsedToken.isAccessToken()
+                            && tokenRevocationList.isRevoked(parsedToken);
+                } finally {
+                    JwtAuthenticationEvent.end(verifyEvent,
+                            parsedToken != null && parsedToken.isAccessToken() && !revoked);
+                }
+            }
 
-                log.debug("JWT 인증 성공: {}", username);
+            if (parsedToken != null && !parsedToken.isAccessToken()) {
+                // 리프레시 토큰은 회전, 재사용 감지, family 폐기를 거쳐야 하므로 Bearer 인증에 사용할 수 없음
+                log.debug("액세스 토큰이 아닌 토큰으로 인증 거부: subject = {}, type = {}",
+                        parsedToken.getSubject(), parsedToken.getType());
+                rejected = true;
+            } else if (revoked) {
+                log.debug("폐기된 토큰으로 인증 거부: {}", parsedToken.getSubject());
+            } else if (parsedToken != null) {
+                // 3~4. 토큰 클레임 또는 DB에서 사용자 정보 구성
+                UserDetails userDetails = null;
+                JwtAuthenticationEvent principalEvent = JwtAuthenticationEvent.begin(JwtAuthenticationEvent.PRINCIPAL_LOAD);
+                try {
+                    userDetails = resolveUserDetails(parsedToken);
+                } finally {
+                    JwtAuthenticationEvent.end(principalEvent, userDetails != null);
+                }
+
+                if (userDetails != null) {
+                    // 5~7. 인증 객체 생성 후 SecurityContext에 저장
+                    // 이후 @AuthenticationPrincipal로 현재 사용자 정보 조회 가능
+                    setAuthentication(userDetails, request);
+                    request.setAttribute(PARSED_TOKEN_ATTRIBUTE, parsedToken);
+
+                    log.debug("JWT 인증 성공: {}", userDetails.getUsername());
+                }
             }
         } catch (Exception e) {
+            authFailed = true;
             log.error("SecurityContext에 사용자 인증 정보를 설정할 수 없습니다.", e);
+        } finally {
+            Tracer.end(span, authFailed || rejected);
+        }
+
+        if (rejected) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "액세스 토큰이 아닙니다.");
+            return;
         }
 
         // 8. 다음 필터로 요청 전달 (중요!)
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 인증 객체를 생성하여 SecurityContext에 저장
+     *
+     * @param userDetails 인증된 사용자 정보
+     * @param request HTTP 요청
+     */
+    private void setAuthentication(UserDetails userDetails, HttpServletRequest request) {
+        // 인증 객체 생성
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails,            // 인증된 사용자 정보
+                        null,                   // 비밀번호 (JWT에서는 불필요)
+                        userDetails.getAuthorities()  // 권한 정보
+                );
+
+        // 요청 정보를 인증 객체에 추가
+        authentication.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    /**
+     * 토큰으로부터 사용자 정보 구성
+     *
+     * 1. Stateless 모드이고 토큰에 회원 클레임이 있으며 토큰 버전이 최신이면 클레임으로 구성
+     * 2. 그 외에는 DB에서 회원을 조회하고, 토큰 버전이 DB 버전과 다르면 인증하지 않음
+     *
+     * @param parsedToken 검증된 토큰 클레임
+     * @return 사용자 정보 (토큰 버전이 만료된 경우 null)
+     */
+    private UserDetails resolveUserDetails(ParsedToken parsedToken) {
+        if (statelessPrincipalEnabled) {
+            UserPrincipal principal = jwtTokenProvider.getStatelessPrincipal(parsedToken);
+            if (principal != null
+                    && !memberTokenVersionRegistry.isStale(principal.getId(), principal.getTokenVersion())) {
+                return principal;
+            }
+        }
+
+        String username = parsedToken.getSubject();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+        Long tokenVersion = parsedToken.getLongClaim(JwtTokenProvider.CLAIM_TOKEN_VERSION);
+        if (tokenVersion != null && userDetails instanceof UserPrincipal principal
+                && !tokenVersion.equals(principal.getTokenVersion())) {
+            log.debug("토큰 버전 불일치로 인증 거부: username = {}, tokenVersion = {}, currentVersion = {}",
+                    username, tokenVersion, principal.getTokenVersion());
+            return null;
+        }
+
+        return userDetails;
+    }
+
     /**
      * HTTP 요청 헤더에서 JWT 토큰 추출
      *
@@ -0,0 +1,192 @@
+package com.cropkeeper.global.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * JWT 서명/검증 키 모음 (불변)
+ *
+ * 모드:
+ * - HS256: jwt.secret-key 하나로 서명과 검증 (기본값, kid 헤더 없음)
+ * - EdDSA(Ed25519) / ES256: 키 디렉터리의 공개키로 검증하고, 활성 kid의 개인키로만 서명
+ *
+ * 키 디렉터리 구성 (비대칭 모드):
+ * - {kid}.pub.pem : X.509 공개키 (검증용, 필수)
+ * - {kid}.key.pem : PKCS#8 개인키 (활성 kid만 읽음)
+ *
+ * 키 교체:
+ * - 새 키를 추가하고 active-kid를 바꾸면 이전 키는 검증 전용으로 남습니다.
+ * - 이전 키의 공개키 파일은 그 키로 발급된 토큰이 모두 만료된 뒤(리프레시 토큰 만료 시간 이후) 제거합니다.
+ * - 비대칭 모드에서도 jwt.secret-key가 있으면 kid 없는 기존 HS256 토큰을 만료 전까지 검증합니다.
+ *
+ * 검증 키는 기동 시 한 번 디코딩하여 불변 Map에 보관하므로 조회에 잠금이 없습니다.
+ */
+@Slf4j
+@Getter
+public final class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final String PUBLIC_KEY_SUFFIX = ".pub.pem";
+    private static final String PRIVATE_KEY_SUFFIX = ".key.pem";
+
+    private final Algorithm algorithm;
+    private final String activeKid;
+    private final Key signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final Key legacyVerificationKey;
+
+    private JwtKeyRing(Algorithm algorithm, String activeKid, Key signingKey,
+                       Map<String, Key> verificationKeys, Key legacyVerificationKey) {
+        this.algorithm = algorithm;
+        this.activeKid = activeKid;
+        this.signingKey = signingKey;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.legacyVerificationKey = legacyVerificationKey;
+    }
+
+    /**
+     * HMAC 단일 키 구성
+     *
+     * @param base64SecretKey Base64로 인코딩된 비밀키
+     */
+    public static JwtKeyRing hmac(String base64SecretKey) {
+        SecretKey secretKey = hmacKey(base64SecretKey);
+        return new JwtKeyRing(Algorithm.HS256, null, secretKey, Map.of(), secretKey);
+    }
+
+    /**
+     * 메모리의 키 쌍으로 비대칭 키 구성 (벤치마크, 테스트용)
+     *
+     * @param algorithm 서명 알고리즘
+     * @param kid       키 ID
+     * @param keyPair   서명/검증 키 쌍
+     */
+    public static JwtKeyRing of(Algorithm algorithm, String kid, KeyPair keyPair) {
+        return new JwtKeyRing(algorithm, kid, keyPair.getPrivate(), Map.of(kid, keyPair.getPublic()), null);
+    }
+
+    /**
+     * 설정값으로 키 구성
+     *
+     * @param algorithm       서명 알고리즘
+     * @param base64SecretKey HMAC 비밀키 (비대칭 모드에서는 기존 토큰 검증용, 선택)
+     * @param keyDir          키 디렉터리 (비대칭 모드 필수)
+     * @param activeKid       서명에 사용할 kid (비대칭 모드 필수)
+     */
+    public static JwtKeyRing load(Algorithm algorithm, String base64SecretKey, String keyDir, String activeKid) {
+        if (algorithm == Algorithm.HS256) {
+            return hmac(base64SecretKey);
+        }
+
+        if (!StringUtils.hasText(keyDir) || !StringUtils.hasText(activeKid)) {
+            throw new IllegalStateException("비대칭 서명 모드에는 jwt.signing.key-dir와 jwt.signing.active-kid가 필요합니다.");
+        }
+
+        Path directory = Path.of(keyDir);
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getKeyFactoryAlgorithm());
+
+            Map<String, Key> publicKeys = new HashMap<>();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    String fileName = file.getFileName().toString();
+                    if (fileName.endsWith(PUBLIC_KEY_SUFFIX)) {
+                        String kid = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+                        publicKeys.put(kid, keyFactory.generatePublic(new X509EncodedKeySpec(readPem(file))));
+                    }
+                }
+            }
+
+            if (!publicKeys.containsKey(activeKid)) {
+                throw new IllegalStateException("활성 kid의 공개키가 없습니다: " + activeKid);
+            }
+
+            PrivateKey signingKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(readPem(directory.resolve(activeKid + PRIVATE_KEY_SUFFIX))));
+            Key legacyKey = StringUtils.hasText(base64SecretKey) ? hmacKey(base64SecretKey) : null;
+
+            log.info("JWT 키 로드: 알고리즘 = {}, 활성 kid = {}, 검증 kid = {}, HS256 기존 토큰 검증 = {}",
+                    algorithm, activeKid, publicKeys.keySet(), legacyKey != null);
+
+            return new JwtKeyRing(algorithm, activeKid, signingKey, publicKeys, legacyKey);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 키를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키 조회 (JwtParser가 호출)
+     * kid가 없으면 HS256 키로 검증하며, 알고리즘과 키 종류가 맞지 않으면 jjwt가 거부합니다.
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        Key key = kid != null ? verificationKeys.get(kid) : legacyVerificationKey;
+        if (key == null) {
+            throw new UnsupportedJwtException("검증 키를 찾을 수 없습니다. kid = " + kid);
+        }
+        return key;
+    }
+
+    private static SecretKey hmacKey(String base64SecretKey) {
+        // Base64로 인코딩된 비밀키를 디코딩하여 SecretKey 객체 생성
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64SecretKey));
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        String pem = Files.readString(file, StandardCharsets.US_ASCII)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(pem);
+    }
+
+    /**
+     * 지원하는 서명 알고리즘
+     */
+    @Getter
+    public enum Algorithm {
+        HS256(null),
+        EDDSA("Ed25519"),
+        ES256("EC");
+
+        private final String keyFactoryAlgorithm;
+
+        Algorithm(String keyFactoryAlgorithm) {
+            this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+        }
+
+        /**
+         * 설정값(HS256, EdDSA, ES256)을 대소문자 구분 없이 변환
+         */
+        public static Algorithm from(String value) {
+            for (Algorithm algorithm : values()) {
+                if (algorithm.name().equalsIgnoreCase(value)) {
+                    return algorithm;
+                }
+            }
+            throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + value);
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.cropkeeper.global.security;
 
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * JWT 토큰을 생성하고 검증하는 클래스
@@ -18,77 +22,130 @@ import java.util.Date;
  * 1. 로그인 성공 시 JWT 토큰 생성
  * 2. API 요청 시 토큰 유효성 검증
  * 3. 토큰에서 사용자 정보 추출
+ *
+ * 서명 키:
+ * - JwtKeyRing에서 서명 키와 kid별 검증 키를 가져옴 (HS256 또는 EdDSA/ES256)
+ * - 비대칭 모드에서는 헤더에 kid를 넣어 키 교체 후에도 이전 토큰을 검증
+ *
+ * 검증 파이프라인:
+ * - JwtParser는 생성 시 한 번만 만들어 재사용 (스레드 안전)
+ * - parseAndVerify()로 서명 검증과 클레임 추출을 한 번에 수행하고 ParsedToken으로 공유
+ *
+ * 공통 클레임:
+ * - jti: 토큰 고유 ID (폐기 목록 키, 같은 초에 발급되어도 토큰이 달라짐)
+ *
+ * 액세스 토큰 클레임:
+ * - mid: 회원 ID
+ * - role: 회원 권한
+ * - ver: 발급 시점의 회원 토큰 버전 (비밀번호 변경, 탈퇴 시 증가)
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
-    private final long accessTokenExpirationTime;;
+    public static final String CLAIM_TYPE = "type";
+    public static final String CLAIM_MEMBER_ID = "mid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    public static final String CLAIM_FAMILY_ID = "fam";
+
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
+    private final long accessTokenExpirationTime;
     private final long refreshTokenExpirationTime;
 
+    @Autowired
     public JwtTokenProvider(
-            @Value("${jwt.secret-key}") String secretKey,
+            JwtKeyRing keyRing,
             @Value("${jwt.access-token-expiration-time:900000}") long accessTokenExpirationTime,
             @Value("${jwt.refresh-token-expiration-time:604800000}") long refreshTokenExpirationTime) {
-        // Base64로 인코딩된 비밀키를 디코딩하여 SecretKey 객체 생성
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.keyRing = keyRing;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
         this.accessTokenExpirationTime = accessTokenExpirationTime;
         this.refreshTokenExpirationTime = refreshTokenExpirationTime;
     }
 
+    /**
+     * HS256 비밀키로 생성 (벤치마크 등 스프링 외부에서 사용)
+     */
+    public JwtTokenProvider(String secretKey, long accessTokenExpirationTime, long refreshTokenExpirationTime) {
+        this(JwtKeyRing.hmac(secretKey), accessTokenExpirationTime, refreshTokenExpirationTime);
+    }
+
     public String generateAccessToken(String username) {
         return generateToken(username, accessTokenExpirationTime, "access");
     }
 
+    /**
+     * 회원 정보를 클레임으로 포함한 액세스 토큰 생성
+     * 필터가 DB 조회 없이 UserPrincipal을 구성할 수 있도록 memberId, role, 토큰 버전을 담습니다.
+     */
+    public String generateAccessToken(Member member) {
+        Map<String, Object> claims = Map.of(
+                CLAIM_MEMBER_ID, member.getMemberId(),
+                CLAIM_ROLE, member.getRole().name(),
+                CLAIM_TOKEN_VERSION, member.getTokenVersion()
+        );
+        return generateToken(member.getUsername(), accessTokenExpirationTime, "access", claims);
+    }
+
     public String generateRefreshToken(String username) {
         return generateToken(username, refreshTokenExpirationTime, "refresh");
     }
 
+    /**
+     * family ID를 포함한 리프레시 토큰 생성
+     */
+    public String generateRefreshToken(String username, String familyId) {
+        Map<String, Object> claims = Map.of(CLAIM_FAMILY_ID, familyId);
+        return generateToken(username, refreshTokenExpirationTime, "refresh", claims);
+    }
+
     /**
      * JWT 토큰 생성
      */
     public String generateToken(String username, long expirationTime, String tokenType) {
+        return generateToken(username, expirationTime, tokenType, Collections.emptyMap());
+    }
+
+    /**
+     * 추가 클레임을 포함한 JWT 토큰 생성
+     * 모든 토큰에 고유 ID(jti)를 부여합니다.
+     */
+    public String generateToken(String username, long expirationTime, String tokenType,
+                                Map<String, Object> extraClaims) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationTime);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        if (keyRing.getActiveKid() != null) {
+            builder = builder.header().keyId(keyRing.getActiveKid()).and();
+        }
+
+        return builder
                 .subject(username)
-                .claim("type", tokenType)
+                .claims(extraClaims)
+                .id(UUID.randomUUID().toString())
+                .claim(CLAIM_TYPE, tokenType)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey)
+                .signWith(keyRing.getSigningKey())
                 .compact();
     }
 
-    public String getTokenType(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("type", String.class);
-    }
-
-    public String getUsername(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 서명을 검증하고 클레임을 한 번에 추출
+     *
+     * 필터는 이 결과 하나로 유효성 확인, 사용자 이름, 타입, 만료 시간, 커스텀 클레임을 모두 처리합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 클레임 (유효하지 않으면 null)
+     */
+    public ParsedToken parseAndVerify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return ParsedToken.from(parseClaims(token));
         } catch (SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -98,16 +155,47 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    public String getTokenType(String token) {
+        return parseClaims(token).get(CLAIM_TYPE, String.class);
+    }
+
+    public String getUsername(String token) {
+        return parseClaims(token).getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return parseAndVerify(token) != null;
     }
 
     public Date getExpirationDate(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parseClaims(token).getExpiration();
+    }
+
+    /**
+     * 액세스 토큰 클레임으로 경량 UserPrincipal 생성
+     *
+     * @param parsedToken 검증된 토큰 클레임
+     * @return 회원 클레임이 없는 구버전 토큰이면 null
+     */
+    public UserPrincipal getStatelessPrincipal(ParsedToken parsedToken) {
+        Long memberId = parsedToken.getLongClaim(CLAIM_MEMBER_ID);
+        String role = parsedToken.getStringClaim(CLAIM_ROLE);
+        Long tokenVersion = parsedToken.getLongClaim(CLAIM_TOKEN_VERSION);
 
-        return claims.getExpiration();
+        if (memberId == null || role == null || tokenVersion == null) {
+            return null;
+        }
+
+        return UserPrincipal.fromClaims(memberId, parsedToken.getSubject(), MemberRole.valueOf(role), tokenVersion);
+    }
+
+    /**
+     * 재사용 파서로 서명 검증 및 페이로드 추출
+     */
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,241 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.domain.auth.exception.LoginThrottledException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 무차별 대입 방지 스로틀
+ *
+ * 기준:
+ * - 사용자 이름별 실패 횟수 (정확한 슬라이딩 윈도우 카운터)
+ * - 클라이언트 IP별 실패 횟수 (Count-Min Sketch 근사 카운트, 메모리 고정)
+ *
+ * 윈도우 안의 실패가 한도에 도달하면 일정 시간 잠그고,
+ * 잠긴 동안의 로그인 요청은 비밀번호 해싱 전에 거절합니다 (429).
+ *
+ * 한도 초과 시 동작 (fail closed):
+ * - 추적 중인 사용자 이름이 max-tracked-usernames에 도달하면 윈도우 밖으로 밀려난 카운터를 정리하고,
+ *   그래도 가득 차 있으면 새 사용자 이름은 근사 카운터(Count-Min Sketch)로 셉니다.
+ *   근사 카운트는 실제보다 작게 나오지 않으므로 임의 사용자 이름으로 목록을 채워도 실패가 누락되지 않습니다.
+ * - 잠금 목록이 가득 차 잠금을 기록하지 못해도, 윈도우 안의 실패 횟수가 한도 이상이면 거절합니다.
+ *
+ * 모든 카운터는 ConcurrentHashMap과 원자 연산만 사용하며 전역 잠금이 없습니다.
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final int SLOT_COUNT = 10;
+
+    /**
+     * 사용자 이름 목록이 가득 찼을 때 유휴 카운터 정리 최소 간격 (매 실패마다 전체를 훑지 않도록)
+     */
+    private static final long PURGE_INTERVAL_MILLIS = 1_000L;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final long lockoutMillis;
+    private final int usernameMaxFailures;
+    private final int ipMaxFailures;
+    private final int maxTrackedUsernames;
+    private final int maxLockouts;
+
+    private final Map<String, SlidingWindowCounter> usernameFailures = new ConcurrentHashMap<>();
+    private final SlidingWindowSketch ipFailures;
+
+    /**
+     * 사용자 이름 목록이 가득 찬 뒤 새로 들어온 사용자 이름의 실패 횟수 (근사)
+     */
+    private final SlidingWindowSketch overflowUsernameFailures;
+    private final AtomicLong lastPurgeMillis = new AtomicLong();
+
+    /**
+     * 잠금 키(username:xxx, ip:xxx) → 잠금 해제 시각(ms)
+     */
+    private final Map<String, Long> lockouts = new ConcurrentHashMap<>();
+
+    public LoginThrottle(
+            @Value("${security.login-throttle.enabled:true}") boolean enabled,
+            @Value("${security.login-throttle.window-seconds:300}") long windowSeconds,
+            @Value("${security.login-throttle.lockout-seconds:900}") long lockoutSeconds,
+            @Value("${security.login-throttle.username-max-failures:5}") int usernameMaxFailures,
+            @Value("${security.login-throttle.ip-max-failures:50}") int ipMaxFailures,
+            @Value("${security.login-throttle.max-tracked-usernames:100000}") int maxTrackedUsernames,
+            @Value("${security.login-throttle.max-lockouts:10000}") int maxLockouts,
+            @Value("${security.login-throttle.ip-sketch-depth:4}") int ipSketchDepth,
+            @Value("${security.login-throttle.ip-sketch-width:4096}") int ipSketchWidth) {
+        this.enabled = enabled;
+        this.windowMillis = windowSeconds * 1000;
+        this.lockoutMillis = lockoutSeconds * 1000;
+        this.usernameMaxFailures = usernameMaxFailures;
+        this.ipMaxFailures = ipMaxFailures;
+        this.maxTrackedUsernames = maxTrackedUsernames;
+        this.maxLockouts = maxLockouts;
+        this.ipFailures = new SlidingWindowSketch(windowMillis, SLOT_COUNT, ipSketchDepth, ipSketchWidth);
+        this.overflowUsernameFailures = new SlidingWindowSketch(windowMillis, SLOT_COUNT, ipSketchDepth, ipSketchWidth);
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인 (비밀번호 검증 전에 호출)
+     *
+     * @param username 사용자 이름
+     * @param clientIp 클라이언트 IP
+     * @throws LoginThrottledException 사용자 이름 또는 IP가 잠겼거나 윈도우 안의 사용자 이름 실패가 한도 이상인 경우
+     */
+    public void checkAllowed(String username, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (isLocked(usernameKey(username), now) || isLocked(ipKey(clientIp), now)
+                || usernameFailureCount(username, now) >= usernameMaxFailures) {
+            throw new LoginThrottledException();
+        }
+    }
+
+    /**
+     * 로그인 실패 기록
+     *
+     * @param username 사용자 이름
+     * @param clientIp 클라이언트 IP
+     */
+    public void recordFailure(String username, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        SlidingWindowCounter counter = usernameFailures.get(username);
+        if (counter == null && usernameFailures.size() >= maxTrackedUsernames) {
+            purgeIdleUsernames(now);
+        }
+        if (counter == null && usernameFailures.size() < maxTrackedUsernames) {
+            counter = usernameFailures.computeIfAbsent(username,
+                    key -> new SlidingWindowCounter(windowMillis, SLOT_COUNT));
+        }
+        int failures = counter != null
+                ? counter.increment(now)
+                : overflowUsernameFailures.increment(username, now);
+        if (failures >= usernameMaxFailures) {
+            lock(usernameKey(username), now);
+        }
+
+        if (clientIp != null && ipFailures.increment(clientIp, now) >= ipMaxFailures) {
+            lock(ipKey(clientIp), now);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 사용자 이름의 실패 기록 초기화
+     *
+     * @param username 사용자 이름
+     */
+    public void recordSuccess(String username) {
+        if (enabled) {
+            usernameFailures.remove(username);
+        }
+    }
+
+    /**
+     * 현재 잠금 목록 (해제 시각 오름차순)
+     */
+    public List<Lockout> currentLockouts() {
+        long now = System.currentTimeMillis();
+        List<Lockout> result = new ArrayList<>();
+        lockouts.forEach((key, until) -> {
+            if (until > now) {
+                int separator = key.indexOf(':');
+                result.add(new Lockout(key.substring(0, separator), key.substring(separator + 1),
+                        until, (until - now) / 1000));
+            }
+        });
+        result.sort(Comparator.comparingLong(Lockout::getLockedUntil));
+        return result;
+    }
+
+    /**
+     * 만료된 잠금과 윈도우 밖으로 밀려난 사용자 이름 카운터 정리 (백그라운드)
+     */
+    @Scheduled(fixedDelayString = "${security.login-throttle.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        lockouts.values().removeIf(until -> until <= now);
+        usernameFailures.values().removeIf(counter -> counter.sum(now) == 0);
+    }
+
+    /**
+     * 윈도우 안의 사용자 이름 실패 횟수 (추적 목록에 없으면 근사 카운트)
+     */
+    private int usernameFailureCount(String username, long now) {
+        SlidingWindowCounter counter = usernameFailures.get(username);
+        return counter != null ? counter.sum(now) : overflowUsernameFailures.estimate(username, now);
+    }
+
+    /**
+     * 윈도우 밖으로 밀려난 사용자 이름 카운터 정리 (PURGE_INTERVAL_MILLIS에 한 번만)
+     */
+    private void purgeIdleUsernames(long now) {
+        long last = lastPurgeMillis.get();
+        if (now - last >= PURGE_INTERVAL_MILLIS && lastPurgeMillis.compareAndSet(last, now)) {
+            usernameFailures.values().removeIf(counter -> counter.sum(now) == 0);
+        }
+    }
+
+    private boolean isLocked(String key, long now) {
+        Long until = lockouts.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until <= now) {
+            lockouts.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    private void lock(String key, long now) {
+        if (lockouts.size() >= maxLockouts && !lockouts.containsKey(key)) {
+            lockouts.values().removeIf(until -> until <= now);
+            if (lockouts.size() >= maxLockouts) {
+                // 기록하지 못해도 윈도우 안에서는 실패 횟수로 거절됨 (checkAllowed)
+                log.warn("로그인 잠금 목록이 가득 차 잠금을 기록하지 못했습니다: {}", key);
+                return;
+            }
+        }
+
+        if (lockouts.put(key, now + lockoutMillis) == null) {
+            log.warn("로그인 시도 과다로 잠금: {}, 해제까지 {}초", key, lockoutMillis / 1000);
+        }
+    }
+
+    private static String usernameKey(String username) {
+        return "username:" + username;
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Lockout {
+        private final String type;
+        private final String key;
+        private final long lockedUntil;
+        private final long remainingSeconds;
+    }
+}
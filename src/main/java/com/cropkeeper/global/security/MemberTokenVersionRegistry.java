@@ -0,0 +1,133 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 최신 토큰 버전을 기록하는 레지스트리
+ *
+ * 역할:
+ * - 비밀번호 변경, 탈퇴로 토큰 버전이 올라간 회원을 기록
+ * - Stateless 인증 시 토큰의 버전이 기록된 버전보다 낮으면 DB 조회 경로로 전환
+ *
+ * DB 동기화:
+ * - 기동 시(웹 서버가 요청을 받기 전) 액세스 토큰 유효 기간 안에 정보가 변경된 회원의 버전을 읽어 채웁니다.
+ *   재시작 직후에도 그 전에 비밀번호를 바꾼 회원의 이전 토큰이 Stateless 경로로 인증되지 않습니다.
+ * - 이후 주기적으로(jwt.token-version.sync-interval-ms) 최근 변경분을 다시 읽어 다른 노드에서 올린 버전을 반영합니다.
+ *   여러 인스턴스로 배포하면 다른 노드의 변경은 최대 한 주기만큼 늦게 반영되므로,
+ *   이 지연을 허용할 수 없으면 jwt.stateless-principal-enabled=false로 매 요청 DB 확인을 사용해야 합니다.
+ *
+ * 크기:
+ * - 버전이 바뀐 지 액세스 토큰 유효 기간이 지나면 이전 버전 토큰은 모두 만료되었으므로 항목을 지웁니다.
+ */
+@Slf4j
+@Component
+public class MemberTokenVersionRegistry implements SmartInitializingSingleton {
+
+    /**
+     * 동기화 구간 겹침 (updated_at 기록 후 커밋까지 걸린 변경을 놓치지 않기 위한 여유)
+     */
+    static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final MemberRepository memberRepository;
+    private final Duration accessTokenTtl;
+
+    /**
+     * 회원 ID → 최신 토큰 버전과 버전이 바뀐 시각
+     */
+    private final Map<Long, Bump> bumpedVersions = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    public MemberTokenVersionRegistry(
+            MemberRepository memberRepository,
+            @Value("${jwt.access-token-expiration-time:900000}") long accessTokenExpirationTime) {
+        this.memberRepository = memberRepository;
+        this.accessTokenTtl = Duration.ofMillis(accessTokenExpirationTime);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        sync();
+    }
+
+    /**
+     * 회원의 토큰 버전 변경 기록
+     *
+     * @param memberId   회원 ID
+     * @param newVersion 변경된 토큰 버전
+     */
+    public void bump(Long memberId, Long newVersion) {
+        record(memberId, newVersion, System.currentTimeMillis());
+    }
+
+    /**
+     * 토큰의 버전이 기록된 최신 버전보다 낮은지 확인
+     *
+     * @param memberId     회원 ID
+     * @param tokenVersion 토큰에 담긴 버전
+     * @return 버전이 변경되어 DB 확인이 필요하면 true
+     */
+    public boolean isStale(Long memberId, Long tokenVersion) {
+        Bump latest = bumpedVersions.get(memberId);
+        return latest != null && (tokenVersion == null || latest.version() > tokenVersion);
+    }
+
+    /**
+     * DB에서 최근 토큰 버전이 바뀌었을 수 있는 회원을 읽어 반영하고, 유효 기간이 지난 항목 정리
+     *
+     * 첫 실행은 액세스 토큰 유효 기간 전체, 이후에는 마지막 동기화 시각부터 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.token-version.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt == null
+                ? now.minus(accessTokenTtl)
+                : lastSyncedAt.minus(SYNC_OVERLAP);
+
+        List<Member> changed = memberRepository.findTokenVersionChangedSince(since);
+        for (Member member : changed) {
+            record(member.getMemberId(), member.getTokenVersion(), toMillis(member.getUpdatedAt()));
+        }
+        lastSyncedAt = now;
+
+        long expiredBefore = System.currentTimeMillis() - accessTokenTtl.toMillis();
+        bumpedVersions.values().removeIf(bump -> bump.changedAtMillis() < expiredBefore);
+
+        if (!changed.isEmpty()) {
+            log.debug("토큰 버전 동기화: 변경 회원 수 = {}, 기록 수 = {}", changed.size(), bumpedVersions.size());
+        }
+    }
+
+    int size() {
+        return bumpedVersions.size();
+    }
+
+    private void record(Long memberId, Long version, long changedAtMillis) {
+        bumpedVersions.merge(memberId, new Bump(version, changedAtMillis),
+                (current, incoming) -> incoming.version() > current.version()
+                        || (incoming.version().equals(current.version()) && incoming.changedAtMillis() > current.changedAtMillis())
+                        ? incoming : current);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null
+                ? System.currentTimeMillis()
+                : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Bump(Long version, long changedAtMillis) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.cropkeeper.global.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임을 담는 불변 값 객체
+ *
+ * 역할:
+ * - 토큰을 한 번만 파싱/검증하고 그 결과를 필터와 서비스가 공유
+ * - 표준 클레임(sub, jti, iat, exp)과 타입, 커스텀 클레임을 제공
+ */
+@Getter
+public final class ParsedToken {
+
+    private static final Set<String> REGISTERED_CLAIMS = Set.of(
+            Claims.SUBJECT, Claims.ID, Claims.ISSUED_AT, Claims.EXPIRATION, JwtTokenProvider.CLAIM_TYPE
+    );
+
+    private final String subject;
+    private final String id;
+    private final String type;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final Map<String, Object> customClaims;
+
+    private ParsedToken(String subject, String id, String type, Date issuedAt, Date expiration,
+                        Map<String, Object> customClaims) {
+        this.subject = subject;
+        this.id = id;
+        this.type = type;
+        this.issuedAt = copy(issuedAt);
+        this.expiration = copy(expiration);
+        this.customClaims = customClaims;
+    }
+
+    /**
+     * 검증된 Claims로부터 값 객체 생성
+     *
+     * @param claims 서명 검증이 끝난 JWT 페이로드
+     * @return 불변 ParsedToken
+     */
+    public static ParsedToken from(Claims claims) {
+        Map<String, Object> custom = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : claims.entrySet()) {
+            if (!REGISTERED_CLAIMS.contains(entry.getKey())) {
+                custom.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return new ParsedToken(
+                claims.getSubject(),
+                claims.getId(),
+                claims.get(JwtTokenProvider.CLAIM_TYPE, String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration(),
+                Collections.unmodifiableMap(custom)
+        );
+    }
+
+    /**
+     * 발급 시각 (Date는 변경 가능하므로 복사본 반환)
+     */
+    public Date getIssuedAt() {
+        return copy(issuedAt);
+    }
+
+    /**
+     * 만료 시각 (Date는 변경 가능하므로 복사본 반환)
+     */
+    public Date getExpiration() {
+        return copy(expiration);
+    }
+
+    /**
+     * 커스텀 클레임을 Long으로 조회
+     * JSON 역직렬화 시 작은 숫자는 Integer로 들어오므로 Number로 변환합니다.
+     *
+     * @param name 클레임 이름
+     * @return 클레임 값 (없거나 숫자가 아니면 null)
+     */
+    public Long getLongClaim(String name) {
+        Object value = customClaims.get(name);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    /**
+     * 커스텀 클레임을 String으로 조회
+     *
+     * @param name 클레임 이름
+     * @return 클레임 값 (없으면 null)
+     */
+    public String getStringClaim(String name) {
+        Object value = customClaims.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    private static Date copy(Date date) {
+        return date != null ? new Date(date.getTime()) : null;
+    }
+}
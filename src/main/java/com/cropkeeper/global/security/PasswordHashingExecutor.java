@@ -0,0 +1,121 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.global.security.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱(BCrypt) 전용 제한 실행기
+ *
+ * 역할:
+ * - BCrypt 연산을 고정 크기 스레드 풀에서만 실행하여 동시에 소비하는 CPU를 제한
+ * - 대기열이 가득 차면 즉시 거절 (503)하여 로그인 폭주가 다른 API까지 지연시키지 않도록 함
+ *
+ * 요청 스레드는 결과를 기다리지만 CPU를 사용하지 않으며,
+ * 대기 가능한 요청 수는 스레드 수 + 대기열 크기로 제한됩니다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public PasswordHashingExecutor(
+            @Value("${security.password.hashing-threads:0}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.timeout-ms:5000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+
+        log.info("비밀번호 해싱 실행기 초기화: 스레드 수 = {}, 대기열 크기 = {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 해싱 작업을 전용 스레드에서 실행하고 결과를 반환
+     *
+     * @param task 해싱 작업
+     * @return 작업 결과
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+     */
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해싱 대기열 포화로 요청 거절: 대기 = {}", executor.getQueue().size());
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            completed.increment();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    /**
+     * 실행기 상태 스냅샷
+     */
+    public Stats stats() {
+        return new Stats(executor.getPoolSize(), executor.getActiveCount(), executor.getQueue().size(),
+                executor.getQueue().remainingCapacity(), completed.sum(), rejected.sum(), timedOut.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final int poolSize;
+        private final int active;
+        private final int queued;
+        private final int remainingCapacity;
+        private final long completed;
+        private final long rejected;
+        private final long timedOut;
+    }
+}
@@ -0,0 +1,53 @@
+package com.cropkeeper.global.security;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 슬라이딩 윈도우 카운터
+ *
+ * 윈도우를 여러 슬롯으로 나누고, 슬롯마다 시작 시각(epoch)과 카운트를 원자적으로 관리합니다.
+ * 오래된 슬롯은 다음 기록 시 재사용되며, 재사용 순간의 동시 기록은 일부 누락될 수 있습니다 (근사 카운트).
+ */
+final class SlidingWindowCounter {
+
+    private final long slotMillis;
+    private final int slotCount;
+    private final AtomicLongArray slotEpochs;
+    private final AtomicIntegerArray counts;
+
+    SlidingWindowCounter(long windowMillis, int slotCount) {
+        this.slotMillis = Math.max(1, windowMillis / slotCount);
+        this.slotCount = slotCount;
+        this.slotEpochs = new AtomicLongArray(slotCount);
+        this.counts = new AtomicIntegerArray(slotCount);
+    }
+
+    /**
+     * 현재 슬롯에 1 기록 후 윈도우 합계 반환
+     */
+    int increment(long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        int slot = (int) (epoch % slotCount);
+        long slotEpoch = slotEpochs.get(slot);
+        if (slotEpoch != epoch && slotEpochs.compareAndSet(slot, slotEpoch, epoch)) {
+            counts.set(slot, 0);
+        }
+        counts.incrementAndGet(slot);
+        return sum(nowMillis);
+    }
+
+    /**
+     * 윈도우 안의 기록 합계
+     */
+    int sum(long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        int total = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (epoch - slotEpochs.get(slot) < slotCount) {
+                total += counts.get(slot);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,109 @@
+package com.cropkeeper.global.security;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 슬라이딩 윈도우 Count-Min Sketch (키 수와 무관하게 메모리 고정)
+ *
+ * - 슬롯마다 depth × width 크기의 카운터 행렬을 두고, 키마다 행별 해시 위치에 기록합니다.
+ * - 추정값은 행별 합계의 최소값이며 실제 값보다 작게 나오지 않습니다 (과대 추정만 발생).
+ * - 잠금 없이 원자 연산만 사용하며, 오래된 슬롯은 다음 기록 시 초기화됩니다.
+ * - 행별 위치는 인스턴스마다 임의 시드를 섞은 64비트 해시(FNV-1a + fmix64)로 정합니다.
+ *   String.hashCode()가 같은 키("Aa"/"BB" 등)나 미리 계산한 키로 특정 키의 모든 행을 부풀릴 수 없습니다.
+ */
+final class SlidingWindowSketch {
+
+    private final long slotMillis;
+    private final int slotCount;
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray slotEpochs;
+    private final AtomicIntegerArray counts;
+    private final long seed;
+
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    SlidingWindowSketch(long windowMillis, int slotCount, int depth, int width) {
+        this.slotMillis = Math.max(1, windowMillis / slotCount);
+        this.slotCount = slotCount;
+        this.depth = depth;
+        this.width = width;
+        this.slotEpochs = new AtomicLongArray(slotCount);
+        this.counts = new AtomicIntegerArray(slotCount * depth * width);
+        this.seed = SEED_SOURCE.nextLong();
+    }
+
+    /**
+     * 키를 현재 슬롯에 1 기록 후 윈도우 추정값 반환
+     */
+    int increment(String key, long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        int slot = (int) (epoch % slotCount);
+        long slotEpoch = slotEpochs.get(slot);
+        if (slotEpoch != epoch && slotEpochs.compareAndSet(slot, slotEpoch, epoch)) {
+            int base = slot * depth * width;
+            for (int i = 0; i < depth * width; i++) {
+                counts.set(base + i, 0);
+            }
+        }
+
+        long hash = hash(key);
+        for (int row = 0; row < depth; row++) {
+            counts.incrementAndGet(index(slot, row, hash));
+        }
+        return estimate(key, nowMillis);
+    }
+
+    /**
+     * 윈도우 안의 키 기록 수 추정
+     */
+    int estimate(String key, long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        long hash = hash(key);
+
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int total = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (epoch - slotEpochs.get(slot) < slotCount) {
+                    total += counts.get(index(slot, row, hash));
+                }
+            }
+            min = Math.min(min, total);
+        }
+        return min;
+    }
+
+    private int index(int slot, int row, long hash) {
+        // 행마다 다른 해시 위치 (double hashing)
+        long rowHash = hash + row * ((hash >>> 32) | 1);
+        int column = (int) ((rowHash & Long.MAX_VALUE) % width);
+        return (slot * depth + row) * width + column;
+    }
+
+    /**
+     * 시드를 섞은 FNV-1a 64비트 해시에 최종 혼합을 적용
+     */
+    private long hash(String key) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,167 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.domain.auth.repository.RevokedTokenRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 액세스 토큰 폐기 목록 (로그아웃 등)
+ *
+ * 조회 경로:
+ * 1. 블룸 필터에 없으면 폐기되지 않은 토큰 (대부분의 요청, DB 조회 없음)
+ * 2. 블룸 필터에 있으면 이 노드에서 확인된 폐기 목록을 확인
+ * 3. 그래도 모르면 DB에서 확인 (오탐 또는 다른 노드에서 폐기된 토큰)
+ *
+ * 재구성:
+ * - 주기적으로 만료된 항목을 삭제하고, 남은 jti로 블룸 필터를 새로 만들어 교체합니다.
+ * - 다른 노드에서 폐기된 토큰은 다음 재구성 시점부터 반영됩니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+
+    /**
+     * 이 노드에서 폐기했거나 DB로 폐기가 확인된 jti → 토큰 만료 시각(ms)
+     */
+    private final Map<String, Long> confirmed = new ConcurrentHashMap<>();
+
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public TokenRevocationList(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     *
+     * @param parsedToken 검증된 토큰 클레임
+     * @return 폐기된 토큰이면 true (jti가 없는 구버전 토큰은 false)
+     */
+    public boolean isRevoked(ParsedToken parsedToken) {
+        String jti = parsedToken.getId();
+        if (jti == null) {
+            return false;
+        }
+
+        if (!bloomFilter.mightContain(jti)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        if (confirmed.containsKey(jti)) {
+            revokedHits.increment();
+            return true;
+        }
+
+        boolean revoked = revokedTokenRepository.existsByJti(jti);
+        if (revoked) {
+            confirmed.put(jti, expirationMillis(parsedToken));
+            revokedHits.increment();
+        } else {
+            falsePositives.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * 토큰 폐기 (이미 폐기된 토큰이면 무시)
+     * 존재 확인 후 저장하면 동시 로그아웃 시 유니크 제약 위반이 나므로 INSERT IGNORE 한 번으로 저장합니다.
+     *
+     * @param parsedToken 폐기할 토큰 클레임
+     * @param memberId    회원 ID
+     */
+    @Transactional
+    public void revoke(ParsedToken parsedToken, Long memberId) {
+        String jti = parsedToken.getId();
+        if (jti == null) {
+            return;
+        }
+
+        long expiresAtMillis = expirationMillis(parsedToken);
+        revokedTokenRepository.insertIgnore(jti, memberId,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()),
+                LocalDateTime.now());
+
+        // 확인 목록에 먼저 넣어야 재구성 중 교체된 필터에도 반영됩니다.
+        confirmed.put(jti, expiresAtMillis);
+        bloomFilter.put(jti);
+    }
+
+    /**
+     * 만료된 항목 정리 후 블룸 필터 재구성 (백그라운드)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:300000}")
+    @Transactional
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = System.currentTimeMillis();
+
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        confirmed.values().removeIf(expiresAtMillis -> expiresAtMillis <= nowMillis);
+
+        List<String> jtis = revokedTokenRepository.findActiveJtis(now);
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedInsertions, jtis.size() * 2), falsePositiveRate);
+        jtis.forEach(rebuilt::put);
+        confirmed.keySet().forEach(rebuilt::put);
+
+        bloomFilter = rebuilt;
+
+        // 교체 직전에 이전 필터로 폐기된 항목 반영
+        confirmed.keySet().forEach(rebuilt::put);
+
+        log.debug("토큰 폐기 목록 재구성: 항목 수 = {}, 만료 삭제 = {}", jtis.size(), deleted);
+    }
+
+    /**
+     * 폐기 목록 통계 스냅샷
+     */
+    public Stats stats() {
+        BloomFilter current = bloomFilter;
+        return new Stats(confirmed.size(), current.bitSize(), current.hashCount(),
+                bloomNegatives.sum(), revokedHits.sum(), falsePositives.sum());
+    }
+
+    private static long expirationMillis(ParsedToken parsedToken) {
+        return parsedToken.getExpiration() != null
+                ? parsedToken.getExpiration().getTime()
+                : System.currentTimeMillis();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final int confirmedSize;
+        private final long bloomBits;
+        private final int bloomHashes;
+        private final long bloomNegatives;
+        private final long revokedHits;
+        private final long falsePositives;
+    }
+}
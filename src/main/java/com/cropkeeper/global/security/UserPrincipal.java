@@ -1,7 +1,7 @@
 package com.cropkeeper.global.security;
 
 import com.cropkeeper.domain.member.entity.Member;
-import lombok.AllArgsConstructor;
+import com.cropkeeper.domain.member.entity.MemberRole;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -25,12 +25,55 @@ import java.util.Collections;
  * - isAccountNonLocked(): 계정 잠김 여부
  * - isCredentialsNonExpired(): 비밀번호 만료 여부
  * - isEnabled(): 계정 활성화 여부
+ *
+ * 생성 방식:
+ * - DB 조회 경로: Member 엔티티를 감싸서 생성 (로그인, 구버전 토큰)
+ * - Stateless 경로: 액세스 토큰 클레임만으로 생성 (member는 null)
  */
 @Getter
-@AllArgsConstructor
 public class UserPrincipal implements UserDetails {
 
-    private final Member member;  // 우리의 User 엔티티
+    private final Member member;  // 우리의 User 엔티티 (Stateless 경로에서는 null)
+    private final Long memberId;
+    private final String username;
+    private final MemberRole role;
+    private final Long tokenVersion;
+
+    public UserPrincipal(Member member) {
+        this.member = member;
+        this.memberId = member.getMemberId();
+        this.username = member.getUsername();
+        this.role = member.getRole();
+        this.tokenVersion = member.getTokenVersion();
+    }
+
+    private UserPrincipal(Long memberId, String username, MemberRole role, Long tokenVersion) {
+        this.member = null;
+        this.memberId = memberId;
+        this.username = username;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+    }
+
+    /**
+     * 토큰 클레임으로 경량 UserPrincipal 생성 (DB 조회 없음)
+     *
+     * @param memberId     회원 ID
+     * @param username     사용자 이름
+     * @param role         회원 권한
+     * @param tokenVersion 토큰 발급 시점의 회원 토큰 버전
+     * @return 엔티티 없이 생성된 UserPrincipal
+     */
+    public static UserPrincipal fromClaims(Long memberId, String username, MemberRole role, Long tokenVersion) {
+        return new UserPrincipal(memberId, username, role, tokenVersion);
+    }
+
+    /**
+     * 토큰 클레임만으로 생성된 경량 UserPrincipal인지 여부
+     */
+    public boolean isStateless() {
+        return member == null;
+    }
 
     /**
      * 권한 목록 반환
@@ -42,7 +85,7 @@ public class UserPrincipal implements UserDetails {
         // UserRole enum을 Spring Security의 권한 형식으로 변환
         // 예: UserRole.USER -> "ROLE_USER"
         return Collections.singleton(
-                new SimpleGrantedAuthority("ROLE_" + member.getRole().name())
+                new SimpleGrantedAuthority("ROLE_" + role.name())
         );
     }
 
@@ -51,7 +94,7 @@ public class UserPrincipal implements UserDetails {
      */
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return member != null ? member.getPassword() : null;
     }
 
     /**
@@ -59,7 +102,7 @@ public class UserPrincipal implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return member.getUsername();
+        return username;
     }
 
     /**
@@ -91,24 +134,26 @@ public class UserPrincipal implements UserDetails {
 
     /**
      * 계정 활성화 여부
+     * Stateless 경로는 토큰 버전 검증을 통과한 경우에만 생성되므로 활성 회원으로 간주합니다.
      * @return true면 활성화됨 (탈퇴한 회원은 비활성화)
      */
     @Override
     public boolean isEnabled() {
-        return !member.isDeleted();
+        return member == null || !member.isDeleted();
     }
 
     /**
      * User 엔티티의 ID 조회 편의 메서드
      */
     public Long getId() {
-        return member.getMemberId();
+        return memberId;
     }
 
     /**
      * User 엔티티의 이름 조회 편의 메서드
+     * Stateless 경로에서는 이름 클레임이 없으므로 null을 반환합니다.
      */
     public String getName() {
-        return member.getName();
+        return member != null ? member.getName() : null;
     }
 }
@@ -0,0 +1,194 @@
+package com.cropkeeper.global.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임을 보관하는 캐시
+ *
+ * 역할:
+ * - 같은 액세스 토큰이 반복 요청될 때 HMAC 검증과 Base64/JSON 디코딩을 생략
+ * - 원본 토큰 대신 SHA-256 다이제스트 앞 128비트를 키로 사용
+ *
+ * 제거 정책:
+ * - 토큰 자체의 exp가 지나면 조회 시점에 제거
+ * - 최대 크기를 넘으면 만료 항목을 먼저 정리하고, 그래도 가득 차면 일부 항목을 제거
+ * - 회원 탈퇴, 비밀번호 변경 시 해당 회원의 항목을 모두 제거
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final int maxSize;
+
+    private final Map<DigestKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.token-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.token-cache.max-size:10000}") int maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환하고, 없으면 검증 후 캐시에 저장
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 클레임 (유효하지 않으면 null)
+     */
+    public ParsedToken getOrVerify(String token) {
+        if (!enabled) {
+            return jwtTokenProvider.parseAndVerify(token);
+        }
+
+        DigestKey key = DigestKey.of(token);
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAtMillis > now) {
+                hits.increment();
+                return entry.parsedToken;
+            }
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        ParsedToken parsedToken = jwtTokenProvider.parseAndVerify(token);
+        if (parsedToken != null && parsedToken.getExpiration() != null) {
+            put(key, new Entry(parsedToken, parsedToken.getExpiration().getTime()), now);
+        }
+        return parsedToken;
+    }
+
+    /**
+     * 특정 회원의 캐시 항목 제거 (탈퇴, 비밀번호 변경 시)
+     *
+     * @param memberId 회원 ID
+     * @param username 사용자 이름 (회원 클레임이 없는 구버전 토큰용)
+     */
+    public void invalidateMember(Long memberId, String username) {
+        int before = entries.size();
+        entries.values().removeIf(entry ->
+                Objects.equals(memberId, entry.parsedToken.getLongClaim(JwtTokenProvider.CLAIM_MEMBER_ID))
+                        || Objects.equals(username, entry.parsedToken.getSubject()));
+        int removed = before - entries.size();
+        if (removed > 0) {
+            evictions.add(removed);
+        }
+        log.debug("토큰 캐시 무효화: memberId = {}, 제거 수 = {}", memberId, removed);
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public Stats stats() {
+        return new Stats(entries.size(), maxSize, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private void put(DigestKey key, Entry entry, long now) {
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, entry);
+    }
+
+    /**
+     * 만료 항목을 먼저 정리하고, 여전히 가득 차 있으면 약 10%를 제거합니다.
+     */
+    private void evict(long now) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+
+        int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<DigestKey> iterator = entries.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+
+        evictions.add(Math.max(0, before - entries.size()));
+    }
+
+    private static final class Entry {
+        private final ParsedToken parsedToken;
+        private final long expiresAtMillis;
+
+        private Entry(ParsedToken parsedToken, long expiresAtMillis) {
+            this.parsedToken = parsedToken;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    /**
+     * SHA-256 다이제스트의 앞 128비트를 담는 캐시 키
+     */
+    private static final class DigestKey {
+        private final long high;
+        private final long low;
+
+        private DigestKey(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        static DigestKey of(String token) {
+            byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new DigestKey(buffer.getLong(), buffer.getLong());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DigestKey other)) return false;
+            return high == other.high && low == other.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(high ^ low);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final int size;
+        private final int maxSize;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+    }
+}
@@ -0,0 +1,10 @@
+package com.cropkeeper.global.security.exception;
+
+import com.cropkeeper.global.exception.BaseException;
+
+public class PasswordHashingBusyException extends BaseException {
+
+    public PasswordHashingBusyException() {
+        super(SecurityErrorCode.PASSWORD_HASHING_BUSY);
+    }
+}
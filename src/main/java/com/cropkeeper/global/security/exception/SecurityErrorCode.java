@@ -0,0 +1,26 @@
+package com.cropkeeper.global.security.exception;
+
+import com.cropkeeper.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum SecurityErrorCode implements ErrorCode {
+
+    // 응답 코드 호환을 위해 인증 도메인에 있던 A007을 그대로 사용
+    PASSWORD_HASHING_BUSY("A007", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+
+    private final String code;
+    private final String message;
+    private final HttpStatus httpStatus;
+
+    /**
+     * 과부하 거절(A007)은 예상된 응답이므로 스택 트레이스를 수집하지 않음
+     */
+    @Override
+    public boolean isStackTraceEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package com.cropkeeper.global.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 추적 구간 (요청 스레드에서만 변경, 추적 완료 후에는 읽기 전용)
+ */
+public final class Span {
+
+    public enum Kind {
+        REQUEST, AUTH, CONTROLLER, ACCESS_CHECK, SERVICE, REPOSITORY
+    }
+
+    private final Kind kind;
+    private final String name;
+    private final String spanId;
+    private final Span parent;
+    private final long startNanos;
+    private final long offsetNanos;
+    private long durationNanos = -1;
+    private boolean failed;
+    private List<Span> children;
+
+    Span(Kind kind, String name, String spanId, Span parent, long startNanos, long offsetNanos) {
+        this.kind = kind;
+        this.name = name;
+        this.spanId = spanId;
+        this.parent = parent;
+        this.startNanos = startNanos;
+        this.offsetNanos = offsetNanos;
+    }
+
+    void end(long endNanos, boolean failed) {
+        this.durationNanos = endNanos - startNanos;
+        this.failed = failed;
+    }
+
+    void addChild(Span child) {
+        if (children == null) {
+            children = new ArrayList<>(4);
+        }
+        children.add(child);
+    }
+
+    Span parent() {
+        return parent;
+    }
+
+    boolean isEnded() {
+        return durationNanos >= 0;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * 요청 시작 기준 시작 시점 (ms)
+     */
+    public double getOffsetMs() {
+        return offsetNanos / 1_000_000.0;
+    }
+
+    public double getDurationMs() {
+        return durationNanos / 1_000_000.0;
+    }
+
+    long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public List<Span> getChildren() {
+        return children != null ? children : Collections.emptyList();
+    }
+}
@@ -0,0 +1,37 @@
+package com.cropkeeper.global.tracing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 완료된 요청 추적
+ */
+@Getter
+@AllArgsConstructor
+public class Trace {
+
+    private final String traceId;
+
+    /**
+     * 요청의 traceparent 헤더에 있던 상위 구간 ID (없으면 null)
+     */
+    private final String parentSpanId;
+
+    /**
+     * "{METHOD} {경로 템플릿}"
+     */
+    private final String route;
+    private final int status;
+    private final long startedAt;
+    private final int spanCount;
+    private final int droppedSpans;
+    private final Span root;
+
+    public double getDurationMs() {
+        return root.getDurationMs();
+    }
+
+    long durationNanos() {
+        return root.getDurationNanos();
+    }
+}
@@ -0,0 +1,131 @@
+package com.cropkeeper.global.tracing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로별 가장 느린 추적 보관소 (메모리 고정)
+ *
+ * - 경로마다 slowest-per-route개까지만 보관 (최소 힙, 더 느린 추적이 오면 가장 빠른 것을 밀어냄)
+ * - window-ms마다 세대 교체: 현재 세대 → 이전 세대, 조회 시 두 세대를 합쳐 최근 1~2 구간의 느린 추적만 유지
+ * - 경로 수는 max-routes까지만 추적
+ */
+@Component
+public class TraceStore {
+
+    private static final Comparator<Trace> BY_DURATION = Comparator.comparingLong(Trace::durationNanos);
+
+    private final int slowestPerRoute;
+    private final int maxRoutes;
+
+    private final Map<String, RouteTraces> routes = new ConcurrentHashMap<>();
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder untrackedRoutes = new LongAdder();
+
+    public TraceStore(
+            @Value("${tracing.slowest-per-route:10}") int slowestPerRoute,
+            @Value("${tracing.max-routes:500}") int maxRoutes) {
+        this.slowestPerRoute = slowestPerRoute;
+        this.maxRoutes = maxRoutes;
+    }
+
+    /**
+     * 완료된 추적 저장 (요청 스레드에서 호출, 경로 단위 잠금만 사용)
+     */
+    public void add(Trace trace) {
+        recorded.increment();
+        RouteTraces traces = routes.get(trace.getRoute());
+        if (traces == null) {
+            if (routes.size() >= maxRoutes) {
+                untrackedRoutes.increment();
+                return;
+            }
+            traces = routes.computeIfAbsent(trace.getRoute(), key -> new RouteTraces());
+        }
+        traces.offer(trace, slowestPerRoute);
+    }
+
+    /**
+     * 가장 느린 추적 조회 (소요 시간 내림차순)
+     *
+     * @param route "{METHOD} {경로 템플릿}", null이면 전체 경로
+     * @param limit 최대 개수
+     */
+    public List<Trace> slowest(String route, int limit) {
+        List<Trace> result = new ArrayList<>();
+        if (route != null) {
+            RouteTraces traces = routes.get(route);
+            if (traces != null) {
+                traces.copyTo(result);
+            }
+        } else {
+            routes.values().forEach(traces -> traces.copyTo(result));
+        }
+        result.sort(BY_DURATION.reversed());
+        return result.size() <= limit ? result : new ArrayList<>(result.subList(0, limit));
+    }
+
+    public Stats stats() {
+        List<String> trackedRoutes = new ArrayList<>(routes.keySet());
+        trackedRoutes.sort(Comparator.naturalOrder());
+        return new Stats(recorded.sum(), untrackedRoutes.sum(), slowestPerRoute, trackedRoutes);
+    }
+
+    /**
+     * 세대 교체 (오래된 느린 추적이 계속 남지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${tracing.window-ms:600000}")
+    public void rotate() {
+        routes.values().forEach(RouteTraces::rotate);
+        routes.values().removeIf(RouteTraces::isEmpty);
+    }
+
+    private static final class RouteTraces {
+        private PriorityQueue<Trace> current = new PriorityQueue<>(BY_DURATION);
+        private List<Trace> previous = List.of();
+
+        synchronized void offer(Trace trace, int capacity) {
+            if (current.size() < capacity) {
+                current.add(trace);
+            } else if (BY_DURATION.compare(trace, current.peek()) > 0) {
+                current.poll();
+                current.add(trace);
+            }
+        }
+
+        synchronized void copyTo(List<Trace> target) {
+            target.addAll(current);
+            target.addAll(previous);
+        }
+
+        synchronized void rotate() {
+            previous = new ArrayList<>(current);
+            current = new PriorityQueue<>(BY_DURATION);
+        }
+
+        synchronized boolean isEmpty() {
+            return current.isEmpty() && previous.isEmpty();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final long recorded;
+        private final long untrackedRoutes;
+        private final int slowestPerRoute;
+        private final List<String> routes;
+    }
+}
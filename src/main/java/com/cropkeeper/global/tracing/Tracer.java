@@ -0,0 +1,141 @@
+package com.cropkeeper.global.tracing;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스레드별 추적 컨텍스트와 구간(Span) 스택
+ *
+ * - TracingFilter가 요청마다 추적을 시작하고(REQUEST 구간) 완료 시 TraceStore에 넘김
+ * - 필터, AOP, Service, Repository는 start()/end()로 중첩 구간을 기록
+ * - 진행 중인 추적이 없으면(HTTP 요청 밖, 비활성화) start()는 null을 반환하고 end(null)은 무시
+ *
+ * 로그 연계를 위해 MDC에 traceId와 현재 spanId를 유지합니다.
+ */
+public final class Tracer {
+
+    public static final String MDC_TRACE_ID = "traceId";
+    public static final String MDC_SPAN_ID = "spanId";
+
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private static volatile int maxSpans = 256;
+
+    private Tracer() {
+    }
+
+    /**
+     * 구간 시작
+     *
+     * @return 진행 중인 추적이 없거나 구간 수 한도를 넘으면 null
+     */
+    public static Span start(Span.Kind kind, String name) {
+        Context context = CURRENT.get();
+        if (context == null) {
+            return null;
+        }
+        if (context.spanCount >= maxSpans) {
+            context.droppedSpans++;
+            return null;
+        }
+
+        long now = System.nanoTime();
+        Span span = new Span(kind, name, newSpanId(), context.current, now, now - context.root.startNanos());
+        context.current.addChild(span);
+        context.current = span;
+        context.spanCount++;
+        MDC.put(MDC_SPAN_ID, span.getSpanId());
+        return span;
+    }
+
+    /**
+     * 구간 종료 (닫히지 않은 안쪽 구간이 남아 있으면 스택에서 함께 정리)
+     */
+    public static void end(Span span, boolean failed) {
+        if (span == null || span.isEnded()) {
+            return;
+        }
+        span.end(System.nanoTime(), failed);
+
+        Context context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        for (Span open = context.current; open != null; open = open.parent()) {
+            if (open == span) {
+                context.current = span.parent() != null ? span.parent() : context.root;
+                MDC.put(MDC_SPAN_ID, context.current.getSpanId());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 traceId (추적 중이 아니면 null)
+     */
+    public static String currentTraceId() {
+        Context context = CURRENT.get();
+        return context != null ? context.traceId : null;
+    }
+
+    static void setMaxSpans(int maxSpans) {
+        Tracer.maxSpans = maxSpans;
+    }
+
+    /**
+     * 추적 시작 (REQUEST 구간 생성)
+     */
+    static Span beginTrace(String traceId, String name) {
+        long now = System.nanoTime();
+        Span root = new Span(Span.Kind.REQUEST, name, newSpanId(), null, now, 0);
+        CURRENT.set(new Context(traceId, root));
+        MDC.put(MDC_TRACE_ID, traceId);
+        MDC.put(MDC_SPAN_ID, root.getSpanId());
+        return root;
+    }
+
+    /**
+     * 추적 종료
+     *
+     * @return 종료된 추적 컨텍스트 (시작하지 않았으면 null)
+     */
+    static Context endTrace(boolean failed) {
+        Context context = CURRENT.get();
+        CURRENT.remove();
+        MDC.remove(MDC_TRACE_ID);
+        MDC.remove(MDC_SPAN_ID);
+        if (context != null) {
+            context.root.end(System.nanoTime(), failed);
+        }
+        return context;
+    }
+
+    static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return hex(random.nextLong()) + hex(random.nextLong() | 1);
+    }
+
+    private static String newSpanId() {
+        return hex(ThreadLocalRandom.current().nextLong() | 1);
+    }
+
+    private static String hex(long value) {
+        String hex = Long.toHexString(value);
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    static final class Context {
+        final String traceId;
+        final Span root;
+        Span current;
+        int spanCount = 1;
+        int droppedSpans;
+
+        private Context(String traceId, Span root) {
+            this.traceId = traceId;
+            this.root = root;
+            this.current = root;
+        }
+    }
+}
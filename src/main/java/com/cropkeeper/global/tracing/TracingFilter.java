@@ -0,0 +1,112 @@
+package com.cropkeeper.global.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 추적 시작/종료 필터 (가장 먼저 실행)
+ *
+ * - traceparent 헤더(W3C Trace Context)가 유효하면 그 trace-id를 이어받고, 없으면 새로 생성
+ * - 응답 traceparent 헤더로 trace-id와 이 요청의 구간 ID를 돌려줌
+ * - 완료된 추적은 경로 템플릿 기준으로 TraceStore에 저장
+ *   핸들러에 매칭되지 않은 요청(인증 실패, 404 등)은 "{METHOD} UNMATCHED" 하나로 묶어
+ *   임의 URI가 경로 수 한도(tracing.max-routes)를 채우지 않도록 합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final TraceStore traceStore;
+    private final boolean enabled;
+
+    public TracingFilter(
+            TraceStore traceStore,
+            @Value("${tracing.enabled:true}") boolean enabled,
+            @Value("${tracing.max-spans:256}") int maxSpans) {
+        this.traceStore = traceStore;
+        this.enabled = enabled;
+        Tracer.setMaxSpans(maxSpans);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String[] incoming = parseTraceparent(request.getHeader(TRACEPARENT_HEADER));
+        String traceId = incoming != null ? incoming[0] : Tracer.newTraceId();
+        long startedAt = System.currentTimeMillis();
+
+        Span root = Tracer.beginTrace(traceId, request.getMethod() + " " + request.getRequestURI());
+        response.setHeader(TRACEPARENT_HEADER, "00-" + traceId + "-" + root.getSpanId() + "-01");
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            int status = failed ? 500 : response.getStatus();
+            Tracer.Context context = Tracer.endTrace(status >= 500);
+            if (context != null) {
+                traceStore.add(new Trace(traceId, incoming != null ? incoming[1] : null,
+                        request.getMethod() + " " + resolveRouteTemplate(request),
+                        status, startedAt, context.spanCount, context.droppedSpans, context.root));
+            }
+        }
+    }
+
+    /**
+     * traceparent 헤더 파싱 ("00-{32자리 trace-id}-{16자리 parent-id}-{2자리 flags}")
+     *
+     * @return {traceId, parentSpanId}, 형식이 맞지 않거나 ID가 모두 0이면 null
+     */
+    static String[] parseTraceparent(String header) {
+        if (header == null || header.length() != 55
+                || header.charAt(2) != '-' || header.charAt(35) != '-' || header.charAt(52) != '-') {
+            return null;
+        }
+        String version = header.substring(0, 2);
+        String traceId = header.substring(3, 35);
+        String parentId = header.substring(36, 52);
+        if (version.equals("ff") || !isHex(version) || !isHex(header.substring(53))
+                || !isNonZeroHex(traceId) || !isNonZeroHex(parentId)) {
+            return null;
+        }
+        return new String[]{traceId, parentId};
+    }
+
+    private static boolean isNonZeroHex(String value) {
+        return isHex(value) && value.chars().anyMatch(c -> c != '0');
+    }
+
+    private static boolean isHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String resolveRouteTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    }
+}
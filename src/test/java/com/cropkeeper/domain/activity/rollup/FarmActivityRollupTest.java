@@ -0,0 +1,198 @@
+package com.cropkeeper.domain.activity.rollup;
+
+import com.cropkeeper.domain.activity.entity.FarmDailyActivity;
+import com.cropkeeper.domain.activity.repository.FarmDailyActivityRepository;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.vo.Address;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.irrigation.entity.IrrigationLog;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집계는 커밋 직전에 반영되므로 테스트 트랜잭션(롤백) 없이 실제로 커밋하고, 끝나면 직접 지웁니다.
+ */
+@DataJpaTest
+@Import(FarmActivityRollupRebuilder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FarmActivityRollupTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FarmDailyActivityRepository farmDailyActivityRepository;
+
+    @Autowired
+    private FarmActivityRollupRebuilder rebuilder;
+
+    private Long farmId;
+
+    // ========== 테스트 상수 ==========
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 4, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 4, 2);
+
+    @BeforeEach
+    void setUp() {
+        farmId = transactionTemplate.execute(status -> {
+            Member member = Member.builder()
+                    .username("rollupuser")
+                    .password("encodedPassword")
+                    .name("집계")
+                    .role(MemberRole.USER)
+                    .build();
+            entityManager.persist(member);
+            Farm farm = Farm.builder()
+                    .farmName("집계농장")
+                    .address(new Address("00000", "서울시 관악구", "어디어디로"))
+                    .farmSize(100L)
+                    .member(member)
+                    .build();
+            entityManager.persist(farm);
+            return farm.getFarmId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM farm_daily_activity");
+        jdbcTemplate.update("DELETE FROM irrigation_log");
+        jdbcTemplate.update("DELETE FROM farming_log");
+        jdbcTemplate.update("DELETE FROM farm");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private Long irrigate(LocalDate day, long liters) {
+        return transactionTemplate.execute(status -> {
+            Farm farm = entityManager.find(Farm.class, farmId);
+            IrrigationLog log = IrrigationLog.builder()
+                    .farm(farm)
+                    .member(farm.getMember())
+                    .metadata(metadata(day))
+                    .waterAmountLiter(liters)
+                    .build();
+            entityManager.persist(log);
+            return log.getFarmingLogId();
+        });
+    }
+
+    private static FarmingMetadata metadata(LocalDate day) {
+        return FarmingMetadata.builder().logDate(day.atTime(9, 0)).weather("맑음").build();
+    }
+
+    private void modify(Long logId, Consumer<IrrigationLog> change) {
+        transactionTemplate.executeWithoutResult(status -> change.accept(entityManager.find(IrrigationLog.class, logId)));
+    }
+
+    /**
+     * [기록 수, 물 사용량] (집계 행이 없으면 [0, 0])
+     */
+    private long[] irrigationOn(LocalDate day) {
+        List<FarmDailyActivity> rows = farmDailyActivityRepository.findByFarmIdAndPeriod(
+                farmId, day, day, EnumSet.of(FarmingLogType.IRRIGATION));
+        return rows.isEmpty()
+                ? new long[]{0, 0}
+                : new long[]{rows.get(0).getLogCount(), rows.get(0).getWaterLiterTotal()};
+    }
+
+    @Test
+    @DisplayName("기록 저장, 수정, 날짜 변경, 삭제 표시가 일별 집계에 증분 반영")
+    void rollup_TracksInsertUpdateAndSoftDelete() {
+        // given
+        Long first = irrigate(DAY1, 50L);
+        Long second = irrigate(DAY1, 30L);
+        Long third = irrigate(DAY2, 20L);
+
+        assertThat(irrigationOn(DAY1)).containsExactly(2, 80);
+        assertThat(irrigationOn(DAY2)).containsExactly(1, 20);
+
+        // when - 사용량 수정, 다른 날짜로 이동
+        modify(first, log -> log.updateWaterAmountLiter(70L));
+        modify(third, log -> log.updateMetadata(metadata(DAY1)));
+
+        // then
+        assertThat(irrigationOn(DAY1)).containsExactly(3, 120);
+        assertThat(irrigationOn(DAY2)).containsExactly(0, 0);
+
+        // when - 삭제 표시
+        modify(second, IrrigationLog::delete);
+
+        // then
+        assertThat(irrigationOn(DAY1)).containsExactly(2, 90);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 기록은 집계에 반영되지 않음")
+    void rollup_IgnoresRolledBackChanges() {
+        // given
+        irrigate(DAY1, 50L);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            Farm farm = entityManager.find(Farm.class, farmId);
+            entityManager.persist(IrrigationLog.builder()
+                    .farm(farm)
+                    .member(farm.getMember())
+                    .metadata(metadata(DAY1))
+                    .waterAmountLiter(999L)
+                    .build());
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(irrigationOn(DAY1)).containsExactly(1, 50);
+    }
+
+    @Test
+    @DisplayName("재구축 - JDBC로 직접 넣은 기록까지 원본 기준으로 다시 집계")
+    void rebuild_MatchesSourceLogs() {
+        // given
+        Long first = irrigate(DAY1, 50L);
+        irrigate(DAY2, 20L);
+        modify(first, IrrigationLog::delete);
+        jdbcTemplate.update("INSERT INTO farming_log (farming_log_id, log_type, farm_id, user_id, log_date, weather,"
+                        + " deleted, created_at, updated_at)"
+                        + " SELECT 900000, 'IRRIGATION', farm_id, member_id, ?, '흐림', FALSE, ?, ? FROM farm WHERE farm_id = ?",
+                DAY2.atTime(18, 0), LocalDateTime.now(), LocalDateTime.now(), farmId);
+        jdbcTemplate.update("INSERT INTO irrigation_log (farming_log_id, water_amount_liter) VALUES (900000, 15)");
+
+        // when
+        FarmActivityRollupRebuilder.Result result = rebuilder.rebuildFarm(farmId);
+
+        // then
+        assertThat(result.rows()).isEqualTo(1);
+        assertThat(irrigationOn(DAY1)).containsExactly(0, 0);
+        assertThat(irrigationOn(DAY2)).containsExactly(2, 35);
+    }
+}
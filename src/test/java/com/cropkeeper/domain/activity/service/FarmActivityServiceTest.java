@@ -0,0 +1,139 @@
+package com.cropkeeper.domain.activity.service;
+
+import com.cropkeeper.domain.activity.dto.request.ActivityGranularity;
+import com.cropkeeper.domain.activity.dto.response.ActivitySummaryResponse;
+import com.cropkeeper.domain.activity.dto.response.FarmActivityResponse;
+import com.cropkeeper.domain.activity.entity.FarmDailyActivity;
+import com.cropkeeper.domain.activity.exception.ActivityErrorCode;
+import com.cropkeeper.domain.activity.exception.InvalidActivityRequestException;
+import com.cropkeeper.domain.activity.repository.FarmDailyActivityRepository;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FarmActivityServiceTest {
+
+    @Mock
+    private FarmDailyActivityRepository farmDailyActivityRepository;
+
+    @InjectMocks
+    private FarmActivityService farmActivityService;
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long FARM_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2025, 4, 1);    // 화요일
+    private static final LocalDate TO = LocalDate.of(2025, 4, 30);
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private FarmDailyActivity day(LocalDate date, FarmingLogType type, long count, long amount, long water) {
+        return FarmDailyActivity.builder()
+                .farmId(FARM_ID)
+                .activityDate(date)
+                .logType(type)
+                .logCount(count)
+                .amountTotal(amount)
+                .waterLiterTotal(water)
+                .build();
+    }
+
+    @Test
+    @DisplayName("주 단위 조회 - 일별 집계를 월요일 시작 주와 기록 종류별로 합산")
+    void getActivity_Weekly_SumsDailyRows() {
+        // given
+        given(farmDailyActivityRepository.findByFarmIdAndPeriod(eq(FARM_ID), eq(FROM), eq(TO), anyCollection()))
+                .willReturn(List.of(
+                        day(LocalDate.of(2025, 4, 1), FarmingLogType.IRRIGATION, 2, 0, 80),
+                        day(LocalDate.of(2025, 4, 3), FarmingLogType.IRRIGATION, 1, 0, 20),
+                        day(LocalDate.of(2025, 4, 3), FarmingLogType.FERTILIZING, 1, 3, 0),
+                        day(LocalDate.of(2025, 4, 8), FarmingLogType.IRRIGATION, 1, 0, 40)));
+
+        // when
+        FarmActivityResponse response = farmActivityService.getActivity(
+                FARM_ID, FROM, TO, null, ActivityGranularity.WEEK);
+
+        // then
+        assertThat(response.getBuckets())
+                .extracting(ActivitySummaryResponse::getPeriodStart, ActivitySummaryResponse::getType,
+                        ActivitySummaryResponse::getLogCount, ActivitySummaryResponse::getAmountTotal,
+                        ActivitySummaryResponse::getWaterLiterTotal)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 3, 31), FarmingLogType.FERTILIZING, 1L, 3L, 0L),
+                        tuple(LocalDate.of(2025, 3, 31), FarmingLogType.IRRIGATION, 3L, 0L, 100L),
+                        tuple(LocalDate.of(2025, 4, 7), FarmingLogType.IRRIGATION, 1L, 0L, 40L));
+        assertThat(response.getTotals())
+                .extracting(ActivitySummaryResponse::getType, ActivitySummaryResponse::getWaterLiterTotal)
+                .containsExactly(
+                        tuple(FarmingLogType.FERTILIZING, 0L),
+                        tuple(FarmingLogType.IRRIGATION, 140L));
+    }
+
+    @Test
+    @DisplayName("기록 수가 0이 된 집계 행은 응답에서 제외")
+    void getActivity_SkipsEmptyRows() {
+        // given
+        given(farmDailyActivityRepository.findByFarmIdAndPeriod(eq(FARM_ID), eq(FROM), eq(TO), anyCollection()))
+                .willReturn(List.of(day(LocalDate.of(2025, 4, 2), FarmingLogType.HARVEST, 0, 0, 0)));
+
+        // when
+        FarmActivityResponse response = farmActivityService.getActivity(
+                FARM_ID, FROM, TO, Set.of(FarmingLogType.HARVEST), ActivityGranularity.DAY);
+
+        // then
+        assertThat(response.getBuckets()).isEmpty();
+        assertThat(response.getTotals()).isEmpty();
+        verify(farmDailyActivityRepository).findByFarmIdAndPeriod(FARM_ID, FROM, TO, Set.of(FarmingLogType.HARVEST));
+    }
+
+    @Test
+    @DisplayName("종류를 지정하지 않으면 전체 종류 조회")
+    void getActivity_NoTypes_QueriesAllTypes() {
+        // when
+        farmActivityService.getActivity(FARM_ID, FROM, TO, Set.of(), ActivityGranularity.MONTH);
+
+        // then
+        verify(farmDailyActivityRepository).findByFarmIdAndPeriod(FARM_ID, FROM, TO, EnumSet.allOf(FarmingLogType.class));
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 InvalidActivityRequestException 발생")
+    void getActivity_InvalidRange_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> farmActivityService.getActivity(FARM_ID, TO, FROM, null, ActivityGranularity.DAY))
+                .isInstanceOf(InvalidActivityRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ActivityErrorCode.INVALID_DATE_RANGE);
+
+        verify(farmDailyActivityRepository, never()).findByFarmIdAndPeriod(any(), any(), any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("일별 조회 기간이 1년을 넘으면 InvalidActivityRequestException 발생")
+    void getActivity_DailyPeriodTooLong_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> farmActivityService.getActivity(
+                FARM_ID, FROM, FROM.plusDays(ActivityGranularity.DAY.getMaxDays()), null, ActivityGranularity.DAY))
+                .isInstanceOf(InvalidActivityRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ActivityErrorCode.PERIOD_TOO_LONG);
+    }
+}
@@ -1,8 +1,10 @@
 package com.cropkeeper.domain.auth.controller;
 
 import com.cropkeeper.domain.auth.dto.request.LoginRequest;
+import com.cropkeeper.domain.auth.dto.request.RefreshTokenRequest;
 import com.cropkeeper.domain.auth.dto.request.RegisterRequest;
 import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,8 +14,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -238,6 +242,48 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("아이디 또는 비밀번호가 올바르지 않습니다."));
     }
 
+    @Test
+    @DisplayName("로그인 실패 - 연속 실패 시 잠금 (429)")
+    void login_Fail_Throttled() throws Exception {
+        // given - 먼저 회원가입
+        RegisterRequest registerRequest = RegisterRequest.builder()
+                .username("lockuser01")
+                .password("Pass123!")
+                .passwordConfirm("Pass123!")
+                .name("홍길동")
+                .build();
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)));
+
+        LoginRequest wrongRequest = LoginRequest.builder()
+                .username("lockuser01")
+                .password("Wrong789#")
+                .build();
+
+        // 한도(5회)까지는 401
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(wrongRequest)))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        // when & then - 올바른 비밀번호여도 잠긴 동안은 거절
+        LoginRequest loginRequest = LoginRequest.builder()
+                .username("lockuser01")
+                .password("Pass123!")
+                .build();
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorCode").value("A008"));
+    }
+
     @Test
     @DisplayName("로그인 실패 - 존재하지 않는 사용자")
     void login_Fail_UserNotFound() throws Exception {
@@ -255,4 +301,139 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.message").value("아이디 또는 비밀번호가 올바르지 않습니다."));
     }
+
+    @Test
+    @DisplayName("토큰 재발급 성공 - 새 리프레시 토큰으로 회전")
+    void refresh_Success() throws Exception {
+        // given
+        String refreshToken = registerAndLogin("testuser01");
+
+        // when & then
+        MvcResult result = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").exists())
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andReturn();
+
+        String rotated = objectMapper.readTree(result.getResponse().getContentAsString())
+                .get("refreshToken").asText();
+        assertThat(rotated).isNotEqualTo(refreshToken);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 사용된 리프레시 토큰 재사용 시 family 전체 폐기")
+    void refresh_Fail_Reused() throws Exception {
+        // given
+        String refreshToken = registerAndLogin("testuser01");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String rotated = objectMapper.readTree(result.getResponse().getContentAsString())
+                .get("refreshToken").asText();
+
+        // when & then - 이미 사용된 토큰 재제출
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("A006"));
+
+        // 같은 family의 최신 토큰도 폐기됨
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(rotated))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("A006"));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 유효하지 않은 토큰")
+    void refresh_Fail_InvalidToken() throws Exception {
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest("invalid.token.value"))))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("A005"));
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - 폐기된 액세스 토큰으로는 인증 불가")
+    void logout_Success() throws Exception {
+        // given
+        String accessToken = registerAndLoginForAccessToken("testuser01");
+
+        // when
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        // then - 같은 토큰으로 다시 요청하면 인증되지 않음
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰을 Bearer 액세스 토큰으로 사용하면 401")
+    void bearer_Fail_RefreshToken() throws Exception {
+        // given
+        String refreshToken = registerAndLogin("testuser01");
+
+        // when & then
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + refreshToken))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("로그아웃 실패 - 토큰 없음")
+    void logout_Fail_NoToken() throws Exception {
+        mockMvc.perform(post("/api/auth/logout"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    private String registerAndLogin(String username) throws Exception {
+        return login(username).get("refreshToken").asText();
+    }
+
+    private String registerAndLoginForAccessToken(String username) throws Exception {
+        return login(username).get("accessToken").asText();
+    }
+
+    private JsonNode login(String username) throws Exception {
+        RegisterRequest registerRequest = RegisterRequest.builder()
+                .username(username)
+                .password("Pass123!")
+                .passwordConfirm("Pass123!")
+                .name("홍길동")
+                .build();
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)));
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .username(username)
+                .password("Pass123!")
+                .build();
+
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
 }
@@ -1,11 +1,13 @@
 package com.cropkeeper.domain.auth.service;
 
 import com.cropkeeper.domain.auth.dto.request.LoginRequest;
+import com.cropkeeper.domain.auth.dto.request.RefreshTokenRequest;
 import com.cropkeeper.domain.auth.dto.response.LoginResponse;
 import com.cropkeeper.domain.auth.dto.request.RegisterRequest;
 import com.cropkeeper.domain.auth.dto.response.RegisterResponse;
 import com.cropkeeper.domain.auth.exception.DeletedMemberLoginException;
 import com.cropkeeper.domain.auth.exception.InvalidCredentialsException;
+import com.cropkeeper.domain.auth.exception.LoginThrottledException;
 import com.cropkeeper.domain.auth.exception.RegisterPasswordMismatchException;
 import com.cropkeeper.domain.member.entity.Member;
 import com.cropkeeper.domain.member.entity.MemberRole;
@@ -13,7 +15,11 @@ import com.cropkeeper.domain.auth.exception.DuplicateUsernameException;
 import com.cropkeeper.domain.member.exception.PasswordMismatchException;
 import com.cropkeeper.domain.member.repository.MemberRepository;
 import com.cropkeeper.global.security.JwtTokenProvider;
+import com.cropkeeper.global.security.LoginThrottle;
+import com.cropkeeper.global.security.ParsedToken;
+import com.cropkeeper.global.security.TokenRevocationList;
 import com.cropkeeper.global.security.UserPrincipal;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +43,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "127.0.0.1";
+
     @Mock
     private MemberRepository memberRepository;
 
@@ -49,6 +57,15 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private AuthService authService;
 
@@ -159,11 +176,11 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
 
-        when(jwtTokenProvider.generateAccessToken("testuser01")).thenReturn("access-token-123");
-        when(jwtTokenProvider.generateRefreshToken("testuser01")).thenReturn("refresh-token-123");
+        when(jwtTokenProvider.generateAccessToken(user)).thenReturn("access-token-123");
+        when(refreshTokenService.issue(1L, "testuser01")).thenReturn("refresh-token-123");
 
         // when
-        LoginResponse response = authService.login(request);
+        LoginResponse response = authService.login(request, CLIENT_IP);
 
         // then
         assertThat(response.getAccessToken()).isEqualTo("access-token-123");
@@ -172,8 +189,9 @@ class AuthServiceTest {
 
         // 검증
         verify(authenticationManager, times(1)).authenticate(any());
-        verify(jwtTokenProvider, times(1)).generateAccessToken("testuser01");
-        verify(jwtTokenProvider, times(1)).generateRefreshToken("testuser01");
+        verify(jwtTokenProvider, times(1)).generateAccessToken(user);
+        verify(refreshTokenService, times(1)).issue(1L, "testuser01");
+        verify(loginThrottle, times(1)).recordSuccess("testuser01");
     }
 
     @Test
@@ -189,13 +207,35 @@ class AuthServiceTest {
                 .thenThrow(new BadCredentialsException("자격 증명에 실패하였습니다."));
 
         // when & then
-        assertThatThrownBy(() -> authService.login(request))
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("아이디 또는 비밀번호가 올바르지 않습니다.");
 
         // 검증: 인증 실패 시 토큰이 생성되지 않아야 함
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString());
-        verify(jwtTokenProvider, never()).generateRefreshToken(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(any(Member.class));
+        verify(refreshTokenService, never()).issue(any(), anyString());
+        verify(loginThrottle, times(1)).recordFailure("testuser01", CLIENT_IP);
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 시도 과다로 잠긴 경우 비밀번호 검증 전에 거절")
+    void login_Fail_Throttled() {
+        // given
+        LoginRequest request = LoginRequest.builder()
+                .username("testuser01")
+                .password("Pass123!")
+                .build();
+
+        doThrow(new LoginThrottledException()).when(loginThrottle).checkAllowed("testuser01", CLIENT_IP);
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
+                .isInstanceOf(LoginThrottledException.class)
+                .hasMessage("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+
+        // 검증: 잠긴 동안에는 인증(BCrypt)을 수행하지 않아야 함
+        verify(authenticationManager, never()).authenticate(any());
+        verify(loginThrottle, never()).recordFailure(anyString(), anyString());
     }
 
     @Test
@@ -243,11 +283,11 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenThrow(new DeletedMemberLoginException("deleteUser"));
 
-        assertThatThrownBy(() -> authService.login(request))
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                 .isInstanceOf(DeletedMemberLoginException.class)
                 .hasMessage("탈퇴한 회원입니다. 로그인할 수 없습니다. (username: deleteUser)");
 
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(any(Member.class));
         verify(memberRepository, never()).findByUsername(anyString());
 
     }
@@ -264,10 +304,47 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenThrow(new UsernameNotFoundException("사용자를 찾을 수 없습니다: testusername"));
 
-        assertThatThrownBy(() -> authService.login(request))
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                 .isInstanceOf(UsernameNotFoundException.class);
 
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(any(Member.class));
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - 액세스 토큰 폐기")
+    void logout_Success() {
+        // given
+        ParsedToken accessToken = ParsedToken.from(Jwts.claims()
+                .subject("testuser01")
+                .id("jti-123")
+                .add(JwtTokenProvider.CLAIM_TYPE, "access")
+                .build());
+
+        // when
+        authService.logout(1L, accessToken, null);
+
+        // then
+        verify(tokenRevocationList, times(1)).revoke(accessToken, 1L);
+        verify(refreshTokenService, never()).revoke(any(RefreshTokenRequest.class));
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - 리프레시 토큰도 함께 폐기")
+    void logout_Success_WithRefreshToken() {
+        // given
+        ParsedToken accessToken = ParsedToken.from(Jwts.claims()
+                .subject("testuser01")
+                .id("jti-123")
+                .add(JwtTokenProvider.CLAIM_TYPE, "access")
+                .build());
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token-123");
+
+        // when
+        authService.logout(1L, accessToken, request);
+
+        // then
+        verify(tokenRevocationList, times(1)).revoke(accessToken, 1L);
+        verify(refreshTokenService, times(1)).revoke(request);
     }
 
 }
@@ -0,0 +1,260 @@
+package com.cropkeeper.domain.auth.service;
+
+import com.cropkeeper.domain.auth.dto.request.RefreshTokenRequest;
+import com.cropkeeper.domain.auth.dto.response.TokenRefreshResponse;
+import com.cropkeeper.domain.auth.entity.RefreshToken;
+import com.cropkeeper.domain.auth.exception.InvalidRefreshTokenException;
+import com.cropkeeper.domain.auth.exception.RefreshTokenReuseException;
+import com.cropkeeper.domain.auth.repository.RefreshTokenRepository;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.global.security.JwtTokenProvider;
+import com.cropkeeper.global.security.ParsedToken;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private static final String FAMILY_ID = "family-1";
+
+    @Test
+    @DisplayName("토큰 재발급 성공 - 기존 토큰 사용 처리 후 같은 family로 새 토큰 발급")
+    void refresh_Success() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token-old");
+        Member member = createMember();
+
+        when(jwtTokenProvider.parseAndVerify("refresh-token-old")).thenReturn(parsedToken("refresh"));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(storedToken(false, false)));
+        when(refreshTokenRepository.markUsed(anyString())).thenReturn(1);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(jwtTokenProvider.generateAccessToken(member)).thenReturn("access-token-new");
+        when(jwtTokenProvider.generateRefreshToken("testuser01", FAMILY_ID)).thenReturn("refresh-token-new");
+        when(jwtTokenProvider.getExpirationDate("refresh-token-new"))
+                .thenReturn(new Date(System.currentTimeMillis() + 60_000));
+
+        // when
+        TokenRefreshResponse response = refreshTokenService.refresh(request);
+
+        // then
+        assertThat(response.getAccessToken()).isEqualTo("access-token-new");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token-new");
+        assertThat(response.getTokenType()).isEqualTo("Bearer");
+
+        verify(refreshTokenRepository, times(1)).markUsed(anyString());
+        verify(refreshTokenRepository, times(1)).save(argThat(token ->
+                token.getFamilyId().equals(FAMILY_ID) && token.getMemberId().equals(1L)));
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이미 사용된 토큰이면 family 전체 폐기")
+    void refresh_Fail_ReusedToken() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token-old");
+
+        when(jwtTokenProvider.parseAndVerify("refresh-token-old")).thenReturn(parsedToken("refresh"));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(storedToken(true, false)));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh(request))
+                .isInstanceOf(RefreshTokenReuseException.class);
+
+        verify(refreshTokenRepository, times(1)).revokeFamily(FAMILY_ID);
+        verify(refreshTokenRepository, never()).markUsed(anyString());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 동시에 제출되어 사용 처리에 실패하면 family 전체 폐기")
+    void refresh_Fail_ConcurrentUse() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token-old");
+
+        when(jwtTokenProvider.parseAndVerify("refresh-token-old")).thenReturn(parsedToken("refresh"));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(storedToken(false, false)));
+        when(refreshTokenRepository.markUsed(anyString())).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh(request))
+                .isInstanceOf(RefreshTokenReuseException.class);
+
+        verify(refreshTokenRepository, times(1)).revokeFamily(FAMILY_ID);
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 서명이 유효하지 않은 토큰")
+    void refresh_Fail_InvalidSignature() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("invalid-token");
+        when(jwtTokenProvider.parseAndVerify("invalid-token")).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh(request))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository, never()).findByTokenHash(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 액세스 토큰으로 재발급 요청")
+    void refresh_Fail_AccessToken() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("access-token");
+        when(jwtTokenProvider.parseAndVerify("access-token")).thenReturn(parsedToken("access"));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh(request))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository, never()).markUsed(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 저장소에 없는 토큰")
+    void refresh_Fail_UnknownToken() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token-old");
+
+        when(jwtTokenProvider.parseAndVerify("refresh-token-old")).thenReturn(parsedToken("refresh"));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh(request))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 사용된 적 없이 폐기된 토큰은 재사용이 아닌 유효하지 않은 토큰")
+    void refresh_Fail_RevokedUnusedToken() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token-old");
+
+        when(jwtTokenProvider.parseAndVerify("refresh-token-old")).thenReturn(parsedToken("refresh"));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(storedToken(false, true)));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh(request))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository, never()).markUsed(anyString());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 탈퇴한 회원이면 family 폐기 후 거부 (폐기는 롤백되지 않음)")
+    void refresh_Fail_MemberNotFound() throws NoSuchMethodException {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token-old");
+
+        when(jwtTokenProvider.parseAndVerify("refresh-token-old")).thenReturn(parsedToken("refresh"));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(storedToken(false, false)));
+        when(refreshTokenRepository.markUsed(anyString())).thenReturn(1);
+        when(memberRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh(request))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository, times(1)).markUsed(anyString());
+        verify(refreshTokenRepository, times(1)).revokeFamily(FAMILY_ID);
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+
+        Transactional transactional = RefreshTokenService.class
+                .getMethod("refresh", RefreshTokenRequest.class)
+                .getAnnotation(Transactional.class);
+        assertThat(transactional.noRollbackFor()).contains(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 폐기 - 해당 family 전체 폐기")
+    void revoke_Success() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token-old");
+
+        when(jwtTokenProvider.parseAndVerify("refresh-token-old")).thenReturn(parsedToken("refresh"));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(storedToken(false, false)));
+
+        // when
+        refreshTokenService.revoke(request);
+
+        // then
+        verify(refreshTokenRepository, times(1)).revokeFamily(FAMILY_ID);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 폐기 - 유효하지 않은 토큰은 무시")
+    void revoke_IgnoreInvalidToken() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("invalid-token");
+        when(jwtTokenProvider.parseAndVerify("invalid-token")).thenReturn(null);
+
+        // when
+        refreshTokenService.revoke(request);
+
+        // then
+        verify(refreshTokenRepository, never()).findByTokenHash(anyString());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    private ParsedToken parsedToken(String type) {
+        return ParsedToken.from(Jwts.claims()
+                .subject("testuser01")
+                .add(JwtTokenProvider.CLAIM_TYPE, type)
+                .add(JwtTokenProvider.CLAIM_FAMILY_ID, FAMILY_ID)
+                .build());
+    }
+
+    private RefreshToken storedToken(boolean used, boolean revoked) {
+        return RefreshToken.builder()
+                .tokenHash("hash")
+                .familyId(FAMILY_ID)
+                .memberId(1L)
+                .used(used)
+                .revoked(revoked)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .memberId(1L)
+                .username("testuser01")
+                .password("$2a$10$encoded")
+                .name("홍길동")
+                .role(MemberRole.USER)
+                .build();
+    }
+}
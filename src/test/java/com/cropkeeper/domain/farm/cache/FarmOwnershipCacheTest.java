@@ -0,0 +1,172 @@
+package com.cropkeeper.domain.farm.cache;
+
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FarmOwnershipCacheTest {
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    private FarmOwnershipCache cache;
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long FARM_ID = 1L;
+    private static final Long OWNER_ID = 10L;
+    private static final Long NEW_OWNER_ID = 20L;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FarmOwnershipCache(farmRepository, true, 100, 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private void completeTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환")
+    void getOwnerId_SecondCall_Hit() {
+        // given
+        given(farmRepository.findOwnerIdById(FARM_ID)).willReturn(Optional.of(OWNER_ID));
+
+        // when
+        cache.getOwnerId(FARM_ID);
+        Long ownerId = cache.getOwnerId(FARM_ID);
+
+        // then
+        assertThat(ownerId).isEqualTo(OWNER_ID);
+        verify(farmRepository, times(1)).findOwnerIdById(FARM_ID);
+        assertThat(cache.stats().getHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경 시점에 캐시되지 않았어도 트랜잭션 종료 시 제거 - 커밋 전에 채운 이전 소유자가 남지 않음")
+    void onFarmChanged_NotCached_EvictsAfterCompletion() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        cache.onFarmChanged(FARM_ID, NEW_OWNER_ID, false);
+
+        // 커밋 전 다른 요청이 이전 소유자를 읽어 채움
+        cache.put(FARM_ID, OWNER_ID, cache.invalidationStamp());
+        given(farmRepository.findOwnerIdById(FARM_ID)).willReturn(Optional.of(NEW_OWNER_ID));
+
+        // when
+        completeTransaction();
+
+        // then
+        assertThat(cache.getOwnerId(FARM_ID)).isEqualTo(NEW_OWNER_ID);
+    }
+
+    @Test
+    @DisplayName("소유자가 같으면 바로 제거하지 않지만 트랜잭션 종료 시 제거")
+    void onFarmChanged_SameOwner_EvictsOnlyAfterCompletion() {
+        // given
+        cache.put(FARM_ID, OWNER_ID, cache.invalidationStamp());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.onFarmChanged(FARM_ID, OWNER_ID, false);
+
+        // then
+        assertThat(cache.stats().getSize()).isEqualTo(1);
+        completeTransaction();
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제되면 바로 제거")
+    void onFarmChanged_Deleted_EvictsImmediately() {
+        // given
+        cache.put(FARM_ID, OWNER_ID, cache.invalidationStamp());
+
+        // when
+        cache.onFarmChanged(FARM_ID, null, true);
+
+        // then
+        assertThat(cache.stats().getSize()).isZero();
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화가 있으면 조회 결과를 캐시하지 않음")
+    void getOwnerId_InvalidatedDuringLoad_NotCached() {
+        // given
+        given(farmRepository.findOwnerIdById(FARM_ID)).willAnswer(invocation -> {
+            cache.onFarmChanged(FARM_ID, NEW_OWNER_ID, false);
+            return Optional.of(OWNER_ID);
+        });
+
+        // when
+        Long ownerId = cache.getOwnerId(FARM_ID);
+
+        // then
+        assertThat(ownerId).isEqualTo(OWNER_ID);
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("서비스가 엔티티를 읽는 중에 무효화가 있으면 읽은 소유자를 기록하지 않음")
+    void put_InvalidatedAfterStamp_NotCached() {
+        // given - 서비스가 조회 전에 시점을 받고 이전 소유자를 읽는 사이 소유자 변경
+        long stamp = cache.invalidationStamp();
+        cache.onFarmChanged(FARM_ID, NEW_OWNER_ID, false);
+
+        // when
+        cache.put(FARM_ID, OWNER_ID, stamp);
+
+        // then
+        assertThat(cache.stats().getSize()).isZero();
+        given(farmRepository.findOwnerIdById(FARM_ID)).willReturn(Optional.of(NEW_OWNER_ID));
+        assertThat(cache.getOwnerId(FARM_ID)).isEqualTo(NEW_OWNER_ID);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 조회")
+    void getOwnerId_Expired_Reloads() {
+        // given
+        cache = new FarmOwnershipCache(farmRepository, true, 100, 0);
+        given(farmRepository.findOwnerIdById(FARM_ID))
+                .willReturn(Optional.of(OWNER_ID))
+                .willReturn(Optional.of(NEW_OWNER_ID));
+
+        // when
+        cache.getOwnerId(FARM_ID);
+        Long ownerId = cache.getOwnerId(FARM_ID);
+
+        // then
+        assertThat(ownerId).isEqualTo(NEW_OWNER_ID);
+        verify(farmRepository, times(2)).findOwnerIdById(FARM_ID);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+}
@@ -4,6 +4,7 @@ import com.cropkeeper.domain.farm.entity.Farm;
 import com.cropkeeper.domain.farm.vo.Address;
 import com.cropkeeper.domain.member.entity.Member;
 import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.global.persistence.QueryCountAssertions;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -67,11 +68,14 @@ class FarmRepositoryTest {
 
         entityManager.flush();
         entityManager.clear();
+        QueryCountAssertions.reset();
 
         // when
         Farm foundFarm = farmRepository.findById(farm.getFarmId()).get();
 
         // then
+        QueryCountAssertions.assertMaxQueries(1);
+        QueryCountAssertions.assertMaxEntityLoads(1);
         assertThat(foundFarm).isNotNull();
         assertThat(foundFarm.getFarmId()).isEqualTo(farm.getFarmId());
         assertThat(foundFarm.getFarmName()).isEqualTo(farm.getFarmName());
@@ -106,6 +110,46 @@ class FarmRepositoryTest {
         assertThat(foundFarm).isEmpty();
     }
 
+    @Test
+    @DisplayName("농장 소유자 ID 조회 성공")
+    void findOwnerIdById_Success() {
+
+        // given
+        Member member = createMember("testUser", "test");
+        Farm farm = createFarm("testFarm", member, 1500L);
+
+        entityManager.flush();
+        entityManager.clear();
+        QueryCountAssertions.reset();
+
+        // when
+        Optional<Long> ownerId = farmRepository.findOwnerIdById(farm.getFarmId());
+
+        // then
+        assertThat(ownerId).contains(member.getMemberId());
+        QueryCountAssertions.assertMaxQueries(1);
+        QueryCountAssertions.assertMaxEntityLoads(0);
+    }
+
+    @Test
+    @DisplayName("삭제된 농장은 소유자 ID 조회 x")
+    void findOwnerIdById_DeletedFarm() {
+
+        // given
+        Member member = createMember("testUser", "test");
+        Farm farm = createFarm("testFarm", member, 1000L);
+        farm.delete();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<Long> ownerId = farmRepository.findOwnerIdById(farm.getFarmId());
+
+        // then
+        assertThat(ownerId).isEmpty();
+    }
+
     @Test
     @DisplayName("회원 농장 목록 조회 성공")
     void findByMemberId_Success() {
@@ -117,9 +161,15 @@ class FarmRepositoryTest {
 
         entityManager.flush();
         entityManager.clear();
+        QueryCountAssertions.reset();
 
         List<Farm> farms = farmRepository.findByMemberId(member.getMemberId());
 
+        // 회원은 fetch join으로 함께 조회 (농장별 추가 조회 없음)
+        farms.forEach(farm -> farm.getMember().getName());
+        QueryCountAssertions.assertMaxQueries(1);
+        QueryCountAssertions.assertNoRepeatedSelect();
+
         assertThat(farms).hasSize(3);
         assertThat(farms).extracting(Farm::getFarmName)
                 .containsExactlyInAnyOrder("testFarm1", "testFarm2", "testFarm3");
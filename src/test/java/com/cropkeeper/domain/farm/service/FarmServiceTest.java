@@ -1,5 +1,6 @@
 package com.cropkeeper.domain.farm.service;
 
+import com.cropkeeper.domain.farm.cache.FarmOwnershipCache;
 import com.cropkeeper.domain.farm.dto.request.CreateFarmRequest;
 import com.cropkeeper.domain.farm.dto.request.UpdateFarmRequest;
 import com.cropkeeper.domain.farm.dto.response.FarmResponse;
@@ -36,6 +37,9 @@ class FarmServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private FarmOwnershipCache farmOwnershipCache;
+
     @InjectMocks
     private FarmService farmService;
 
@@ -234,6 +238,8 @@ class FarmServiceTest {
         assertThat(response.getMemberId()).isEqualTo(TEST_MEMBER_ID);
 
         verify(farmRepository, times(1)).findById(farmId);
+        // 읽은 엔티티의 소유자를 권한 검증용 캐시에 기록
+        verify(farmOwnershipCache, times(1)).put(farmId, TEST_MEMBER_ID, 0L);
     }
 
     @Test
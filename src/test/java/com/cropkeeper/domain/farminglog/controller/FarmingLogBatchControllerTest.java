@@ -0,0 +1,203 @@
+package com.cropkeeper.domain.farminglog.controller;
+
+import com.cropkeeper.domain.auth.dto.request.LoginRequest;
+import com.cropkeeper.domain.auth.dto.request.RegisterRequest;
+import com.cropkeeper.domain.crop.entity.CropCategory;
+import com.cropkeeper.domain.crop.entity.CropType;
+import com.cropkeeper.domain.crop.entity.CropVariety;
+import com.cropkeeper.domain.crop.repository.CropCategoryRepository;
+import com.cropkeeper.domain.crop.repository.CropTypeRepository;
+import com.cropkeeper.domain.crop.repository.CropVarietyRepository;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import com.cropkeeper.domain.farm.vo.Address;
+import com.cropkeeper.domain.farminglog.repository.FarmingLogRepository;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.domain.pest.entity.Pesticide;
+import com.cropkeeper.domain.pest.entity.PesticideType;
+import com.cropkeeper.domain.pest.repository.PestControlLogRepository;
+import com.cropkeeper.domain.pest.repository.PesticideRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class FarmingLogBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private CropCategoryRepository cropCategoryRepository;
+
+    @Autowired
+    private CropTypeRepository cropTypeRepository;
+
+    @Autowired
+    private CropVarietyRepository cropVarietyRepository;
+
+    @Autowired
+    private PesticideRepository pesticideRepository;
+
+    @Autowired
+    private FarmingLogRepository farmingLogRepository;
+
+    @Autowired
+    private PestControlLogRepository pestControlLogRepository;
+
+    private String accessToken;
+    private Farm farm;
+    private Farm otherFarm;
+    private Long varietyId;
+    private Long pesticideId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RegisterRequest registerRequest = RegisterRequest.builder()
+                .username("testuser01")
+                .password("Pass123!")
+                .passwordConfirm("Pass123!")
+                .name("test01")
+                .contact("01012345678")
+                .build();
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .username("testuser01")
+                .password("Pass123!")
+                .build();
+
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        accessToken = objectMapper.readTree(loginResponse).get("accessToken").asText();
+
+        Member member = memberRepository.findByUsername("testuser01").orElseThrow();
+        Member other = memberRepository.save(Member.builder()
+                .username("testuser02")
+                .password("encodedPassword")
+                .name("이웃")
+                .role(MemberRole.USER)
+                .build());
+        farm = farmRepository.save(farm(member, "테스트농장"));
+        otherFarm = farmRepository.save(farm(other, "이웃농장"));
+
+        CropCategory category = cropCategoryRepository.save(CropCategory.builder().categoryName("대량등록분류").build());
+        CropType cropType = cropTypeRepository.save(CropType.builder().category(category).typeName("토마토").build());
+        CropVariety variety = cropVarietyRepository.save(
+                CropVariety.builder().cropType(cropType).varietyName("완숙토마토").build());
+        varietyId = variety.getVarietyId();
+
+        pesticideId = pesticideRepository.save(Pesticide.builder()
+                .productName("테스트농약")
+                .type(PesticideType.INSECTICIDE)
+                .build()).getPesticideId();
+    }
+
+    private static Farm farm(Member owner, String farmName) {
+        return Farm.builder()
+                .farmName(farmName)
+                .address(Address.builder().street("서울시 강남구").build())
+                .farmSize(1500L)
+                .member(owner)
+                .build();
+    }
+
+    @Test
+    @DisplayName("여러 종류 기록 대량 등록 - 항목별 결과 반환")
+    void ingestLogs_Success() throws Exception {
+        // given
+        String body = "["
+                + "{\"ref\":\"a\",\"type\":\"CULTIVATION\",\"logDate\":\"2025-04-01T09:00:00\",\"weather\":\"맑음\","
+                + "\"varietyId\":" + varietyId + ",\"plantingAmount\":100},"
+                + "{\"ref\":\"b\",\"type\":\"IRRIGATION\",\"logDate\":\"2025-04-02T09:00:00\",\"weather\":\"흐림\",\"waterAmountLiter\":30},"
+                + "{\"ref\":\"c\",\"type\":\"PEST_CONTROL\",\"logDate\":\"2025-04-03T09:00:00\",\"weather\":\"맑음\","
+                + "\"pesticideId\":" + pesticideId + ",\"usedAmountBottle\":1,\"usedWaterLiter\":20},"
+                + "{\"ref\":\"d\",\"type\":\"HARVEST\",\"logDate\":\"2025-04-04T09:00:00\",\"weather\":\"맑음\","
+                + "\"varietyId\":999999,\"quantityBox\":5},"
+                + "{\"ref\":\"e\",\"type\":\"IRRIGATION\",\"logDate\":\"2025-04-05T09:00:00\",\"waterAmountLiter\":30}"
+                + "]";
+
+        // when, then
+        mockMvc.perform(post("/api/farms/" + farm.getFarmId() + "/logs:batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(5))
+                .andExpect(jsonPath("$.created").value(3))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.results[0].ref").value("a"))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").exists())
+                .andExpect(jsonPath("$.results[0].weather").doesNotExist())
+                .andExpect(jsonPath("$.results[2].type").value("PEST_CONTROL"))
+                .andExpect(jsonPath("$.results[3].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[3].errorCode").value("L006"))
+                .andExpect(jsonPath("$.results[4].errorCode").value("L005"));
+
+        assertThat(farmingLogRepository.count()).isEqualTo(2);
+        assertThat(pestControlLogRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기록 대량 등록 실패 - 본문이 배열이 아님")
+    void ingestLogs_Fail_NotArray() throws Exception {
+        mockMvc.perform(post("/api/farms/" + farm.getFarmId() + "/logs:batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"type\":\"IRRIGATION\"}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("L003"));
+    }
+
+    @Test
+    @DisplayName("기록 대량 등록 실패 - 다른 회원의 농장")
+    void ingestLogs_Fail_OtherFarm() throws Exception {
+        mockMvc.perform(post("/api/farms/" + otherFarm.getFarmId() + "/logs:batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+
+        assertThat(farmingLogRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,175 @@
+package com.cropkeeper.domain.farminglog.repository;
+
+import com.cropkeeper.domain.crop.entity.CropCategory;
+import com.cropkeeper.domain.crop.entity.CropType;
+import com.cropkeeper.domain.crop.entity.CropVariety;
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.vo.Address;
+import com.cropkeeper.domain.farminglog.entity.FarmingLog;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.irrigation.entity.IrrigationLog;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.global.persistence.QueryCountAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class FarmingLogRepositoryTest {
+
+    @Autowired
+    private FarmingLogRepository farmingLogRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    // ========== 테스트 상수 ==========
+
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 1, 1, 0, 0);
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2025, 4, 1, 9, 0);
+    private static final LocalDateTime DAY2 = LocalDateTime.of(2025, 4, 2, 9, 0);
+    private static final LocalDateTime DAY3 = LocalDateTime.of(2025, 4, 3, 9, 0);
+    private static final List<Class<? extends FarmingLog>> ALL_TYPES = List.of(CultivationLog.class, IrrigationLog.class);
+
+    private Member member;
+    private Farm farm;
+    private CropVariety variety;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(Member.builder()
+                .username("testuser01")
+                .password("encodedPassword")
+                .name("홍길동")
+                .role(MemberRole.USER)
+                .build());
+
+        farm = em.persist(Farm.builder()
+                .farmName("테스트농장")
+                .address(Address.builder().street("서울시 강남구").build())
+                .farmSize(1500L)
+                .member(member)
+                .build());
+
+        CropCategory category = em.persist(CropCategory.builder().categoryName("과채류").build());
+        CropType cropType = em.persist(CropType.builder().category(category).typeName("토마토").build());
+        variety = em.persist(CropVariety.builder().cropType(cropType).varietyName("완숙토마토").build());
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private FarmingMetadata metadata(LocalDateTime logDate) {
+        return FarmingMetadata.builder()
+                .logDate(logDate)
+                .weather("맑음")
+                .build();
+    }
+
+    private CultivationLog createAndPersistCultivationLog(Farm farm, LocalDateTime logDate) {
+        return em.persist(CultivationLog.builder()
+                .farm(farm)
+                .member(member)
+                .variety(variety)
+                .metadata(metadata(logDate))
+                .plantingAmount(100L)
+                .build());
+    }
+
+    private IrrigationLog createAndPersistIrrigationLog(LocalDateTime logDate) {
+        return em.persist(IrrigationLog.builder()
+                .farm(farm)
+                .member(member)
+                .metadata(metadata(logDate))
+                .waterAmountLiter(50L)
+                .build());
+    }
+
+    private List<FarmingLog> findPage(LocalDateTime cursorDate, Long cursorId, int size) {
+        return farmingLogRepository.findTimeline(farm.getFarmId(), ALL_TYPES, MIN_DATE, MAX_DATE,
+                cursorDate, cursorId, PageRequest.of(0, size));
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 - 기록 일시, ID 내림차순으로 여러 종류를 함께 조회")
+    void 타임라인_조회_여러_종류_정렬() {
+        // given
+        CultivationLog first = createAndPersistCultivationLog(farm, DAY1);
+        IrrigationLog second = createAndPersistIrrigationLog(DAY2);
+        CultivationLog third = createAndPersistCultivationLog(farm, DAY3);
+        em.flush();
+        em.clear();
+
+        // when
+        List<FarmingLog> logs = findPage(MAX_DATE, Long.MAX_VALUE, 10);
+
+        // then
+        assertThat(logs).extracting(FarmingLog::getFarmingLogId)
+                .containsExactly(third.getFarmingLogId(), second.getFarmingLogId(), first.getFarmingLogId());
+        assertThat(logs.get(1)).isInstanceOf(IrrigationLog.class);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 - 같은 일시의 기록은 커서 ID보다 작은 것만 다음 페이지에 포함")
+    void 타임라인_조회_키셋_같은_일시() {
+        // given: 같은 일시에 3개, 이전 일시에 1개
+        CultivationLog older = createAndPersistCultivationLog(farm, DAY1);
+        CultivationLog a = createAndPersistCultivationLog(farm, DAY2);
+        IrrigationLog b = createAndPersistIrrigationLog(DAY2);
+        CultivationLog c = createAndPersistCultivationLog(farm, DAY2);
+        em.flush();
+        em.clear();
+
+        // when: 첫 페이지 2개, 마지막 항목 위치에서 다음 페이지
+        List<FarmingLog> firstPage = findPage(MAX_DATE, Long.MAX_VALUE, 2);
+        FarmingLog last = firstPage.get(firstPage.size() - 1);
+        List<FarmingLog> secondPage = findPage(last.getMetadata().getLogDate(), last.getFarmingLogId(), 2);
+
+        // then: 중복, 누락 없이 이어짐
+        assertThat(firstPage).extracting(FarmingLog::getFarmingLogId)
+                .containsExactly(c.getFarmingLogId(), b.getFarmingLogId());
+        assertThat(secondPage).extracting(FarmingLog::getFarmingLogId)
+                .containsExactly(a.getFarmingLogId(), older.getFarmingLogId());
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 - 종류, 기간 필터와 삭제된 기록, 다른 농장 기록 제외")
+    void 타임라인_조회_필터() {
+        // given
+        Farm otherFarm = em.persist(Farm.builder()
+                .farmName("다른농장")
+                .address(Address.builder().street("서울시 서초구").build())
+                .farmSize(500L)
+                .member(member)
+                .build());
+
+        CultivationLog inRange = createAndPersistCultivationLog(farm, DAY2);
+        createAndPersistCultivationLog(farm, DAY1);                 // 기간 밖
+        createAndPersistIrrigationLog(DAY2);                        // 종류 제외
+        createAndPersistCultivationLog(otherFarm, DAY2);            // 다른 농장
+        createAndPersistCultivationLog(farm, DAY2).delete();        // 삭제됨
+        em.flush();
+        em.clear();
+
+        // when
+        QueryCountAssertions.reset();
+        List<FarmingLog> logs = farmingLogRepository.findTimeline(farm.getFarmId(),
+                List.of(CultivationLog.class), DAY2.toLocalDate().atStartOfDay(), DAY3.toLocalDate().atStartOfDay(),
+                DAY3.toLocalDate().atStartOfDay(), Long.MAX_VALUE, PageRequest.of(0, 10));
+
+        // then: 한 페이지는 쿼리 한 번
+        assertThat(logs).extracting(FarmingLog::getFarmingLogId).containsExactly(inRange.getFarmingLogId());
+        QueryCountAssertions.assertMaxQueries(1);
+    }
+}
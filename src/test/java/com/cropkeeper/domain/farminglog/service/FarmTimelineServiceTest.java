@@ -0,0 +1,168 @@
+package com.cropkeeper.domain.farminglog.service;
+
+import com.cropkeeper.domain.crop.entity.CropVariety;
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farminglog.dto.response.FarmTimelineResponse;
+import com.cropkeeper.domain.farminglog.dto.response.TimelineEntryResponse;
+import com.cropkeeper.domain.farminglog.entity.FarmingLogType;
+import com.cropkeeper.domain.farminglog.exception.FarmingLogErrorCode;
+import com.cropkeeper.domain.farminglog.exception.InvalidTimelineRequestException;
+import com.cropkeeper.domain.farminglog.repository.FarmingLogRepository;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.pest.entity.PestControlLog;
+import com.cropkeeper.domain.pest.entity.Pesticide;
+import com.cropkeeper.domain.pest.repository.PestControlLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FarmTimelineServiceTest {
+
+    @Mock
+    private FarmingLogRepository farmingLogRepository;
+
+    @Mock
+    private PestControlLogRepository pestControlLogRepository;
+
+    @InjectMocks
+    private FarmTimelineService farmTimelineService;
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long TEST_FARM_ID = 1L;
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2025, 4, 1, 9, 0);
+    private static final LocalDateTime DAY2 = LocalDateTime.of(2025, 4, 2, 9, 0);
+    private static final LocalDateTime DAY3 = LocalDateTime.of(2025, 4, 3, 9, 0);
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private CultivationLog cultivationLog(Long id, LocalDateTime logDate) {
+        return CultivationLog.builder()
+                .farmingLogId(id)
+                .member(Member.builder().memberId(1L).build())
+                .variety(CropVariety.builder().varietyId(3L).build())
+                .metadata(FarmingMetadata.builder().logDate(logDate).weather("맑음").build())
+                .plantingAmount(100L)
+                .build();
+    }
+
+    private PestControlLog pestControlLog(Long id, LocalDateTime logDate) {
+        return PestControlLog.builder()
+                .pestControlLogId(id)
+                .member(Member.builder().memberId(1L).build())
+                .pesticide(Pesticide.builder().pesticideId(5L).build())
+                .metadata(FarmingMetadata.builder().logDate(logDate).weather("흐림").build())
+                .usedAmountBottle(1L)
+                .usedWaterLiter(20L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공 - 두 출처를 기록 일시 내림차순으로 합치고 size개만 반환")
+    void getTimeline_MergesSourcesInOrder() {
+        // given
+        when(farmingLogRepository.findTimeline(eq(TEST_FARM_ID), anyCollection(), any(), any(), any(), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(cultivationLog(30L, DAY3), cultivationLog(10L, DAY1)));
+        when(pestControlLogRepository.findTimeline(eq(TEST_FARM_ID), any(), any(), any(), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(pestControlLog(7L, DAY3), pestControlLog(6L, DAY2)));
+
+        // when
+        FarmTimelineResponse response = farmTimelineService.getTimeline(TEST_FARM_ID, null, null, null, null, 2);
+
+        // then: 같은 일시면 농작업 기록이 방제 기록보다 먼저
+        assertThat(response.getEntries())
+                .extracting(TimelineEntryResponse::getType, TimelineEntryResponse::getLogId)
+                .containsExactly(
+                        tuple(FarmingLogType.CULTIVATION, 30L),
+                        tuple(FarmingLogType.PEST_CONTROL, 7L));
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공 - 다음 커서로 조회하면 출처별 ID 상한을 구분해 이어서 조회")
+    void getTimeline_ContinuesFromCursor() {
+        // given: 직전 페이지 마지막 항목이 DAY3의 방제 기록(7)
+        String cursor = new TimelineCursor(DAY3, TimelineCursor.Source.PEST_CONTROL, 7L).encode();
+        when(farmingLogRepository.findTimeline(eq(TEST_FARM_ID), anyCollection(), any(), any(), eq(DAY3), eq(0L), any()))
+                .thenReturn(List.of(cultivationLog(10L, DAY1)));
+        when(pestControlLogRepository.findTimeline(eq(TEST_FARM_ID), any(), any(), eq(DAY3), eq(7L), any()))
+                .thenReturn(List.of(pestControlLog(6L, DAY2)));
+
+        // when
+        FarmTimelineResponse response = farmTimelineService.getTimeline(TEST_FARM_ID, null, null, null, cursor, 20);
+
+        // then: DAY3 농작업 기록은 이미 반환됨(ID 상한 0), 방제 기록은 7보다 작은 ID만
+        assertThat(response.getEntries())
+                .extracting(TimelineEntryResponse::getLogId)
+                .containsExactly(6L, 10L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공 - 방제 기록만 요청하면 농작업 기록은 조회하지 않음")
+    void getTimeline_PestControlOnly() {
+        // given
+        when(pestControlLogRepository.findTimeline(eq(TEST_FARM_ID), any(), any(), any(), anyLong(), any()))
+                .thenReturn(List.of(pestControlLog(6L, DAY2)));
+
+        // when
+        FarmTimelineResponse response = farmTimelineService.getTimeline(
+                TEST_FARM_ID, Set.of(FarmingLogType.PEST_CONTROL), null, null, null, 20);
+
+        // then
+        assertThat(response.getEntries()).hasSize(1);
+        verifyNoInteractions(farmingLogRepository);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공 - 종료일은 다음 날 0시 미만으로 조회")
+    void getTimeline_DateRange() {
+        // when
+        farmTimelineService.getTimeline(TEST_FARM_ID, Set.of(FarmingLogType.CULTIVATION),
+                LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 2), null, 20);
+
+        // then
+        verify(farmingLogRepository).findTimeline(eq(TEST_FARM_ID), eq(List.of(CultivationLog.class)),
+                eq(LocalDateTime.of(2025, 4, 1, 0, 0)), eq(LocalDateTime.of(2025, 4, 3, 0, 0)),
+                eq(LocalDateTime.of(2025, 4, 3, 0, 0)), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 21)));
+        verifyNoInteractions(pestControlLogRepository);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 실패 - 잘못된 커서")
+    void getTimeline_Fail_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> farmTimelineService.getTimeline(TEST_FARM_ID, null, null, null, "not-a-cursor", 20))
+                .isInstanceOf(InvalidTimelineRequestException.class)
+                .extracting("errorCode")
+                .isEqualTo(FarmingLogErrorCode.INVALID_TIMELINE_CURSOR);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 실패 - 시작일이 종료일보다 늦음")
+    void getTimeline_Fail_InvalidDateRange() {
+        // when & then
+        assertThatThrownBy(() -> farmTimelineService.getTimeline(TEST_FARM_ID, null,
+                LocalDate.of(2025, 4, 3), LocalDate.of(2025, 4, 1), null, 20))
+                .isInstanceOf(InvalidTimelineRequestException.class)
+                .extracting("errorCode")
+                .isEqualTo(FarmingLogErrorCode.INVALID_DATE_RANGE);
+    }
+}
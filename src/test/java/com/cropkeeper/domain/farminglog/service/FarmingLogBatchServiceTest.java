@@ -0,0 +1,279 @@
+package com.cropkeeper.domain.farminglog.service;
+
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import com.cropkeeper.domain.farm.vo.Address;
+import com.cropkeeper.domain.farminglog.dto.response.FarmingLogBatchItemResponse;
+import com.cropkeeper.domain.farminglog.dto.response.FarmingLogBatchItemResponse.Status;
+import com.cropkeeper.domain.farminglog.dto.response.FarmingLogBatchResponse;
+import com.cropkeeper.domain.farminglog.exception.FarmingLogErrorCode;
+import com.cropkeeper.domain.farminglog.exception.InvalidFarmingLogBatchException;
+import com.cropkeeper.domain.farminglog.repository.FarmingLogRepository;
+import com.cropkeeper.domain.farminglog.service.FarmingLogBatchWriter.Entry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FarmingLogBatchServiceTest {
+
+    @Mock
+    private FarmingLogBatchWriter farmingLogBatchWriter;
+
+    private FarmingLogBatchService farmingLogBatchService;
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long FARM_ID = 1L;
+    private static final Long MEMBER_ID = 10L;
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_ENTRIES = 5;
+    private static final long ID_OFFSET = 1000L;
+
+    private static final String IRRIGATION =
+            "{\"ref\":\"r%d\",\"type\":\"IRRIGATION\",\"logDate\":\"2025-04-01T09:00:00\",\"weather\":\"맑음\",\"waterAmountLiter\":50}";
+    private static final String CULTIVATION =
+            "{\"type\":\"CULTIVATION\",\"logDate\":\"2025-04-01T09:00:00\",\"weather\":\"흐림\",\"varietyId\":3,\"plantingAmount\":100}";
+    private static final String PEST_CONTROL =
+            "{\"type\":\"PEST_CONTROL\",\"logDate\":\"2025-04-02T09:00:00\",\"weather\":\"맑음\",\"pesticideId\":7,"
+                    + "\"usedAmountBottle\":2,\"usedWaterLiter\":40}";
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        farmingLogBatchService = new FarmingLogBatchService(
+                objectMapper, validator, farmingLogBatchWriter, CHUNK_SIZE, MAX_ENTRIES);
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private FarmingLogBatchResponse ingest(String json) throws IOException {
+        return farmingLogBatchService.ingest(FARM_ID, MEMBER_ID,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String irrigation(int n) {
+        return String.format(IRRIGATION, n);
+    }
+
+    /**
+     * 저장 요청을 받은 항목마다 CREATED (ID = 위치 + ID_OFFSET)
+     */
+    private void givenWriterCreatesAll() {
+        given(farmingLogBatchWriter.write(eq(FARM_ID), eq(MEMBER_ID), anyList())).willAnswer(invocation -> {
+            List<Entry> entries = invocation.getArgument(2);
+            return entries.stream()
+                    .map(entry -> FarmingLogBatchItemResponse.created(entry.index(), entry.request().getRef(),
+                            entry.request().getType(), entry.index() + ID_OFFSET))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("여러 종류 기록을 청크 크기만큼 나누어 저장")
+    void ingest_Success_Chunked() throws IOException {
+        // given
+        givenWriterCreatesAll();
+        String json = "[" + String.join(",", irrigation(0), CULTIVATION, PEST_CONTROL, irrigation(3), irrigation(4)) + "]";
+
+        // when
+        FarmingLogBatchResponse response = ingest(json);
+
+        // then
+        assertThat(response.isComplete()).isTrue();
+        assertThat(response.getReceived()).isEqualTo(5);
+        assertThat(response.getCreated()).isEqualTo(5);
+        assertThat(response.getResults()).extracting(FarmingLogBatchItemResponse::getId)
+                .containsExactly(1000L, 1001L, 1002L, 1003L, 1004L);
+        assertThat(response.getResults().get(0).getRef()).isEqualTo("r0");
+        verify(farmingLogBatchWriter, times(3)).write(eq(FARM_ID), eq(MEMBER_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 항목은 REJECTED, 나머지만 저장")
+    void ingest_RejectsInvalidEntries() throws IOException {
+        // given
+        givenWriterCreatesAll();
+        String missingWeather = "{\"ref\":\"w\",\"type\":\"IRRIGATION\",\"logDate\":\"2025-04-01T09:00:00\",\"waterAmountLiter\":5}";
+        String missingVariety = "{\"type\":\"HARVEST\",\"logDate\":\"2025-04-01T09:00:00\",\"weather\":\"맑음\",\"quantityBox\":3}";
+        String unknownType = "{\"ref\":\"t\",\"type\":\"WEEDING\",\"logDate\":\"2025-04-01T09:00:00\",\"weather\":\"맑음\"}";
+        String json = "[" + String.join(",", missingWeather, irrigation(1), missingVariety, "42", unknownType) + "]";
+
+        // when
+        FarmingLogBatchResponse response = ingest(json);
+
+        // then
+        assertThat(response.getReceived()).isEqualTo(5);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(4);
+        assertThat(response.getResults()).extracting(FarmingLogBatchItemResponse::getStatus)
+                .containsExactly(Status.REJECTED, Status.CREATED, Status.REJECTED, Status.REJECTED, Status.REJECTED);
+        assertThat(response.getResults().get(0).getMessage()).isEqualTo("날씨는 필수입니다.");
+        assertThat(response.getResults().get(2).getMessage()).contains("varietyId");
+        assertThat(response.getResults().get(4).getRef()).isEqualTo("t");
+        assertThat(response.getResults().get(4).getMessage()).contains("type");
+        assertThat(response.getResults().get(4).getErrorCode())
+                .isEqualTo(FarmingLogErrorCode.INVALID_BATCH_ENTRY.getCode());
+    }
+
+    @Test
+    @DisplayName("본문이 JSON 배열이 아니면 예외")
+    void ingest_Fail_NotArray() {
+        assertThatThrownBy(() -> ingest("{\"type\":\"IRRIGATION\"}"))
+                .isInstanceOf(InvalidFarmingLogBatchException.class);
+        assertThatThrownBy(() -> ingest(""))
+                .isInstanceOf(InvalidFarmingLogBatchException.class);
+        verify(farmingLogBatchWriter, never()).write(eq(FARM_ID), eq(MEMBER_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("중간에 JSON 오류가 있으면 앞 항목까지 저장하고 읽기 중단")
+    void ingest_StopsAtMalformedJson() throws IOException {
+        // given
+        givenWriterCreatesAll();
+        String json = "[" + irrigation(0) + "," + irrigation(1) + ",{\"type\": ";
+
+        // when
+        FarmingLogBatchResponse response = ingest(json);
+
+        // then
+        assertThat(response.isComplete()).isFalse();
+        assertThat(response.getErrorCode()).isEqualTo(FarmingLogErrorCode.MALFORMED_BATCH_BODY.getCode());
+        assertThat(response.getReceived()).isEqualTo(2);
+        assertThat(response.getCreated()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 최대 건수까지만 처리")
+    void ingest_StopsAtMaxEntries() throws IOException {
+        // given
+        givenWriterCreatesAll();
+        String json = "[" + String.join(",", irrigation(0), irrigation(1), irrigation(2),
+                irrigation(3), irrigation(4), irrigation(5)) + "]";
+
+        // when
+        FarmingLogBatchResponse response = ingest(json);
+
+        // then
+        assertThat(response.isComplete()).isFalse();
+        assertThat(response.getErrorCode()).isEqualTo(FarmingLogErrorCode.BATCH_TOO_LARGE.getCode());
+        assertThat(response.getReceived()).isEqualTo(MAX_ENTRIES);
+        assertThat(response.getCreated()).isEqualTo(MAX_ENTRIES);
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 해당 청크만 FAILED, 다음 청크는 계속 저장")
+    void ingest_ChunkFailure() throws IOException {
+        // given
+        given(farmingLogBatchWriter.write(eq(FARM_ID), eq(MEMBER_ID), anyList()))
+                .willThrow(new IllegalStateException("DB 오류"))
+                .willAnswer(invocation -> {
+                    List<Entry> entries = invocation.getArgument(2);
+                    return entries.stream()
+                            .map(entry -> FarmingLogBatchItemResponse.created(entry.index(), null,
+                                    entry.request().getType(), entry.index() + ID_OFFSET))
+                            .toList();
+                });
+        String json = "[" + String.join(",", irrigation(0), irrigation(1), irrigation(2)) + "]";
+
+        // when
+        FarmingLogBatchResponse response = ingest(json);
+
+        // then
+        assertThat(response.isComplete()).isTrue();
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(FarmingLogBatchItemResponse::getStatus)
+                .containsExactly(Status.FAILED, Status.FAILED, Status.CREATED);
+        assertThat(response.getResults().get(0).getErrorCode())
+                .isEqualTo(FarmingLogErrorCode.BATCH_CHUNK_FAILED.getCode());
+    }
+
+    /**
+     * 실제 FarmingLogBatchWriter로 저장 (테스트 트랜잭션 하나가 open-in-view처럼 EntityManager 하나를 공유)
+     */
+    @Nested
+    @SpringBootTest
+    @Transactional
+    class PersistenceContext {
+
+        @Autowired
+        private FarmingLogBatchWriter writer;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @Autowired
+        private FarmRepository farmRepository;
+
+        @Autowired
+        private FarmingLogRepository farmingLogRepository;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Test
+        @DisplayName("여러 청크를 저장한 뒤 영속성 컨텍스트에 엔티티가 남지 않음")
+        void ingest_MultipleChunks_ClearsPersistenceContext() throws IOException {
+            // given
+            Member member = memberRepository.save(Member.builder()
+                    .username("batchuser01")
+                    .password("encodedPassword")
+                    .name("대량등록")
+                    .role(MemberRole.USER)
+                    .build());
+            Farm farm = farmRepository.save(Farm.builder()
+                    .farmName("대량등록농장")
+                    .address(Address.builder().street("서울시 강남구").build())
+                    .farmSize(1500L)
+                    .member(member)
+                    .build());
+            FarmingLogBatchService service = new FarmingLogBatchService(
+                    JsonMapper.builder().findAndAddModules().build(),
+                    Validation.buildDefaultValidatorFactory().getValidator(),
+                    writer, CHUNK_SIZE, MAX_ENTRIES);
+            String json = "[" + String.join(",", irrigation(0), irrigation(1), irrigation(2),
+                    irrigation(3), irrigation(4)) + "]";
+
+            // when
+            FarmingLogBatchResponse response = service.ingest(farm.getFarmId(), member.getMemberId(),
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+            // then
+            assertThat(response.getCreated()).isEqualTo(5);
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+            assertThat(farmingLogRepository.count()).isEqualTo(5);
+        }
+    }
+}
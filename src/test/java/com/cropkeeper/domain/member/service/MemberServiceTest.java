@@ -1,5 +1,6 @@
 package com.cropkeeper.domain.member.service;
 
+import com.cropkeeper.domain.auth.service.RefreshTokenService;
 import com.cropkeeper.domain.member.dto.request.UpdateMemberInfoRequest;
 import com.cropkeeper.domain.member.dto.request.UpdatePasswordRequest;
 import com.cropkeeper.domain.member.dto.response.MemberResponse;
@@ -10,6 +11,8 @@ import com.cropkeeper.domain.member.exception.InvalidMemberRequestException;
 import com.cropkeeper.domain.member.exception.MemberNotFoundException;
 import com.cropkeeper.domain.member.exception.PasswordMismatchException;
 import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.global.security.MemberTokenVersionRegistry;
+import com.cropkeeper.global.security.VerifiedTokenCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +35,15 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberTokenVersionRegistry memberTokenVersionRegistry;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -241,7 +253,6 @@ class MemberServiceTest {
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(currentPassword, encodedCurrentPassword)).thenReturn(true);
-        when(passwordEncoder.matches(newPassword, encodedCurrentPassword)).thenReturn(false);
         when(passwordEncoder.encode(newPassword)).thenReturn("encodedNewPassword");
 
         // when
@@ -252,6 +263,11 @@ class MemberServiceTest {
         verify(passwordEncoder, times(1)).matches(currentPassword, encodedCurrentPassword);
         verify(passwordEncoder, times(1)).encode(newPassword);
 
+        // 토큰 버전이 증가하고 레지스트리에 기록되어야 함
+        assertThat(member.getTokenVersion()).isEqualTo(1L);
+        verify(memberTokenVersionRegistry, times(1)).bump(memberId, 1L);
+        verify(verifiedTokenCache, times(1)).invalidateMember(memberId, "testuser01");
+        verify(refreshTokenService, times(1)).revokeAllByMemberId(memberId);
     }
 
     @Test
@@ -370,8 +386,12 @@ class MemberServiceTest {
         // then
         assertThat(member.isDeleted()).isTrue();
         assertThat(member.getDeletedAt()).isNotNull();
+        assertThat(member.getTokenVersion()).isEqualTo(1L);
 
         verify(memberRepository, times(1)).findById(memberId);
+        verify(memberTokenVersionRegistry, times(1)).bump(memberId, 1L);
+        verify(verifiedTokenCache, times(1)).invalidateMember(memberId, "testuser01");
+        verify(refreshTokenService, times(1)).revokeAllByMemberId(memberId);
     }
 
     @Test
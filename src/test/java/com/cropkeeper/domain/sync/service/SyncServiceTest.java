@@ -0,0 +1,219 @@
+package com.cropkeeper.domain.sync.service;
+
+import com.cropkeeper.domain.crop.entity.CropCategory;
+import com.cropkeeper.domain.crop.entity.CropVariety;
+import com.cropkeeper.domain.crop.repository.CropCategoryRepository;
+import com.cropkeeper.domain.cultivation.entity.CultivationLog;
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.repository.FarmRepository;
+import com.cropkeeper.domain.farminglog.repository.FarmingLogRepository;
+import com.cropkeeper.domain.farminglog.vo.FarmingMetadata;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import com.cropkeeper.domain.pest.repository.PestControlLogRepository;
+import com.cropkeeper.domain.sync.dto.response.SyncResponse;
+import com.cropkeeper.domain.sync.exception.InvalidSyncCursorException;
+import com.cropkeeper.domain.sync.service.SyncCursor.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CropCategoryRepository cropCategoryRepository;
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private FarmingLogRepository farmingLogRepository;
+
+    @Mock
+    private PestControlLogRepository pestControlLogRepository;
+
+    private SyncService syncService;
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long MEMBER_ID = 1L;
+    private static final long COMMIT_LAG_MS = 5_000L;
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 4, 1, 9, 0, 0, 100_000);
+    private static final LocalDateTime T2 = LocalDateTime.of(2025, 4, 1, 9, 0, 0, 200_000);
+    private static final LocalDateTime T3 = LocalDateTime.of(2025, 4, 1, 9, 0, 0, 300_000);
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(memberRepository, cropCategoryRepository, farmRepository,
+                farmingLogRepository, pestControlLogRepository, COMMIT_LAG_MS);
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    /**
+     * 감사(auditing)로 채워지는 updated_at을 직접 지정
+     */
+    private static <T> T updatedAt(T entity, LocalDateTime updatedAt) {
+        ReflectionTestUtils.setField(entity, "updatedAt", updatedAt);
+        return entity;
+    }
+
+    private Member member() {
+        return updatedAt(Member.builder()
+                .memberId(MEMBER_ID)
+                .username("syncuser")
+                .name("동기화")
+                .role(MemberRole.USER)
+                .build(), T1);
+    }
+
+    private CropCategory category(Long id, LocalDateTime updatedAt) {
+        return updatedAt(CropCategory.builder().categoryId(id).categoryName("분류" + id).build(), updatedAt);
+    }
+
+    private Farm farm(Long id, boolean deleted, LocalDateTime updatedAt) {
+        return updatedAt(Farm.builder()
+                .farmId(id)
+                .farmName("농장" + id)
+                .farmSize(100L)
+                .member(Member.builder().memberId(MEMBER_ID).build())
+                .deleted(deleted)
+                .build(), updatedAt);
+    }
+
+    private CultivationLog cultivationLog(Long id, Farm farm, boolean deleted, LocalDateTime updatedAt) {
+        return updatedAt(CultivationLog.builder()
+                .farmingLogId(id)
+                .farm(farm)
+                .member(Member.builder().memberId(MEMBER_ID).build())
+                .variety(CropVariety.builder().varietyId(3L).build())
+                .metadata(FarmingMetadata.builder().logDate(T1).weather("맑음").build())
+                .plantingAmount(100L)
+                .deleted(deleted)
+                .build(), updatedAt);
+    }
+
+    @Test
+    @DisplayName("첫 동기화 - 출처별 변경분과 삭제 표시를 나눠 담고 체크포인트 커서 반환")
+    void sync_FirstSync_ReturnsChangesAndCheckpoint() {
+        // given
+        Farm activeFarm = farm(10L, false, T1);
+        given(memberRepository.findChangedSince(eq(MEMBER_ID), eq(SyncService.MIN_DATE), any()))
+                .willReturn(Optional.of(member()));
+        given(cropCategoryRepository.findChangedSince(any(), eq(SyncService.MIN_DATE), eq(Long.MAX_VALUE), any()))
+                .willReturn(List.of(category(5L, T1)));
+        given(farmRepository.findChangedSince(eq(MEMBER_ID), any(), eq(SyncService.MIN_DATE), eq(Long.MAX_VALUE), any()))
+                .willReturn(List.of(activeFarm, farm(11L, true, T2)));
+        given(farmRepository.findIdsByMemberId(MEMBER_ID)).willReturn(List.of(10L));
+        given(farmingLogRepository.findChangedSince(eq(List.of(10L)), any(), eq(SyncService.MIN_DATE), eq(Long.MAX_VALUE), any()))
+                .willReturn(List.of(cultivationLog(100L, activeFarm, false, T1), cultivationLog(101L, activeFarm, true, T3)));
+
+        // when
+        SyncResponse response = syncService.sync(MEMBER_ID, null, 500);
+
+        // then
+        assertThat(response.getMember().getMemberId()).isEqualTo(MEMBER_ID);
+        assertThat(response.getCategories()).extracting("categoryId").containsExactly(5L);
+        assertThat(response.getFarms()).extracting("farmId").containsExactly(10L);
+        assertThat(response.getDeletedFarmIds()).containsExactly(11L);
+        assertThat(response.getFarmingLogs()).extracting("logId").containsExactly(100L);
+        assertThat(response.getFarmingLogs().get(0).getFarmId()).isEqualTo(10L);
+        assertThat(response.getDeletedFarmingLogIds()).containsExactly(101L);
+        assertThat(response.getPestControlLogs()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+
+        SyncCursor next = SyncCursor.decode(response.getNextCursor());
+        assertThat(next.isCheckpoint()).isTrue();
+        assertThat(next.getSince()).isBefore(LocalDateTime.now().minusSeconds(4));
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차면 같은 구간의 마지막 항목 위치에서 이어서 조회")
+    void sync_PageFull_ResumesFromLastChange() {
+        // given
+        given(cropCategoryRepository.findChangedSince(any(), any(), any(), eq(PageRequest.of(0, 3))))
+                .willReturn(List.of(category(1L, T1), category(2L, T2), category(3L, T3)))
+                .willReturn(List.of(category(3L, T3)));
+
+        // when
+        SyncResponse first = syncService.sync(MEMBER_ID, null, 2);
+
+        // then
+        assertThat(first.getCategories()).extracting("categoryId").containsExactly(1L, 2L);
+        assertThat(first.isHasMore()).isTrue();
+        verify(farmRepository, never()).findChangedSince(any(), any(), any(), any(), any());
+
+        SyncCursor next = SyncCursor.decode(first.getNextCursor());
+        assertThat(next.isCheckpoint()).isFalse();
+        assertThat(next.getSource()).isEqualTo(Source.CATEGORY);
+        assertThat(next.getAfterUpdatedAt()).isEqualTo(T2);
+        assertThat(next.getAfterId()).isEqualTo(2L);
+
+        // when - 이어서 조회 (같은 구간 끝, 회원 정보는 다시 읽지 않음)
+        SyncResponse second = syncService.sync(MEMBER_ID, first.getNextCursor(), 2);
+
+        // then
+        assertThat(second.getCategories()).extracting("categoryId").containsExactly(3L);
+        assertThat(second.isHasMore()).isFalse();
+        verify(cropCategoryRepository).findChangedSince(next.getUntil(), T2, 2L, PageRequest.of(0, 3));
+        verify(memberRepository).findChangedSince(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("체크포인트 커서 - 커서 시각 이후 구간만 조회")
+    void sync_CheckpointCursor_OpensWindowFromSince() {
+        // when
+        SyncResponse response = syncService.sync(MEMBER_ID, SyncCursor.checkpoint(T1).encode(), 500);
+
+        // then
+        verify(memberRepository).findChangedSince(eq(MEMBER_ID), eq(T1), any());
+        verify(cropCategoryRepository).findChangedSince(any(), eq(T1), eq(Long.MAX_VALUE), any());
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(SyncCursor.decode(response.getNextCursor()).getSince()).isAfter(T1);
+    }
+
+    @Test
+    @DisplayName("농장이 없는 회원은 기록 조회를 하지 않음")
+    void sync_NoFarms_SkipsLogQueries() {
+        // given
+        given(farmRepository.findIdsByMemberId(MEMBER_ID)).willReturn(List.of());
+
+        // when
+        syncService.sync(MEMBER_ID, null, 500);
+
+        // then
+        verify(farmingLogRepository, never()).findChangedSince(anyCollection(), any(), any(), any(), any());
+        verify(pestControlLogRepository, never()).findChangedSince(anyCollection(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - InvalidSyncCursorException 발생")
+    void sync_InvalidCursor_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> syncService.sync(MEMBER_ID, "not-a-cursor", 500))
+                .isInstanceOf(InvalidSyncCursorException.class);
+    }
+}
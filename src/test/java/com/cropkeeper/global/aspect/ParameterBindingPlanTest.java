@@ -0,0 +1,120 @@
+package com.cropkeeper.global.aspect;
+
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.global.security.UserPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParameterBindingPlanTest {
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long FARM_ID = 1L;
+    private static final UserPrincipal PRINCIPAL = UserPrincipal.fromClaims(10L, "user01", MemberRole.USER, 0L);
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static Method method(String name) {
+        for (Method method : SampleController.class.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @SuppressWarnings("unused")
+    static class SampleController {
+
+        void update(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long farmId,
+                    @RequestBody String body, @RequestParam String sort) {
+        }
+
+        void renamed(@PathVariable("id") Long farmId, @RequestParam(name = "q") String query) {
+        }
+
+        void stringPath(@PathVariable String farmId) {
+        }
+
+        void noBinding(String value) {
+        }
+    }
+
+    @Test
+    @DisplayName("어노테이션 위치를 인덱스로 저장하여 인자를 바로 읽음")
+    void of_ResolvesIndexes() {
+        // given
+        ParameterBindingPlan plan = ParameterBindingPlan.of(method("update"));
+        Object[] args = {PRINCIPAL, FARM_ID, "{\"farmName\":\"농장\"}", "name"};
+
+        // when & then
+        assertThat(plan.hasPrincipal()).isTrue();
+        assertThat(plan.principal(args)).isSameAs(PRINCIPAL);
+        assertThat(plan.hasBody()).isTrue();
+        assertThat(plan.body(args)).isEqualTo(args[2]);
+        assertThat(plan.hasLongPathVariable("farmId")).isTrue();
+        assertThat(plan.longPathVariable(args, "farmId")).isEqualTo(FARM_ID);
+        assertThat(plan.formatLoggedParams(args)).isEqualTo("{farmId=1, sort=name}");
+    }
+
+    @Test
+    @DisplayName("권한 검증은 Java 파라미터 이름으로, 로깅은 어노테이션에 지정한 이름으로 표시")
+    void of_ExplicitName_MatchedByJavaName() {
+        // given
+        ParameterBindingPlan plan = ParameterBindingPlan.of(method("renamed"));
+        Object[] args = {FARM_ID, "keyword"};
+
+        // when & then
+        assertThat(plan.hasLongPathVariable("farmId")).isTrue();
+        assertThat(plan.hasLongPathVariable("id")).isFalse();
+        assertThat(plan.longPathVariable(args, "farmId")).isEqualTo(FARM_ID);
+        assertThat(plan.formatLoggedParams(args)).isEqualTo("{id=1, q=keyword}");
+    }
+
+    @Test
+    @DisplayName("Long이 아닌 @PathVariable은 권한 검증 대상이 아니지만 로깅에는 포함")
+    void of_NonLongPathVariable_LoggedOnly() {
+        // given
+        ParameterBindingPlan plan = ParameterBindingPlan.of(method("stringPath"));
+
+        // when & then
+        assertThat(plan.hasLongPathVariable("farmId")).isFalse();
+        assertThat(plan.longPathVariable(new Object[]{"1"}, "farmId")).isNull();
+        assertThat(plan.formatLoggedParams(new Object[]{"1"})).isEqualTo("{farmId=1}");
+    }
+
+    @Test
+    @DisplayName("바인딩 어노테이션이 없으면 빈 계획")
+    void of_NoBinding_Empty() {
+        // given
+        ParameterBindingPlan plan = ParameterBindingPlan.of(method("noBinding"));
+        Object[] args = {"value"};
+
+        // when & then
+        assertThat(plan.hasPrincipal()).isFalse();
+        assertThat(plan.principal(args)).isNull();
+        assertThat(plan.hasBody()).isFalse();
+        assertThat(plan.body(args)).isNull();
+        assertThat(plan.formatLoggedParams(args)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 메서드는 한 번만 분석하여 같은 계획을 반환")
+    void of_SameMethod_Cached() {
+        // when
+        ParameterBindingPlan first = ParameterBindingPlan.of(method("update"));
+        ParameterBindingPlan second = ParameterBindingPlan.of(method("update"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(ParameterBindingPlan.cachedCount()).isPositive();
+    }
+}
@@ -0,0 +1,136 @@
+package com.cropkeeper.global.aspect;
+
+import com.cropkeeper.domain.farm.annotation.ValidateFarmAccess;
+import com.cropkeeper.domain.member.annotation.ValidateMemberAccess;
+import com.cropkeeper.global.security.UserPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ParameterBindingVerifierTest {
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private ObjectProvider<RequestMappingHandlerMapping> handlerMappingProvider;
+
+    @Mock
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private final ParameterBindingVerifier verifier = new ParameterBindingVerifier();
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private ContextRefreshedEvent refreshedWith(String... methodNames) {
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods = new LinkedHashMap<>();
+        SampleController controller = new SampleController();
+        for (String methodName : methodNames) {
+            handlerMethods.put(RequestMappingInfo.paths("/" + methodName).build(),
+                    new HandlerMethod(controller, method(methodName)));
+        }
+        given(applicationContext.getBeanProvider(RequestMappingHandlerMapping.class)).willReturn(handlerMappingProvider);
+        given(handlerMappingProvider.getIfAvailable()).willReturn(handlerMapping);
+        given(handlerMapping.getHandlerMethods()).willReturn(handlerMethods);
+        return new ContextRefreshedEvent(applicationContext);
+    }
+
+    private static Method method(String name) {
+        for (Method method : SampleController.class.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @SuppressWarnings("unused")
+    static class SampleController {
+
+        @ValidateFarmAccess
+        public void valid(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long farmId) {
+        }
+
+        @ValidateFarmAccess
+        public void renamedPathVariable(@AuthenticationPrincipal UserPrincipal principal,
+                                        @PathVariable("id") Long farmId) {
+        }
+
+        @ValidateFarmAccess
+        public void missingPrincipal(@PathVariable Long farmId) {
+        }
+
+        @ValidateFarmAccess
+        public void wrongParameterName(@AuthenticationPrincipal UserPrincipal principal,
+                                       @PathVariable("farmId") Long id) {
+        }
+
+        @ValidateMemberAccess
+        public void stringMemberId(@AuthenticationPrincipal UserPrincipal principal, @PathVariable String memberId) {
+        }
+
+        public void unannotated(@PathVariable String value) {
+        }
+    }
+
+    @Test
+    @DisplayName("올바르게 구성된 컨트롤러 메서드만 있으면 기동 진행")
+    void verify_ValidHandlers_Passes() {
+        // given
+        ContextRefreshedEvent event = refreshedWith("valid", "renamedPathVariable", "unannotated");
+
+        // when & then
+        assertThatCode(() -> verifier.verify(event)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("잘못 구성된 컨트롤러 메서드를 모두 나열하고 기동 중단")
+    void verify_MisconfiguredHandlers_ListsAll() {
+        // given
+        ContextRefreshedEvent event = refreshedWith(
+                "valid", "missingPrincipal", "wrongParameterName", "stringMemberId", "unannotated");
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify(event))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SampleController.missingPrincipal")
+                .hasMessageContaining("@AuthenticationPrincipal UserPrincipal")
+                .hasMessageContaining("SampleController.wrongParameterName")
+                .hasMessageContaining("@PathVariable Long farmId")
+                .hasMessageContaining("SampleController.stringMemberId")
+                .hasMessageContaining("@PathVariable Long memberId")
+                .hasMessageNotContaining("SampleController.valid")
+                .hasMessageNotContaining("SampleController.unannotated");
+    }
+
+    @Test
+    @DisplayName("MVC 핸들러 매핑이 없으면 검사하지 않음")
+    void verify_NoHandlerMapping_Skips() {
+        // given
+        given(applicationContext.getBeanProvider(RequestMappingHandlerMapping.class)).willReturn(handlerMappingProvider);
+        given(handlerMappingProvider.getIfAvailable()).willReturn(null);
+
+        // when & then
+        assertThatCode(() -> verifier.verify(new ContextRefreshedEvent(applicationContext)))
+                .doesNotThrowAnyException();
+    }
+}
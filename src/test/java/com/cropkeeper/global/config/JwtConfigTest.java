@@ -0,0 +1,74 @@
+package com.cropkeeper.global.config;
+
+import com.cropkeeper.global.security.JwtKeyRing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtConfigTest {
+
+    @TempDir
+    Path keyDir;
+
+    private final JwtConfig jwtConfig = new JwtConfig();
+
+    // ========== 테스트 상수 ==========
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(
+            "cropkeeper-test-secret-key-0123456789abcdef".getBytes(StandardCharsets.US_ASCII));
+    private static final String ACTIVE_KID = "2025-07";
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private void writePem(String fileName, String type, byte[] der) throws Exception {
+        Files.writeString(keyDir.resolve(fileName),
+                "-----BEGIN " + type + "-----\n" + Base64.getEncoder().encodeToString(der)
+                        + "\n-----END " + type + "-----\n");
+    }
+
+    @Test
+    @DisplayName("알고리즘 기본값 HS256은 jwt.secret-key로 구성")
+    void jwtKeyRing_Hs256() {
+        // when
+        JwtKeyRing keyRing = jwtConfig.jwtKeyRing("HS256", SECRET_KEY, "", "");
+
+        // then
+        assertThat(keyRing.getAlgorithm()).isEqualTo(JwtKeyRing.Algorithm.HS256);
+        assertThat(keyRing.getActiveKid()).isNull();
+    }
+
+    @Test
+    @DisplayName("알고리즘 설정값은 대소문자를 구분하지 않고 키 디렉터리에서 로드")
+    void jwtKeyRing_EdDsa() throws Exception {
+        // given
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        writePem(ACTIVE_KID + ".pub.pem", "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        writePem(ACTIVE_KID + ".key.pem", "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+
+        // when
+        JwtKeyRing keyRing = jwtConfig.jwtKeyRing("eddsa", "", keyDir.toString(), ACTIVE_KID);
+
+        // then
+        assertThat(keyRing.getAlgorithm()).isEqualTo(JwtKeyRing.Algorithm.EDDSA);
+        assertThat(keyRing.getActiveKid()).isEqualTo(ACTIVE_KID);
+        assertThat(keyRing.getVerificationKeys()).containsOnlyKeys(ACTIVE_KID);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 알고리즘이면 기동 실패")
+    void jwtKeyRing_UnsupportedAlgorithm_Fails() {
+        assertThatThrownBy(() -> jwtConfig.jwtKeyRing("RS256", SECRET_KEY, "", ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("RS256");
+    }
+}
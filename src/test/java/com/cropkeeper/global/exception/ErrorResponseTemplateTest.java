@@ -0,0 +1,101 @@
+package com.cropkeeper.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 템플릿으로 만든 본문이 애플리케이션 ObjectMapper의 ErrorResponse 직렬화 결과와 같은지 검증
+ */
+@JsonTest
+class ErrorResponseTemplateTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // ========== 테스트 상수 ==========
+
+    private static final String PATH = "/api/farms/1";
+
+    @Getter
+    @RequiredArgsConstructor
+    private enum TestErrorCode implements ErrorCode {
+
+        NOT_FOUND("T001", "농장을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+        QUOTED("T\"002\\", "\"따옴표\"와 \\역슬래시\\가 있는 메시지", HttpStatus.BAD_REQUEST),
+        NO_CODE(null, "코드 없는 오류", HttpStatus.INTERNAL_SERVER_ERROR);
+
+        private final String code;
+        private final String message;
+        private final HttpStatus httpStatus;
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    /**
+     * 렌더링 결과를 파싱해 값을 확인하고, 같은 값의 ErrorResponse를 ObjectMapper로 직렬화한 결과와 비교
+     */
+    private void assertSameAsJackson(TestErrorCode errorCode, String message, String path) throws Exception {
+        byte[] body = ErrorResponseTemplate.of(errorCode).render(message, path);
+
+        ErrorResponse parsed = objectMapper.readValue(body, ErrorResponse.class);
+        assertThat(parsed.getTimestamp()).isNotNull();
+        assertThat(parsed.getStatus()).isEqualTo(errorCode.getHttpStatus().value());
+        assertThat(parsed.getErrorCode()).isEqualTo(errorCode.getCode());
+        assertThat(parsed.getMessage()).isEqualTo(message);
+        assertThat(parsed.getPath()).isEqualTo(path);
+
+        ErrorResponse expected = new ErrorResponse(parsed.getTimestamp(), errorCode.getHttpStatus().value(),
+                errorCode.getCode(), message, path);
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    @DisplayName("기본 메시지 - ObjectMapper 직렬화 결과와 같음")
+    void render_DefaultMessage() throws Exception {
+        assertSameAsJackson(TestErrorCode.NOT_FOUND, TestErrorCode.NOT_FOUND.getMessage(), PATH);
+    }
+
+    @Test
+    @DisplayName("따옴표와 역슬래시가 있는 코드, 메시지 - ObjectMapper 직렬화 결과와 같음")
+    void render_QuotesAndBackslashes() throws Exception {
+        assertSameAsJackson(TestErrorCode.QUOTED, TestErrorCode.QUOTED.getMessage(), PATH);
+        assertSameAsJackson(TestErrorCode.NOT_FOUND, "C:\\farms\\\"1\"", "/api/farms/\"1\"");
+    }
+
+    @Test
+    @DisplayName("제어 문자 - 모든 0x00 ~ 0x1F 문자가 ObjectMapper와 같은 방식으로 이스케이프")
+    void render_ControlCharacters() throws Exception {
+        StringBuilder message = new StringBuilder("제어 문자:");
+        for (char c = 0; c < 0x20; c++) {
+            message.append(c);
+        }
+        message.append('\u007F');
+
+        assertSameAsJackson(TestErrorCode.NOT_FOUND, message.toString(), PATH);
+        assertSameAsJackson(TestErrorCode.NOT_FOUND, "줄\n바꿈\r\n탭\t백스페이스\b폼피드\f", PATH);
+    }
+
+    @Test
+    @DisplayName("비ASCII 문자 (한글, 이모지, 줄 구분자) - ObjectMapper 직렬화 결과와 같음")
+    void render_NonAscii() throws Exception {
+        assertSameAsJackson(TestErrorCode.NOT_FOUND, "재배 기록 🌱 é ü \u2028 \u2029 끝", "/api/농장/1");
+    }
+
+    @Test
+    @DisplayName("null 경로, null 메시지, null 코드 - ObjectMapper 직렬화 결과와 같음")
+    void render_Nulls() throws Exception {
+        assertSameAsJackson(TestErrorCode.NOT_FOUND, TestErrorCode.NOT_FOUND.getMessage(), null);
+        assertSameAsJackson(TestErrorCode.NOT_FOUND, null, PATH);
+        assertSameAsJackson(TestErrorCode.NO_CODE, TestErrorCode.NO_CODE.getMessage(), null);
+    }
+}
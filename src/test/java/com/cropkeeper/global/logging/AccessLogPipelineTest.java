@@ -0,0 +1,148 @@
+package com.cropkeeper.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogPipelineTest {
+
+    @TempDir
+    Path tempDir;
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private AccessLogPipeline pipeline(int capacity, AccessLogPipeline.OverflowPolicy policy, long idleParkMs, Path file) {
+        return new AccessLogPipeline(true, capacity, policy, 1, 256, idleParkMs,
+                AccessLogPipeline.Format.TEXT, file.toString());
+    }
+
+    private AccessLogEvent event(int index) {
+        return AccessLogEvent.service("FarmService.getFarmInfo", "farmId=" + index, 1, false,
+                AccessLogEvent.Capture.ALL, null, false);
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 이벤트를 모두 기록한 뒤 파일을 닫음")
+    void shutdown_DrainsRemainingEvents() throws Exception {
+        // given - 기록 스레드가 오래 쉬도록 설정하여 종료 전까지 이벤트가 버퍼에 남게 함
+        Path file = tempDir.resolve("access.log");
+        AccessLogPipeline pipeline = pipeline(256, AccessLogPipeline.OverflowPolicy.DROP, 60_000, file);
+        for (int i = 0; i < 100; i++) {
+            pipeline.publish(event(i));
+        }
+
+        // when
+        pipeline.shutdown();
+
+        // then
+        AccessLogPipeline.Stats stats = pipeline.stats();
+        assertThat(stats.getPublished()).isEqualTo(100);
+        assertThat(stats.getWritten()).isEqualTo(100);
+        assertThat(stats.getDropped()).isZero();
+        assertThat(stats.getQueued()).isZero();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(100);
+        assertThat(lines.get(0)).contains("farmId=0");
+        assertThat(lines.get(99)).contains("farmId=99");
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 DROP 정책은 즉시 버리고 dropped 카운트 증가")
+    void publish_BufferFull_Drop_CountsDropped() {
+        // given - 기록 스레드를 먼저 종료시켜 버퍼가 비워지지 않게 함
+        AccessLogPipeline pipeline = pipeline(4, AccessLogPipeline.OverflowPolicy.DROP, 1, tempDir.resolve("drop.log"));
+        pipeline.shutdown();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            pipeline.publish(event(i));
+        }
+
+        // then
+        AccessLogPipeline.Stats stats = pipeline.stats();
+        assertThat(stats.getPublished()).isEqualTo(10);
+        assertThat(stats.getQueued()).isEqualTo(4);
+        assertThat(stats.getDropped()).isEqualTo(6);
+        assertThat(stats.getWritten()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 BLOCK 정책은 대기 시간까지만 기다린 뒤 버림")
+    void publish_BufferFull_Block_DropsAfterTimeout() {
+        // given
+        AccessLogPipeline pipeline = pipeline(2, AccessLogPipeline.OverflowPolicy.BLOCK, 1, tempDir.resolve("block.log"));
+        pipeline.shutdown();
+        pipeline.publish(event(0));
+        pipeline.publish(event(1));
+
+        // when
+        long start = System.nanoTime();
+        pipeline.publish(event(2));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(pipeline.stats().getDropped()).isEqualTo(1);
+        assertThat(elapsedMillis).isLessThan(1_000);
+    }
+
+    @Test
+    @DisplayName("동기 모드는 호출 스레드에서 바로 기록")
+    void publish_Sync_WritesImmediately() throws Exception {
+        // given
+        Path file = tempDir.resolve("sync.log");
+        AccessLogPipeline pipeline = new AccessLogPipeline(false, 4, AccessLogPipeline.OverflowPolicy.DROP, 1, 256, 1,
+                AccessLogPipeline.Format.JSON, file.toString());
+
+        // when
+        pipeline.publish(event(1));
+
+        // then
+        assertThat(pipeline.stats().getWritten()).isEqualTo(1);
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8)).hasSize(1);
+        pipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("출력 실패는 첫 번째만 바로 로그로 남기고 이후 실패는 집계만")
+    void publish_WriteFailure_LogsFirstAndRateLimits() {
+        // given - 파일을 닫아 이후 기록이 모두 실패
+        Path file = tempDir.resolve("closed.log");
+        AccessLogPipeline pipeline = new AccessLogPipeline(false, 4, AccessLogPipeline.OverflowPolicy.DROP, 1, 256, 1,
+                AccessLogPipeline.Format.TEXT, file.toString());
+        pipeline.shutdown();
+
+        Logger logger = (Logger) LoggerFactory.getLogger(AccessLogPipeline.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+
+        try {
+            // when
+            for (int i = 0; i < 5; i++) {
+                pipeline.publish(event(i));
+            }
+
+            // then - 이벤트마다 기록과 flush가 모두 실패
+            assertThat(pipeline.stats().getWritten()).isZero();
+            assertThat(pipeline.stats().getWriteErrors()).isEqualTo(10);
+            assertThat(appender.list).hasSize(1);
+            assertThat(appender.list.get(0).getLevel()).isEqualTo(Level.ERROR);
+            assertThat(appender.list.get(0).getThrowableProxy()).isNotNull();
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+}
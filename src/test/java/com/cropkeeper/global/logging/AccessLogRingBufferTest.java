@@ -0,0 +1,110 @@
+package com.cropkeeper.global.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림")
+    void capacity_RoundsUpToPowerOfTwo() {
+        assertThat(new AccessLogRingBuffer<Integer>(1).capacity()).isEqualTo(2);
+        assertThat(new AccessLogRingBuffer<Integer>(4).capacity()).isEqualTo(4);
+        assertThat(new AccessLogRingBuffer<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new AccessLogRingBuffer<Integer>(8192).capacity()).isEqualTo(8192);
+    }
+
+    @Test
+    @DisplayName("가득 차면 offer가 false를 반환하고, 하나 꺼내면 다시 추가 가능")
+    void offer_Full_ReturnsFalse() {
+        // given
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when & then
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 바퀴를 돌아도 넣은 순서대로 꺼냄")
+    void offerPoll_Wraparound_KeepsOrder() {
+        // given
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(4);
+        List<Integer> polled = new ArrayList<>();
+
+        // when - 3개씩 넣고 꺼내기를 반복하여 슬롯 경계를 여러 번 넘김
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.offer(round * 3 + i)).isTrue();
+            }
+            Integer value;
+            while ((value = buffer.poll()) != null) {
+                polled.add(value);
+            }
+        }
+
+        // then
+        assertThat(polled).hasSize(30);
+        for (int i = 0; i < 30; i++) {
+            assertThat(polled.get(i)).isEqualTo(i);
+        }
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 성공한 이벤트는 한 번씩만 꺼냄")
+    void offer_ConcurrentProducers_NoLossOrDuplicate() throws Exception {
+        // given
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(1 << 16);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        try {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        buffer.offer(base + i);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        Set<Integer> polled = new HashSet<>();
+        Integer value;
+        while ((value = buffer.poll()) != null) {
+            assertThat(polled.add(value)).isTrue();
+        }
+        assertThat(polled).hasSize(producers * perProducer);
+    }
+}
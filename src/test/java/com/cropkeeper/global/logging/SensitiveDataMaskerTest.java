@@ -0,0 +1,244 @@
+package com.cropkeeper.global.logging;
+
+import com.cropkeeper.domain.auth.dto.request.RegisterRequest;
+import com.cropkeeper.domain.member.dto.request.UpdatePasswordRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SensitiveDataMaskerTest {
+
+    // ========== 테스트 상수 ==========
+
+    private static final String PASSWORD = "Pass123!";
+    private static final String NEW_PASSWORD = "NewPass456@";
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private RegisterRequest registerRequest() {
+        return RegisterRequest.builder()
+                .username("farmer0001")
+                .password(PASSWORD)
+                .passwordConfirm(PASSWORD)
+                .name("홍길동")
+                .contact("01012345678")
+                .build();
+    }
+
+    /**
+     * 기존 구현은 중첩 객체와 컬렉션을 문자열로 만든 뒤 다시 따옴표로 감싸므로, 따옴표를 제외하고 비교
+     */
+    private static String withoutQuotes(String value) {
+        return value.replace("\"", "");
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class OwnerDto {
+        private String name;
+        private String email;
+        private String token;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class FarmDto {
+        private String farmName;
+        private Long area;
+        private OwnerDto owner;
+        private List<OwnerDto> members;
+        private List<String> tags;
+        private Map<String, Object> extra;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Node {
+        private String name;
+        private Node child;
+
+        @Override
+        public String toString() {
+            return "Node(secret=" + name + ")";
+        }
+    }
+
+    static class NoGetterCredentials {
+        private final String password = PASSWORD;
+
+        @Override
+        public String toString() {
+            return "NoGetterCredentials(password=" + password + ")";
+        }
+    }
+
+    @Getter
+    static class FailingDto {
+        private final String password = PASSWORD;
+
+        public String getName() {
+            throw new IllegalStateException("읽기 실패");
+        }
+
+        @Override
+        public String toString() {
+            return "FailingDto(password=" + password + ")";
+        }
+    }
+
+    @Test
+    @DisplayName("회원가입 요청 - 기존 구현과 같은 출력 (비밀번호 완전 마스킹, 연락처 부분 마스킹)")
+    void maskSensitiveData_RegisterRequest_SameAsLegacy() {
+        // given
+        RegisterRequest request = registerRequest();
+
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(request);
+
+        // then
+        assertThat(masked).isEqualTo(LegacySensitiveDataMasker.maskSensitiveData(request));
+        assertThat(masked).isEqualTo("{username=\"farmer0001\", password=\"****\", passwordConfirm=\"****\", "
+                + "name=\"홍길동\", contact=\"010****5678\"}");
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 요청 - 기존 구현과 같은 출력")
+    void maskSensitiveData_UpdatePasswordRequest_SameAsLegacy() {
+        // given
+        UpdatePasswordRequest request = UpdatePasswordRequest.builder()
+                .currentPassword(PASSWORD)
+                .newPassword(NEW_PASSWORD)
+                .newPasswordConfirm(NEW_PASSWORD)
+                .build();
+
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(request);
+
+        // then
+        assertThat(masked).isEqualTo(LegacySensitiveDataMasker.maskSensitiveData(request));
+        assertThat(masked).doesNotContain(PASSWORD, NEW_PASSWORD);
+    }
+
+    @Test
+    @DisplayName("서비스 파라미터 배열 - 기존 구현과 같은 출력")
+    void maskParameters_SameAsLegacy() {
+        // given
+        Object[] args = {1024L, registerRequest(), "plain", null};
+
+        // when
+        String masked = SensitiveDataMasker.maskParameters(args);
+
+        // then
+        assertThat(masked).isEqualTo(LegacySensitiveDataMasker.maskParameters(args));
+    }
+
+    @Test
+    @DisplayName("public이 아닌 클래스도 getter로 읽어 기존 구현과 같은 출력")
+    void maskSensitiveData_NonPublicClass_SameAsLegacy() {
+        // given
+        OwnerDto owner = new OwnerDto("kim", "farmer@example.com", "jwt-value");
+
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(owner);
+
+        // then
+        assertThat(masked).isEqualTo(LegacySensitiveDataMasker.maskSensitiveData(owner));
+        assertThat(masked).isEqualTo("{name=\"kim\", email=\"fa**@example.com\", token=\"****\"}");
+    }
+
+    @Test
+    @DisplayName("중첩 객체, 컬렉션, Map - 기존 구현과 같은 값으로 마스킹")
+    void maskSensitiveData_NestedDto_SameValuesAsLegacy() {
+        // given
+        Map<String, Object> extra = new LinkedHashMap<>();
+        extra.put("apiKey", "key-value");
+        extra.put("phone", "010-1234-5678");
+        extra.put("memo", "비닐하우스");
+        FarmDto farm = new FarmDto("햇살농장", 1200L,
+                new OwnerDto("kim", "farmer@example.com", "jwt-value"),
+                List.of(new OwnerDto("lee", "lee@example.com", "jwt-1"), new OwnerDto("park", "pk@example.com", "jwt-2")),
+                List.of("고추", "토마토"),
+                extra);
+
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(farm);
+
+        // then
+        assertThat(withoutQuotes(masked))
+                .isEqualTo(withoutQuotes(LegacySensitiveDataMasker.maskSensitiveData(farm)));
+        assertThat(masked).doesNotContain("jwt-", "key-value", "1234-5678", "farmer@");
+        assertThat(masked).contains("tags=[\"고추\", \"토마토\"]");
+    }
+
+    @Test
+    @DisplayName("최상위 컬렉션의 객체도 마스킹 (기존 구현은 toString()을 그대로 출력)")
+    void maskSensitiveData_TopLevelCollection_MasksItems() {
+        // given
+        List<OwnerDto> owners = List.of(new OwnerDto("kim", "farmer@example.com", "jwt-value"));
+
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(owners);
+
+        // then
+        assertThat(masked).isEqualTo("[{name=\"kim\", email=\"fa**@example.com\", token=\"****\"}]");
+    }
+
+    @Test
+    @DisplayName("getter가 없는 객체는 toString() 대신 타입 이름만 출력")
+    void maskSensitiveData_NoGetters_Redacted() {
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(new NoGetterCredentials());
+
+        // then
+        assertThat(masked).isEqualTo("NoGetterCredentials(****)");
+    }
+
+    @Test
+    @DisplayName("깊이 제한을 넘는 중첩 객체는 toString() 대신 타입 이름만 출력")
+    void maskSensitiveData_MaxDepth_Redacted() {
+        // given
+        Node node = new Node("depth0", null);
+        for (int i = 1; i <= 10; i++) {
+            node = new Node("depth" + i, node);
+        }
+
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(node);
+
+        // then
+        assertThat(masked).contains("Node(****)");
+        assertThat(masked).doesNotContain("secret=");
+    }
+
+    @Test
+    @DisplayName("getter에서 예외가 나면 toString() 대신 타입 이름만 출력")
+    void maskSensitiveData_GetterThrows_Redacted() {
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(new FailingDto());
+
+        // then
+        assertThat(masked).isEqualTo("FailingDto(****)");
+    }
+
+    @Test
+    @DisplayName("업로드 파일은 내용(bytes, inputStream, resource)을 읽지 않음")
+    void maskSensitiveData_MultipartFile_SkipsContentAccessors() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("photo", "farm.jpg", "image/jpeg", "binary-content".getBytes());
+
+        // when
+        String masked = SensitiveDataMasker.maskSensitiveData(file);
+
+        // then
+        assertThat(masked).contains("originalFilename=\"farm.jpg\"", "size=14");
+        assertThat(masked).doesNotContain("bytes=", "inputStream=", "resource=", "binary-content");
+    }
+}
@@ -0,0 +1,175 @@
+package com.cropkeeper.global.logging;
+
+import com.cropkeeper.global.metrics.LatencyMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceLogSamplerTest {
+
+    private LatencyMetrics latencyMetrics;
+    private ServiceLogSampler sampler;
+
+    // ========== 테스트 상수 ==========
+
+    private static final String METHOD = "FarmService.getFarmInfo";
+    private static final int SAMPLE_RATE = 10;
+    private static final long ADAPTIVE_MIN_MS = 50;
+    private static final long MIN_SAMPLES = 100;
+
+    @BeforeEach
+    void setUp() {
+        latencyMetrics = new LatencyMetrics();
+        sampler = new ServiceLogSampler(latencyMetrics, SAMPLE_RATE, 99, ADAPTIVE_MIN_MS, MIN_SAMPLES);
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static long millis(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+
+    private AccessLogEvent.Capture decide(long elapsedMs) {
+        return sampler.decide(METHOD, millis(elapsedMs), false, false);
+    }
+
+    private void recordCalls(int count, long elapsedMs) {
+        for (int i = 0; i < count; i++) {
+            latencyMetrics.recordService(METHOD, millis(elapsedMs), false);
+        }
+    }
+
+    @Test
+    @DisplayName("예외는 느린 호출보다 우선하여 항상 ERROR로 기록")
+    void decide_Failed_AlwaysError() {
+        assertThat(sampler.decide(METHOD, millis(1), false, true)).isEqualTo(AccessLogEvent.Capture.ERROR);
+        assertThat(sampler.decide(METHOD, millis(5_000), true, true)).isEqualTo(AccessLogEvent.Capture.ERROR);
+        assertThat(sampler.decide(METHOD, millis(5_000), true, false)).isEqualTo(AccessLogEvent.Capture.SLOW);
+    }
+
+    @Test
+    @DisplayName("sample-rate가 1이면 모든 정상 호출을 ALL로 기록")
+    void decide_SampleRateOne_RecordsAll() {
+        // given
+        ServiceLogSampler recordAll = new ServiceLogSampler(latencyMetrics, 1, 99, ADAPTIVE_MIN_MS, MIN_SAMPLES);
+
+        // when & then
+        for (int i = 0; i < 20; i++) {
+            assertThat(recordAll.decide(METHOD, millis(1), false, false)).isEqualTo(AccessLogEvent.Capture.ALL);
+        }
+    }
+
+    @Test
+    @DisplayName("정상 호출은 메서드별로 정확히 N건 중 1건만 기록")
+    void decide_SamplesEveryNthCall() {
+        // when
+        List<Integer> sampledCalls = new ArrayList<>();
+        for (int call = 1; call <= 1_000; call++) {
+            AccessLogEvent.Capture capture = decide(1);
+            if (capture != null) {
+                assertThat(capture).isEqualTo(AccessLogEvent.Capture.SAMPLED);
+                sampledCalls.add(call);
+            }
+        }
+
+        // then
+        assertThat(sampledCalls).hasSize(1_000 / SAMPLE_RATE);
+        assertThat(sampledCalls).allMatch(call -> call % SAMPLE_RATE == 0);
+    }
+
+    @Test
+    @DisplayName("메서드마다 샘플링 카운터가 따로 동작")
+    void decide_CountersPerMethod() {
+        // when
+        for (int i = 0; i < SAMPLE_RATE - 1; i++) {
+            assertThat(decide(1)).isNull();
+        }
+
+        // then - 다른 메서드 호출은 METHOD의 카운터에 영향 없음
+        assertThat(sampler.decide("MemberService.getMember", millis(1), false, false)).isNull();
+        assertThat(decide(1)).isEqualTo(AccessLogEvent.Capture.SAMPLED);
+    }
+
+    @Test
+    @DisplayName("임계값 이상은 샘플링과 관계없이 OUTLIER로 기록하고 샘플링 카운터를 소모하지 않음")
+    void decide_Outlier_AlwaysRecorded() {
+        // when
+        for (int i = 0; i < 25; i++) {
+            assertThat(decide(ADAPTIVE_MIN_MS)).isEqualTo(AccessLogEvent.Capture.OUTLIER);
+        }
+
+        // then
+        for (int i = 0; i < SAMPLE_RATE - 1; i++) {
+            assertThat(decide(1)).isNull();
+        }
+        assertThat(decide(1)).isEqualTo(AccessLogEvent.Capture.SAMPLED);
+    }
+
+    @Test
+    @DisplayName("임계값은 직전 구간의 p99로 갱신")
+    void refreshThresholds_UsesWindowPercentile() {
+        // given
+        decide(1);
+        recordCalls(200, 100);
+
+        // when
+        sampler.refreshThresholds();
+
+        // then - p99 ≈ 100ms
+        assertThat(decide(80)).isNotEqualTo(AccessLogEvent.Capture.OUTLIER);
+        assertThat(decide(110)).isEqualTo(AccessLogEvent.Capture.OUTLIER);
+    }
+
+    @Test
+    @DisplayName("표본이 min-samples 미만이면 임계값을 유지")
+    void refreshThresholds_NotEnoughSamples_KeepsThreshold() {
+        // given
+        decide(1);
+        recordCalls((int) MIN_SAMPLES - 1, 200);
+
+        // when
+        sampler.refreshThresholds();
+
+        // then
+        assertThat(decide(ADAPTIVE_MIN_MS)).isEqualTo(AccessLogEvent.Capture.OUTLIER);
+    }
+
+    @Test
+    @DisplayName("임계값은 adaptive-min-ms 아래로 내려가지 않음")
+    void refreshThresholds_NotBelowMinimum() {
+        // given
+        decide(1);
+        recordCalls(200, 1);
+
+        // when
+        sampler.refreshThresholds();
+
+        // then
+        assertThat(decide(ADAPTIVE_MIN_MS - 10)).isNotEqualTo(AccessLogEvent.Capture.OUTLIER);
+        assertThat(decide(ADAPTIVE_MIN_MS)).isEqualTo(AccessLogEvent.Capture.OUTLIER);
+    }
+
+    @Test
+    @DisplayName("두 번째 갱신은 첫 갱신 이후 기록만 반영")
+    void refreshThresholds_SecondWindowOnly() {
+        // given
+        decide(1);
+        recordCalls(200, 300);
+        sampler.refreshThresholds();
+        assertThat(decide(200)).isNotEqualTo(AccessLogEvent.Capture.OUTLIER);
+
+        // when - 이후 구간은 모두 빠른 호출
+        recordCalls(200, 60);
+        sampler.refreshThresholds();
+
+        // then
+        assertThat(decide(200)).isEqualTo(AccessLogEvent.Capture.OUTLIER);
+        assertThat(decide(55)).isNotEqualTo(AccessLogEvent.Capture.OUTLIER);
+    }
+}
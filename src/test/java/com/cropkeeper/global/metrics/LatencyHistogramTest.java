@@ -0,0 +1,169 @@
+package com.cropkeeper.global.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    // ========== 테스트 상수 ==========
+
+    // 하위 버킷 32개 → 버킷 폭은 구간 하한의 1/32
+    private static final double MAX_RELATIVE_ERROR = 1.0 / LatencyHistogram.SUB_BUCKET_COUNT;
+
+    private static final long MICROS = 1_000;
+
+    @Test
+    @DisplayName("0 ~ 31ns는 1ns 단위 버킷")
+    void bucketIndex_LinearRange() {
+        for (int value = 0; value < LatencyHistogram.SUB_BUCKET_COUNT; value++) {
+            assertThat(LatencyHistogram.bucketIndex(value)).isEqualTo(value);
+            assertThat(LatencyHistogram.bucketUpperBound(value)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("2의 거듭제곱 경계에서 버킷 폭이 두 배가 됨")
+    void bucketIndex_PowerOfTwoBoundaries() {
+        assertThat(LatencyHistogram.bucketIndex(32)).isEqualTo(32);
+        assertThat(LatencyHistogram.bucketIndex(63)).isEqualTo(63);
+
+        // 64 ~ 127은 2ns 단위
+        assertThat(LatencyHistogram.bucketIndex(64)).isEqualTo(64);
+        assertThat(LatencyHistogram.bucketIndex(65)).isEqualTo(64);
+        assertThat(LatencyHistogram.bucketIndex(66)).isEqualTo(65);
+        assertThat(LatencyHistogram.bucketUpperBound(64)).isEqualTo(65);
+
+        // 128 ~ 255는 4ns 단위
+        assertThat(LatencyHistogram.bucketIndex(128)).isEqualTo(96);
+        assertThat(LatencyHistogram.bucketIndex(131)).isEqualTo(96);
+        assertThat(LatencyHistogram.bucketIndex(132)).isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("모든 버킷의 상한은 그 버킷에, 상한 + 1은 다음 버킷에 속함 (버킷 사이 빈틈, 겹침 없음)")
+    void bucketUpperBound_ContiguousBuckets() {
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT - 1; index++) {
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertThat(LatencyHistogram.bucketIndex(upper)).isEqualTo(index);
+            assertThat(LatencyHistogram.bucketIndex(upper + 1)).isEqualTo(index + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 값과 음수는 각각 마지막 버킷, 0 버킷에 기록")
+    void bucketIndex_OutOfRange() {
+        assertThat(LatencyHistogram.bucketIndex(1L << 41)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5, false);
+        assertThat(histogram.snapshot().percentile(100)).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 상한과 실제 값의 상대 오차는 1/32 이하")
+    void bucketUpperBound_RelativeError() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long value = 1 + (random.nextLong() & ((1L << 40) - 1));
+            long upper = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value));
+            assertThat(upper).isGreaterThanOrEqualTo(value);
+            assertThat((double) (upper - value) / value).isLessThanOrEqualTo(MAX_RELATIVE_ERROR);
+        }
+    }
+
+    @Test
+    @DisplayName("균등 분포의 백분위 값은 실제 값과 상대 오차 1/32 이내")
+    void percentile_UniformDistribution() {
+        // given - 1µs ~ 10ms 균등 분포
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i * MICROS, false);
+        }
+
+        // when
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.getCount()).isEqualTo(10_000);
+        assertThat((double) snapshot.percentile(50)).isCloseTo(5_000 * MICROS, within(5_000 * MICROS * MAX_RELATIVE_ERROR));
+        assertThat((double) snapshot.percentile(95)).isCloseTo(9_500 * MICROS, within(9_500 * MICROS * MAX_RELATIVE_ERROR));
+        assertThat((double) snapshot.percentile(99)).isCloseTo(9_900 * MICROS, within(9_900 * MICROS * MAX_RELATIVE_ERROR));
+        assertThat(snapshot.percentile(100)).isEqualTo(10_000 * MICROS);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(10_000 * MICROS);
+        assertThat(snapshot.getMeanNanos()).isEqualTo(5_000 * MICROS + MICROS / 2);
+    }
+
+    @Test
+    @DisplayName("백분위 값은 실제 최대값을 넘지 않음")
+    void percentile_CappedAtMax() {
+        // given - 버킷 상한보다 작은 단일 값
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001, false);
+
+        // when & then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.percentile(50)).isEqualTo(1_000_001);
+        assertThat(snapshot.percentile(99)).isEqualTo(1_000_001);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 백분위, 평균, 최대값 모두 0")
+    void percentile_Empty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.percentile(99)).isZero();
+        assertThat(snapshot.getMeanNanos()).isZero();
+        assertThat(snapshot.getMaxNanos()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷 차이는 이전 스냅샷 이후 기록만 포함")
+    void minus_OnlyNewRecords() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            histogram.record(50 * MICROS, true);
+        }
+        LatencyHistogram.Snapshot previous = histogram.snapshot();
+        for (int i = 0; i < 10; i++) {
+            histogram.record(2 * MICROS, false);
+        }
+
+        // when
+        LatencyHistogram.Snapshot window = histogram.snapshot().minus(previous);
+
+        // then
+        assertThat(window.getCount()).isEqualTo(10);
+        assertThat(window.getErrors()).isZero();
+        assertThat(window.getMeanNanos()).isEqualTo(2 * MICROS);
+        assertThat((double) window.getMaxNanos()).isCloseTo(2 * MICROS, within(2 * MICROS * MAX_RELATIVE_ERROR));
+        assertThat(window.percentile(99)).isLessThan(50 * MICROS);
+    }
+
+    @Test
+    @DisplayName("스냅샷 병합은 건수, 오류 수를 더하고 큰 최대값을 유지")
+    void merge_SumsCounts() {
+        // given
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10 * MICROS, false);
+        second.record(30 * MICROS, true);
+        second.record(20 * MICROS, false);
+
+        // when
+        LatencyHistogram.Snapshot merged = first.snapshot().merge(second.snapshot());
+
+        // then
+        assertThat(merged.getCount()).isEqualTo(3);
+        assertThat(merged.getErrors()).isEqualTo(1);
+        assertThat(merged.getMaxNanos()).isEqualTo(30 * MICROS);
+        assertThat(merged.getMeanNanos()).isEqualTo(20 * MICROS);
+    }
+}
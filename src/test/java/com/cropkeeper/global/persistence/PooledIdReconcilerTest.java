@@ -0,0 +1,108 @@
+package com.cropkeeper.global.persistence;
+
+import com.cropkeeper.domain.farm.entity.Farm;
+import com.cropkeeper.domain.farm.vo.Address;
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PooledIdReconciler.class)
+class PooledIdReconcilerTest {
+
+    @Autowired
+    private PooledIdReconciler reconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager em;
+
+    // ========== 테스트 상수 ==========
+
+    private static final long EXISTING_LOG_ID = 10_000L;
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private Long nextVal(String segment) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generator WHERE sequence_name = ?", Long.class, segment);
+    }
+
+    /**
+     * id_generator를 거치지 않은 행 (AUTO_INCREMENT 시절 데이터, JDBC 직접 적재)
+     */
+    private void insertFarmingLogDirectly(long farmingLogId) {
+        Member member = em.persist(Member.builder()
+                .username("testuser01")
+                .password("encodedPassword")
+                .name("홍길동")
+                .role(MemberRole.USER)
+                .build());
+        Farm farm = em.persist(Farm.builder()
+                .farmName("테스트농장")
+                .address(Address.builder().street("서울시 강남구").build())
+                .farmSize(1500L)
+                .member(member)
+                .build());
+        em.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO farming_log (farming_log_id, log_type, farm_id, user_id, log_date, weather,"
+                        + " deleted, created_at, updated_at) VALUES (?, 'IRRIGATION', ?, ?, ?, '맑음', FALSE, ?, ?)",
+                farmingLogId, farm.getFarmId(), member.getMemberId(), now, now, now);
+    }
+
+    @Test
+    @DisplayName("모든 세그먼트의 next_val을 현재 최대 ID + 할당 크기보다 크게 맞춘다")
+    void reconcile_AllSegments() {
+        // when
+        reconciler.reconcile();
+
+        // then
+        PooledIds.SEGMENTS.forEach((segment, idColumn) -> {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + idColumn.column() + "), 0) FROM " + idColumn.table(), Long.class);
+            assertThat(nextVal(segment)).isGreaterThan(maxId + PooledIds.ALLOCATION_SIZE);
+        });
+    }
+
+    @Test
+    @DisplayName("ID 생성기를 거치지 않은 기존 행이 있으면 그 뒤로 올린다")
+    void reconcile_ExistingRows() {
+        // given
+        insertFarmingLogDirectly(EXISTING_LOG_ID);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(nextVal(PooledIds.FARMING_LOG)).isEqualTo(EXISTING_LOG_ID + PooledIds.ALLOCATION_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("이미 충분히 큰 next_val은 낮추지 않는다")
+    void reconcile_NeverLowers() {
+        // given
+        reconciler.reconcile();
+        jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = ?",
+                1_000_000L, PooledIds.PLANT_INVENTORY);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(nextVal(PooledIds.PLANT_INVENTORY)).isEqualTo(1_000_000L);
+    }
+}
@@ -0,0 +1,222 @@
+package com.cropkeeper.global.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryBudgetMonitorTest {
+
+    private QueryBudgetMonitor monitor;
+    private QueryCounter.Scope scope;
+
+    // ========== 테스트 상수 ==========
+
+    private static final int MAX_QUERIES = 10;
+    private static final int MAX_ENTITY_LOADS = 100;
+    private static final int N_PLUS_ONE_THRESHOLD = 3;
+    private static final String ROUTE = "GET /api/farms/{farmId}";
+    private static final String SELECT_FARM = "select f.farm_id, f.farm_name from farm f where f.farm_id=?";
+    private static final String SELECT_MEMBER = "select m.member_id from member m where m.member_id=?";
+
+    @BeforeEach
+    void setUp() {
+        monitor = new QueryBudgetMonitor(true, MAX_QUERIES, MAX_ENTITY_LOADS, N_PLUS_ONE_THRESHOLD, 1000);
+        scope = QueryCounter.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scope.close();
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static void execute(String sql, int times) {
+        for (int i = 0; i < times; i++) {
+            QueryCounter.recordStatement(sql);
+        }
+    }
+
+    private static void loadEntities(int count) {
+        for (int i = 0; i < count; i++) {
+            QueryCounter.recordEntityLoad();
+        }
+    }
+
+    private static Method handler(String name) throws NoSuchMethodException {
+        return SampleController.class.getDeclaredMethod(name);
+    }
+
+    @SuppressWarnings("unused")
+    static class SampleController {
+
+        void defaultBudget() {
+        }
+
+        @QueryBudget(maxQueries = 2)
+        void tightQueries() {
+        }
+
+        @QueryBudget(maxQueries = 50, maxEntityLoads = 5)
+        void tightLoads() {
+        }
+    }
+
+    @Test
+    @DisplayName("예산 안의 서로 다른 쿼리는 경고 없음")
+    void evaluate_WithinBudget_NoWarning() throws Exception {
+        // given
+        execute(SELECT_FARM, 1);
+        execute(SELECT_MEMBER, 2);
+        execute("update farm set farm_name=? where farm_id=?", 1);
+        loadEntities(3);
+
+        // when
+        QueryBudgetMonitor.QueryUsage usage = monitor.evaluate(ROUTE, handler("defaultBudget"));
+
+        // then
+        assertThat(usage.getStatements()).isEqualTo(4);
+        assertThat(usage.getEntityLoads()).isEqualTo(3);
+        assertThat(usage.getWarning()).isNull();
+    }
+
+    @Test
+    @DisplayName("SQL 수가 기본 예산을 넘으면 예산 초과")
+    void evaluate_OverQueryBudget() throws Exception {
+        // given - 모두 다른 SQL이라 N+1은 아님
+        for (int i = 0; i <= MAX_QUERIES; i++) {
+            QueryCounter.recordStatement("select * from farm where farm_id=" + i);
+        }
+
+        // when
+        QueryBudgetMonitor.QueryUsage usage = monitor.evaluate(ROUTE, handler("defaultBudget"));
+
+        // then
+        assertThat(usage.getWarning())
+                .isEqualTo("QUERY_BUDGET_EXCEEDED(queries=11/10, loads=0/100)");
+    }
+
+    @Test
+    @DisplayName("같은 SELECT가 임계값 이상 반복되면 N+1 의심 (예산 안이어도)")
+    void evaluate_RepeatedSelect_NPlusOne() throws Exception {
+        // given
+        execute(SELECT_FARM, 1);
+        execute(SELECT_MEMBER, N_PLUS_ONE_THRESHOLD);
+
+        // when
+        QueryBudgetMonitor.QueryUsage usage = monitor.evaluate(ROUTE, handler("defaultBudget"));
+
+        // then
+        assertThat(usage.getWarning()).isEqualTo("N+1_SUSPECTED(x3: " + SELECT_MEMBER + ")");
+        QueryBudgetMonitor.RouteStats stats = monitor.stats().getRoutes().get(0);
+        assertThat(stats.getNPlusOneSuspected()).isEqualTo(1);
+        assertThat(stats.getOverBudget()).isZero();
+        assertThat(stats.getLastRepeatedSelect()).isEqualTo(SELECT_MEMBER);
+    }
+
+    @Test
+    @DisplayName("반복 SELECT는 한 줄로 요약하고, 예산 초과와 함께 표시")
+    void evaluate_OverBudgetAndNPlusOne() throws Exception {
+        // given
+        execute("select m.member_id\n    from member m\n    where m.member_id=?", 3);
+
+        // when
+        QueryBudgetMonitor.QueryUsage usage = monitor.evaluate(ROUTE, handler("tightQueries"));
+
+        // then
+        assertThat(usage.getWarning()).isEqualTo("QUERY_BUDGET_EXCEEDED(queries=3/2, loads=0/100) "
+                + "N+1_SUSPECTED(x3: select m.member_id from member m where m.member_id=?)");
+    }
+
+    @Test
+    @DisplayName("@QueryBudget의 maxEntityLoads가 음수면 엔티티 로딩은 기본 예산 유지")
+    void evaluate_QueryBudgetOverride_KeepsDefaultEntityLoads() throws Exception {
+        // given - SQL은 기본 예산 안, 어노테이션 예산 초과 / 엔티티 로딩은 기본 예산 안
+        execute(SELECT_FARM, 1);
+        execute(SELECT_MEMBER, 1);
+        loadEntities(MAX_ENTITY_LOADS);
+
+        // when
+        QueryBudgetMonitor.QueryUsage withinLoads = monitor.evaluate(ROUTE, handler("tightQueries"));
+        loadEntities(1);
+        QueryBudgetMonitor.QueryUsage overLoads = monitor.evaluate(ROUTE, handler("tightQueries"));
+
+        // then
+        assertThat(withinLoads.getWarning()).isNull();
+        assertThat(overLoads.getWarning()).isEqualTo("QUERY_BUDGET_EXCEEDED(queries=2/2, loads=101/100)");
+    }
+
+    @Test
+    @DisplayName("@QueryBudget의 maxEntityLoads를 지정하면 엔티티 로딩 예산도 대체")
+    void evaluate_QueryBudgetOverride_EntityLoads() throws Exception {
+        // given
+        loadEntities(6);
+
+        // when
+        QueryBudgetMonitor.QueryUsage usage = monitor.evaluate(ROUTE, handler("tightLoads"));
+
+        // then
+        assertThat(usage.getWarning()).isEqualTo("QUERY_BUDGET_EXCEEDED(queries=0/50, loads=6/5)");
+    }
+
+    @Test
+    @DisplayName("경로별로 요청 수, 예산 초과 수, 최대 SQL 수를 누적")
+    void stats_AccumulatesPerRoute() throws Exception {
+        // given
+        execute(SELECT_FARM, 1);
+        monitor.evaluate(ROUTE, handler("tightQueries"));
+        execute(SELECT_MEMBER, 2);
+        monitor.evaluate(ROUTE, handler("tightQueries"));
+        monitor.evaluate("GET /api/farms", handler("defaultBudget"));
+
+        // when
+        QueryBudgetMonitor.Stats stats = monitor.stats();
+
+        // then - 예산 초과 수 내림차순
+        assertThat(stats.getRoutes()).extracting(QueryBudgetMonitor.RouteStats::getRoute)
+                .containsExactly(ROUTE, "GET /api/farms");
+        QueryBudgetMonitor.RouteStats route = stats.getRoutes().get(0);
+        assertThat(route.getRequests()).isEqualTo(2);
+        assertThat(route.getOverBudget()).isEqualTo(1);
+        assertThat(route.getMaxQueries()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("추적 경로 수 한도를 넘은 새 경로는 판단만 하고 누적하지 않음")
+    void evaluate_MaxTrackedRoutes() throws Exception {
+        // given
+        monitor = new QueryBudgetMonitor(true, MAX_QUERIES, MAX_ENTITY_LOADS, N_PLUS_ONE_THRESHOLD, 2);
+        execute(SELECT_MEMBER, N_PLUS_ONE_THRESHOLD);
+
+        // when
+        monitor.evaluate("GET /a", handler("defaultBudget"));
+        monitor.evaluate("GET /b", handler("defaultBudget"));
+        QueryBudgetMonitor.QueryUsage usage = monitor.evaluate("GET /c", handler("defaultBudget"));
+        monitor.evaluate("GET /a", handler("defaultBudget"));
+
+        // then
+        assertThat(usage.getWarning()).startsWith("N+1_SUSPECTED");
+        assertThat(monitor.stats().getRoutes()).extracting(QueryBudgetMonitor.RouteStats::getRoute)
+                .containsExactlyInAnyOrder("GET /a", "GET /b");
+        assertThat(monitor.stats().getRoutes()).filteredOn(route -> route.getRoute().equals("GET /a"))
+                .extracting(QueryBudgetMonitor.RouteStats::getRequests).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("비활성화했거나 열린 Scope가 없으면 판단하지 않음")
+    void evaluate_DisabledOrNoScope_Null() throws Exception {
+        // given
+        QueryBudgetMonitor disabled = new QueryBudgetMonitor(false, MAX_QUERIES, MAX_ENTITY_LOADS, N_PLUS_ONE_THRESHOLD, 1000);
+
+        // when & then
+        assertThat(disabled.evaluate(ROUTE, handler("defaultBudget"))).isNull();
+        scope.close();
+        assertThat(monitor.evaluate(ROUTE, handler("defaultBudget"))).isNull();
+        assertThat(monitor.stats().getRoutes()).isEmpty();
+    }
+}
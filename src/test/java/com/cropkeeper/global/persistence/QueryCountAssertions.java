@@ -0,0 +1,70 @@
+package com.cropkeeper.global.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 쿼리 수 검증
+ *
+ * 사용 예시:
+ * <pre>
+ * {@code
+ * entityManager.flush();
+ * entityManager.clear();
+ * QueryCountAssertions.reset();          // 준비 단계의 SQL은 제외
+ *
+ * farmRepository.findByMemberId(memberId);
+ *
+ * QueryCountAssertions.assertMaxQueries(1);
+ * }
+ * </pre>
+ *
+ * MockMvc 요청도 같은 스레드에서 실행되므로 요청 중의 SQL이 함께 집계됩니다.
+ */
+public final class QueryCountAssertions {
+
+    private static final ThreadLocal<QueryCounter.Scope> SCOPE = new ThreadLocal<>();
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * 카운트 초기화 (이전 테스트에서 열린 Scope는 닫고 새로 시작)
+     */
+    public static void reset() {
+        QueryCounter.Scope previous = SCOPE.get();
+        if (previous != null) {
+            previous.close();
+        }
+        SCOPE.set(QueryCounter.open());
+    }
+
+    public static void assertMaxQueries(int max) {
+        QueryCounter.Scope scope = scope();
+        assertThat(scope.getStatements())
+                .as("실행된 SQL 수 (가장 많이 반복된 SELECT x%d: %s)",
+                        scope.getMostRepeatedCount(), scope.getMostRepeatedSelect())
+                .isLessThanOrEqualTo(max);
+    }
+
+    public static void assertMaxEntityLoads(int max) {
+        assertThat(scope().getEntityLoads())
+                .as("로딩된 엔티티 수")
+                .isLessThanOrEqualTo(max);
+    }
+
+    /**
+     * 같은 SELECT 문이 반복 실행되지 않았는지 검증 (N+1)
+     */
+    public static void assertNoRepeatedSelect() {
+        QueryCounter.Scope scope = scope();
+        assertThat(scope.getMostRepeatedCount())
+                .as("반복 실행된 SELECT: %s", scope.getMostRepeatedSelect())
+                .isLessThanOrEqualTo(1);
+    }
+
+    private static QueryCounter.Scope scope() {
+        QueryCounter.Scope scope = SCOPE.get();
+        assertThat(scope).as("QueryCountAssertions.reset()을 먼저 호출해야 합니다").isNotNull();
+        return scope;
+    }
+}
@@ -0,0 +1,51 @@
+package com.cropkeeper.global.profiling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrProfilingTest {
+
+    @AfterEach
+    void tearDown() {
+        // static 스위치이므로 다른 테스트에 영향이 없도록 기본값으로 복원
+        new JfrProfiling(false);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 begin()이 이벤트를 만들지 않고 null 반환")
+    void disabled_BeginReturnsNull() {
+        // given
+        new JfrProfiling(false);
+
+        // when
+        AccessCheckEvent accessCheck = AccessCheckEvent.begin(AccessCheckEvent.FARM);
+        ServiceCallEvent serviceCall = ServiceCallEvent.begin("FarmService.getFarmInfo");
+
+        // then
+        assertThat(JfrProfiling.isEnabled()).isFalse();
+        assertThat(accessCheck).isNull();
+        assertThat(serviceCall).isNull();
+        // null 이벤트 종료는 아무 일도 하지 않음
+        AccessCheckEvent.end(null, 1L, true);
+        ServiceCallEvent.end(null, false);
+    }
+
+    @Test
+    @DisplayName("활성화하면 begin()이 이벤트를 생성")
+    void enabled_BeginCreatesEvent() {
+        // given
+        new JfrProfiling(true);
+
+        // when
+        ServiceCallEvent event = ServiceCallEvent.begin("FarmService.getFarmInfo");
+
+        // then
+        assertThat(JfrProfiling.isEnabled()).isTrue();
+        assertThat(event).isNotNull();
+        assertThat(event.method).isEqualTo("FarmService.getFarmInfo");
+        ServiceCallEvent.end(event, false);
+    }
+}
@@ -0,0 +1,167 @@
+package com.cropkeeper.global.profiling;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrRecordingAnalyzerTest {
+
+    @TempDir
+    Path tempDir;
+
+    // ========== 테스트 상수 ==========
+
+    private static final String ROUTE = "GET /api/farms/{farmId}";
+    private static final String GET_FARM_INFO = "FarmService.getFarmInfo";
+    private static final String FIND_ALL = "FarmService.findAllByMemberId";
+    private static final long SLOW_MILLIS = 30;
+    private static final long MILLI = 1_000_000;
+
+    @BeforeEach
+    void setUp() {
+        new JfrProfiling(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JfrProfiling(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static void inRequest(Runnable action) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/farms/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/farms/{farmId}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            action.run();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static void serviceCall(String method, long sleepMillis, boolean failed) {
+        ServiceCallEvent event = ServiceCallEvent.begin(method);
+        if (sleepMillis > 0) {
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        ServiceCallEvent.end(event, failed);
+    }
+
+    private static void accessCheck(boolean granted) {
+        AccessCheckEvent.end(AccessCheckEvent.begin(AccessCheckEvent.FARM), 1L, granted);
+    }
+
+    /**
+     * 임시 JFR 기록에 이벤트를 남기고 파일로 저장
+     */
+    private Path record(Runnable events) throws Exception {
+        Path file = tempDir.resolve("cropkeeper.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(AccessCheckEvent.class).withoutThreshold();
+            recording.enable(ServiceCallEvent.class).withoutThreshold();
+            recording.start();
+            events.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    @Test
+    @DisplayName("이벤트 종류, 키별 호출 수, 실패 수, 백분위와 경로별 합계를 집계")
+    void summarize_CountsPercentilesAndRoutes() throws Exception {
+        // given - 요청 안: 권한 검증 3회(1회 거부), 서비스 호출 10회(1회 느림, 1회 실패) / 요청 밖: 서비스 호출 2회
+        Path file = record(() -> {
+            inRequest(() -> {
+                accessCheck(true);
+                accessCheck(true);
+                accessCheck(false);
+                for (int i = 0; i < 9; i++) {
+                    serviceCall(GET_FARM_INFO, 0, i == 0);
+                }
+                serviceCall(GET_FARM_INFO, SLOW_MILLIS, false);
+            });
+            serviceCall(FIND_ALL, 0, false);
+            serviceCall(FIND_ALL, 0, false);
+        });
+
+        // when
+        JfrRecordingAnalyzer.Summary summary = JfrRecordingAnalyzer.summarize(file);
+
+        // then
+        JfrRecordingAnalyzer.Group farmCheck = summary.group("AccessCheck", AccessCheckEvent.FARM);
+        assertThat(farmCheck.count()).isEqualTo(3);
+        assertThat(farmCheck.failed()).isEqualTo(1);
+
+        JfrRecordingAnalyzer.Group getFarmInfo = summary.group("ServiceCall", GET_FARM_INFO);
+        assertThat(getFarmInfo.count()).isEqualTo(10);
+        assertThat(getFarmInfo.failed()).isEqualTo(1);
+        // 10개 중 p50은 빠른 호출, p95·p99는 가장 느린 호출
+        assertThat(getFarmInfo.percentileNanos(50)).isLessThan(SLOW_MILLIS * MILLI);
+        assertThat(getFarmInfo.percentileNanos(95)).isGreaterThanOrEqualTo(SLOW_MILLIS * MILLI);
+        assertThat(getFarmInfo.percentileNanos(99)).isEqualTo(getFarmInfo.percentileNanos(95));
+
+        assertThat(summary.group("ServiceCall", FIND_ALL).count()).isEqualTo(2);
+        assertThat(summary.group("RepositoryCall", FIND_ALL)).isNull();
+
+        JfrRecordingAnalyzer.Group route = summary.route(ROUTE);
+        assertThat(route.count()).isEqualTo(13);
+        assertThat(route.failed()).isEqualTo(2);
+        assertThat(route.totalNanos()).isEqualTo(farmCheck.totalNanos() + getFarmInfo.totalNanos());
+        assertThat(summary.route("(요청 외)").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("백분위는 nearest-rank 방식으로 계산")
+    void group_Percentile_NearestRank() {
+        // given - 1ms ~ 100ms (초기 배열 크기 64를 넘어 확장)
+        JfrRecordingAnalyzer.Group group = new JfrRecordingAnalyzer.Group("key");
+        for (int i = 100; i >= 1; i--) {
+            group.add(i * MILLI, false);
+        }
+
+        // when & then
+        assertThat(group.count()).isEqualTo(100);
+        assertThat(group.totalNanos()).isEqualTo(5050 * MILLI);
+        assertThat(group.percentileNanos(50)).isEqualTo(50 * MILLI);
+        assertThat(group.percentileNanos(95)).isEqualTo(95 * MILLI);
+        assertThat(group.percentileNanos(99)).isEqualTo(99 * MILLI);
+        assertThat(group.percentileNanos(100)).isEqualTo(100 * MILLI);
+        assertThat(group.percentileNanos(0)).isEqualTo(MILLI);
+    }
+
+    @Test
+    @DisplayName("CropKeeper 이벤트가 없으면 안내 문구만 출력")
+    void print_NoEvents() throws Exception {
+        // given
+        Path file = record(() -> {
+        });
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        JfrRecordingAnalyzer.summarize(file).print(new PrintStream(output, true, StandardCharsets.UTF_8), 20);
+
+        // then
+        assertThat(output.toString(StandardCharsets.UTF_8)).contains("CropKeeper 이벤트가 없습니다");
+    }
+}
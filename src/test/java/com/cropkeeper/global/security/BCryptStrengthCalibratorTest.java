@@ -0,0 +1,45 @@
+package com.cropkeeper.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptStrengthCalibratorTest {
+
+    // ========== 테스트 상수 ==========
+
+    // BCrypt가 허용하는 최소 strength (테스트 시간을 줄이기 위해 낮은 값 사용)
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 6;
+
+    @Test
+    @DisplayName("목표 시간을 맞출 수 없어도 최소 strength 아래로 내리지 않음")
+    void calibrate_TargetTooLow_ReturnsMinStrength() {
+        // when
+        int strength = BCryptStrengthCalibrator.calibrate(0L, MIN_STRENGTH, MAX_STRENGTH);
+
+        // then
+        assertThat(strength).isEqualTo(MIN_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 충분히 길어도 최대 strength를 넘지 않음")
+    void calibrate_TargetVeryHigh_ReturnsMaxStrength() {
+        // when
+        int strength = BCryptStrengthCalibrator.calibrate(Long.MAX_VALUE / 4, MIN_STRENGTH, MAX_STRENGTH);
+
+        // then
+        assertThat(strength).isEqualTo(MAX_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("최소와 최대가 같으면 그 값 사용")
+    void calibrate_SameBounds_ReturnsBound() {
+        // when
+        int strength = BCryptStrengthCalibrator.calibrate(100L, 5, 5);
+
+        // then
+        assertThat(strength).isEqualTo(5);
+    }
+}
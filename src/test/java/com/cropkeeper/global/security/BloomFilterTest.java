@@ -0,0 +1,68 @@
+package com.cropkeeper.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BloomFilterTest {
+
+    // ========== 테스트 상수 ==========
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int PROBES = 200_000;
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private BloomFilter filledFilter() {
+        BloomFilter filter = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.put("revoked-" + i);
+        }
+        return filter;
+    }
+
+    @Test
+    @DisplayName("넣은 키는 항상 있을 수도 있다고 판단 (거짓 음성 없음)")
+    void mightContain_Inserted_AlwaysTrue() {
+        // given
+        BloomFilter filter = filledFilter();
+
+        // when & then
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            assertThat(filter.mightContain("revoked-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 원소 수만큼 넣었을 때 오탐률은 목표 오탐률 근처")
+    void mightContain_NotInserted_FalsePositiveRateNearTarget() {
+        // given
+        BloomFilter filter = filledFilter();
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / PROBES).isCloseTo(FALSE_POSITIVE_RATE, within(0.005));
+    }
+
+    @Test
+    @DisplayName("목표 오탐률에 맞춰 비트 수와 해시 수를 계산")
+    void create_Sizing() {
+        // when
+        BloomFilter filter = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+
+        // then - m = -n·ln(p) / (ln 2)², k = m/n·ln 2
+        assertThat(filter.bitSize()).isEqualTo(95_851);
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(filter.mightContain("revoked-0")).isFalse();
+    }
+}
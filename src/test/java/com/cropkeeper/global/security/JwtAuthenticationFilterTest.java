@@ -0,0 +1,135 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.domain.member.entity.MemberRole;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private MemberTokenVersionRegistry memberTokenVersionRegistry;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private JwtAuthenticationFilter filter;
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String USERNAME = "testuser01";
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, memberTokenVersionRegistry,
+                verifiedTokenCache, tokenRevocationList, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static ParsedToken parsedToken(String type) {
+        return ParsedToken.from(Jwts.claims()
+                .subject(USERNAME)
+                .id("jti-1")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .add(JwtTokenProvider.CLAIM_TYPE, type)
+                .build());
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰을 Bearer로 보내면 401로 거부하고 다음 필터로 넘기지 않음")
+    void doFilter_RefreshToken_Rejected() throws Exception {
+        // given
+        given(verifiedTokenCache.getOrVerify("refresh-token")).willReturn(parsedToken("refresh"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(bearer("refresh-token"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(tokenRevocationList, never()).isRevoked(any());
+    }
+
+    @Test
+    @DisplayName("액세스 토큰이면 클레임으로 인증 후 다음 필터로 전달")
+    void doFilter_AccessToken_Authenticated() throws Exception {
+        // given
+        ParsedToken accessToken = parsedToken("access");
+        given(verifiedTokenCache.getOrVerify("access-token")).willReturn(accessToken);
+        given(jwtTokenProvider.getStatelessPrincipal(accessToken))
+                .willReturn(UserPrincipal.fromClaims(MEMBER_ID, USERNAME, MemberRole.USER, 0L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(bearer("access-token"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(USERNAME);
+    }
+
+    @Test
+    @DisplayName("폐기된 액세스 토큰은 인증하지 않고 다음 필터로 전달 (인가 단계에서 거부)")
+    void doFilter_RevokedAccessToken_NotAuthenticated() throws Exception {
+        // given
+        ParsedToken accessToken = parsedToken("access");
+        given(verifiedTokenCache.getOrVerify("access-token")).willReturn(accessToken);
+        given(tokenRevocationList.isRevoked(accessToken)).willReturn(true);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(bearer("access-token"), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
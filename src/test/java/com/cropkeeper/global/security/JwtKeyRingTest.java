@@ -0,0 +1,208 @@
+package com.cropkeeper.global.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    @TempDir
+    Path keyDir;
+
+    // ========== 테스트 상수 ==========
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(
+            "cropkeeper-test-secret-key-0123456789abcdef".getBytes(StandardCharsets.US_ASCII));
+    private static final String RETIRED_KID = "2025-01";
+    private static final String ACTIVE_KID = "2025-07";
+    private static final String USERNAME = "user01";
+    private static final long EXPIRATION = 60_000;
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static KeyPair generateKeyPair(JwtKeyRing.Algorithm algorithm) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyFactoryAlgorithm());
+        if (algorithm == JwtKeyRing.Algorithm.ES256) {
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+        return generator.generateKeyPair();
+    }
+
+    private void writePem(String fileName, String type, byte[] der) throws IOException {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        Files.writeString(keyDir.resolve(fileName),
+                "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n",
+                StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 키 디렉터리에 kid의 공개키와 (선택) 개인키 파일 생성
+     */
+    private KeyPair writeKey(JwtKeyRing.Algorithm algorithm, String kid, boolean withPrivateKey) throws Exception {
+        KeyPair keyPair = generateKeyPair(algorithm);
+        writePem(kid + ".pub.pem", "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        if (withPrivateKey) {
+            writePem(kid + ".key.pem", "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        }
+        return keyPair;
+    }
+
+    private static String signedToken(String kid, KeyPair keyPair) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject(USERNAME)
+                .id(UUID.randomUUID().toString())
+                .claim(JwtTokenProvider.CLAIM_TYPE, "access")
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private static JwsHeader header(JwtKeyRing keyRing, String token) {
+        return Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getHeader();
+    }
+
+    private void assertAsymmetricRoundTrip(JwtKeyRing.Algorithm algorithm, String jwsAlgorithm) throws Exception {
+        // given
+        writeKey(algorithm, RETIRED_KID, false);
+        writeKey(algorithm, ACTIVE_KID, true);
+
+        // when
+        JwtKeyRing keyRing = JwtKeyRing.load(algorithm, null, keyDir.toString(), ACTIVE_KID);
+        JwtTokenProvider provider = new JwtTokenProvider(keyRing, EXPIRATION, EXPIRATION);
+        String token = provider.generateAccessToken(USERNAME);
+
+        // then
+        assertThat(keyRing.getVerificationKeys()).containsOnlyKeys(RETIRED_KID, ACTIVE_KID);
+        assertThat(keyRing.getLegacyVerificationKey()).isNull();
+        JwsHeader header = header(keyRing, token);
+        assertThat(header.getKeyId()).isEqualTo(ACTIVE_KID);
+        assertThat(header.getAlgorithm()).isEqualTo(jwsAlgorithm);
+        assertThat(provider.parseAndVerify(token).getSubject()).isEqualTo(USERNAME);
+    }
+
+    @Test
+    @DisplayName("EdDSA - 키 디렉터리의 PEM 파일을 읽고 활성 kid로 서명")
+    void load_EdDsa_SignsWithActiveKid() throws Exception {
+        assertAsymmetricRoundTrip(JwtKeyRing.Algorithm.EDDSA, "EdDSA");
+    }
+
+    @Test
+    @DisplayName("ES256 - 키 디렉터리의 PEM 파일을 읽고 활성 kid로 서명")
+    void load_Es256_SignsWithActiveKid() throws Exception {
+        assertAsymmetricRoundTrip(JwtKeyRing.Algorithm.ES256, "ES256");
+    }
+
+    @Test
+    @DisplayName("검증 전용으로 남은 이전 kid로 발급된 토큰도 검증")
+    void verify_RetiredKid_Accepted() throws Exception {
+        // given - 이전 키의 개인키는 키 디렉터리에서 이미 제거됨
+        KeyPair retired = writeKey(JwtKeyRing.Algorithm.EDDSA, RETIRED_KID, false);
+        writeKey(JwtKeyRing.Algorithm.EDDSA, ACTIVE_KID, true);
+        JwtKeyRing keyRing = JwtKeyRing.load(JwtKeyRing.Algorithm.EDDSA, null, keyDir.toString(), ACTIVE_KID);
+        JwtTokenProvider provider = new JwtTokenProvider(keyRing, EXPIRATION, EXPIRATION);
+
+        // when
+        ParsedToken parsedToken = provider.parseAndVerify(signedToken(RETIRED_KID, retired));
+
+        // then
+        assertThat(parsedToken).isNotNull();
+        assertThat(parsedToken.getSubject()).isEqualTo(USERNAME);
+    }
+
+    @Test
+    @DisplayName("kid 없는 기존 HS256 토큰은 jwt.secret-key가 있을 때만 검증")
+    void verify_LegacyHs256WithoutKid() throws Exception {
+        // given
+        writeKey(JwtKeyRing.Algorithm.EDDSA, ACTIVE_KID, true);
+        String legacyToken = new JwtTokenProvider(SECRET_KEY, EXPIRATION, EXPIRATION).generateAccessToken(USERNAME);
+
+        JwtTokenProvider withLegacyKey = new JwtTokenProvider(
+                JwtKeyRing.load(JwtKeyRing.Algorithm.EDDSA, SECRET_KEY, keyDir.toString(), ACTIVE_KID),
+                EXPIRATION, EXPIRATION);
+        JwtTokenProvider withoutLegacyKey = new JwtTokenProvider(
+                JwtKeyRing.load(JwtKeyRing.Algorithm.EDDSA, "", keyDir.toString(), ACTIVE_KID),
+                EXPIRATION, EXPIRATION);
+
+        // when & then
+        assertThat(withLegacyKey.parseAndVerify(legacyToken).getSubject()).isEqualTo(USERNAME);
+        assertThat(withoutLegacyKey.parseAndVerify(legacyToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("HS256 모드는 kid 없이 비밀키 하나로 서명과 검증")
+    void hmac_SignsWithoutKid() {
+        // given
+        JwtKeyRing keyRing = JwtKeyRing.load(JwtKeyRing.Algorithm.HS256, SECRET_KEY, null, null);
+        JwtTokenProvider provider = new JwtTokenProvider(keyRing, EXPIRATION, EXPIRATION);
+
+        // when
+        String token = provider.generateAccessToken(USERNAME);
+
+        // then
+        assertThat(keyRing.getActiveKid()).isNull();
+        assertThat(header(keyRing, token).getKeyId()).isNull();
+        assertThat(header(keyRing, token).getAlgorithm()).isEqualTo("HS256");
+        assertThat(provider.parseAndVerify(token)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("키 디렉터리에 없는 kid의 토큰은 거부")
+    void verify_UnknownKid_Rejected() throws Exception {
+        // given
+        writeKey(JwtKeyRing.Algorithm.EDDSA, ACTIVE_KID, true);
+        JwtTokenProvider provider = new JwtTokenProvider(
+                JwtKeyRing.load(JwtKeyRing.Algorithm.EDDSA, SECRET_KEY, keyDir.toString(), ACTIVE_KID),
+                EXPIRATION, EXPIRATION);
+        KeyPair unknown = generateKeyPair(JwtKeyRing.Algorithm.EDDSA);
+
+        // when & then
+        assertThat(provider.parseAndVerify(signedToken("unknown", unknown))).isNull();
+        // 알려진 kid를 사칭해도 서명이 맞지 않으면 거부
+        assertThat(provider.parseAndVerify(signedToken(ACTIVE_KID, unknown))).isNull();
+    }
+
+    @Test
+    @DisplayName("활성 kid의 개인키가 없으면 기동 실패")
+    void load_ActiveKidWithoutPrivateKey_Fails() throws Exception {
+        // given
+        writeKey(JwtKeyRing.Algorithm.EDDSA, ACTIVE_KID, false);
+
+        // when & then
+        assertThatThrownBy(() -> JwtKeyRing.load(JwtKeyRing.Algorithm.EDDSA, null, keyDir.toString(), ACTIVE_KID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("활성 kid의 공개키가 없거나 키 디렉터리 설정이 없으면 기동 실패")
+    void load_MissingActiveKidOrKeyDir_Fails() throws Exception {
+        // given
+        writeKey(JwtKeyRing.Algorithm.EDDSA, RETIRED_KID, true);
+
+        // when & then
+        assertThatThrownBy(() -> JwtKeyRing.load(JwtKeyRing.Algorithm.EDDSA, null, keyDir.toString(), ACTIVE_KID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(ACTIVE_KID);
+        assertThatThrownBy(() -> JwtKeyRing.load(JwtKeyRing.Algorithm.ES256, null, "", ACTIVE_KID))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.domain.auth.exception.LoginThrottledException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    // ========== 테스트 상수 ==========
+
+    private static final int USERNAME_MAX_FAILURES = 3;
+    private static final int IP_MAX_FAILURES = 1_000;
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static LoginThrottle throttle(int maxTrackedUsernames, int maxLockouts) {
+        return new LoginThrottle(true, 300, 900, USERNAME_MAX_FAILURES, IP_MAX_FAILURES,
+                maxTrackedUsernames, maxLockouts, 4, 4096);
+    }
+
+    /**
+     * 매번 다른 IP로 실패 기록 (X-Forwarded-For를 바꿔 가며 시도하는 경우)
+     */
+    private static void fail(LoginThrottle throttle, String username, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.recordFailure(username, "10.0." + (i / 256) + "." + (i % 256));
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 이름 실패가 한도에 도달하면 잠금")
+    void recordFailure_UsernameLimit_Locks() {
+        // given
+        LoginThrottle throttle = throttle(100, 100);
+        fail(throttle, "victim", USERNAME_MAX_FAILURES - 1);
+        assertThatCode(() -> throttle.checkAllowed("victim", "10.1.0.1")).doesNotThrowAnyException();
+
+        // when
+        fail(throttle, "victim", 1);
+
+        // then
+        assertThatThrownBy(() -> throttle.checkAllowed("victim", "10.1.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThat(throttle.currentLockouts()).extracting(LoginThrottle.Lockout::getKey).containsExactly("victim");
+    }
+
+    @Test
+    @DisplayName("추적 목록이 임의 사용자 이름으로 가득 차도 새 사용자 이름의 실패를 세어 잠금")
+    void recordFailure_TrackedUsernamesFull_StillLocks() {
+        // given - 최근 실패가 있는 임의 사용자 이름으로 목록을 채움
+        LoginThrottle throttle = throttle(2, 100);
+        fail(throttle, "junk-1", 1);
+        fail(throttle, "junk-2", 1);
+
+        // when
+        fail(throttle, "victim", USERNAME_MAX_FAILURES);
+
+        // then
+        assertThatThrownBy(() -> throttle.checkAllowed("victim", "10.1.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> throttle.checkAllowed("other", "10.1.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("잠금 목록이 가득 차 기록하지 못해도 윈도우 안의 실패 횟수로 거절")
+    void recordFailure_LockoutsFull_StillRejects() {
+        // given
+        LoginThrottle throttle = throttle(100, 1);
+        fail(throttle, "first", USERNAME_MAX_FAILURES);
+
+        // when
+        fail(throttle, "second", USERNAME_MAX_FAILURES);
+
+        // then
+        assertThat(throttle.currentLockouts()).hasSize(1);
+        assertThatThrownBy(() -> throttle.checkAllowed("second", "10.1.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 사용자 이름 실패 기록 초기화")
+    void recordSuccess_ResetsFailures() {
+        // given
+        LoginThrottle throttle = throttle(100, 100);
+        fail(throttle, "user", USERNAME_MAX_FAILURES - 1);
+
+        // when
+        throttle.recordSuccess("user");
+        fail(throttle, "user", USERNAME_MAX_FAILURES - 1);
+
+        // then
+        assertThatCode(() -> throttle.checkAllowed("user", "10.1.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 기록과 거절 모두 하지 않음")
+    void disabled_NeverThrottles() {
+        // given
+        LoginThrottle throttle = new LoginThrottle(false, 300, 900, USERNAME_MAX_FAILURES, IP_MAX_FAILURES,
+                100, 100, 4, 4096);
+
+        // when
+        fail(throttle, "user", USERNAME_MAX_FAILURES * 2);
+
+        // then
+        assertThatCode(() -> throttle.checkAllowed("user", "10.1.0.1")).doesNotThrowAnyException();
+        assertThat(throttle.currentLockouts()).isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.domain.member.entity.Member;
+import com.cropkeeper.domain.member.entity.MemberRole;
+import com.cropkeeper.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberTokenVersionRegistryTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberTokenVersionRegistry registry;
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long MEMBER_ID = 1L;
+    private static final long ACCESS_TOKEN_TTL_MS = 900_000L;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MemberTokenVersionRegistry(memberRepository, ACCESS_TOKEN_TTL_MS);
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private Member member(Long tokenVersion, LocalDateTime updatedAt) {
+        Member member = Member.builder()
+                .memberId(MEMBER_ID)
+                .username("testuser01")
+                .name("홍길동")
+                .role(MemberRole.USER)
+                .tokenVersion(tokenVersion)
+                .build();
+        ReflectionTestUtils.setField(member, "updatedAt", updatedAt);
+        return member;
+    }
+
+    @Test
+    @DisplayName("기동 시 액세스 토큰 유효 기간 안에 바뀐 버전을 DB에서 읽어 이전 토큰을 stale로 판단")
+    void afterSingletonsInstantiated_SeedsFromDatabase() {
+        // given
+        given(memberRepository.findTokenVersionChangedSince(any()))
+                .willReturn(List.of(member(2L, LocalDateTime.now().minusMinutes(3))));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        registry.afterSingletonsInstantiated();
+
+        // then
+        assertThat(registry.isStale(MEMBER_ID, 1L)).isTrue();
+        assertThat(registry.isStale(MEMBER_ID, 2L)).isFalse();
+        assertThat(registry.isStale(2L, 0L)).isFalse();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(memberRepository).findTokenVersionChangedSince(since.capture());
+        assertThat(since.getValue()).isBeforeOrEqualTo(before.minusSeconds(ACCESS_TOKEN_TTL_MS / 1000));
+    }
+
+    @Test
+    @DisplayName("다음 동기화는 마지막 동기화 시각부터 겹침 구간을 두고 조회해 다른 노드의 변경 반영")
+    void sync_AfterFirst_ReadsFromLastSync() {
+        // given
+        given(memberRepository.findTokenVersionChangedSince(any()))
+                .willReturn(List.of())
+                .willReturn(List.of(member(1L, LocalDateTime.now())));
+        registry.sync();
+        LocalDateTime firstSync = LocalDateTime.now();
+
+        // when
+        registry.sync();
+
+        // then
+        assertThat(registry.isStale(MEMBER_ID, 0L)).isTrue();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(memberRepository, times(2)).findTokenVersionChangedSince(since.capture());
+        assertThat(since.getAllValues().get(1))
+                .isAfter(firstSync.minus(MemberTokenVersionRegistry.SYNC_OVERLAP).minusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("버전이 바뀐 지 액세스 토큰 유효 기간이 지난 항목은 정리")
+    void sync_PrunesExpiredEntries() {
+        // given
+        given(memberRepository.findTokenVersionChangedSince(any()))
+                .willReturn(List.of(member(3L, LocalDateTime.now().minusMinutes(20))));
+
+        // when
+        registry.sync();
+
+        // then
+        assertThat(registry.size()).isZero();
+        assertThat(registry.isStale(MEMBER_ID, 0L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("낮은 버전으로 다시 기록해도 최신 버전 유지")
+    void bump_KeepsHighestVersion() {
+        // when
+        registry.bump(MEMBER_ID, 3L);
+        registry.bump(MEMBER_ID, 2L);
+
+        // then
+        assertThat(registry.isStale(MEMBER_ID, 2L)).isTrue();
+        assertThat(registry.isStale(MEMBER_ID, 3L)).isFalse();
+        assertThat(registry.isStale(MEMBER_ID, null)).isTrue();
+    }
+}
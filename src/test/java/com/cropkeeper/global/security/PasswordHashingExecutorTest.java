@@ -0,0 +1,143 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.global.security.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor executor;
+
+    /**
+     * execute()는 호출 스레드를 붙잡으므로 동시 호출은 별도 스레드에서 실행
+     */
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    // ========== 테스트 상수 ==========
+
+    private static final long TIMEOUT_MS = 5_000L;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        callers.shutdownNow();
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    /**
+     * release가 열릴 때까지 해싱 스레드를 붙잡는 작업을 별도 호출 스레드에서 제출
+     */
+    private CompletableFuture<String> occupy(CountDownLatch started, CountDownLatch release) {
+        return CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }), callers);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.stats().getQueued() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(executor.stats().getQueued()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("작업 결과를 반환하고 완료 수 증가")
+    void execute_Success() {
+        // given
+        executor = new PasswordHashingExecutor(1, 1, TIMEOUT_MS);
+
+        // when
+        String result = executor.execute(() -> "hashed");
+
+        // then
+        assertThat(result).isEqualTo("hashed");
+        assertThat(executor.stats().getCompleted()).isEqualTo(1);
+        assertThat(executor.stats().getPoolSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 즉시 PasswordHashingBusyException 발생")
+    void execute_QueueFull_Rejects() throws Exception {
+        // given - 스레드 1개 사용 중, 대기열 1칸 사용 중
+        executor = new PasswordHashingExecutor(1, 1, TIMEOUT_MS);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = occupy(started, release);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = occupy(new CountDownLatch(1), release);
+        awaitQueued(1);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> "rejected"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(executor.stats().getRejected()).isEqualTo(1);
+
+        // 풀리면 기존 작업은 정상 완료
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(executor.stats().getCompleted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 작업을 중단하고 PasswordHashingBusyException 발생")
+    void execute_Timeout_CancelsTask() throws Exception {
+        // given
+        executor = new PasswordHashingExecutor(1, 1, 100L);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        })).isInstanceOf(PasswordHashingBusyException.class);
+
+        assertThat(executor.stats().getTimedOut()).isEqualTo(1);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 해싱 스레드가 풀려 다음 작업 처리 가능
+        assertThat(executor.execute(() -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 런타임 예외는 그대로 전달")
+    void execute_TaskThrows_PropagatesRuntimeException() {
+        // given
+        executor = new PasswordHashingExecutor(1, 1, TIMEOUT_MS);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            throw new IllegalArgumentException("잘못된 해시");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 해시");
+    }
+}
@@ -0,0 +1,127 @@
+package com.cropkeeper.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowSketchTest {
+
+    // ========== 테스트 상수 ==========
+
+    private static final long WINDOW_MILLIS = 1_000;
+    private static final int SLOT_COUNT = 10;
+    private static final long NOW = 10_000;    // 슬롯 100번째 시작 시각
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private void increment(SlidingWindowSketch sketch, String key, int times, long nowMillis) {
+        for (int i = 0; i < times; i++) {
+            sketch.increment(key, nowMillis);
+        }
+    }
+
+    /**
+     * String.hashCode()가 모두 같은 문자열 ("Aa"와 "BB"의 조합)
+     */
+    private List<String> sameHashCodeKeys(int blocks) {
+        List<String> keys = new ArrayList<>(List.of(""));
+        for (int i = 0; i < blocks; i++) {
+            List<String> next = new ArrayList<>();
+            for (String key : keys) {
+                next.add(key + "Aa");
+                next.add(key + "BB");
+            }
+            keys = next;
+        }
+        return keys;
+    }
+
+    @Test
+    @DisplayName("윈도우 안의 기록은 합산하고, 윈도우를 벗어난 슬롯은 제외")
+    void estimate_WindowRollover() {
+        // given
+        SlidingWindowSketch sketch = new SlidingWindowSketch(WINDOW_MILLIS, SLOT_COUNT, 4, 256);
+        increment(sketch, "user01", 2, NOW);
+        increment(sketch, "user01", 1, NOW + 500);
+
+        // when & then
+        assertThat(sketch.estimate("user01", NOW + 500)).isEqualTo(3);
+        assertThat(sketch.estimate("user01", NOW + 999)).isEqualTo(3);
+        // NOW 슬롯이 윈도우를 벗어남
+        assertThat(sketch.estimate("user01", NOW + WINDOW_MILLIS)).isEqualTo(1);
+        assertThat(sketch.estimate("user01", NOW + 500 + WINDOW_MILLIS)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 슬롯 위치를 다시 쓰면 이전 세대 카운트를 초기화")
+    void increment_ReusedSlot_Resets() {
+        // given
+        SlidingWindowSketch sketch = new SlidingWindowSketch(WINDOW_MILLIS, SLOT_COUNT, 4, 256);
+        increment(sketch, "user01", 5, NOW);
+
+        // when - 두 윈도우 뒤 같은 슬롯 위치
+        int estimate = sketch.increment("user01", NOW + 2 * WINDOW_MILLIS);
+
+        // then
+        assertThat(estimate).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추정값은 실제 기록 수보다 작지 않음")
+    void estimate_NeverUnderestimates() {
+        // given - 열이 적어 충돌이 많은 스케치
+        SlidingWindowSketch sketch = new SlidingWindowSketch(WINDOW_MILLIS, SLOT_COUNT, 3, 16);
+        for (int key = 0; key < 200; key++) {
+            increment(sketch, "user" + key, key % 7, NOW);
+        }
+
+        // when & then
+        for (int key = 0; key < 200; key++) {
+            assertThat(sketch.estimate("user" + key, NOW)).isGreaterThanOrEqualTo(key % 7);
+        }
+    }
+
+    @Test
+    @DisplayName("추정값은 행별 합계의 최소값 - 한 행에서만 충돌한 키는 부풀려지지 않음")
+    void estimate_MinimumOverRows() {
+        // given - 행마다 열 32개: 한 행에서 충돌할 확률은 1/32, 모든 행에서 충돌할 확률은 약 1/1000
+        SlidingWindowSketch sketch = new SlidingWindowSketch(WINDOW_MILLIS, SLOT_COUNT, 4, 32);
+        increment(sketch, "victim", 100, NOW);
+
+        // when
+        int inflated = 0;
+        for (int key = 0; key < 500; key++) {
+            int estimate = sketch.estimate("probe" + key, NOW);
+            assertThat(estimate).isIn(0, 100);
+            if (estimate > 0) {
+                inflated++;
+            }
+        }
+
+        // then - 행 하나만 쓰면 약 16개가 부풀려짐
+        assertThat(inflated).isLessThanOrEqualTo(8);
+        assertThat(sketch.estimate("victim", NOW)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("String.hashCode()가 같은 키끼리 모든 행에서 충돌하지 않음")
+    void estimate_SameHashCodeKeys_Independent() {
+        // given
+        List<String> keys = sameHashCodeKeys(6);    // 64개, hashCode 모두 같음
+        assertThat(keys).extracting(String::hashCode).containsOnly(keys.get(0).hashCode());
+        SlidingWindowSketch sketch = new SlidingWindowSketch(WINDOW_MILLIS, SLOT_COUNT, 4, 1024);
+
+        // when - 피해자를 제외한 모든 충돌 키로 실패 기록
+        String victim = keys.get(0);
+        for (String key : keys.subList(1, keys.size())) {
+            increment(sketch, key, 10, NOW);
+        }
+
+        // then
+        assertThat(sketch.estimate(victim, NOW)).isLessThan(10);
+    }
+}
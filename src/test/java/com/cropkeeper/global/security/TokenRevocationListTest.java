@@ -0,0 +1,170 @@
+package com.cropkeeper.global.security;
+
+import com.cropkeeper.domain.auth.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList revocationList;
+
+    // ========== 테스트 상수 ==========
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String JTI = "jti-1";
+    private static final String OTHER_NODE_JTI = "jti-other-node";
+    private static final long ONE_MINUTE = 60_000;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(revokedTokenRepository, 1_000, 0.001);
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static ParsedToken token(String jti, long expiresInMillis) {
+        return ParsedToken.from(Jwts.claims()
+                .subject("user01")
+                .id(jti)
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .add(JwtTokenProvider.CLAIM_TYPE, "access")
+                .build());
+    }
+
+    @Test
+    @DisplayName("블룸 필터에 없는 토큰은 DB 조회 없이 폐기되지 않음으로 판단")
+    void isRevoked_BloomNegative_NoDbLookup() {
+        // when
+        boolean revoked = revocationList.isRevoked(token(JTI, ONE_MINUTE));
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(revokedTokenRepository, never()).existsByJti(anyString());
+        assertThat(revocationList.stats().getBloomNegatives()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이 노드에서 폐기한 토큰은 확인 목록으로 판단 (DB 조회 없음)")
+    void isRevoked_RevokedOnThisNode_Confirmed() {
+        // given
+        revocationList.revoke(token(JTI, ONE_MINUTE), MEMBER_ID);
+
+        // when
+        boolean revoked = revocationList.isRevoked(token(JTI, ONE_MINUTE));
+
+        // then
+        assertThat(revoked).isTrue();
+        verify(revokedTokenRepository, times(1)).insertIgnore(eq(JTI), eq(MEMBER_ID), any(), any());
+        verify(revokedTokenRepository, never()).existsByJti(anyString());
+        assertThat(revocationList.stats().getRevokedHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블룸 필터에만 있으면 DB로 확인하고, 확인된 폐기는 이후 확인 목록에서 판단")
+    void isRevoked_BloomPositive_FallsBackToDb() {
+        // given - 다른 노드에서 폐기되어 재구성으로 블룸 필터에만 반영된 토큰
+        given(revokedTokenRepository.findActiveJtis(any())).willReturn(List.of(OTHER_NODE_JTI));
+        given(revokedTokenRepository.existsByJti(OTHER_NODE_JTI)).willReturn(true);
+        revocationList.rebuild();
+
+        // when
+        boolean first = revocationList.isRevoked(token(OTHER_NODE_JTI, ONE_MINUTE));
+        boolean second = revocationList.isRevoked(token(OTHER_NODE_JTI, ONE_MINUTE));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(revokedTokenRepository, times(1)).existsByJti(OTHER_NODE_JTI);
+        assertThat(revocationList.stats().getRevokedHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("블룸 필터 오탐은 DB 확인 후 폐기되지 않음으로 판단")
+    void isRevoked_FalsePositive_NotRevoked() {
+        // given - 재구성 후 DB에서 사라진 항목 (블룸 필터에는 남아 있음)
+        given(revokedTokenRepository.findActiveJtis(any())).willReturn(List.of(OTHER_NODE_JTI));
+        given(revokedTokenRepository.existsByJti(OTHER_NODE_JTI)).willReturn(false);
+        revocationList.rebuild();
+
+        // when
+        boolean revoked = revocationList.isRevoked(token(OTHER_NODE_JTI, ONE_MINUTE));
+
+        // then
+        assertThat(revoked).isFalse();
+        assertThat(revocationList.stats().getFalsePositives()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 폐기된 토큰을 다시 폐기해도 예외 없이 폐기 상태 유지")
+    void revoke_Duplicate_Ignored() {
+        // given - 다른 요청이 먼저 저장하여 INSERT IGNORE가 0행
+        given(revokedTokenRepository.insertIgnore(eq(JTI), eq(MEMBER_ID), any(), any())).willReturn(1, 0);
+
+        // when
+        revocationList.revoke(token(JTI, ONE_MINUTE), MEMBER_ID);
+        revocationList.revoke(token(JTI, ONE_MINUTE), MEMBER_ID);
+
+        // then
+        assertThat(revocationList.isRevoked(token(JTI, ONE_MINUTE))).isTrue();
+        assertThat(revocationList.stats().getConfirmedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성 시 만료된 jti는 제거하고, 재구성 중 폐기된 jti는 유지")
+    void rebuild_DropsExpired_KeepsConcurrentRevocations() {
+        // given
+        String expiredJti = "jti-expired";
+        String concurrentJti = "jti-concurrent";
+        revocationList.revoke(token(expiredJti, -ONE_MINUTE), MEMBER_ID);
+        // DB 조회와 필터 교체 사이에 다른 요청이 로그아웃
+        given(revokedTokenRepository.findActiveJtis(any())).willAnswer(invocation -> {
+            revocationList.revoke(token(concurrentJti, ONE_MINUTE), MEMBER_ID);
+            return List.of();
+        });
+
+        // when
+        revocationList.rebuild();
+
+        // then
+        assertThat(revocationList.stats().getConfirmedSize()).isEqualTo(1);
+        assertThat(revocationList.isRevoked(token(concurrentJti, ONE_MINUTE))).isTrue();
+        assertThat(revocationList.isRevoked(token(expiredJti, -ONE_MINUTE))).isFalse();
+        verify(revokedTokenRepository, times(1)).deleteExpired(any());
+        verify(revokedTokenRepository, never()).existsByJti(anyString());
+    }
+
+    @Test
+    @DisplayName("jti가 없는 구버전 토큰은 폐기 대상이 아님")
+    void isRevoked_NoJti_False() {
+        // given
+        ParsedToken legacy = ParsedToken.from(Jwts.claims().subject("user01").build());
+
+        // when
+        revocationList.revoke(legacy, MEMBER_ID);
+
+        // then
+        assertThat(revocationList.isRevoked(legacy)).isFalse();
+        verify(revokedTokenRepository, never()).insertIgnore(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,186 @@
+package com.cropkeeper.global.security;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private VerifiedTokenCache cache;
+
+    // ========== 테스트 상수 ==========
+
+    private static final int MAX_SIZE = 20;
+    private static final long ONE_HOUR_MS = 3_600_000L;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache(jwtTokenProvider, true, MAX_SIZE);
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private static ParsedToken parsed(String username, Long memberId, long expiresInMillis) {
+        return ParsedToken.from(Jwts.claims()
+                .subject(username)
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .add(JwtTokenProvider.CLAIM_TYPE, "access")
+                .add(JwtTokenProvider.CLAIM_MEMBER_ID, memberId)
+                .build());
+    }
+
+    /**
+     * token-{i} 토큰을 회원 i의 토큰으로 검증되도록 설정하고 캐시에 저장
+     */
+    private void cacheTokens(int from, int to, long expiresInMillis) {
+        for (int i = from; i < to; i++) {
+            String token = "token-" + i;
+            given(jwtTokenProvider.parseAndVerify(token)).willReturn(parsed("user" + i, (long) i, expiresInMillis));
+            cache.getOrVerify(token);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 요청하면 검증을 생략하고 적중 수 증가")
+    void getOrVerify_SameToken_HitsCache() {
+        // given
+        ParsedToken token = parsed("user1", 1L, ONE_HOUR_MS);
+        given(jwtTokenProvider.parseAndVerify("token-1")).willReturn(token);
+
+        // when
+        ParsedToken first = cache.getOrVerify("token-1");
+        ParsedToken second = cache.getOrVerify("token-1");
+
+        // then
+        assertThat(first).isSameAs(token);
+        assertThat(second).isSameAs(token);
+        verify(jwtTokenProvider, times(1)).parseAndVerify("token-1");
+
+        VerifiedTokenCache.Stats stats = cache.stats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 실패한 토큰은 캐시하지 않음")
+    void getOrVerify_InvalidToken_NotCached() {
+        // when
+        cache.getOrVerify("invalid");
+        cache.getOrVerify("invalid");
+
+        // then
+        verify(jwtTokenProvider, times(2)).parseAndVerify("invalid");
+        assertThat(cache.stats().getSize()).isZero();
+        assertThat(cache.stats().getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("exp가 지난 항목은 조회 시점에 제거하고 다시 검증")
+    void getOrVerify_ExpiredEntry_Reverifies() {
+        // given
+        given(jwtTokenProvider.parseAndVerify("token-1")).willReturn(parsed("user1", 1L, -1_000L));
+        cache.getOrVerify("token-1");
+
+        // when
+        cache.getOrVerify("token-1");
+
+        // then
+        verify(jwtTokenProvider, times(2)).parseAndVerify("token-1");
+        VerifiedTokenCache.Stats stats = cache.stats();
+        assertThat(stats.getHits()).isZero();
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 차면 만료 항목이 없을 때 최대 크기의 약 10%를 제거")
+    void getOrVerify_Full_EvictsTenPercent() {
+        // given
+        cacheTokens(0, MAX_SIZE, ONE_HOUR_MS);
+        assertThat(cache.stats().getSize()).isEqualTo(MAX_SIZE);
+
+        // when
+        cacheTokens(MAX_SIZE, MAX_SIZE + 1, ONE_HOUR_MS);
+
+        // then - 2개 제거 후 1개 추가
+        VerifiedTokenCache.Stats stats = cache.stats();
+        assertThat(stats.getSize()).isEqualTo(MAX_SIZE - MAX_SIZE / 10 + 1);
+        assertThat(stats.getEvictions()).isEqualTo(MAX_SIZE / 10);
+    }
+
+    @Test
+    @DisplayName("가득 찼을 때 만료 항목이 충분하면 만료 항목만 제거")
+    void getOrVerify_FullWithExpired_EvictsExpiredOnly() {
+        // given
+        cacheTokens(0, 5, -1_000L);
+        cacheTokens(5, MAX_SIZE, ONE_HOUR_MS);
+
+        // when
+        cacheTokens(MAX_SIZE, MAX_SIZE + 1, ONE_HOUR_MS);
+
+        // then
+        VerifiedTokenCache.Stats stats = cache.stats();
+        assertThat(stats.getSize()).isEqualTo(MAX_SIZE - 5 + 1);
+        assertThat(stats.getEvictions()).isEqualTo(5);
+
+        // 유효한 항목은 남아 있음
+        cache.getOrVerify("token-5");
+        verify(jwtTokenProvider, times(1)).parseAndVerify("token-5");
+    }
+
+    @Test
+    @DisplayName("회원 무효화 - memberId 클레임 또는 username이 같은 항목 제거")
+    void invalidateMember_RemovesMatchingEntries() {
+        // given
+        given(jwtTokenProvider.parseAndVerify("token-1")).willReturn(parsed("user1", 1L, ONE_HOUR_MS));
+        given(jwtTokenProvider.parseAndVerify("legacy-1")).willReturn(parsed("user1", null, ONE_HOUR_MS));
+        given(jwtTokenProvider.parseAndVerify("token-2")).willReturn(parsed("user2", 2L, ONE_HOUR_MS));
+        cache.getOrVerify("token-1");
+        cache.getOrVerify("legacy-1");
+        cache.getOrVerify("token-2");
+
+        // when
+        cache.invalidateMember(1L, "user1");
+
+        // then
+        assertThat(cache.stats().getSize()).isEqualTo(1);
+        assertThat(cache.stats().getEvictions()).isEqualTo(2);
+
+        cache.getOrVerify("token-1");
+        cache.getOrVerify("token-2");
+        verify(jwtTokenProvider, times(2)).parseAndVerify("token-1");
+        verify(jwtTokenProvider, times(1)).parseAndVerify("token-2");
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 검증")
+    void getOrVerify_Disabled_AlwaysVerifies() {
+        // given
+        VerifiedTokenCache disabled = new VerifiedTokenCache(jwtTokenProvider, false, MAX_SIZE);
+        given(jwtTokenProvider.parseAndVerify("token-1")).willReturn(parsed("user1", 1L, ONE_HOUR_MS));
+
+        // when
+        disabled.getOrVerify("token-1");
+        disabled.getOrVerify("token-1");
+
+        // then
+        verify(jwtTokenProvider, times(2)).parseAndVerify("token-1");
+        assertThat(disabled.stats().getSize()).isZero();
+    }
+}
@@ -0,0 +1,115 @@
+package com.cropkeeper.global.tracing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceStoreTest {
+
+    // ========== 테스트 상수 ==========
+
+    private static final String ROUTE = "GET /api/farms/{farmId}";
+    private static final String OTHER_ROUTE = "GET /api/farms";
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private Trace trace(String route, long durationNanos) {
+        Span root = new Span(Span.Kind.REQUEST, route, Tracer.newTraceId().substring(0, 16), null, 0, 0);
+        root.end(durationNanos, false);
+        return new Trace(Tracer.newTraceId(), null, route, 200, 0, 1, 0, root);
+    }
+
+    private List<Long> durations(List<Trace> traces) {
+        return traces.stream().map(Trace::durationNanos).toList();
+    }
+
+    @Test
+    @DisplayName("경로마다 가장 느린 N개만 보관하고 소요 시간 내림차순으로 반환")
+    void add_KeepsSlowestPerRoute() {
+        // given
+        TraceStore store = new TraceStore(3, 10);
+
+        // when
+        for (long duration : new long[]{5, 1, 9, 3, 7, 2, 8}) {
+            store.add(trace(ROUTE, duration));
+        }
+
+        // then
+        assertThat(durations(store.slowest(ROUTE, 10))).containsExactly(9L, 8L, 7L);
+        assertThat(store.stats().getRecorded()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("보관 중 가장 빠른 추적보다 빠르면 저장하지 않음")
+    void add_FasterThanKept_Ignored() {
+        // given
+        TraceStore store = new TraceStore(2, 10);
+        store.add(trace(ROUTE, 10));
+        store.add(trace(ROUTE, 20));
+
+        // when
+        store.add(trace(ROUTE, 5));
+        store.add(trace(ROUTE, 10));
+
+        // then
+        assertThat(durations(store.slowest(ROUTE, 10))).containsExactly(20L, 10L);
+    }
+
+    @Test
+    @DisplayName("경로 수가 max-routes에 도달하면 새 경로는 추적하지 않음")
+    void add_OverMaxRoutes_Untracked() {
+        // given
+        TraceStore store = new TraceStore(3, 1);
+        store.add(trace(ROUTE, 10));
+
+        // when
+        store.add(trace(OTHER_ROUTE, 100));
+        store.add(trace(ROUTE, 20));
+
+        // then
+        assertThat(store.stats().getRoutes()).containsExactly(ROUTE);
+        assertThat(store.stats().getUntrackedRoutes()).isEqualTo(1);
+        assertThat(store.slowest(OTHER_ROUTE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경로를 지정하지 않으면 전체 경로에서 limit개 반환")
+    void slowest_AllRoutes_Limit() {
+        // given
+        TraceStore store = new TraceStore(3, 10);
+        store.add(trace(ROUTE, 10));
+        store.add(trace(ROUTE, 30));
+        store.add(trace(OTHER_ROUTE, 20));
+        store.add(trace(OTHER_ROUTE, 40));
+
+        // when & then
+        assertThat(durations(store.slowest(null, 3))).containsExactly(40L, 30L, 20L);
+    }
+
+    @Test
+    @DisplayName("세대 교체 후 한 구간은 이전 세대로 유지하고, 두 번 교체하면 제거")
+    void rotate_KeepsOneGeneration() {
+        // given
+        TraceStore store = new TraceStore(2, 10);
+        store.add(trace(ROUTE, 100));
+        store.add(trace(ROUTE, 90));
+
+        // when - 교체 후 현재 세대에는 더 빠른 추적도 다시 N개까지 보관
+        store.rotate();
+        store.add(trace(ROUTE, 5));
+        store.add(trace(ROUTE, 6));
+
+        // then
+        assertThat(durations(store.slowest(ROUTE, 10))).containsExactly(100L, 90L, 6L, 5L);
+
+        store.rotate();
+        assertThat(durations(store.slowest(ROUTE, 10))).containsExactly(6L, 5L);
+
+        store.rotate();
+        assertThat(store.slowest(ROUTE, 10)).isEmpty();
+        assertThat(store.stats().getRoutes()).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package com.cropkeeper.global.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracerTest {
+
+    // ========== 테스트 상수 ==========
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @AfterEach
+    void tearDown() {
+        Tracer.endTrace(false);
+        Tracer.setMaxSpans(256);
+    }
+
+    @Test
+    @DisplayName("추적 중이 아니면 start는 null, end(null)은 무시")
+    void start_NoTrace_ReturnsNull() {
+        // when
+        Span span = Tracer.start(Span.Kind.SERVICE, "FarmService.getFarmInfo");
+        Tracer.end(span, false);
+
+        // then
+        assertThat(span).isNull();
+        assertThat(Tracer.currentTraceId()).isNull();
+    }
+
+    @Test
+    @DisplayName("중첩 구간은 현재 구간의 자식으로 기록되고, 종료하면 부모로 돌아감")
+    void startEnd_NestedSpans() {
+        // given
+        Span root = Tracer.beginTrace(TRACE_ID, "GET /api/farms/1");
+
+        // when
+        Span service = Tracer.start(Span.Kind.SERVICE, "FarmService.getFarmInfo");
+        Span repository = Tracer.start(Span.Kind.REPOSITORY, "FarmRepository.findById");
+        Tracer.end(repository, false);
+        Tracer.end(service, false);
+        Span next = Tracer.start(Span.Kind.SERVICE, "MemberService.getMember");
+
+        // then
+        assertThat(root.getChildren()).containsExactly(service, next);
+        assertThat(service.getChildren()).containsExactly(repository);
+        assertThat(MDC.get(Tracer.MDC_TRACE_ID)).isEqualTo(TRACE_ID);
+        assertThat(MDC.get(Tracer.MDC_SPAN_ID)).isEqualTo(next.getSpanId());
+    }
+
+    @Test
+    @DisplayName("안쪽 구간을 닫지 않고 바깥 구간을 종료하면 스택을 바깥 구간의 부모로 복구")
+    void end_InnerSpanLeftOpen_RecoversStack() {
+        // given
+        Span root = Tracer.beginTrace(TRACE_ID, "GET /api/farms/1");
+        Span controller = Tracer.start(Span.Kind.CONTROLLER, "FarmController.getFarm");
+        Span service = Tracer.start(Span.Kind.SERVICE, "FarmService.getFarmInfo");
+        Tracer.start(Span.Kind.REPOSITORY, "FarmRepository.findById");    // 닫지 않음
+
+        // when
+        Tracer.end(service, false);
+        Span sibling = Tracer.start(Span.Kind.SERVICE, "MemberService.getMember");
+        Tracer.end(sibling, false);
+        Tracer.end(controller, false);
+        Span afterController = Tracer.start(Span.Kind.SERVICE, "LoggingService.write");
+
+        // then
+        assertThat(controller.getChildren()).containsExactly(service, sibling);
+        assertThat(root.getChildren()).containsExactly(controller, afterController);
+        assertThat(MDC.get(Tracer.MDC_SPAN_ID)).isEqualTo(afterController.getSpanId());
+    }
+
+    @Test
+    @DisplayName("이미 스택에서 정리된 구간을 늦게 종료해도 현재 구간은 바뀌지 않음")
+    void end_SpanAlreadyUnwound_KeepsCurrent() {
+        // given
+        Span root = Tracer.beginTrace(TRACE_ID, "GET /api/farms/1");
+        Span service = Tracer.start(Span.Kind.SERVICE, "FarmService.getFarmInfo");
+        Span repository = Tracer.start(Span.Kind.REPOSITORY, "FarmRepository.findById");
+        Tracer.end(service, false);
+
+        // when
+        Tracer.end(repository, true);
+        Span next = Tracer.start(Span.Kind.SERVICE, "MemberService.getMember");
+
+        // then
+        assertThat(repository.isFailed()).isTrue();
+        assertThat(root.getChildren()).containsExactly(service, next);
+    }
+
+    @Test
+    @DisplayName("구간 수 한도를 넘으면 start가 null을 반환하고 버린 수를 셈")
+    void start_OverMaxSpans_Dropped() {
+        // given
+        Tracer.setMaxSpans(3);
+        Tracer.beginTrace(TRACE_ID, "GET /api/farms");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            Tracer.end(Tracer.start(Span.Kind.REPOSITORY, "FarmRepository.findById"), false);
+        }
+        Tracer.Context context = Tracer.endTrace(false);
+
+        // then
+        assertThat(context.spanCount).isEqualTo(3);
+        assertThat(context.droppedSpans).isEqualTo(3);
+        assertThat(context.root.isEnded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("추적 종료 시 스레드 컨텍스트와 MDC를 정리")
+    void endTrace_ClearsContext() {
+        // given
+        Tracer.beginTrace(TRACE_ID, "GET /api/farms");
+
+        // when
+        Tracer.endTrace(false);
+
+        // then
+        assertThat(Tracer.currentTraceId()).isNull();
+        assertThat(MDC.get(Tracer.MDC_TRACE_ID)).isNull();
+        assertThat(MDC.get(Tracer.MDC_SPAN_ID)).isNull();
+        assertThat(Tracer.endTrace(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("새 trace-id는 32자리, 모두 0이 아닌 소문자 16진수")
+    void newTraceId_Format() {
+        String traceId = Tracer.newTraceId();
+
+        assertThat(traceId).hasSize(32).matches("[0-9a-f]{32}");
+        assertThat(TracingFilter.parseTraceparent("00-" + traceId + "-00f067aa0ba902b7-01")).isNotNull();
+    }
+}
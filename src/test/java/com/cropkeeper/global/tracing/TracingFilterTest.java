@@ -0,0 +1,169 @@
+package com.cropkeeper.global.tracing;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TracingFilterTest {
+
+    // ========== 테스트 상수 ==========
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_ID = "00f067aa0ba902b7";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-" + PARENT_ID + "-01";
+    private static final String ROUTE_TEMPLATE = "/api/farms/{farmId}";
+
+    @AfterEach
+    void tearDown() {
+        Tracer.setMaxSpans(256);
+    }
+
+    // ========== 테스트 헬퍼 메서드 ==========
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/farms/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE_TEMPLATE);
+        return request;
+    }
+
+    @Test
+    @DisplayName("traceparent 파싱 - 유효한 헤더는 trace-id와 parent-id 반환")
+    void parseTraceparent_Valid() {
+        assertThat(TracingFilter.parseTraceparent(TRACEPARENT)).containsExactly(TRACE_ID, PARENT_ID);
+        // 알 수 없는 상위 버전과 flags도 형식만 맞으면 허용
+        assertThat(TracingFilter.parseTraceparent("01-" + TRACE_ID + "-" + PARENT_ID + "-00"))
+                .containsExactly(TRACE_ID, PARENT_ID);
+    }
+
+    @Test
+    @DisplayName("traceparent 파싱 - 형식이 맞지 않으면 null")
+    void parseTraceparent_Invalid() {
+        assertThat(TracingFilter.parseTraceparent(null)).isNull();
+        assertThat(TracingFilter.parseTraceparent("")).isNull();
+        // 길이
+        assertThat(TracingFilter.parseTraceparent(TRACEPARENT + "-extra")).isNull();
+        assertThat(TracingFilter.parseTraceparent(TRACEPARENT.substring(1))).isNull();
+        // 구분자
+        assertThat(TracingFilter.parseTraceparent(TRACEPARENT.replace('-', '_'))).isNull();
+        // 대문자, 16진수가 아닌 문자
+        assertThat(TracingFilter.parseTraceparent(TRACEPARENT.toUpperCase())).isNull();
+        assertThat(TracingFilter.parseTraceparent("00-" + TRACE_ID.replace('a', 'g') + "-" + PARENT_ID + "-01")).isNull();
+        assertThat(TracingFilter.parseTraceparent("00-" + TRACE_ID + "-" + PARENT_ID + "-0x")).isNull();
+        // 금지된 버전 ff
+        assertThat(TracingFilter.parseTraceparent("ff-" + TRACE_ID + "-" + PARENT_ID + "-01")).isNull();
+        // 모두 0인 ID
+        assertThat(TracingFilter.parseTraceparent("00-" + "0".repeat(32) + "-" + PARENT_ID + "-01")).isNull();
+        assertThat(TracingFilter.parseTraceparent("00-" + TRACE_ID + "-" + "0".repeat(16) + "-01")).isNull();
+    }
+
+    @Test
+    @DisplayName("유효한 traceparent의 trace-id를 이어받고 경로 템플릿 기준으로 저장")
+    void doFilter_IncomingTraceparent_Propagated() throws Exception {
+        // given
+        TraceStore store = new TraceStore(10, 10);
+        TracingFilter filter = new TracingFilter(store, true, 256);
+        MockHttpServletRequest request = request();
+        request.addHeader(TracingFilter.TRACEPARENT_HEADER, TRACEPARENT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        List<Trace> traces = store.slowest("GET " + ROUTE_TEMPLATE, 10);
+        assertThat(traces).hasSize(1);
+        Trace trace = traces.get(0);
+        assertThat(trace.getTraceId()).isEqualTo(TRACE_ID);
+        assertThat(trace.getParentSpanId()).isEqualTo(PARENT_ID);
+        assertThat(trace.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(TracingFilter.TRACEPARENT_HEADER))
+                .isEqualTo("00-" + TRACE_ID + "-" + trace.getRoot().getSpanId() + "-01");
+        assertThat(Tracer.currentTraceId()).isNull();
+    }
+
+    @Test
+    @DisplayName("traceparent가 유효하지 않으면 새 trace-id 생성")
+    void doFilter_InvalidTraceparent_NewTrace() throws Exception {
+        // given
+        TraceStore store = new TraceStore(10, 10);
+        TracingFilter filter = new TracingFilter(store, true, 256);
+        MockHttpServletRequest request = request();
+        request.addHeader(TracingFilter.TRACEPARENT_HEADER, "ff-" + TRACE_ID + "-" + PARENT_ID + "-01");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        Trace trace = store.slowest(null, 10).get(0);
+        assertThat(trace.getTraceId()).isNotEqualTo(TRACE_ID).hasSize(32);
+        assertThat(trace.getParentSpanId()).isNull();
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나면 500 실패 추적으로 저장하고 스레드 컨텍스트를 정리")
+    void doFilter_Exception_RecordedAsFailed() {
+        // given
+        TraceStore store = new TraceStore(10, 10);
+        TracingFilter filter = new TracingFilter(store, true, 256);
+
+        // when
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+            Tracer.start(Span.Kind.SERVICE, "FarmService.getFarmInfo");    // 닫히지 않은 구간
+            throw new ServletException("처리 실패");
+        })).isInstanceOf(ServletException.class);
+
+        // then
+        Trace trace = store.slowest(null, 10).get(0);
+        assertThat(trace.getStatus()).isEqualTo(500);
+        assertThat(trace.getRoot().isFailed()).isTrue();
+        assertThat(trace.getSpanCount()).isEqualTo(2);
+        assertThat(Tracer.currentTraceId()).isNull();
+    }
+
+    @Test
+    @DisplayName("핸들러에 매칭되지 않은 요청은 URI 대신 UNMATCHED 경로로 묶음")
+    void doFilter_NoMatchingPattern_Unmatched() throws Exception {
+        // given
+        TraceStore store = new TraceStore(10, 10);
+        TracingFilter filter = new TracingFilter(store, true, 256);
+
+        // when - 패턴 속성이 없는 요청 (401/403/404 등)
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/unknown/1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/unknown/2"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("POST", "/wp-login.php"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(store.slowest("GET " + TracingFilter.UNMATCHED_ROUTE, 10)).hasSize(2);
+        assertThat(store.slowest("POST " + TracingFilter.UNMATCHED_ROUTE, 10)).hasSize(1);
+        assertThat(store.slowest("GET /api/unknown/1", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 추적하지 않음")
+    void doFilter_Disabled_NoTrace() throws Exception {
+        // given
+        TraceStore store = new TraceStore(10, 10);
+        TracingFilter filter = new TracingFilter(store, false, 256);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(), response, new MockFilterChain());
+
+        // then
+        assertThat(store.stats().getRecorded()).isZero();
+        assertThat(response.getHeader(TracingFilter.TRACEPARENT_HEADER)).isNull();
+    }
+}